@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.math.intersections;
+
+import edu.tigers.sumatra.math.circle.Circle;
+import edu.tigers.sumatra.math.circle.ICircle;
+import edu.tigers.sumatra.math.line.IHalfLine;
+import edu.tigers.sumatra.math.line.ILine;
+import edu.tigers.sumatra.math.line.ILineSegment;
+import edu.tigers.sumatra.math.line.Lines;
+import edu.tigers.sumatra.math.vector.IVector2;
+import edu.tigers.sumatra.math.vector.Vector2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+
+/**
+ * Benchmark the line math and the intersections of the basic path types.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(value = 2, warmups = 1)
+@Warmup(iterations = 2)
+public class PathIntersectionMathBenchmark
+{
+	private static final double MAX_POS = 12_000;
+	private static final double MAX_RADIUS = 1_000;
+	private static final int NUM_RND_DATA = 1_000;
+
+	private final Random rnd = new Random(42);
+	private final List<IVector2> points = new ArrayList<>();
+	private final List<ILine> lines = new ArrayList<>();
+	private final List<IHalfLine> halfLines = new ArrayList<>();
+	private final List<ILineSegment> segments = new ArrayList<>();
+	private final List<ICircle> circles = new ArrayList<>();
+
+
+	public static void main(String[] args) throws Exception
+	{
+		org.openjdk.jmh.Main.main(args);
+	}
+
+
+	public PathIntersectionMathBenchmark()
+	{
+		for (int i = 0; i < NUM_RND_DATA; i++)
+		{
+			points.add(random());
+			lines.add(Lines.lineFromPoints(random(), random()));
+			halfLines.add(Lines.halfLineFromPoints(random(), random()));
+			segments.add(Lines.segmentFromPoints(random(), random()));
+			circles.add(Circle.createCircle(random(), rnd.nextDouble() * MAX_RADIUS));
+		}
+	}
+
+
+	@Benchmark
+	public double closestPointOnLineSegment()
+	{
+		double sum = 0;
+		for (int i = 0; i < NUM_RND_DATA; i++)
+		{
+			sum += segments.get(i).closestPointOnPath(points.get(i)).x();
+		}
+		return sum;
+	}
+
+
+	@Benchmark
+	public double distanceToHalfLine()
+	{
+		double sum = 0;
+		for (int i = 0; i < NUM_RND_DATA; i++)
+		{
+			sum += halfLines.get(i).distanceTo(points.get(i));
+		}
+		return sum;
+	}
+
+
+	@Benchmark
+	public int lineAndLine()
+	{
+		int sum = 0;
+		for (int i = 0; i < NUM_RND_DATA; i++)
+		{
+			sum += PathIntersectionMath.intersectLineAndLine(lines.get(i), lines.get((i + 1) % NUM_RND_DATA))
+					.isPresent() ? 1 : 0;
+		}
+		return sum;
+	}
+
+
+	@Benchmark
+	public int halfLineAndLineSegment()
+	{
+		int sum = 0;
+		for (int i = 0; i < NUM_RND_DATA; i++)
+		{
+			sum += PathIntersectionMath.intersectHalfLineAndLineSegment(halfLines.get(i), segments.get(i))
+					.isPresent() ? 1 : 0;
+		}
+		return sum;
+	}
+
+
+	@Benchmark
+	public int lineSegmentAndLineSegment()
+	{
+		int sum = 0;
+		for (int i = 0; i < NUM_RND_DATA; i++)
+		{
+			sum += PathIntersectionMath.intersectLineSegmentAndLineSegment(segments.get(i),
+					segments.get((i + 1) % NUM_RND_DATA)).isPresent() ? 1 : 0;
+		}
+		return sum;
+	}
+
+
+	@Benchmark
+	public int lineSegmentAndCircle()
+	{
+		int sum = 0;
+		for (int i = 0; i < NUM_RND_DATA; i++)
+		{
+			sum += PathIntersectionMath.intersectLineSegmentAndCircle(segments.get(i), circles.get(i)).size();
+		}
+		return sum;
+	}
+
+
+	private IVector2 random()
+	{
+		return Vector2.fromXY(rnd.nextDouble() * MAX_POS - MAX_POS / 2, rnd.nextDouble() * MAX_POS - MAX_POS / 2);
+	}
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.math.penaltyarea;
+
+import edu.tigers.sumatra.math.vector.IVector2;
+import edu.tigers.sumatra.math.vector.Vector2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(value = 2, warmups = 1)
+@Warmup(iterations = 2)
+public class PenaltyAreaBenchmark
+{
+	private static final IVector2 GOAL_CENTER = Vector2.fromX(-6000);
+	private static final double DEPTH = 1800;
+	private static final double LENGTH = 3600;
+	private static final int NUM_RND_DATA = 1_000;
+
+	@Param({ "0", "300" })
+	private double cornerRadius;
+
+	private final Random rnd = new Random(42);
+	private final List<IVector2> points = new ArrayList<>();
+	private IPenaltyArea penaltyArea;
+
+
+	public static void main(String[] args) throws Exception
+	{
+		org.openjdk.jmh.Main.main(args);
+	}
+
+
+	public PenaltyAreaBenchmark()
+	{
+		for (int i = 0; i < NUM_RND_DATA; i++)
+		{
+			// points around the penalty area, including some behind the goal line
+			points.add(GOAL_CENTER.addNew(Vector2.fromXY(
+					rnd.nextDouble() * 2 * DEPTH - DEPTH / 2,
+					rnd.nextDouble() * 2 * LENGTH - LENGTH)));
+		}
+	}
+
+
+	@Setup
+	public void setup()
+	{
+		var rectangular = new PenaltyArea(GOAL_CENTER, DEPTH, LENGTH);
+		penaltyArea = cornerRadius > 0 ? rectangular.withRoundedCorners(cornerRadius) : rectangular;
+	}
+
+
+	@Benchmark
+	public double distanceTo()
+	{
+		double sum = 0;
+		for (IVector2 p : points)
+		{
+			sum += penaltyArea.distanceTo(p);
+		}
+		return sum;
+	}
+
+
+	@Benchmark
+	public double projectPointOnToPenaltyAreaBorder()
+	{
+		double sum = 0;
+		for (IVector2 p : points)
+		{
+			sum += penaltyArea.projectPointOnToPenaltyAreaBorder(p).x();
+		}
+		return sum;
+	}
+
+
+	@Benchmark
+	public int isPointInShape()
+	{
+		int sum = 0;
+		for (IVector2 p : points)
+		{
+			sum += penaltyArea.isPointInShape(p) ? 1 : 0;
+		}
+		return sum;
+	}
+
+
+	@Benchmark
+	public double nearestPointOutside()
+	{
+		double sum = 0;
+		for (IVector2 p : points)
+		{
+			sum += penaltyArea.nearestPointOutside(p).y();
+		}
+		return sum;
+	}
+}
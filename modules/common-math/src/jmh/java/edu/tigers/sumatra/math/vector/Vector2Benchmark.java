@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.math.vector;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(value = 2, warmups = 1)
+@Warmup(iterations = 2)
+public class Vector2Benchmark
+{
+	private static final double MAX_POS = 12_000;
+	private static final int NUM_RND_DATA = 1_000;
+
+	private final Random rnd = new Random(42);
+	private final List<IVector2> ps = new ArrayList<>();
+
+
+	public static void main(String[] args) throws Exception
+	{
+		org.openjdk.jmh.Main.main(args);
+	}
+
+
+	public Vector2Benchmark()
+	{
+		for (int i = 0; i < NUM_RND_DATA; i++)
+		{
+			ps.add(Vector2.fromXY(rnd.nextDouble() * MAX_POS - MAX_POS / 2, rnd.nextDouble() * MAX_POS - MAX_POS / 2));
+		}
+	}
+
+
+	@Benchmark
+	public double addSubtract()
+	{
+		double sum = 0;
+		for (int i = 0; i < ps.size(); i++)
+		{
+			IVector2 p1 = ps.get(i);
+			IVector2 p2 = ps.get((i + 1) % ps.size());
+			sum += p1.addNew(p2).subtractNew(p2.multiplyNew(0.5)).x();
+		}
+		return sum;
+	}
+
+
+	@Benchmark
+	public double distance()
+	{
+		double sum = 0;
+		for (int i = 0; i < ps.size(); i++)
+		{
+			sum += ps.get(i).distanceTo(ps.get((i + 1) % ps.size()));
+		}
+		return sum;
+	}
+
+
+	@Benchmark
+	public double normalize()
+	{
+		double sum = 0;
+		for (IVector2 p : ps)
+		{
+			sum += p.normalizeNew().x();
+		}
+		return sum;
+	}
+
+
+	@Benchmark
+	public double angle()
+	{
+		double sum = 0;
+		for (int i = 0; i < ps.size(); i++)
+		{
+			sum += ps.get(i).getAngle(0);
+			sum += ps.get(i).angleToAbs(ps.get((i + 1) % ps.size())).orElse(0.0);
+		}
+		return sum;
+	}
+
+
+	@Benchmark
+	public double turn()
+	{
+		double sum = 0;
+		for (int i = 0; i < ps.size(); i++)
+		{
+			sum += ps.get(i).turnNew(i * 0.01).y();
+		}
+		return sum;
+	}
+}
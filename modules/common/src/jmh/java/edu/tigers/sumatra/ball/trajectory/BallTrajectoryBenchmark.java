@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.ball.trajectory;
+
+import edu.tigers.sumatra.ball.BallParameters;
+import edu.tigers.sumatra.ball.trajectory.chipped.ChipBallTrajectory;
+import edu.tigers.sumatra.ball.trajectory.flat.FlatBallTrajectory;
+import edu.tigers.sumatra.math.vector.IVector2;
+import edu.tigers.sumatra.math.vector.IVector3;
+import edu.tigers.sumatra.math.vector.Vector2;
+import edu.tigers.sumatra.math.vector.Vector2f;
+import edu.tigers.sumatra.math.vector.Vector3;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(value = 2, warmups = 1)
+@Warmup(iterations = 2)
+public class BallTrajectoryBenchmark
+{
+	private static final double MAX_POS = 12_000;
+	private static final double MAX_VEL = 6_500;
+	private static final int NUM_RND_DATA = 1_000;
+
+	@Param({ "flat", "chip" })
+	private String type;
+
+	private final Random rnd = new Random(42);
+	private final BallParameters params = BallParameters.builder()
+			.withBallRadius(21.5)
+			.withAccSlide(-3600)
+			.withAccRoll(-400)
+			.withInertiaDistribution(0.667)
+			.withChipDampingXYFirstHop(0.75)
+			.withChipDampingXYOtherHops(0.95)
+			.withChipDampingZ(0.6)
+			.withMinHopHeight(10)
+			.withMaxInterceptableHeight(150)
+			.build();
+	private final List<IVector2> kickPositions = new ArrayList<>();
+	private final List<IVector3> kickVelocities = new ArrayList<>();
+	private final List<IVector2> targets = new ArrayList<>();
+	private final List<IBallTrajectory> trajectories = new ArrayList<>();
+
+
+	public static void main(String[] args) throws Exception
+	{
+		org.openjdk.jmh.Main.main(args);
+	}
+
+
+	@Setup
+	public void setup()
+	{
+		for (int i = 0; i < NUM_RND_DATA; i++)
+		{
+			IVector2 kickPos = Vector2.fromXY(rnd.nextDouble() * MAX_POS - MAX_POS / 2,
+					rnd.nextDouble() * MAX_POS - MAX_POS / 2);
+			IVector2 kickVelXY = Vector2.fromAngleLength(rnd.nextDouble() * 2 * Math.PI, rnd.nextDouble() * MAX_VEL);
+			IVector3 kickVel = Vector3.from2d(kickVelXY, "chip".equals(type) ? kickVelXY.getLength2() : 0);
+			kickPositions.add(kickPos);
+			kickVelocities.add(kickVel);
+			targets.add(kickPos.addNew(kickVelXY.multiplyNew(rnd.nextDouble())));
+			trajectories.add(create(kickPos, kickVel));
+		}
+	}
+
+
+	private IBallTrajectory create(IVector2 kickPos, IVector3 kickVel)
+	{
+		if ("chip".equals(type))
+		{
+			return ChipBallTrajectory.fromKick(params, kickPos, kickVel, Vector2f.ZERO_VECTOR);
+		}
+		return FlatBallTrajectory.fromKick(params, kickPos, kickVel.getXYVector(), Vector2f.ZERO_VECTOR);
+	}
+
+
+	@Benchmark
+	public double generate()
+	{
+		double sum = 0;
+		for (int i = 0; i < NUM_RND_DATA; i++)
+		{
+			sum += create(kickPositions.get(i), kickVelocities.get(i)).getInitialVel().x();
+		}
+		return sum;
+	}
+
+
+	@Benchmark
+	public double posByTime()
+	{
+		double sum = 0;
+		for (int i = 0; i < NUM_RND_DATA; i++)
+		{
+			sum += trajectories.get(i).getPosByTime(i * 0.003).x();
+		}
+		return sum;
+	}
+
+
+	@Benchmark
+	public double timeByDist()
+	{
+		double sum = 0;
+		for (int i = 0; i < NUM_RND_DATA; i++)
+		{
+			sum += trajectories.get(i).getTimeByDist(i);
+		}
+		return sum;
+	}
+
+
+	@Benchmark
+	public double timeByPos()
+	{
+		double sum = 0;
+		for (int i = 0; i < NUM_RND_DATA; i++)
+		{
+			sum += trajectories.get(i).getTimeByPos(targets.get(i));
+		}
+		return sum;
+	}
+
+
+	@Benchmark
+	public double closestPointTo()
+	{
+		double sum = 0;
+		for (int i = 0; i < NUM_RND_DATA; i++)
+		{
+			sum += trajectories.get(i).closestPointTo(targets.get(i)).x();
+		}
+		return sum;
+	}
+
+
+	@Benchmark
+	public double planarCurve()
+	{
+		double sum = 0;
+		for (IBallTrajectory trajectory : trajectories)
+		{
+			sum += trajectory.getPlanarCurve().getTEnd();
+		}
+		return sum;
+	}
+
+
+	@Benchmark
+	public int touchdownLocations()
+	{
+		int sum = 0;
+		for (IBallTrajectory trajectory : trajectories)
+		{
+			sum += trajectory.getTouchdownLocations().size();
+		}
+		return sum;
+	}
+}
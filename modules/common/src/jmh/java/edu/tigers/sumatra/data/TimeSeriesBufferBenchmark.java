@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.data;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Compare the insert and lookup cost of the {@link TimeSeriesBuffer} with a list that is trimmed by time,
+ * like the histories that were used in the vision filter and the world info collector before.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 2, warmups = 1)
+@Warmup(iterations = 2)
+public class TimeSeriesBufferBenchmark
+{
+	private static final long FRAME_DT = 13_000_000L;
+
+	@Param({ "0.3", "1.0" })
+	private double windowDuration;
+
+	private long window;
+	private long timestamp;
+	private TimeSeriesBuffer<Long> buffer;
+	private List<Long> list;
+
+
+	public static void main(String[] args) throws Exception
+	{
+		org.openjdk.jmh.Main.main(args);
+	}
+
+
+	@Setup(Level.Trial)
+	public void setup()
+	{
+		window = (long) (windowDuration * 1e9);
+		buffer = TimeSeriesBuffer.withWindow(windowDuration, 16);
+		list = new ArrayList<>();
+		for (timestamp = 0; timestamp < window * 2; timestamp += FRAME_DT)
+		{
+			buffer.add(timestamp, timestamp);
+			list.add(timestamp);
+		}
+	}
+
+
+	@Benchmark
+	public int insertBuffer()
+	{
+		timestamp += FRAME_DT;
+		buffer.add(timestamp, timestamp);
+		return buffer.size();
+	}
+
+
+	@Benchmark
+	public int insertList()
+	{
+		timestamp += FRAME_DT;
+		long now = timestamp;
+		list.removeIf(t -> now - t > window);
+		list.add(now);
+		return list.size();
+	}
+
+
+	@Benchmark
+	public Long lookupBuffer()
+	{
+		return buffer.getFloor(buffer.getLatestTimestamp() - window / 3).orElse(null);
+	}
+
+
+	@Benchmark
+	public Long lookupList()
+	{
+		long t = list.getLast() - window / 3;
+		Long floor = null;
+		for (Long value : list)
+		{
+			if (value > t)
+			{
+				break;
+			}
+			floor = value;
+		}
+		return floor;
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.filter.tracking;
+
+import edu.tigers.sumatra.math.vector.IVector2;
+import edu.tigers.sumatra.math.vector.Vector2;
+import edu.tigers.sumatra.math.vector.Vector2f;
+import org.apache.commons.math3.linear.ArrayRealVector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+
+/**
+ * Compare the matrix based tracking filters with the primitive ones.
+ * Each benchmark tracks one object over a sequence of 75Hz camera frames.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(value = 2, warmups = 1)
+@Warmup(iterations = 2)
+public class TrackingFilterBenchmark
+{
+	private static final int NUM_FRAMES = 1_000;
+	private static final long FRAME_DT = (long) (1e9 / 75);
+
+	private final Random rnd = new Random(42);
+	private final List<IVector2> positions = new ArrayList<>();
+
+
+	public static void main(String[] args) throws Exception
+	{
+		org.openjdk.jmh.Main.main(args);
+	}
+
+
+	public TrackingFilterBenchmark()
+	{
+		for (int i = 0; i < NUM_FRAMES; i++)
+		{
+			positions.add(Vector2.fromXY(i * 10 + rnd.nextGaussian() * 5, rnd.nextGaussian() * 5));
+		}
+	}
+
+
+	@Benchmark
+	public double matrix2D()
+	{
+		var filter = new TrackingFilterPosVel2D(new ArrayRealVector(4), 100, 0.1, 20, 0);
+		return run2D(filter);
+	}
+
+
+	@Benchmark
+	public double primitive2D()
+	{
+		var filter = new PrimitiveTrackingFilterPosVel2D(Vector2f.ZERO_VECTOR, Vector2f.ZERO_VECTOR, 100, 0.1, 20, 0);
+		return run2D(filter);
+	}
+
+
+	@Benchmark
+	public double matrix1D()
+	{
+		var filter = new TrackingFilterPosVel1D(new ArrayRealVector(2), 100, 0.1, 2, 0);
+		return run1D(filter);
+	}
+
+
+	@Benchmark
+	public double primitive1D()
+	{
+		var filter = new PrimitiveTrackingFilterPosVel1D(0, 0, 100, 0.1, 2, 0);
+		return run1D(filter);
+	}
+
+
+	private double run2D(ITrackingFilter2D filter)
+	{
+		double sum = 0;
+		for (int i = 0; i < NUM_FRAMES; i++)
+		{
+			filter.predict((i + 1) * FRAME_DT);
+			filter.correct(positions.get(i));
+			sum += filter.getPositionEstimate().x() + filter.getPositionUncertainty().x();
+		}
+		return sum;
+	}
+
+
+	private double run1D(ITrackingFilter1D filter)
+	{
+		double sum = 0;
+		for (int i = 0; i < NUM_FRAMES; i++)
+		{
+			filter.predict((i + 1) * FRAME_DT);
+			filter.correct(positions.get(i).y());
+			sum += filter.getPositionEstimate() + filter.getPositionUncertainty();
+		}
+		return sum;
+	}
+}
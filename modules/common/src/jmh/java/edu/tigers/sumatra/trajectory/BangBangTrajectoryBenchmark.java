@@ -1,9 +1,10 @@
 /*
- * Copyright (c) 2009 - 2020, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 
 package edu.tigers.sumatra.trajectory;
 
+import edu.tigers.sumatra.math.AngleMath;
 import edu.tigers.sumatra.math.vector.IVector2;
 import edu.tigers.sumatra.math.vector.Vector2;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -111,6 +112,41 @@ public class BangBangTrajectoryBenchmark
 	}
 
 
+	@Benchmark
+	public double generateAsync()
+	{
+		double sum = 0;
+		for (int i = 0; i < ps.size(); i++)
+		{
+			IVector2 p1 = ps.get(i % ps.size());
+			IVector2 p2 = ps.get((i + 1) % ps.size());
+			IVector2 v0 = vs.get(i % vs.size());
+			IVector2 primaryDirection = Vector2.fromAngle(i * AngleMath.PI_TWO / ps.size());
+			BangBangTrajectory2DAsync t = trajectoryFactory.async(p1, p2, v0, MAX_VEL, MAX_ACC, primaryDirection);
+			sum += t.getTotalTime();
+		}
+		return sum;
+	}
+
+
+	@Benchmark
+	public double fillValues()
+	{
+		double sum = 0;
+		double[] values = new double[6];
+		for (int i = 0; i < ps.size(); i++)
+		{
+			IVector2 p1 = ps.get(i % ps.size());
+			IVector2 p2 = ps.get((i + 1) % ps.size());
+			IVector2 v0 = vs.get(i % vs.size());
+			BangBangTrajectory2D t = trajectoryFactory.sync(p1, p2, v0, MAX_VEL, MAX_ACC);
+			t.fillValuesAtTime(t.getTotalTime(), values);
+			sum += values[0] + values[2] + values[4];
+		}
+		return sum;
+	}
+
+
 	@Benchmark
 	public double mirror()
 	{
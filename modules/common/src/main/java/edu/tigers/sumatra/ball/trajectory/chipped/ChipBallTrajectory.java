@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2023, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 package edu.tigers.sumatra.ball.trajectory.chipped;
 
@@ -13,6 +13,7 @@ import edu.tigers.sumatra.math.line.ILineSegment;
 import edu.tigers.sumatra.math.line.Lines;
 import edu.tigers.sumatra.math.vector.IVector2;
 import edu.tigers.sumatra.math.vector.IVector3;
+import edu.tigers.sumatra.math.vector.Vector2;
 import edu.tigers.sumatra.math.vector.Vector2f;
 import edu.tigers.sumatra.math.vector.Vector3;
 import edu.tigers.sumatra.math.vector.Vector3f;
@@ -27,6 +28,9 @@ import java.util.List;
 /**
  * Ball trajectory for chipped kicks. Uses fixed Z damping and one damping in XY for first hop
  * and one damping in XY for all following hops.
+ * <p>
+ * The hops are computed once per kick in a {@link ChipHopTable}, which is shared with adjusted and mirrored
+ * trajectories. Queries look up the relevant hop by binary search.
  */
 @Persistent
 public class ChipBallTrajectory extends ABallTrajectory
@@ -37,6 +41,10 @@ public class ChipBallTrajectory extends ABallTrajectory
 	private final IVector2 kickPos;
 	private final IVector3 kickVel;
 
+	private transient SharedHopTable hopTable;
+	/** the shared hop table was computed for the mirrored trajectory */
+	private transient boolean hopTableMirrored;
+
 
 	/**
 	 * Create an empty default state. Required for {@link Persistent}.
@@ -70,6 +78,14 @@ public class ChipBallTrajectory extends ABallTrajectory
 	}
 
 
+	private ChipBallTrajectory withHopTable(final SharedHopTable hopTable, final boolean hopTableMirrored)
+	{
+		this.hopTable = hopTable;
+		this.hopTableMirrored = hopTableMirrored;
+		return this;
+	}
+
+
 	/**
 	 * Create from kick
 	 *
@@ -121,7 +137,7 @@ public class ChipBallTrajectory extends ABallTrajectory
 
 		return new ChipBallTrajectory(parameters, initialPos.addNew(deltaPos), initialVel, initialSpin, tInAir,
 				kickPos.addNew(
-						deltaPos.getXYVector()), kickVel);
+						deltaPos.getXYVector()), kickVel).withHopTable(sharedHopTable(), hopTableMirrored);
 	}
 
 
@@ -145,57 +161,40 @@ public class ChipBallTrajectory extends ABallTrajectory
 					.build();
 		}
 
+		ChipHopTable hops = hopTable();
+		double sign = xySign();
 		double tQuery = time + tInAir;
+		int i = hops.hopAtTime(tQuery);
 
-		Vector3 posNow = Vector3.copy(kickPos.getXYZVector());
-		Vector3 velNow = Vector3.copy(kickVel);
-		Vector3 accNow = Vector3.fromXYZ(0, 0, -G);
-		double tNow = 0;
-		IVector2 spin = initialSpin;
-
-		// go through hops while max. height is above 10mm
-		while (((velNow.z() * velNow.z()) / (2.0 * G)) > parameters.getMinHopHeight())
+		if (i < hops.getNumHops())
 		{
-			double tFly = (2 * velNow.z()) / G;
-
-			if ((tNow + tFly) > tQuery)
-			{
-				double t = tQuery - tNow;
-				posNow.add(velNow.multiplyNew(t)).add(Vector3.fromXYZ(0, 0, -0.5 * G * t * t));
-				velNow.add(Vector3.fromXYZ(0, 0, -G * t));
-
-				return BallState.builder()
-						.withPos(posNow)
-						.withVel(velNow)
-						.withAcc(accNow)
-						.withSpin(spin)
-						.build();
-			}
-
-			posNow.add(velNow.multiplyNew(tFly));
-			posNow.set(2, 0);
-			velNow = velNow.multiplyNew(getDamping(spin));
-			tNow += tFly;
+			double t = tQuery - hops.getStartTime(i);
+			double vx = sign * hops.getVelX(i);
+			double vy = sign * hops.getVelY(i);
+			double vz = hops.getVelZ(i);
+			IVector3 posNow = Vector3.fromXYZ(
+					kickPos.x() + (sign * hops.getPosX(i)) + (vx * t),
+					kickPos.y() + (sign * hops.getPosY(i)) + (vy * t),
+					(vz * t) - (0.5 * G * t * t));
 
-			// set spin to rolling after first hop
-			spin = velNow.getXYVector().multiplyNew(1.0 / parameters.getBallRadius());
+			return BallState.builder()
+					.withPos(posNow)
+					.withVel(Vector3.fromXYZ(vx, vy, vz - (G * t)))
+					.withAcc(Vector3.fromXYZ(0, 0, -G))
+					.withSpin(Vector2.fromXY(sign * hops.getSpinX(i), sign * hops.getSpinY(i)))
+					.build();
 		}
 
-		velNow.set(2, 0);
-
-		// ball is below 10mm and assumed to be rolling
-		double t = tQuery - tNow;
-		double tStop = -velNow.getLength2() / parameters.getAccRoll();
-		if (t > tStop)
-		{
-			t = tStop;
-		}
+		// ball is below minHopHeight and assumed to be rolling
+		Vector3 posNow = rollStartPos(hops, sign);
+		Vector3 velNow = Vector3.fromXYZ(sign * hops.getVelX(i), sign * hops.getVelY(i), 0);
+		double t = Math.min(tQuery - hops.getRollStartTime(), hops.getRollDuration());
 
-		accNow = velNow.normalizeNew().multiply(parameters.getAccRoll());
+		Vector3 accNow = velNow.normalizeNew().multiply(parameters.getAccRoll());
 		posNow.add(velNow.multiplyNew(t))
 				.add(velNow.normalizeNew().multiply(0.5 * parameters.getAccRoll() * t * t));
 		velNow.add(velNow.normalizeNew().multiply(parameters.getAccRoll() * t));
-		spin = velNow.getXYVector().multiplyNew(1.0 / parameters.getBallRadius());
+		IVector2 spin = velNow.getXYVector().multiplyNew(1.0 / parameters.getBallRadius());
 
 		return BallState.builder()
 				.withPos(posNow)
@@ -218,39 +217,25 @@ public class ChipBallTrajectory extends ABallTrajectory
 			return new PlanarCurve(segments);
 		}
 
-		Vector3 posNow = Vector3.copy(kickPos.getXYZVector());
-		Vector3 velNow = Vector3.copy(kickVel);
-		double tNow = -tInAir;
-		IVector2 spin = initialSpin;
-
-		// go through hops while max. height is above minHopHeight
-		while (((velNow.z() * velNow.z()) / (2.0 * G)) > parameters.getMinHopHeight())
+		ChipHopTable hops = hopTable();
+		double sign = xySign();
+		for (int i = 0; i < hops.getNumHops(); i++)
 		{
-			double tFly = (2 * velNow.z()) / G;
-
-			PlanarCurveSegment fly = PlanarCurveSegment.fromFirstOrder(posNow.getXYVector(),
-					velNow.getXYVector(), tNow, tNow + tFly);
-
-			segments.add(fly);
-
-			posNow.add(velNow.multiplyNew(tFly));
-			posNow.set(2, 0);
-			velNow = velNow.multiplyNew(getDamping(spin));
-			tNow += tFly;
-
-			spin = velNow.getXYVector().multiplyNew(1.0 / parameters.getBallRadius());
+			double tStart = hops.getStartTime(i) - tInAir;
+			segments.add(PlanarCurveSegment.fromFirstOrder(
+					Vector2.fromXY(kickPos.x() + (sign * hops.getPosX(i)), kickPos.y() + (sign * hops.getPosY(i))),
+					Vector2.fromXY(sign * hops.getVelX(i), sign * hops.getVelY(i)),
+					tStart, tStart + hops.getFlightTime(i)));
 		}
 
-		velNow.set(2, 0);
-
-		// ball is below 10mm and assumed to be rolling
-		Vector3 accNow = velNow.normalizeNew().multiply(parameters.getAccRoll());
-		double tStop = -velNow.getLength2() / parameters.getAccRoll();
-		PlanarCurveSegment roll = PlanarCurveSegment.fromSecondOrder(posNow.getXYVector(),
-				velNow.getXYVector(),
-				accNow.getXYVector(),
-				tNow, tNow + tStop);
-		segments.add(roll);
+		// ball is below minHopHeight and assumed to be rolling
+		int roll = hops.getNumHops();
+		IVector2 velRoll = Vector2.fromXY(sign * hops.getVelX(roll), sign * hops.getVelY(roll));
+		double tRoll = hops.getRollStartTime() - tInAir;
+		segments.add(PlanarCurveSegment.fromSecondOrder(rollStartPos(hops, sign).getXYVector(),
+				velRoll,
+				velRoll.normalizeNew().multiply(parameters.getAccRoll()),
+				tRoll, tRoll + hops.getRollDuration()));
 
 		return new PlanarCurve(segments);
 	}
@@ -259,62 +244,30 @@ public class ChipBallTrajectory extends ABallTrajectory
 	@Override
 	public double getTimeAtRest()
 	{
-		Vector3 velNow = Vector3.copy(kickVel);
-		double tNow = -tInAir;
-		IVector2 spin = initialSpin;
-
-		// go through hops while max. height is above 10mm
-		while (((velNow.z() * velNow.z()) / (2.0 * G)) > parameters.getMinHopHeight())
-		{
-			double tFly = (2 * velNow.z()) / G;
-
-			velNow = velNow.multiplyNew(getDamping(spin));
-			tNow += tFly;
-
-			spin = velNow.getXYVector().multiplyNew(1.0 / parameters.getBallRadius());
-		}
-
-		velNow.set(2, 0);
-
-		// ball is below 10mm and assumed to be rolling
-		double tStop = -velNow.getLength2() / parameters.getAccRoll();
-		tNow += tStop;
-
-		return tNow;
+		ChipHopTable hops = hopTable();
+		return (hops.getRollStartTime() - tInAir) + hops.getRollDuration();
 	}
 
 
 	@Override
 	protected double getTimeByDistanceInMillimeters(final double distance)
 	{
-		Vector3 velNow = Vector3.copy(kickVel);
-		double tNow = -tInAir;
-		double distNow = -initialPos.getXYVector().distanceTo(kickPos.getXYVector());
-		IVector2 spin = initialSpin;
-
-		// go through hops while max. height is above 10mm
-		while (((velNow.z() * velNow.z()) / (2.0 * G)) > parameters.getMinHopHeight())
+		ChipHopTable hops = hopTable();
+		double sign = xySign();
+		double distOffset = initialPos.getXYVector().distanceTo(kickPos.getXYVector());
+		int i = hops.hopAtDistance(distance + distOffset);
+		double tNow = hops.getStartTime(i) - tInAir;
+		double distNow = hops.getStartDistance(i) - distOffset;
+		double v = Vector2.fromXY(sign * hops.getVelX(i), sign * hops.getVelY(i)).getLength2();
+
+		if (i < hops.getNumHops())
 		{
-			double tFly = (2 * velNow.z()) / G;
-
-			double partLength = velNow.multiplyNew(tFly).getLength2();
-
-			if ((distNow + partLength) > distance)
-			{
-				double tPart = (distance - distNow) / velNow.getLength2();
-				return tNow + tPart;
-			}
-
-			distNow += partLength;
-			velNow = velNow.multiplyNew(getDamping(spin));
-			tNow += tFly;
-
-			spin = velNow.getXYVector().multiplyNew(1.0 / parameters.getBallRadius());
+			double tPart = (distance - distNow) / v;
+			return tNow + tPart;
 		}
 
-		// ball is below 10mm and assumed to be rolling
+		// ball is below minHopHeight and assumed to be rolling
 		double p = distance - distNow;
-		double v = velNow.getLength2();
 		double a = parameters.getAccRoll();
 
 		double tStop = -v / a;
@@ -339,27 +292,17 @@ public class ChipBallTrajectory extends ABallTrajectory
 	@Override
 	protected double getTimeByVelocityInMillimetersPerSec(final double velocity)
 	{
-		Vector3 velNow = Vector3.copy(kickVel);
-		double tNow = -tInAir;
-		IVector2 spin = initialSpin;
+		ChipHopTable hops = hopTable();
 
-		// go through hops while max. height is above 10mm
-		while (((velNow.z() * velNow.z()) / (2.0 * G)) > parameters.getMinHopHeight())
+		int hop = hops.firstHopSlowerThan(velocity);
+		if (hop < hops.getNumHops())
 		{
-			if (velNow.getLength2() < velocity)
-			{
-				return tNow;
-			}
-
-			double tFly = (2 * velNow.z()) / G;
-			velNow = velNow.multiplyNew(getDamping(spin));
-			tNow += tFly;
-
-			spin = velNow.getXYVector().multiplyNew(1.0 / parameters.getBallRadius());
+			return hops.getStartTime(hop) - tInAir;
 		}
 
-		// ball is below 10mm and assumed to be rolling
-		double v = velNow.getLength2();
+		// ball is below minHopHeight and assumed to be rolling
+		double tNow = hops.getRollStartTime() - tInAir;
+		double v = hops.getSpeed(hops.getNumHops());
 		if (v < velocity)
 		{
 			// Rare edge case: Last jumps dampens it so much, that jump falls below min hop height but also the last jumps
@@ -385,34 +328,23 @@ public class ChipBallTrajectory extends ABallTrajectory
 		IVector3 vel = Vector3.from2d(initialVel.getXYVector().multiplyNew(-1), initialVel.z());
 		IVector2 spin = initialSpin.multiplyNew(-1);
 
-		return new ChipBallTrajectory(parameters, pos, vel, spin, tInAir, kickPosMir, kickVelMir);
+		return new ChipBallTrajectory(parameters, pos, vel, spin, tInAir, kickPosMir, kickVelMir)
+				.withHopTable(sharedHopTable(), !hopTableMirrored);
 	}
 
 
 	@Override
 	public List<IVector2> getTouchdownLocations()
 	{
-		List<IVector2> locations = new ArrayList<>();
-
-		Vector3 posNow = Vector3.copy(kickPos.getXYZVector());
-		Vector3 velNow = Vector3.copy(kickVel);
-
-		IVector2 spin = initialSpin;
-
-		// go through hops while max. height is above minHeight
-		while (((velNow.z() * velNow.z()) / (2.0 * G)) > parameters.getMinHopHeight())
+		ChipHopTable hops = hopTable();
+		double sign = xySign();
+		List<IVector2> locations = new ArrayList<>(hops.getNumHops());
+		for (int i = 1; i <= hops.getNumHops(); i++)
 		{
-			double tFly = (2 * velNow.z()) / G;
-
-			posNow.add(velNow.multiplyNew(tFly));
-			posNow.set(2, 0);
-			velNow = velNow.multiplyNew(getDamping(spin));
-
-			locations.add(posNow.getXYVector());
-
-			spin = velNow.getXYVector().multiplyNew(1.0 / parameters.getBallRadius());
+			locations.add(Vector2.fromXY(
+					kickPos.x() + (sign * hops.getPosX(i)),
+					kickPos.y() + (sign * hops.getPosY(i))));
 		}
-
 		return locations;
 	}
 
@@ -436,26 +368,31 @@ public class ChipBallTrajectory extends ABallTrajectory
 	{
 		final double g = G;
 		final double h = parameters.getMaxInterceptableHeight();
+		ChipHopTable hops = hopTable();
+		double sign = xySign();
 		List<ILineSegment> lines = new ArrayList<>();
-		Vector3 posNow = Vector3.copy(kickPos.getXYZVector());
-		Vector3 velNow = Vector3.copy(kickVel);
-		double tNow = -tInAir;
-		IVector2 spin = initialSpin;
 
 		double t1;
 		double t2;
 		IVector2 p2 = getPosByTime(0).getXYVector();
 
-		// go through hops while max. height is above 150mm
-		while (((velNow.z() * velNow.z()) / (2.0 * g)) > h)
+		// go through hops while max. height is above maxInterceptableHeight
+		for (int i = 0; i < hops.getNumHops(); i++)
 		{
-			double vz = velNow.z();
-			double tFly = (2 * vz) / g;
+			double vz = hops.getVelZ(i);
+			if (((vz * vz) / (2.0 * g)) <= h)
+			{
+				break;
+			}
+			double tNow = hops.getStartTime(i) - tInAir;
+			double px = kickPos.x() + (sign * hops.getPosX(i));
+			double py = kickPos.y() + (sign * hops.getPosY(i));
+			double vx = sign * hops.getVelX(i);
+			double vy = sign * hops.getVelY(i);
 
 			t1 = -(SumatraMath.sqrt((vz * vz) - (2 * g * h)) - vz) / g;
 
-			IVector2 p1 = posNow.addNew(velNow.multiplyNew(t1)).add(Vector3.fromXYZ(0, 0, -0.5 * g * t1 * t1))
-					.getXYVector();
+			IVector2 p1 = Vector2.fromXY(px + (vx * t1), py + (vy * t1));
 
 			if ((tNow + t1) > 0)
 			{
@@ -469,14 +406,7 @@ public class ChipBallTrajectory extends ABallTrajectory
 				t2 = -tNow;
 			}
 
-			p2 = posNow.addNew(velNow.multiplyNew(t2)).add(Vector3.fromXYZ(0, 0, -0.5 * g * t2 * t2)).getXYVector();
-
-			posNow.add(velNow.multiplyNew(tFly));
-			posNow.set(2, 0);
-			velNow = velNow.multiplyNew(getDamping(spin));
-			tNow += tFly;
-
-			spin = velNow.getXYVector().multiplyNew(1.0 / parameters.getBallRadius());
+			p2 = Vector2.fromXY(px + (vx * t2), py + (vy * t2));
 		}
 
 		IVector2 p1 = getPosByVel(0).getXYVector();
@@ -486,15 +416,65 @@ public class ChipBallTrajectory extends ABallTrajectory
 	}
 
 
-	private IVector3 getDamping(final IVector2 spin)
+	private Vector3 rollStartPos(final ChipHopTable hops, final double sign)
+	{
+		int roll = hops.getNumHops();
+		return Vector3.fromXYZ(kickPos.x() + (sign * hops.getPosX(roll)), kickPos.y() + (sign * hops.getPosY(roll)), 0);
+	}
+
+
+	private double xySign()
+	{
+		return hopTableMirrored ? -1 : 1;
+	}
+
+
+	private ChipHopTable hopTable()
+	{
+		return sharedHopTable().get();
+	}
+
+
+	private SharedHopTable sharedHopTable()
+	{
+		if (hopTable == null)
+		{
+			hopTable = new SharedHopTable(parameters, kickVel, initialSpin);
+			hopTableMirrored = false;
+		}
+		return hopTable;
+	}
+
+
+	/**
+	 * Lazily computes the hop table of a kick. It is shared by all trajectories derived from the same kick.
+	 */
+	private static final class SharedHopTable
 	{
-		if (spin.getLength2() > 0)
+		private final BallParameters parameters;
+		private final IVector3 kickVel;
+		private final IVector2 kickSpin;
+		private ChipHopTable table;
+
+
+		private SharedHopTable(final BallParameters parameters, final IVector3 kickVel, final IVector2 kickSpin)
 		{
-			return Vector3.fromXYZ(parameters.getChipDampingXYOtherHops(),
-					parameters.getChipDampingXYOtherHops(), parameters.getChipDampingZ());
+			this.parameters = parameters;
+			this.kickVel = kickVel;
+			this.kickSpin = kickSpin;
 		}
 
-		return Vector3.fromXYZ(parameters.getChipDampingXYFirstHop(),
-				parameters.getChipDampingXYFirstHop(), parameters.getChipDampingZ());
+
+		private ChipHopTable get()
+		{
+			// racy, but the table is immutable, so it is at most computed twice
+			ChipHopTable t = table;
+			if (t == null)
+			{
+				t = new ChipHopTable(parameters, kickVel, kickSpin);
+				table = t;
+			}
+			return t;
+		}
 	}
 }
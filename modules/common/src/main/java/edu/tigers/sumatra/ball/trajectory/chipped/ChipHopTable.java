@@ -0,0 +1,299 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+package edu.tigers.sumatra.ball.trajectory.chipped;
+
+import edu.tigers.sumatra.ball.BallParameters;
+import edu.tigers.sumatra.math.SumatraMath;
+import edu.tigers.sumatra.math.vector.IVector2;
+import edu.tigers.sumatra.math.vector.IVector3;
+
+import java.util.Arrays;
+
+
+/**
+ * The hops of a chipped ball, computed once from the kick velocity.
+ * Hop {@code i} starts at index {@code i}, the index {@link #getNumHops()} is the start of the rolling phase.
+ * Times are relative to the kick and positions are relative to the kick position,
+ * so the table can be shared by trajectories that only differ in the kick position.
+ */
+final class ChipHopTable
+{
+	private static final double G = 9810;
+
+	private final int numHops;
+	/** start time of each hop [s] */
+	private final double[] tStart;
+	/** distance traveled in XY until the start of each hop [mm] */
+	private final double[] dist;
+	private final double[] posX;
+	private final double[] posY;
+	private final double[] velX;
+	private final double[] velY;
+	private final double[] velZ;
+	private final double[] spinX;
+	private final double[] spinY;
+	/** XY speed of each hop [mm/s] */
+	private final double[] speed;
+	/** if the speed never increases from one hop to the next, which is the case for dampings up to 1 */
+	private final boolean speedDescending;
+	/** duration of the rolling phase [s] */
+	private final double tStop;
+
+
+	/**
+	 * @param parameters the ball parameters
+	 * @param kickVel    the kick velocity [mm/s]
+	 * @param kickSpin   the kick spin [rad/s]
+	 */
+	ChipHopTable(final BallParameters parameters, final IVector3 kickVel, final IVector2 kickSpin)
+	{
+		int capacity = 8;
+		double[][] columns = new double[9][capacity];
+
+		double px = 0;
+		double py = 0;
+		double vx = kickVel.x();
+		double vy = kickVel.y();
+		double vz = kickVel.z();
+		double sx = kickSpin.x();
+		double sy = kickSpin.y();
+		double tNow = 0;
+		double distNow = 0;
+		int n = 0;
+
+		while (true)
+		{
+			if (n == capacity)
+			{
+				capacity *= 2;
+				for (int c = 0; c < columns.length; c++)
+				{
+					columns[c] = Arrays.copyOf(columns[c], capacity);
+				}
+			}
+			double[] row = { tNow, distNow, px, py, vx, vy, vz, sx, sy };
+			for (int c = 0; c < columns.length; c++)
+			{
+				columns[c][n] = row[c];
+			}
+
+			// go through hops while max. height is above minHopHeight
+			if (((vz * vz) / (2.0 * G)) <= parameters.getMinHopHeight())
+			{
+				break;
+			}
+
+			double tFly = (2 * vz) / G;
+			double dx = vx * tFly;
+			double dy = vy * tFly;
+			px += dx;
+			py += dy;
+			distNow += SumatraMath.sqrt((dx * dx) + (dy * dy));
+
+			boolean spinning = SumatraMath.sqrt((sx * sx) + (sy * sy)) > 0;
+			double dampingXY = spinning
+					? parameters.getChipDampingXYOtherHops()
+					: parameters.getChipDampingXYFirstHop();
+			vx *= dampingXY;
+			vy *= dampingXY;
+			vz *= parameters.getChipDampingZ();
+			tNow += tFly;
+
+			// set spin to rolling after first hop
+			sx = vx * (1.0 / parameters.getBallRadius());
+			sy = vy * (1.0 / parameters.getBallRadius());
+			n++;
+		}
+
+		numHops = n;
+		tStart = Arrays.copyOf(columns[0], n + 1);
+		dist = Arrays.copyOf(columns[1], n + 1);
+		posX = Arrays.copyOf(columns[2], n + 1);
+		posY = Arrays.copyOf(columns[3], n + 1);
+		velX = Arrays.copyOf(columns[4], n + 1);
+		velY = Arrays.copyOf(columns[5], n + 1);
+		velZ = Arrays.copyOf(columns[6], n + 1);
+		spinX = Arrays.copyOf(columns[7], n + 1);
+		spinY = Arrays.copyOf(columns[8], n + 1);
+		speed = new double[n + 1];
+		boolean descending = true;
+		for (int i = 0; i <= n; i++)
+		{
+			speed[i] = SumatraMath.sqrt((velX[i] * velX[i]) + (velY[i] * velY[i]));
+			descending &= i == 0 || speed[i] <= speed[i - 1];
+		}
+		speedDescending = descending;
+		tStop = -SumatraMath.sqrt((vx * vx) + (vy * vy)) / parameters.getAccRoll();
+	}
+
+
+	/**
+	 * @param t time since kick [s]
+	 * @return the index of the hop at the given time, or {@link #getNumHops()} if the ball is rolling
+	 */
+	int hopAtTime(final double t)
+	{
+		return floorIndex(tStart, t);
+	}
+
+
+	/**
+	 * @param d distance since kick [mm]
+	 * @return the index of the hop at the given distance, or {@link #getNumHops()} if the ball is rolling
+	 */
+	int hopAtDistance(final double d)
+	{
+		return floorIndex(dist, d);
+	}
+
+
+	/**
+	 * @param velocity the XY velocity [mm/s]
+	 * @return the index of the first hop that is slower than the given velocity,
+	 * or {@link #getNumHops()} if all hops are faster
+	 */
+	int firstHopSlowerThan(final double velocity)
+	{
+		if (!speedDescending)
+		{
+			for (int i = 0; i < numHops; i++)
+			{
+				if (speed[i] < velocity)
+				{
+					return i;
+				}
+			}
+			return numHops;
+		}
+		int low = 0;
+		int high = numHops;
+		while (low < high)
+		{
+			int mid = (low + high) >>> 1;
+			if (speed[mid] < velocity)
+			{
+				high = mid;
+			} else
+			{
+				low = mid + 1;
+			}
+		}
+		return low;
+	}
+
+
+	/**
+	 * @param values ascending values with numHops + 1 entries
+	 * @param value  the value to look up
+	 * @return the last index with values[i] <= value, but at least 0
+	 */
+	private static int floorIndex(final double[] values, final double value)
+	{
+		int index = Arrays.binarySearch(values, value);
+		if (index < 0)
+		{
+			return Math.max(0, -index - 2);
+		}
+		// there may be multiple hops starting at the same value, take the last one
+		while (index < values.length - 1 && values[index + 1] == value)
+		{
+			index++;
+		}
+		return index;
+	}
+
+
+	int getNumHops()
+	{
+		return numHops;
+	}
+
+
+	double getStartTime(final int i)
+	{
+		return tStart[i];
+	}
+
+
+	double getFlightTime(final int i)
+	{
+		return (2 * velZ[i]) / G;
+	}
+
+
+	double getStartDistance(final int i)
+	{
+		return dist[i];
+	}
+
+
+	double getPosX(final int i)
+	{
+		return posX[i];
+	}
+
+
+	double getPosY(final int i)
+	{
+		return posY[i];
+	}
+
+
+	double getVelX(final int i)
+	{
+		return velX[i];
+	}
+
+
+	double getVelY(final int i)
+	{
+		return velY[i];
+	}
+
+
+	double getVelZ(final int i)
+	{
+		return velZ[i];
+	}
+
+
+	double getSpinX(final int i)
+	{
+		return spinX[i];
+	}
+
+
+	double getSpinY(final int i)
+	{
+		return spinY[i];
+	}
+
+
+	/**
+	 * @param i the hop index
+	 * @return the XY speed of the hop [mm/s]
+	 */
+	double getSpeed(final int i)
+	{
+		return speed[i];
+	}
+
+
+	/**
+	 * @return the time since kick [s] when the ball starts rolling
+	 */
+	double getRollStartTime()
+	{
+		return tStart[numHops];
+	}
+
+
+	/**
+	 * @return the duration of the rolling phase [s]
+	 */
+	double getRollDuration()
+	{
+		return tStop;
+	}
+}
@@ -0,0 +1,468 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.ObjLongConsumer;
+
+
+/**
+ * A ring buffer for timestamped values, ordered by timestamp.
+ * The timestamps are stored in a primitive array, so that lookups by time are a binary search without boxing.
+ * <p>
+ * The buffer either has a fixed capacity, in which case the oldest entry is overwritten when it is full,
+ * or a time window, in which case entries older than the window (relative to the latest entry) are evicted
+ * and the capacity grows, if required. In steady state, adding and iterating does not allocate.
+ * <p>
+ * This class is not thread-safe. Synchronize externally, if it is accessed from multiple threads.
+ *
+ * @param <T> the value type, values may be null if only the timestamps are of interest
+ */
+public class TimeSeriesBuffer<T>
+{
+	private long[] timestamps;
+	private Object[] values;
+	private final long windowDuration;
+	private final boolean growable;
+	private int head = 0;
+	private int size = 0;
+
+
+	private TimeSeriesBuffer(int capacity, long windowDuration, boolean growable)
+	{
+		if (capacity <= 0)
+		{
+			throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+		}
+		this.timestamps = new long[capacity];
+		this.values = new Object[capacity];
+		this.windowDuration = windowDuration;
+		this.growable = growable;
+	}
+
+
+	/**
+	 * @param capacity the max number of entries
+	 * @param <T>      the value type
+	 * @return a new buffer that overwrites the oldest entry when it is full
+	 */
+	public static <T> TimeSeriesBuffer<T> withCapacity(int capacity)
+	{
+		return new TimeSeriesBuffer<>(capacity, Long.MAX_VALUE, false);
+	}
+
+
+	/**
+	 * @param windowDuration  the duration [s] that is kept, relative to the latest entry
+	 * @param initialCapacity the initial capacity, which grows if required
+	 * @param <T>             the value type
+	 * @return a new buffer that keeps all entries within the time window
+	 */
+	public static <T> TimeSeriesBuffer<T> withWindow(double windowDuration, int initialCapacity)
+	{
+		return new TimeSeriesBuffer<>(initialCapacity, (long) (windowDuration * 1e9), true);
+	}
+
+
+	/**
+	 * @param windowDuration the duration [s] that is kept, relative to the latest entry
+	 * @param capacity       the max number of entries
+	 * @param <T>            the value type
+	 * @return a new buffer that keeps the entries within the time window, but at most capacity entries
+	 */
+	public static <T> TimeSeriesBuffer<T> withWindowAndCapacity(double windowDuration, int capacity)
+	{
+		return new TimeSeriesBuffer<>(capacity, (long) (windowDuration * 1e9), false);
+	}
+
+
+	/**
+	 * Add a new entry. Entries are usually added in chronological order.
+	 * Older entries are inserted at their position, which is more expensive.
+	 *
+	 * @param timestamp the timestamp [ns]
+	 * @param value     the value
+	 */
+	public void add(long timestamp, T value)
+	{
+		if (size > 0 && timestamp < getLatestTimestamp())
+		{
+			insert(timestamp, value);
+		} else
+		{
+			append(timestamp, value);
+		}
+		evictOutsideWindow();
+	}
+
+
+	/**
+	 * Add a new entry without a value
+	 *
+	 * @param timestamp the timestamp [ns]
+	 */
+	public void add(long timestamp)
+	{
+		add(timestamp, null);
+	}
+
+
+	private void append(long timestamp, T value)
+	{
+		if (size == timestamps.length)
+		{
+			evictOutsideWindow();
+		}
+		if (size == timestamps.length)
+		{
+			if (growable)
+			{
+				grow();
+			} else
+			{
+				removeOldest();
+			}
+		}
+		int index = physicalIndex(size);
+		timestamps[index] = timestamp;
+		values[index] = value;
+		size++;
+	}
+
+
+	private void insert(long timestamp, T value)
+	{
+		int position = upperBound(timestamp);
+		if (size == timestamps.length)
+		{
+			if (growable)
+			{
+				grow();
+			} else if (position == 0)
+			{
+				// older than all entries of a full buffer
+				return;
+			} else
+			{
+				removeOldest();
+				position--;
+			}
+		}
+		for (int i = size; i > position; i--)
+		{
+			int to = physicalIndex(i);
+			int from = physicalIndex(i - 1);
+			timestamps[to] = timestamps[from];
+			values[to] = values[from];
+		}
+		int index = physicalIndex(position);
+		timestamps[index] = timestamp;
+		values[index] = value;
+		size++;
+	}
+
+
+	private void grow()
+	{
+		int newCapacity = timestamps.length * 2;
+		long[] newTimestamps = new long[newCapacity];
+		Object[] newValues = new Object[newCapacity];
+		for (int i = 0; i < size; i++)
+		{
+			newTimestamps[i] = timestamps[physicalIndex(i)];
+			newValues[i] = values[physicalIndex(i)];
+		}
+		timestamps = newTimestamps;
+		values = newValues;
+		head = 0;
+	}
+
+
+	private void removeOldest()
+	{
+		values[head] = null;
+		head = (head + 1) % timestamps.length;
+		size--;
+	}
+
+
+	private void evictOutsideWindow()
+	{
+		if (windowDuration != Long.MAX_VALUE && size > 0)
+		{
+			evictOlderThan(getLatestTimestamp() - windowDuration);
+		}
+	}
+
+
+	/**
+	 * Remove all entries that are older than the given timestamp
+	 *
+	 * @param timestamp the timestamp [ns] of the oldest entry to keep
+	 */
+	public void evictOlderThan(long timestamp)
+	{
+		int numOlder = lowerBound(timestamp);
+		for (int i = 0; i < numOlder; i++)
+		{
+			removeOldest();
+		}
+	}
+
+
+	/**
+	 * Remove all entries
+	 */
+	public void clear()
+	{
+		Arrays.fill(values, null);
+		head = 0;
+		size = 0;
+	}
+
+
+	/**
+	 * @return the number of entries
+	 */
+	public int size()
+	{
+		return size;
+	}
+
+
+	/**
+	 * @return true, if there are no entries
+	 */
+	public boolean isEmpty()
+	{
+		return size == 0;
+	}
+
+
+	/**
+	 * @param i the index, 0 being the oldest entry
+	 * @return the timestamp [ns] of the entry
+	 */
+	public long getTimestamp(int i)
+	{
+		checkIndex(i);
+		return timestamps[physicalIndex(i)];
+	}
+
+
+	/**
+	 * @param i the index, 0 being the oldest entry
+	 * @return the value of the entry
+	 */
+	@SuppressWarnings("unchecked")
+	public T get(int i)
+	{
+		checkIndex(i);
+		return (T) values[physicalIndex(i)];
+	}
+
+
+	/**
+	 * @return the timestamp [ns] of the latest entry
+	 */
+	public long getLatestTimestamp()
+	{
+		return getTimestamp(size - 1);
+	}
+
+
+	/**
+	 * @return the value of the oldest entry
+	 */
+	public Optional<T> getOldest()
+	{
+		return size == 0 ? Optional.empty() : Optional.ofNullable(get(0));
+	}
+
+
+	/**
+	 * @return the value of the latest entry
+	 */
+	public Optional<T> getLatest()
+	{
+		return size == 0 ? Optional.empty() : Optional.ofNullable(get(size - 1));
+	}
+
+
+	/**
+	 * @param timestamp a timestamp [ns]
+	 * @return the index of the latest entry that is not newer than the timestamp, or -1 if there is none
+	 */
+	public int floorIndex(long timestamp)
+	{
+		return upperBound(timestamp) - 1;
+	}
+
+
+	/**
+	 * @param timestamp a timestamp [ns]
+	 * @return the value of the latest entry that is not newer than the timestamp
+	 */
+	public Optional<T> getFloor(long timestamp)
+	{
+		int index = floorIndex(timestamp);
+		return index < 0 ? Optional.empty() : Optional.ofNullable(get(index));
+	}
+
+
+	/**
+	 * @param timestamp a timestamp [ns]
+	 * @return the value of the entry with the closest timestamp
+	 */
+	public Optional<T> getNearest(long timestamp)
+	{
+		if (size == 0)
+		{
+			return Optional.empty();
+		}
+		int upper = upperBound(timestamp);
+		if (upper == 0)
+		{
+			return Optional.ofNullable(get(0));
+		}
+		if (upper == size)
+		{
+			return Optional.ofNullable(get(size - 1));
+		}
+		long before = timestamp - getTimestamp(upper - 1);
+		long after = getTimestamp(upper) - timestamp;
+		return Optional.ofNullable(get(before <= after ? upper - 1 : upper));
+	}
+
+
+	/**
+	 * @param timestamp a timestamp [ns]
+	 * @return the number of entries that are not older than the timestamp
+	 */
+	public int countSince(long timestamp)
+	{
+		return size - lowerBound(timestamp);
+	}
+
+
+	/**
+	 * Iterate over all values from oldest to latest without allocating an iterator
+	 *
+	 * @param consumer the consumer of the values
+	 */
+	public void forEach(Consumer<? super T> consumer)
+	{
+		for (int i = 0; i < size; i++)
+		{
+			consumer.accept(get(i));
+		}
+	}
+
+
+	/**
+	 * Iterate over all entries from oldest to latest without allocating an iterator
+	 *
+	 * @param consumer the consumer of the values and timestamps
+	 */
+	public void forEach(ObjLongConsumer<? super T> consumer)
+	{
+		for (int i = 0; i < size; i++)
+		{
+			consumer.accept(get(i), getTimestamp(i));
+		}
+	}
+
+
+	/**
+	 * Iterate over all timestamps from oldest to latest
+	 *
+	 * @param consumer the consumer of the timestamps
+	 */
+	public void forEachTimestamp(LongConsumer consumer)
+	{
+		for (int i = 0; i < size; i++)
+		{
+			consumer.accept(getTimestamp(i));
+		}
+	}
+
+
+	/**
+	 * @return a copy of all values from oldest to latest
+	 */
+	public List<T> toList()
+	{
+		List<T> list = new ArrayList<>(size);
+		forEach((Consumer<T>) list::add);
+		return list;
+	}
+
+
+	/**
+	 * @param timestamp a timestamp
+	 * @return the index of the first entry that is not older than the timestamp
+	 */
+	private int lowerBound(long timestamp)
+	{
+		int low = 0;
+		int high = size;
+		while (low < high)
+		{
+			int mid = (low + high) >>> 1;
+			if (timestamps[physicalIndex(mid)] < timestamp)
+			{
+				low = mid + 1;
+			} else
+			{
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+
+	/**
+	 * @param timestamp a timestamp
+	 * @return the index of the first entry that is newer than the timestamp
+	 */
+	private int upperBound(long timestamp)
+	{
+		int low = 0;
+		int high = size;
+		while (low < high)
+		{
+			int mid = (low + high) >>> 1;
+			if (timestamps[physicalIndex(mid)] <= timestamp)
+			{
+				low = mid + 1;
+			} else
+			{
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+
+	private int physicalIndex(int i)
+	{
+		int index = head + i;
+		return index >= timestamps.length ? index - timestamps.length : index;
+	}
+
+
+	private void checkIndex(int i)
+	{
+		if (i < 0 || i >= size)
+		{
+			throw new IndexOutOfBoundsException("Index " + i + " out of bounds for size " + size);
+		}
+	}
+}
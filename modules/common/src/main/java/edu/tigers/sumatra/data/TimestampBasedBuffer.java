@@ -1,13 +1,13 @@
 /*
- * Copyright (c) 2009 - 2021, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 
 package edu.tigers.sumatra.data;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 
 /**
@@ -17,8 +17,7 @@ import java.util.Optional;
  */
 public class TimestampBasedBuffer<T extends ITimestampBased>
 {
-	private final long bufferDuration;
-	private final List<T> buffer = new ArrayList<>();
+	private final TimeSeriesBuffer<T> buffer;
 	
 	
 	/**
@@ -26,31 +25,33 @@ public class TimestampBasedBuffer<T extends ITimestampBased>
 	 */
 	public TimestampBasedBuffer(final double bufferDuration)
 	{
-		this.bufferDuration = (long) (bufferDuration * 1e9);
+		buffer = TimeSeriesBuffer.withWindow(bufferDuration, 16);
 	}
 	
 	
-	private void reduceBuffer()
+	public void add(T data)
 	{
-		if (buffer.isEmpty())
-		{
-			return;
-		}
-		long latestTimestamp = buffer.get(buffer.size() - 1).getTimestamp();
-		buffer.removeIf(d -> (latestTimestamp - d.getTimestamp()) > bufferDuration);
+		buffer.add(data.getTimestamp(), data);
 	}
 	
 	
-	public void add(T data)
+	/**
+	 * @return a copy of the buffered data, from oldest to latest
+	 */
+	public List<T> getData()
 	{
-		reduceBuffer();
-		buffer.add(data);
+		return Collections.unmodifiableList(buffer.toList());
 	}
 	
 	
-	public List<T> getData()
+	/**
+	 * Iterate over the buffered data without copying it
+	 * 
+	 * @param consumer the consumer of the data, from oldest to latest
+	 */
+	public void forEach(Consumer<? super T> consumer)
 	{
-		return Collections.unmodifiableList(buffer);
+		buffer.forEach(consumer);
 	}
 	
 	
@@ -68,16 +69,12 @@ public class TimestampBasedBuffer<T extends ITimestampBased>
 	
 	public Optional<T> getOldest()
 	{
-		return buffer.stream().findFirst();
+		return buffer.getOldest();
 	}
 	
 	
 	public Optional<T> getLatest()
 	{
-		if (buffer.isEmpty())
-		{
-			return Optional.empty();
-		}
-		return Optional.of(buffer.get(buffer.size() - 1));
+		return buffer.getLatest();
 	}
 }
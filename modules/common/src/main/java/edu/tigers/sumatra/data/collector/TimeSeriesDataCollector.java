@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2019, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 
 package edu.tigers.sumatra.data.collector;
@@ -9,9 +9,11 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.ServiceLoader;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executors;
@@ -24,11 +26,13 @@ import org.apache.logging.log4j.Logger;
 import org.json.simple.JSONObject;
 
 import edu.tigers.sumatra.export.CSVExporter;
+import edu.tigers.sumatra.export.EExportFormat;
 import edu.tigers.sumatra.thread.NamedThreadFactory;
 
 
 /**
- * This is a asynchronous data collector that writes multiple timeseries data streams into a common folder
+ * This is a asynchronous data collector that writes multiple timeseries data streams into a common folder.
+ * The data buffers of the providers are streamed to the files while collecting, if they are {@link Queue}s.
  */
 public class TimeSeriesDataCollector implements Runnable
 {
@@ -37,7 +41,10 @@ public class TimeSeriesDataCollector implements Runnable
 
 	private final List<ITimeSeriesDataCollectorObserver> observers = new CopyOnWriteArrayList<>();
 	private final List<ITimeSeriesDataProvider> dataProviders = new ArrayList<>();
+	private final Map<String, CSVExporter> exporters = new HashMap<>();
 	private ScheduledExecutorService executorService;
+	private EExportFormat exportFormat = EExportFormat.CSV;
+	private boolean folderCreated = false;
 
 	private long startTime;
 	private long time2Stop = 0;
@@ -148,6 +155,7 @@ public class TimeSeriesDataCollector implements Runnable
 	public boolean start()
 	{
 		startTime = System.nanoTime();
+		folderCreated = createFolder(baseFolder);
 		dataProviders.forEach(ITimeSeriesDataProvider::start);
 		executorService = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory(getClass().getSimpleName()));
 		executorService.scheduleAtFixedRate(this::stopIfDone, 1000, 500, TimeUnit.MILLISECONDS);
@@ -161,6 +169,7 @@ public class TimeSeriesDataCollector implements Runnable
 	{
 		try
 		{
+			exportAvailableData(false);
 			if (isDone())
 			{
 				startExportData();
@@ -212,7 +221,8 @@ public class TimeSeriesDataCollector implements Runnable
 	@Override
 	public final void run()
 	{
-		exportCsvFiles(baseFolder);
+		exportAvailableData(true);
+		closeExporters();
 		String fullFileName = exportMetadata();
 		notifyPostProcessing(fullFileName);
 	}
@@ -239,24 +249,72 @@ public class TimeSeriesDataCollector implements Runnable
 	}
 
 
-	private void exportCsvFiles(final String folder)
+	private boolean createFolder(final String folder)
 	{
 		File dir = new File(folder);
 		if (dir.exists())
 		{
 			log.error("Target folder already exists: {}", folder);
-			return;
+			return false;
 		}
 		if (!dir.mkdirs())
 		{
 			log.error("Can not create target folder: {}", folder);
+			return false;
+		}
+		return true;
+	}
+
+
+	/**
+	 * Write the collected data to the files. Data in queues is removed from the queues.
+	 *
+	 * @param finalExport if true, also export data of buffers that can not be streamed
+	 */
+	private synchronized void exportAvailableData(final boolean finalExport)
+	{
+		if (!folderCreated)
+		{
 			return;
 		}
+		for (ITimeSeriesDataProvider provider : dataProviders)
+		{
+			for (Map.Entry<String, Collection<IExportable>> dataBuffer : provider.getExportableData().entrySet())
+			{
+				if (dataBuffer.getValue() instanceof Queue<IExportable> queue)
+				{
+					IExportable data;
+					while ((data = queue.poll()) != null)
+					{
+						export(dataBuffer.getKey(), data);
+					}
+				} else if (finalExport)
+				{
+					dataBuffer.getValue().forEach(data -> export(dataBuffer.getKey(), data));
+				}
+			}
+		}
+	}
+
 
-		dataProviders.forEach(
-				provider -> provider.getExportableData()
-						.forEach(
-								(name, dataBuffer) -> CSVExporter.exportCollection(folder, name, new ArrayList<>(dataBuffer))));
+	private synchronized void closeExporters()
+	{
+		folderCreated = false;
+		exporters.values().forEach(CSVExporter::close);
+		exporters.clear();
+	}
+
+
+	private void export(final String name, final IExportable data)
+	{
+		CSVExporter exporter = exporters.get(name);
+		if (exporter == null)
+		{
+			exporter = new CSVExporter(Paths.get(baseFolder), name, CSVExporter.EMode.EXACT_FILE_NAME, exportFormat);
+			exporter.setHeader(data.getHeaders());
+			exporters.put(name, exporter);
+		}
+		exporter.addValues(data.getNumberList());
 	}
 
 
@@ -269,6 +327,15 @@ public class TimeSeriesDataCollector implements Runnable
 	}
 
 
+	/**
+	 * @param exportFormat the file format of the exported data
+	 */
+	public void setExportFormat(final EExportFormat exportFormat)
+	{
+		this.exportFormat = exportFormat;
+	}
+
+
 	/**
 	 * @param timeout the timeout to set
 	 */
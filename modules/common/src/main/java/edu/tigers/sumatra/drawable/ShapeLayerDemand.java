@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.drawable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+
+/**
+ * Keeps track of the shape layers that are consumed by someone, like a visualizer or a recorder.
+ * <p>
+ * If enabled, {@link ShapeMap#get(IShapeLayerIdentifier)} returns a sink that discards all shapes
+ * for layers that are not demanded by any consumer. The layers themselves are still part of the shape map,
+ * so that consumers can discover them.
+ */
+public final class ShapeLayerDemand
+{
+	private static final Map<Object, Predicate<IShapeLayerIdentifier>> consumers = new ConcurrentHashMap<>();
+	private static final LongAdder numShapesConsumed = new LongAdder();
+	private static final LongAdder numShapesDiscarded = new LongAdder();
+
+	private static volatile boolean enabled = false;
+	private static volatile Snapshot snapshot = new Snapshot(List.of());
+
+
+	private ShapeLayerDemand()
+	{
+	}
+
+
+	/**
+	 * @param enabled if true, shapes of layers that are not demanded are discarded
+	 */
+	public static void setEnabled(final boolean enabled)
+	{
+		ShapeLayerDemand.enabled = enabled;
+	}
+
+
+	/**
+	 * @return true, if shapes of layers that are not demanded are discarded
+	 */
+	public static boolean isEnabled()
+	{
+		return enabled;
+	}
+
+
+	/**
+	 * Set or replace the layers that a consumer demands.
+	 *
+	 * @param consumer       the consumer, used as key
+	 * @param demandedLayers the layers that the consumer demands
+	 */
+	public static synchronized void setDemand(final Object consumer, final Predicate<IShapeLayerIdentifier> demandedLayers)
+	{
+		consumers.put(consumer, demandedLayers);
+		snapshot = new Snapshot(List.copyOf(consumers.values()));
+	}
+
+
+	/**
+	 * Remove all demands of a consumer.
+	 *
+	 * @param consumer the consumer, as passed to {@link #setDemand}
+	 */
+	public static synchronized void removeDemand(final Object consumer)
+	{
+		consumers.remove(consumer);
+		snapshot = new Snapshot(List.copyOf(consumers.values()));
+	}
+
+
+	/**
+	 * Forget the cached demand of all layers, e.g. if the result of a demand predicate changed.
+	 */
+	public static synchronized void invalidate()
+	{
+		snapshot = new Snapshot(List.copyOf(consumers.values()));
+	}
+
+
+	/**
+	 * @param identifier the shape layer
+	 * @return true, if shapes of this layer should be created
+	 */
+	public static boolean isDemanded(final IShapeLayerIdentifier identifier)
+	{
+		return !enabled || snapshot.isDemanded(identifier);
+	}
+
+
+	/**
+	 * @return the number of shapes that were added to demanded layers
+	 */
+	public static long getNumShapesConsumed()
+	{
+		return numShapesConsumed.sum();
+	}
+
+
+	/**
+	 * @return the number of shapes that were discarded, because their layer was not demanded
+	 */
+	public static long getNumShapesDiscarded()
+	{
+		return numShapesDiscarded.sum();
+	}
+
+
+	/**
+	 * @return the number of shapes that were created in total
+	 */
+	public static long getNumShapesCreated()
+	{
+		return getNumShapesConsumed() + getNumShapesDiscarded();
+	}
+
+
+	static void shapesConsumed(final int numShapes)
+	{
+		numShapesConsumed.add(numShapes);
+	}
+
+
+	static void shapesDiscarded(final int numShapes)
+	{
+		numShapesDiscarded.add(numShapes);
+	}
+
+
+	private record Snapshot(List<Predicate<IShapeLayerIdentifier>> demands, Map<String, Boolean> cache)
+	{
+		Snapshot(List<Predicate<IShapeLayerIdentifier>> demands)
+		{
+			this(demands, new ConcurrentHashMap<>());
+		}
+
+
+		boolean isDemanded(final IShapeLayerIdentifier identifier)
+		{
+			return cache.computeIfAbsent(identifier.getId(), id -> demands.stream().anyMatch(d -> d.test(identifier)));
+		}
+	}
+}
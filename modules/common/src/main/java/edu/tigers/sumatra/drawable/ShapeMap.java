@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2022, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 
 package edu.tigers.sumatra.drawable;
@@ -10,7 +10,9 @@ import org.apache.commons.lang.builder.HashCodeBuilder;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.apache.commons.lang.builder.ToStringStyle;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -70,19 +72,39 @@ public class ShapeMap
 	 */
 	public static void setPersistDebugShapes(final boolean persistDebugShapes)
 	{
-		ShapeMap.persistDebugShapes = persistDebugShapes;
+		if (ShapeMap.persistDebugShapes != persistDebugShapes)
+		{
+			ShapeMap.persistDebugShapes = persistDebugShapes;
+			ShapeLayerDemand.invalidate();
+		}
 	}
 
 
 	/**
-	 * Get list for layer and category
+	 * Get list for layer and category.
+	 * This method may be called concurrently, e.g. by calculators running in parallel.
+	 * If the layer is not demanded by anyone (see {@link ShapeLayerDemand}), the returned list discards all shapes.
 	 *
 	 * @param identifier
 	 * @return
 	 */
-	public List<IDrawableShape> get(final IShapeLayerIdentifier identifier)
+	public synchronized List<IDrawableShape> get(final IShapeLayerIdentifier identifier)
 	{
-		return categories.computeIfAbsent(identifier.getId(), k -> new ShapeLayer(identifier)).shapes;
+		return categories.computeIfAbsent(identifier.getId(),
+				k -> new ShapeLayer(identifier, ShapeLayerDemand.isDemanded(identifier))).shapes;
+	}
+
+
+	/**
+	 * Check if shapes of the given layer are consumed by anyone.
+	 * Can be used to skip expensive shape creation.
+	 *
+	 * @param identifier
+	 * @return true, if shapes added to this layer are kept
+	 */
+	public boolean isDemanded(final IShapeLayerIdentifier identifier)
+	{
+		return ShapeLayerDemand.isDemanded(identifier);
 	}
 
 
@@ -91,11 +113,15 @@ public class ShapeMap
 	 */
 	public void removeNonPersistent()
 	{
-		categories.entrySet().removeIf(en -> !persist(en.getValue().identifier));
+		categories.entrySet().removeIf(en -> !isPersistent(en.getValue().identifier));
 	}
 
 
-	private boolean persist(IShapeLayerIdentifier identifier)
+	/**
+	 * @param identifier
+	 * @return true, if shapes of this layer are persisted when recording
+	 */
+	public static boolean isPersistent(IShapeLayerIdentifier identifier)
 	{
 		return identifier.getPersistenceType() == EShapeLayerPersistenceType.ALWAYS_PERSIST ||
 				(persistDebugShapes && identifier.getPersistenceType() == EShapeLayerPersistenceType.DEBUG_PERSIST);
@@ -168,9 +194,15 @@ public class ShapeMap
 		 * @param identifier
 		 */
 		public ShapeLayer(final IShapeLayerIdentifier identifier)
+		{
+			this(identifier, true);
+		}
+
+
+		private ShapeLayer(final IShapeLayerIdentifier identifier, final boolean demanded)
 		{
 			this.identifier = identifier;
-			shapes = new CopyOnWriteArrayList<>();
+			shapes = demanded ? new ConsumedShapeList() : new DiscardingShapeList();
 		}
 
 
@@ -255,4 +287,79 @@ public class ShapeMap
 					.toHashCode();
 		}
 	}
+
+
+	/**
+	 * Shape list of a demanded layer that counts the added shapes.
+	 */
+	private static class ConsumedShapeList extends CopyOnWriteArrayList<IDrawableShape>
+	{
+		private static final long serialVersionUID = 1L;
+
+
+		@Override
+		public boolean add(final IDrawableShape shape)
+		{
+			ShapeLayerDemand.shapesConsumed(1);
+			return super.add(shape);
+		}
+
+
+		@Override
+		public void add(final int index, final IDrawableShape shape)
+		{
+			ShapeLayerDemand.shapesConsumed(1);
+			super.add(index, shape);
+		}
+
+
+		@Override
+		public boolean addAll(final Collection<? extends IDrawableShape> shapes)
+		{
+			ShapeLayerDemand.shapesConsumed(shapes.size());
+			return super.addAll(shapes);
+		}
+	}
+
+	/**
+	 * Shape list of a layer that is not demanded. All shapes are discarded.
+	 */
+	private static class DiscardingShapeList extends AbstractList<IDrawableShape>
+	{
+		@Override
+		public IDrawableShape get(final int index)
+		{
+			throw new IndexOutOfBoundsException(index);
+		}
+
+
+		@Override
+		public int size()
+		{
+			return 0;
+		}
+
+
+		@Override
+		public boolean add(final IDrawableShape shape)
+		{
+			ShapeLayerDemand.shapesDiscarded(1);
+			return true;
+		}
+
+
+		@Override
+		public void add(final int index, final IDrawableShape shape)
+		{
+			ShapeLayerDemand.shapesDiscarded(1);
+		}
+
+
+		@Override
+		public boolean addAll(final Collection<? extends IDrawableShape> shapes)
+		{
+			ShapeLayerDemand.shapesDiscarded(shapes.size());
+			return !shapes.isEmpty();
+		}
+	}
 }
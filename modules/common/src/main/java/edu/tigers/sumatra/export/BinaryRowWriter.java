@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.export;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+
+/**
+ * Writes rows in a compact binary format (big endian, as written by {@link DataOutputStream}).
+ * <p>
+ * The file starts with the magic bytes {@link #MAGIC}. Each row consists of the number of values (int),
+ * followed by a type byte and the value for each value:
+ * 0: long (8 bytes), 1: double (8 bytes), 2: float (4 bytes), 3: text (modified UTF-8, see
+ * {@link DataOutputStream#writeUTF(String)}).
+ */
+class BinaryRowWriter implements IRowWriter
+{
+	static final byte[] MAGIC = "SRB1".getBytes(StandardCharsets.US_ASCII);
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	private final DataOutputStream out;
+
+
+	BinaryRowWriter(final File file, final boolean append) throws IOException
+	{
+		boolean newFile = !append || file.length() == 0;
+		out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file, append), BUFFER_SIZE));
+		if (newFile)
+		{
+			out.write(MAGIC);
+		}
+	}
+
+
+	@Override
+	public void write(final RowBlock block) throws IOException
+	{
+		ExportRow values = block.getValues();
+		for (int row = 0; row < block.getNumRows(); row++)
+		{
+			int start = block.getRowStart(row);
+			int end = block.getRowEnd(row);
+			if (start == end)
+			{
+				continue;
+			}
+			out.writeInt(end - start);
+			for (int i = start; i < end; i++)
+			{
+				byte kind = values.kind(i);
+				out.writeByte(kind);
+				switch (kind)
+				{
+					case ExportRow.LONG, ExportRow.DOUBLE -> out.writeLong(values.bits(i));
+					case ExportRow.FLOAT -> out.writeInt((int) values.bits(i));
+					default -> out.writeUTF(values.text(i));
+				}
+			}
+		}
+	}
+
+
+	@Override
+	public void flush() throws IOException
+	{
+		out.flush();
+	}
+
+
+	@Override
+	public void close() throws IOException
+	{
+		out.close();
+	}
+}
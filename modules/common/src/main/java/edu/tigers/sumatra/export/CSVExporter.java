@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2022, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 
 package edu.tigers.sumatra.export;
@@ -11,31 +11,57 @@ import org.apache.logging.log4j.Logger;
 
 import java.io.Closeable;
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.text.SimpleDateFormat;
+import java.util.ArrayDeque;
 import java.util.Collection;
 import java.util.Date;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 
 /**
  * With {@link CSVExporter} you can export user-defined values to csv-files on disc.
+ * <p>
+ * Rows are collected in memory and written in batches by a background thread, which also flushes the file
+ * periodically. The file is complete after {@link #close()} returned.
+ * Exporters that are still open when the JVM shuts down are closed by a shutdown hook.
+ * If the writer can not keep up, adding values blocks until it caught up, instead of collecting rows without bound.
  */
 public final class CSVExporter implements Closeable
 {
 	private static final Logger log = LogManager.getLogger(CSVExporter.class.getName());
-	private static final String EXTENSION = ".csv";
-	private static final String DELIMITER = ",";
+	/** number of rows after which they are handed over to the writer thread without waiting for the next flush */
+	private static final int BATCH_SIZE = 1024;
+	/** number of batches that may wait for the writer thread before adding values blocks */
+	private static final int MAX_FULL_BLOCKS = 64;
+	private static final long FLUSH_INTERVAL_MS = 1000;
+	/** referenced until closed, so that the rows of exporters that are not closed are still written on shutdown */
+	private static final Set<CSVExporter> OPEN_EXPORTERS = new HashSet<>();
+	private static final ScheduledThreadPoolExecutor WRITER = createWriter();
 
 	private final Path folder;
 	private final String fileName;
 	private final EMode mode;
+	private final EExportFormat format;
 
+	private final Object lock = new Object();
+	private final Deque<RowBlock> fullBlocks = new ArrayDeque<>();
+	private RowBlock pendingRows = new RowBlock();
+	private boolean opened = false;
 	private int numHeaders = 0;
-	private FileWriter fileWriter;
+
+	/** only accessed by the writer thread */
+	private IRowWriter rowWriter;
+	private volatile IOException writeError;
 
 
 	public enum EMode
@@ -55,9 +81,7 @@ public final class CSVExporter implements Closeable
 	 */
 	public CSVExporter(final String folder, final String baseFileName, final EMode mode)
 	{
-		this.folder = Paths.get(folder);
-		this.mode = mode;
-		this.fileName = getFileName(baseFileName);
+		this(Paths.get(folder), baseFileName, mode);
 	}
 
 
@@ -67,27 +91,82 @@ public final class CSVExporter implements Closeable
 	 * @param mode         the write mode
 	 */
 	public CSVExporter(final Path folder, final String baseFileName, final EMode mode)
+	{
+		this(folder, baseFileName, mode, EExportFormat.CSV);
+	}
+
+
+	/**
+	 * @param folder       the target folder
+	 * @param baseFileName subtract-dir and name of exported file without file extension
+	 * @param mode         the write mode
+	 * @param format       the file format
+	 */
+	public CSVExporter(final Path folder, final String baseFileName, final EMode mode, final EExportFormat format)
 	{
 		this.folder = folder;
 		this.mode = mode;
+		this.format = format;
 		this.fileName = getFileName(baseFileName);
 	}
 
 
+	private static ScheduledThreadPoolExecutor createWriter()
+	{
+		// a daemon thread does not keep the JVM alive, open exporters are closed by the shutdown hook instead
+		var executor = new ScheduledThreadPoolExecutor(1, Thread.ofPlatform().name("CSVExporter").daemon().factory());
+		executor.scheduleWithFixedDelay(CSVExporter::flushAll, FLUSH_INTERVAL_MS, FLUSH_INTERVAL_MS,
+				TimeUnit.MILLISECONDS);
+		Runtime.getRuntime().addShutdownHook(new Thread(CSVExporter::closeAll, "CSVExporter shutdown"));
+		return executor;
+	}
+
+
+	private static List<CSVExporter> openExporters()
+	{
+		synchronized (OPEN_EXPORTERS)
+		{
+			return List.copyOf(OPEN_EXPORTERS);
+		}
+	}
+
+
+	private static void flushAll()
+	{
+		openExporters().forEach(CSVExporter::flush);
+	}
+
+
+	private static void closeAll()
+	{
+		for (CSVExporter exporter : openExporters())
+		{
+			try
+			{
+				exporter.close();
+			} catch (CSVExporterException err)
+			{
+				log.error("Could not close {} on shutdown", exporter.getAbsoluteFileName(), err);
+			}
+		}
+	}
+
+
 	private String getFileName(final String baseFileName)
 	{
+		String extension = format.getExtension();
 		switch (mode)
 		{
 			case EXACT_FILE_NAME:
 			case APPEND_TO_EXISTING_FILE:
-				return baseFileName + EXTENSION;
+				return baseFileName + extension;
 			case AUTO_INCREMENT_FILE_NAME:
 				int counter = 0;
-				while (folder.resolve(baseFileName + counter + EXTENSION).toFile().exists())
+				while (folder.resolve(baseFileName + counter + extension).toFile().exists())
 				{
 					counter++;
 				}
-				return baseFileName + counter + EXTENSION;
+				return baseFileName + counter + extension;
 			case APPEND_DATE:
 			case PREPEND_DATE:
 				String dateStr = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss-SSS").format(new Date());
@@ -97,9 +176,9 @@ public final class CSVExporter implements Closeable
 				}
 				if (mode == EMode.PREPEND_DATE)
 				{
-					return dateStr + "_" + baseFileName + EXTENSION;
+					return dateStr + "_" + baseFileName + extension;
 				}
-				return baseFileName + "_" + dateStr + EXTENSION;
+				return baseFileName + "_" + dateStr + extension;
 		}
 		throw new IllegalStateException("Unhandled mode: " + mode);
 	}
@@ -129,21 +208,31 @@ public final class CSVExporter implements Closeable
 	 */
 	public void addValues(final Collection<?> values)
 	{
-		try
+		checkWriteError();
+		checkNumValues(values.size());
+		synchronized (lock)
 		{
-			if (fileWriter == null)
-			{
-				open();
-			}
+			open();
+			pendingRows.addRow(values);
+			handOverIfFull();
+		}
+	}
 
-			if (numHeaders > 0 && numHeaders != values.size())
-			{
-				log.warn("Number of headers ({}) and number of values ({}) do not match. ", numHeaders, values.size());
-			}
-			writeLine(values);
-		} catch (final IOException err)
+
+	/**
+	 * adds a new data set to a file. The row can be reused afterward.
+	 *
+	 * @param row the values. note: count of values has to match the header
+	 */
+	public void addValues(final ExportRow row)
+	{
+		checkWriteError();
+		checkNumValues(row.size());
+		synchronized (lock)
 		{
-			throw new CSVExporterException("Failed to add values to CSV file", err);
+			open();
+			pendingRows.addRow(row);
+			handOverIfFull();
 		}
 	}
 
@@ -155,40 +244,179 @@ public final class CSVExporter implements Closeable
 	 */
 	public void setHeader(Collection<String> headers)
 	{
-		if (fileWriter != null)
+		synchronized (lock)
+		{
+			if (opened)
+			{
+				throw new IllegalStateException("CSV file already opened. Can not change the headers anymore");
+			}
+			open();
+			pendingRows.addRow(headers);
+			numHeaders = headers.size();
+		}
+	}
+
+
+	private void checkWriteError()
+	{
+		IOException error = writeError;
+		if (error != null)
+		{
+			throw new CSVExporterException("Failed to add values to CSV file", error);
+		}
+	}
+
+
+	private void checkNumValues(final int numValues)
+	{
+		if (numHeaders > 0 && numHeaders != numValues)
 		{
-			throw new IllegalStateException("CSV file already opened. Can not change the headers anymore");
+			log.warn("Number of headers ({}) and number of values ({}) do not match. ", numHeaders, numValues);
 		}
+	}
+
 
+	private void open()
+	{
+		if (!opened)
+		{
+			opened = true;
+			synchronized (OPEN_EXPORTERS)
+			{
+				OPEN_EXPORTERS.add(this);
+			}
+		}
+	}
+
+
+	private void handOverIfFull()
+	{
+		if (pendingRows.getNumRows() >= BATCH_SIZE)
+		{
+			awaitWriter();
+			handOver();
+			WRITER.execute(this::writeFullBlocks);
+		}
+	}
+
+
+	private void awaitWriter()
+	{
+		while (fullBlocks.size() >= MAX_FULL_BLOCKS)
+		{
+			try
+			{
+				lock.wait();
+			} catch (InterruptedException err)
+			{
+				// keep the rows, the writer will still catch up eventually
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+
+	private void handOver()
+	{
+		if (pendingRows.getNumRows() > 0)
+		{
+			fullBlocks.add(pendingRows);
+			pendingRows = new RowBlock();
+		}
+	}
+
+
+	private void flush()
+	{
+		synchronized (lock)
+		{
+			handOver();
+		}
+		writeFullBlocks();
 		try
 		{
-			open();
-			writeLine(headers);
-			numHeaders = headers.size();
-		} catch (IOException e)
+			if (rowWriter != null && writeError == null)
+			{
+				rowWriter.flush();
+			}
+		} catch (IOException err)
+		{
+			onWriteError(err);
+		}
+	}
+
+
+	private void writeFullBlocks()
+	{
+		while (true)
 		{
-			throw new CSVExporterException("Could not write headers to CSV file", e);
+			RowBlock block;
+			synchronized (lock)
+			{
+				block = fullBlocks.poll();
+				lock.notifyAll();
+			}
+			if (block == null)
+			{
+				return;
+			}
+			if (writeError != null)
+			{
+				continue;
+			}
+			try
+			{
+				if (rowWriter == null)
+				{
+					rowWriter = openRowWriter();
+				}
+				rowWriter.write(block);
+			} catch (IOException err)
+			{
+				onWriteError(err);
+			}
 		}
 	}
 
 
-	private void open() throws IOException
+	private IRowWriter openRowWriter() throws IOException
 	{
 		Files.createDirectories(folder);
 		File file = folder.resolve(fileName).toFile();
-		fileWriter = new FileWriter(file, mode == EMode.APPEND_TO_EXISTING_FILE);
+		boolean append = mode == EMode.APPEND_TO_EXISTING_FILE;
+		return switch (format)
+		{
+			case CSV -> new CsvRowWriter(file, append);
+			case BINARY -> new BinaryRowWriter(file, append);
+		};
+	}
+
+
+	private void onWriteError(final IOException err)
+	{
+		if (writeError == null)
+		{
+			writeError = err;
+			log.error("Could not write to {}", getAbsoluteFileName(), err);
+		}
 	}
 
 
-	private void writeLine(final Collection<?> values) throws IOException
+	private void closeRowWriter()
 	{
-		if (values.isEmpty())
+		writeFullBlocks();
+		try
 		{
-			return;
+			if (rowWriter != null)
+			{
+				rowWriter.close();
+			}
+		} catch (IOException err)
+		{
+			onWriteError(err);
 		}
-		fileWriter.write(StringUtils.join(values, DELIMITER));
-		fileWriter.write("\n");
-		fileWriter.flush();
+		rowWriter = null;
 	}
 
 
@@ -210,16 +438,36 @@ public final class CSVExporter implements Closeable
 	@Override
 	public void close()
 	{
-		if (fileWriter != null)
+		synchronized (lock)
 		{
-			try
+			if (!opened)
 			{
-				fileWriter.close();
-				fileWriter = null;
-			} catch (final IOException err)
-			{
-				throw new CSVExporterException("Could not close CSV file", err);
+				return;
 			}
+			opened = false;
+			handOver();
+		}
+		synchronized (OPEN_EXPORTERS)
+		{
+			OPEN_EXPORTERS.remove(this);
+		}
+		try
+		{
+			WRITER.submit(this::closeRowWriter).get();
+		} catch (InterruptedException err)
+		{
+			Thread.currentThread().interrupt();
+			throw new CSVExporterException("Interrupted while closing CSV file", err);
+		} catch (ExecutionException err)
+		{
+			throw new CSVExporterException("Could not close CSV file", err.getCause());
+		}
+
+		IOException error = writeError;
+		writeError = null;
+		if (error != null)
+		{
+			throw new CSVExporterException("Could not write CSV file", error);
 		}
 		log.debug("Saved csv file to {}", this::getAbsoluteFileName);
 	}
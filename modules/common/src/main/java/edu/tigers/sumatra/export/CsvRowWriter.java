@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.export;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+
+/**
+ * Writes rows as comma separated text, one line per row.
+ */
+class CsvRowWriter implements IRowWriter
+{
+	private static final char DELIMITER = ',';
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	private final Writer writer;
+	private final StringBuilder line = new StringBuilder();
+
+
+	CsvRowWriter(final File file, final boolean append) throws IOException
+	{
+		writer = new BufferedWriter(
+				new OutputStreamWriter(new FileOutputStream(file, append), StandardCharsets.UTF_8), BUFFER_SIZE);
+	}
+
+
+	@Override
+	public void write(final RowBlock block) throws IOException
+	{
+		ExportRow values = block.getValues();
+		for (int row = 0; row < block.getNumRows(); row++)
+		{
+			int start = block.getRowStart(row);
+			int end = block.getRowEnd(row);
+			if (start == end)
+			{
+				continue;
+			}
+			line.setLength(0);
+			for (int i = start; i < end; i++)
+			{
+				if (i > start)
+				{
+					line.append(DELIMITER);
+				}
+				appendValue(values, i);
+			}
+			line.append('\n');
+			writer.append(line);
+		}
+	}
+
+
+	private void appendValue(final ExportRow values, final int index)
+	{
+		switch (values.kind(index))
+		{
+			case ExportRow.LONG -> line.append(values.bits(index));
+			case ExportRow.DOUBLE -> line.append(Double.longBitsToDouble(values.bits(index)));
+			case ExportRow.FLOAT -> line.append(Float.intBitsToFloat((int) values.bits(index)));
+			default -> line.append(values.text(index));
+		}
+	}
+
+
+	@Override
+	public void flush() throws IOException
+	{
+		writer.flush();
+	}
+
+
+	@Override
+	public void close() throws IOException
+	{
+		writer.close();
+	}
+}
@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.export;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+
+/**
+ * The file formats of the {@link CSVExporter}
+ */
+@Getter
+@AllArgsConstructor
+public enum EExportFormat
+{
+	/** comma separated text */
+	CSV(".csv"),
+	/** compact binary format, see {@link BinaryRowWriter} */
+	BINARY(".bin"),
+
+	;
+
+	private final String extension;
+}
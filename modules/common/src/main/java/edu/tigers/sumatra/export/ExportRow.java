@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.export;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+
+/**
+ * A row of values for the {@link CSVExporter}.
+ * Primitive values are stored without boxing, so a row can be filled and reused without allocations.
+ */
+public final class ExportRow
+{
+	static final byte LONG = 0;
+	static final byte DOUBLE = 1;
+	static final byte FLOAT = 2;
+	static final byte TEXT = 3;
+
+	private byte[] kinds;
+	private long[] values;
+	private String[] texts;
+	private int size = 0;
+
+
+	public ExportRow()
+	{
+		this(32);
+	}
+
+
+	ExportRow(final int capacity)
+	{
+		kinds = new byte[capacity];
+		values = new long[capacity];
+	}
+
+
+	/**
+	 * @param value an integral value
+	 * @return this
+	 */
+	public ExportRow add(final long value)
+	{
+		append(LONG, value);
+		return this;
+	}
+
+
+	/**
+	 * @param value a floating point value
+	 * @return this
+	 */
+	public ExportRow add(final double value)
+	{
+		append(DOUBLE, Double.doubleToRawLongBits(value));
+		return this;
+	}
+
+
+	/**
+	 * @param value a floating point value
+	 * @return this
+	 */
+	public ExportRow add(final float value)
+	{
+		append(FLOAT, Float.floatToRawIntBits(value));
+		return this;
+	}
+
+
+	/**
+	 * Add any value. Boxed primitives are unboxed, everything else is exported as text.
+	 *
+	 * @param value the value, may be null
+	 * @return this
+	 */
+	public ExportRow add(final Object value)
+	{
+		if (value instanceof Double d)
+		{
+			return add(d.doubleValue());
+		} else if (value instanceof Float f)
+		{
+			return add(f.floatValue());
+		} else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte)
+		{
+			return add(((Number) value).longValue());
+		}
+		int index = append(TEXT, 0);
+		ensureTextCapacity();
+		texts[index] = value == null ? "" : value.toString();
+		return this;
+	}
+
+
+	/**
+	 * @param values floating point values
+	 * @return this
+	 */
+	public ExportRow addAll(final double[] values)
+	{
+		for (double value : values)
+		{
+			add(value);
+		}
+		return this;
+	}
+
+
+	/**
+	 * @param values the values to add, see {@link #add(Object)}
+	 * @return this
+	 */
+	public ExportRow addAll(final Collection<?> values)
+	{
+		for (Object value : values)
+		{
+			add(value);
+		}
+		return this;
+	}
+
+
+	/**
+	 * @param row the values to add
+	 * @return this
+	 */
+	public ExportRow addAll(final ExportRow row)
+	{
+		ensureCapacity(size + row.size);
+		System.arraycopy(row.kinds, 0, kinds, size, row.size);
+		System.arraycopy(row.values, 0, values, size, row.size);
+		if (row.texts != null)
+		{
+			ensureTextCapacity();
+			System.arraycopy(row.texts, 0, texts, size, Math.min(row.size, row.texts.length));
+		}
+		size += row.size;
+		return this;
+	}
+
+
+	/**
+	 * Remove all values to reuse this row
+	 */
+	public void clear()
+	{
+		if (texts != null)
+		{
+			Arrays.fill(texts, 0, Math.min(size, texts.length), null);
+		}
+		size = 0;
+	}
+
+
+	/**
+	 * @return the number of values
+	 */
+	public int size()
+	{
+		return size;
+	}
+
+
+	byte kind(final int index)
+	{
+		return kinds[index];
+	}
+
+
+	long bits(final int index)
+	{
+		return values[index];
+	}
+
+
+	String text(final int index)
+	{
+		return texts[index];
+	}
+
+
+	private int append(final byte kind, final long bits)
+	{
+		ensureCapacity(size + 1);
+		kinds[size] = kind;
+		values[size] = bits;
+		return size++;
+	}
+
+
+	private void ensureTextCapacity()
+	{
+		if (texts == null)
+		{
+			texts = new String[kinds.length];
+		} else if (texts.length < kinds.length)
+		{
+			texts = Arrays.copyOf(texts, kinds.length);
+		}
+	}
+
+
+	private void ensureCapacity(final int capacity)
+	{
+		if (capacity > kinds.length)
+		{
+			int newCapacity = Math.max(capacity, kinds.length * 2);
+			kinds = Arrays.copyOf(kinds, newCapacity);
+			values = Arrays.copyOf(values, newCapacity);
+		}
+	}
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+
+/**
+ * Writes blocks of rows to a file in a specific {@link EExportFormat}.
+ */
+interface IRowWriter extends Closeable
+{
+	/**
+	 * @param block the rows to write, empty rows are skipped
+	 * @throws IOException if writing fails
+	 */
+	void write(RowBlock block) throws IOException;
+
+
+	/**
+	 * @throws IOException if writing fails
+	 */
+	void flush() throws IOException;
+}
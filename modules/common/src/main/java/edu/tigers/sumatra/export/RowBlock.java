@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.export;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+
+/**
+ * A batch of rows that is handed over from the producer to the writer thread as a whole.
+ */
+class RowBlock
+{
+	private final ExportRow values = new ExportRow(1024);
+	private int[] rowEnds = new int[64];
+	private int numRows = 0;
+
+
+	void addRow(final Collection<?> row)
+	{
+		values.addAll(row);
+		endRow();
+	}
+
+
+	void addRow(final ExportRow row)
+	{
+		values.addAll(row);
+		endRow();
+	}
+
+
+	int getNumRows()
+	{
+		return numRows;
+	}
+
+
+	int getRowStart(final int row)
+	{
+		return row == 0 ? 0 : rowEnds[row - 1];
+	}
+
+
+	int getRowEnd(final int row)
+	{
+		return rowEnds[row];
+	}
+
+
+	ExportRow getValues()
+	{
+		return values;
+	}
+
+
+	private void endRow()
+	{
+		if (numRows == rowEnds.length)
+		{
+			rowEnds = Arrays.copyOf(rowEnds, numRows * 2);
+		}
+		rowEnds[numRows++] = values.size();
+	}
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+package edu.tigers.sumatra.filter.tracking;
+
+/**
+ * Tracking filter with position and velocity state in one dimension.
+ * Only position can be measured.
+ */
+public interface ITrackingFilter1D
+{
+	/**
+	 * Predict the filter estimate to a given timestamp when no new measurement is available.
+	 * No correction will be performed.
+	 *
+	 * @param timestamp time in nanoseconds
+	 */
+	void predict(long timestamp);
+
+
+	/**
+	 * Correct filter estimate with a new measurement.
+	 *
+	 * @param position
+	 */
+	void correct(double position);
+
+
+	void setMeasurementError(double error);
+
+
+	void setModelError(double error);
+
+
+	long getLastTimestamp();
+
+
+	double getPositionEstimate();
+
+
+	/**
+	 * Get position estimate at a specific time.
+	 * Uses simple extrapolation with constant velocity model.
+	 *
+	 * @param timestamp time in nanoseconds
+	 * @return
+	 */
+	double getPositionEstimate(long timestamp);
+
+
+	double getVelocityEstimate();
+
+
+	double getPositionUncertainty();
+
+
+	double getVelocityUncertainty();
+
+
+	double getPositionInnovation();
+}
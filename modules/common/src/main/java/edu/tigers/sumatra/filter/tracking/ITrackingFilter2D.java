@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+package edu.tigers.sumatra.filter.tracking;
+
+import edu.tigers.sumatra.math.vector.IVector2;
+
+
+/**
+ * Tracking filter with position and velocity state in two dimensions.
+ * Only position can be measured.
+ */
+public interface ITrackingFilter2D
+{
+	/**
+	 * Predict the filter estimate to a given timestamp when no new measurement is available.
+	 * No correction will be performed.
+	 *
+	 * @param timestamp time in nanoseconds
+	 */
+	void predict(long timestamp);
+
+
+	/**
+	 * Correct filter estimate with a new measurement.
+	 *
+	 * @param position
+	 */
+	void correct(IVector2 position);
+
+
+	void setMeasurementError(double error);
+
+
+	void setModelError(double error);
+
+
+	void setPosition(IVector2 pos);
+
+
+	void setVelocity(IVector2 vel);
+
+
+	/**
+	 * Reset internal state covariance to a specific value.
+	 *
+	 * @param covariance
+	 */
+	void resetCovariance(double covariance);
+
+
+	long getLastTimestamp();
+
+
+	IVector2 getPositionEstimate();
+
+
+	/**
+	 * Get position estimate at a specific time.
+	 * Uses simple extrapolation with constant velocity model.
+	 *
+	 * @param timestamp time in nanoseconds
+	 * @return
+	 */
+	IVector2 getPositionEstimate(long timestamp);
+
+
+	IVector2 getVelocityEstimate();
+
+
+	IVector2 getPositionUncertainty();
+
+
+	IVector2 getVelocityUncertainty();
+
+
+	IVector2 getPositionInnovation();
+}
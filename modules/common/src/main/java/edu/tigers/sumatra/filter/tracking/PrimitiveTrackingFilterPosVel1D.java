@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+package edu.tigers.sumatra.filter.tracking;
+
+import edu.tigers.sumatra.math.SumatraMath;
+
+
+/**
+ * Allocation-free implementation of {@link TrackingFilterPosVel1D}.
+ * The Kalman filter equations are unrolled for the 2x2 state covariance and updated in place.
+ */
+public class PrimitiveTrackingFilterPosVel1D implements ITrackingFilter1D
+{
+	private double pos;
+	private double vel;
+
+	/** error covariance P */
+	private double p00;
+	private double p01;
+	private double p10;
+	private double p11;
+
+	private double innovation;
+	private double modelError;
+	private double measError;
+
+	private long lastTimestamp;
+
+
+	/**
+	 * Create tracking filter.
+	 *
+	 * @param initialPos
+	 * @param initialVel
+	 * @param covariance initial covariance of all states
+	 * @param modelErr   model error
+	 * @param measErr    measurement error
+	 * @param timestamp  initial timestamp in nanoseconds
+	 */
+	public PrimitiveTrackingFilterPosVel1D(final double initialPos, final double initialVel, final double covariance,
+			final double modelErr, final double measErr, final long timestamp)
+	{
+		pos = initialPos;
+		vel = initialVel;
+		p00 = covariance;
+		p11 = covariance;
+		measError = measErr;
+		modelError = modelErr;
+		lastTimestamp = timestamp;
+	}
+
+
+	@Override
+	public void setMeasurementError(final double error)
+	{
+		measError = error;
+	}
+
+
+	@Override
+	public void setModelError(final double error)
+	{
+		modelError = error;
+	}
+
+
+	void setPosition(final double pos)
+	{
+		this.pos = pos;
+	}
+
+
+	void setVelocity(final double vel)
+	{
+		this.vel = vel;
+	}
+
+
+	void resetCovariance(final double posCovariance, final double velCovariance)
+	{
+		p00 = posCovariance;
+		p01 = 0;
+		p10 = 0;
+		p11 = velCovariance;
+	}
+
+
+	@Override
+	public void predict(final long timestamp)
+	{
+		double dt = (timestamp - lastTimestamp) * 1e-9;
+		if (dt <= 0)
+		{
+			return;
+		}
+
+		lastTimestamp = timestamp;
+
+		predict(dt);
+	}
+
+
+	/**
+	 * Predict the state by dt without checking or updating the timestamp.
+	 *
+	 * @param dt time step [s], must be positive
+	 */
+	void predict(final double dt)
+	{
+		// optimal process noise error if we assume white noise on acceleration with zero mean
+		double sigma = SumatraMath.sqrt((3.0 * modelError) / dt) / dt;
+		double dt3 = (1.0 / 3.0) * dt * dt * dt * sigma * sigma;
+		double dt2 = (1.0 / 2.0) * dt * dt * sigma * sigma;
+		double dt1 = dt * sigma * sigma;
+
+		// xHat(k)- = A * xHat(k-1)
+		pos += dt * vel;
+
+		// P(k)- = A * P(k-1) * A' + Q
+		double a00 = p00 + (dt * p10);
+		double a01 = p01 + (dt * p11);
+		p00 = a00 + (dt * a01) + dt3;
+		p01 = a01 + dt2;
+		p10 = p10 + (dt * p11) + dt2;
+		p11 = p11 + dt1;
+	}
+
+
+	@Override
+	public void correct(final double position)
+	{
+		// S = H * P(k) * H' + R
+		double s = p00 + measError;
+
+		// Inn = z(k) - H * xHat(k)-
+		innovation = position - pos;
+
+		// K(k) = P(k)- * H' * S^-1
+		double k0 = p00 / s;
+		double k1 = p10 / s;
+
+		// xHat(k) = xHat(k)- + K * Inn
+		pos += k0 * innovation;
+		vel += k1 * innovation;
+
+		// P(k) = (I - K * H) * P(k)-
+		double n00 = (1 - k0) * p00;
+		double n01 = (1 - k0) * p01;
+		p10 = p10 - (k1 * p00);
+		p11 = p11 - (k1 * p01);
+		p00 = n00;
+		p01 = n01;
+	}
+
+
+	@Override
+	public long getLastTimestamp()
+	{
+		return lastTimestamp;
+	}
+
+
+	@Override
+	public double getPositionEstimate()
+	{
+		return pos;
+	}
+
+
+	@Override
+	public double getPositionEstimate(final long timestamp)
+	{
+		double dt = (timestamp - lastTimestamp) * 1e-9;
+		return pos + (dt * vel);
+	}
+
+
+	@Override
+	public double getVelocityEstimate()
+	{
+		return vel;
+	}
+
+
+	@Override
+	public double getPositionUncertainty()
+	{
+		return SumatraMath.sqrt(p00);
+	}
+
+
+	@Override
+	public double getVelocityUncertainty()
+	{
+		return SumatraMath.sqrt(p11);
+	}
+
+
+	@Override
+	public double getPositionInnovation()
+	{
+		return innovation;
+	}
+}
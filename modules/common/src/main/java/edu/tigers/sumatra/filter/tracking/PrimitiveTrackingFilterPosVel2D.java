@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+package edu.tigers.sumatra.filter.tracking;
+
+import edu.tigers.sumatra.math.vector.IVector2;
+import edu.tigers.sumatra.math.vector.Vector2;
+
+
+/**
+ * Allocation-free implementation of {@link TrackingFilterPosVel2D}.
+ * <p>
+ * The transition matrix, the process noise and the measurement noise do not couple the x and y axes
+ * and the covariance is always initialized without cross terms.
+ * Hence, the 4x4 filter is equivalent to two independent 1D filters with a common timestamp.
+ */
+public class PrimitiveTrackingFilterPosVel2D implements ITrackingFilter2D
+{
+	private final PrimitiveTrackingFilterPosVel1D x;
+	private final PrimitiveTrackingFilterPosVel1D y;
+
+	private long lastTimestamp;
+
+
+	/**
+	 * Create tracking filter.
+	 *
+	 * @param initialPos
+	 * @param initialVel
+	 * @param covariance initial covariance of all states
+	 * @param modelErr   model error
+	 * @param measErr    measurement error
+	 * @param timestamp  initial timestamp in nanoseconds
+	 */
+	public PrimitiveTrackingFilterPosVel2D(final IVector2 initialPos, final IVector2 initialVel,
+			final double covariance, final double modelErr, final double measErr, final long timestamp)
+	{
+		x = new PrimitiveTrackingFilterPosVel1D(initialPos.x(), initialVel.x(), covariance, modelErr, measErr,
+				timestamp);
+		y = new PrimitiveTrackingFilterPosVel1D(initialPos.y(), initialVel.y(), covariance, modelErr, measErr,
+				timestamp);
+		lastTimestamp = timestamp;
+	}
+
+
+	@Override
+	public void setMeasurementError(final double error)
+	{
+		x.setMeasurementError(error);
+		y.setMeasurementError(error);
+	}
+
+
+	@Override
+	public void setModelError(final double error)
+	{
+		x.setModelError(error);
+		y.setModelError(error);
+	}
+
+
+	@Override
+	public void setPosition(final IVector2 pos)
+	{
+		x.setPosition(pos.x());
+		y.setPosition(pos.y());
+	}
+
+
+	@Override
+	public void setVelocity(final IVector2 vel)
+	{
+		x.setVelocity(vel.x());
+		y.setVelocity(vel.y());
+	}
+
+
+	@Override
+	public void resetCovariance(final double covariance)
+	{
+		x.resetCovariance(covariance, covariance * covariance);
+		y.resetCovariance(covariance, covariance * covariance);
+	}
+
+
+	@Override
+	public void predict(final long timestamp)
+	{
+		double dt = (timestamp - lastTimestamp) * 1e-9;
+		if (dt <= 0)
+		{
+			return;
+		}
+
+		lastTimestamp = timestamp;
+
+		x.predict(dt);
+		y.predict(dt);
+	}
+
+
+	@Override
+	public void correct(final IVector2 position)
+	{
+		x.correct(position.x());
+		y.correct(position.y());
+	}
+
+
+	@Override
+	public long getLastTimestamp()
+	{
+		return lastTimestamp;
+	}
+
+
+	@Override
+	public IVector2 getPositionEstimate()
+	{
+		return Vector2.fromXY(x.getPositionEstimate(), y.getPositionEstimate());
+	}
+
+
+	@Override
+	public IVector2 getPositionEstimate(final long timestamp)
+	{
+		double dt = (timestamp - lastTimestamp) * 1e-9;
+		return Vector2.fromXY(
+				x.getPositionEstimate() + (dt * x.getVelocityEstimate()),
+				y.getPositionEstimate() + (dt * y.getVelocityEstimate()));
+	}
+
+
+	@Override
+	public IVector2 getVelocityEstimate()
+	{
+		return Vector2.fromXY(x.getVelocityEstimate(), y.getVelocityEstimate());
+	}
+
+
+	@Override
+	public IVector2 getPositionUncertainty()
+	{
+		return Vector2.fromXY(x.getPositionUncertainty(), y.getPositionUncertainty());
+	}
+
+
+	@Override
+	public IVector2 getVelocityUncertainty()
+	{
+		return Vector2.fromXY(x.getVelocityUncertainty(), y.getVelocityUncertainty());
+	}
+
+
+	@Override
+	public IVector2 getPositionInnovation()
+	{
+		return Vector2.fromXY(x.getPositionInnovation(), y.getPositionInnovation());
+	}
+}
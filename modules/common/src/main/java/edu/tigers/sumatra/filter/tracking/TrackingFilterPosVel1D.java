@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2017, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 package edu.tigers.sumatra.filter.tracking;
 
@@ -19,7 +19,7 @@ import edu.tigers.sumatra.math.SumatraMath;
  * 
  * @author AndreR
  */
-public class TrackingFilterPosVel1D extends KalmanFilter
+public class TrackingFilterPosVel1D extends KalmanFilter implements ITrackingFilter1D
 {
 	private double	modelError;
 	
@@ -122,12 +122,14 @@ public class TrackingFilterPosVel1D extends KalmanFilter
 	}
 	
 	
+	@Override
 	public void setMeasurementError(final double error)
 	{
 		measurementNoiseCovariance.setEntry(0, 0, error);
 	}
 	
 	
+	@Override
 	public void setModelError(final double error)
 	{
 		modelError = error;
@@ -140,6 +142,7 @@ public class TrackingFilterPosVel1D extends KalmanFilter
 	 * 
 	 * @param timestamp time in nanoseconds
 	 */
+	@Override
 	public void predict(final long timestamp)
 	{
 		double dt = (timestamp - lastTimestamp) * 1e-9;
@@ -161,18 +164,21 @@ public class TrackingFilterPosVel1D extends KalmanFilter
 	 * 
 	 * @param position
 	 */
+	@Override
 	public void correct(final double position)
 	{
 		correct(MatrixUtils.createRealVector(new double[] { position }));
 	}
 	
 	
+	@Override
 	public long getLastTimestamp()
 	{
 		return lastTimestamp;
 	}
 	
 	
+	@Override
 	public double getPositionEstimate()
 	{
 		return stateEstimation.getEntry(0);
@@ -186,6 +192,7 @@ public class TrackingFilterPosVel1D extends KalmanFilter
 	 * @param timestamp time in nanoseconds
 	 * @return
 	 */
+	@Override
 	public double getPositionEstimate(final long timestamp)
 	{
 		double p = getPositionEstimate();
@@ -196,24 +203,28 @@ public class TrackingFilterPosVel1D extends KalmanFilter
 	}
 	
 	
+	@Override
 	public double getPositionUncertainty()
 	{
 		return SumatraMath.sqrt(errorCovariance.getEntry(0, 0));
 	}
 	
 	
+	@Override
 	public double getVelocityUncertainty()
 	{
 		return SumatraMath.sqrt(errorCovariance.getEntry(1, 1));
 	}
 	
 	
+	@Override
 	public double getPositionInnovation()
 	{
 		return innovation.getEntry(0);
 	}
 	
 	
+	@Override
 	public double getVelocityEstimate()
 	{
 		return stateEstimation.getEntry(1);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2017, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 package edu.tigers.sumatra.filter.tracking;
 
@@ -21,7 +21,7 @@ import edu.tigers.sumatra.math.vector.Vector2;
  * 
  * @author AndreR
  */
-public class TrackingFilterPosVel2D extends KalmanFilter
+public class TrackingFilterPosVel2D extends KalmanFilter implements ITrackingFilter2D
 {
 	private double	modelError;
 	
@@ -127,6 +127,7 @@ public class TrackingFilterPosVel2D extends KalmanFilter
 	}
 	
 	
+	@Override
 	public void setMeasurementError(final double error)
 	{
 		measurementNoiseCovariance.setEntry(0, 0, error);
@@ -134,12 +135,14 @@ public class TrackingFilterPosVel2D extends KalmanFilter
 	}
 	
 	
+	@Override
 	public void setModelError(final double error)
 	{
 		modelError = error;
 	}
 	
 	
+	@Override
 	public void setPosition(final IVector2 pos)
 	{
 		stateEstimation.setEntry(0, pos.x());
@@ -147,6 +150,7 @@ public class TrackingFilterPosVel2D extends KalmanFilter
 	}
 	
 	
+	@Override
 	public void setVelocity(final IVector2 vel)
 	{
 		stateEstimation.setEntry(2, vel.x());
@@ -159,6 +163,7 @@ public class TrackingFilterPosVel2D extends KalmanFilter
 	 * 
 	 * @param covariance
 	 */
+	@Override
 	public void resetCovariance(final double covariance)
 	{
 		errorCovariance = MatrixUtils.createRealIdentityMatrix(4).scalarMultiply(covariance);
@@ -173,6 +178,7 @@ public class TrackingFilterPosVel2D extends KalmanFilter
 	 * 
 	 * @param timestamp time in nanoseconds
 	 */
+	@Override
 	public void predict(final long timestamp)
 	{
 		double dt = (timestamp - lastTimestamp) * 1e-9;
@@ -194,18 +200,21 @@ public class TrackingFilterPosVel2D extends KalmanFilter
 	 * 
 	 * @param position
 	 */
+	@Override
 	public void correct(final IVector2 position)
 	{
 		correct(position.toRealVector());
 	}
 	
 	
+	@Override
 	public long getLastTimestamp()
 	{
 		return lastTimestamp;
 	}
 	
 	
+	@Override
 	public IVector2 getPositionEstimate()
 	{
 		return Vector2.fromReal(stateEstimation.getSubVector(0, 2));
@@ -219,6 +228,7 @@ public class TrackingFilterPosVel2D extends KalmanFilter
 	 * @param timestamp time in nanoseconds
 	 * @return
 	 */
+	@Override
 	public IVector2 getPositionEstimate(final long timestamp)
 	{
 		IVector2 p = getPositionEstimate();
@@ -256,6 +266,7 @@ public class TrackingFilterPosVel2D extends KalmanFilter
 	}
 	
 	
+	@Override
 	public IVector2 getPositionUncertainty()
 	{
 		return Vector2.fromXY(SumatraMath.sqrt(errorCovariance.getEntry(0, 0)),
@@ -263,12 +274,14 @@ public class TrackingFilterPosVel2D extends KalmanFilter
 	}
 	
 	
+	@Override
 	public IVector2 getPositionInnovation()
 	{
 		return Vector2.fromReal(innovation);
 	}
 	
 	
+	@Override
 	public IVector2 getVelocityEstimate()
 	{
 		return Vector2.fromReal(stateEstimation.getSubVector(2, 2));
@@ -291,6 +304,7 @@ public class TrackingFilterPosVel2D extends KalmanFilter
 	}
 	
 	
+	@Override
 	public IVector2 getVelocityUncertainty()
 	{
 		return Vector2.fromXY(SumatraMath.sqrt(errorCovariance.getEntry(2, 2)),
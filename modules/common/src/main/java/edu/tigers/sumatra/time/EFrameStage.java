@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.time;
+
+/**
+ * The stages of the pipeline that a camera frame passes until the resulting robot commands are sent.
+ */
+public enum EFrameStage
+{
+	/** the camera frame was processed by its cam filter */
+	CAM_RECEIVED,
+	/** a filtered vision frame containing the camera frame is about to be published */
+	VISION,
+	/** a world frame was created from the filtered vision frame */
+	WORLD_FRAME,
+	/** an AI processed the world frame */
+	AI,
+	/** the skills of a robot were updated with the world frame */
+	SKILLS,
+	/** a match command was sent to a robot */
+	BOT_COMMAND,
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.time;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+
+/**
+ * Traces the latency of camera frames through the processing pipeline.
+ * <p>
+ * Frames are identified by their (adjusted) capture timestamp, which is passed on as timestamp of the
+ * filtered vision frame, the world frame and everything derived from it.
+ * Each stage is recorded once per frame, when it is reached for the first time, relative to the capture time
+ * if it is in the local time base or relative to the processing of the camera frame otherwise (e.g. in simulation).
+ * <p>
+ * In-flight frames are kept in a fixed ring of slots, so that tracing does neither allocate nor lock.
+ */
+public final class FrameLatencyTracer
+{
+	private static final int SLOT_BITS = 8;
+	private static final int NUM_SLOTS = 1 << SLOT_BITS;
+	private static final long EMPTY = Long.MIN_VALUE;
+	private static final long MAX_CAPTURE_AGE = TimeUnit.SECONDS.toNanos(1);
+	private static final EFrameStage[] STAGES = EFrameStage.values();
+	private static final FrameLatencyTracer INSTANCE = new FrameLatencyTracer(System::nanoTime);
+
+	private final LongSupplier clock;
+	private final AtomicLongArray keys = new AtomicLongArray(NUM_SLOTS);
+	private final AtomicLongArray origins = new AtomicLongArray(NUM_SLOTS);
+	private final AtomicIntegerArray reachedStages = new AtomicIntegerArray(NUM_SLOTS);
+	private final LatencyHistogram[] histograms = new LatencyHistogram[STAGES.length];
+
+
+	FrameLatencyTracer(final LongSupplier clock)
+	{
+		this.clock = clock;
+		for (int i = 0; i < NUM_SLOTS; i++)
+		{
+			keys.set(i, EMPTY);
+		}
+		for (int i = 0; i < STAGES.length; i++)
+		{
+			histograms[i] = new LatencyHistogram();
+		}
+	}
+
+
+	/**
+	 * @return the global tracer
+	 */
+	public static FrameLatencyTracer getInstance()
+	{
+		return INSTANCE;
+	}
+
+
+	/**
+	 * Start tracing a new camera frame.
+	 *
+	 * @param tCapture the (adjusted) capture timestamp of the frame [ns]
+	 */
+	public void onCamFrame(final long tCapture)
+	{
+		long now = clock.getAsLong();
+		long captureAge = now - tCapture;
+		boolean localTimeBase = captureAge >= 0 && captureAge < MAX_CAPTURE_AGE;
+		long origin = localTimeBase ? tCapture : now;
+
+		int slot = slotOf(tCapture);
+		keys.set(slot, EMPTY);
+		origins.set(slot, origin);
+		reachedStages.set(slot, localTimeBase ? bitOf(EFrameStage.CAM_RECEIVED) : 0);
+		keys.set(slot, tCapture);
+
+		if (localTimeBase)
+		{
+			histograms[EFrameStage.CAM_RECEIVED.ordinal()].record(captureAge);
+		}
+	}
+
+
+	/**
+	 * Record that a frame reached a stage. Frames that are not traced (anymore) are ignored.
+	 *
+	 * @param stage          the stage that was reached
+	 * @param frameTimestamp the timestamp of the frame, i.e. the capture timestamp of the camera frame [ns]
+	 */
+	public void mark(final EFrameStage stage, final long frameTimestamp)
+	{
+		int slot = slotOf(frameTimestamp);
+		if (keys.get(slot) != frameTimestamp)
+		{
+			return;
+		}
+		long origin = origins.get(slot);
+		int bit = bitOf(stage);
+		int reached;
+		do
+		{
+			reached = reachedStages.get(slot);
+			if ((reached & bit) != 0)
+			{
+				return;
+			}
+		} while (!reachedStages.compareAndSet(slot, reached, reached | bit));
+
+		if (keys.get(slot) == frameTimestamp)
+		{
+			histograms[stage.ordinal()].record(clock.getAsLong() - origin);
+		}
+	}
+
+
+	/**
+	 * @return the current latency histograms of all stages
+	 */
+	public Map<EFrameStage, LatencyHistogram.Snapshot> snapshot()
+	{
+		Map<EFrameStage, LatencyHistogram.Snapshot> snapshots = new EnumMap<>(EFrameStage.class);
+		for (EFrameStage stage : STAGES)
+		{
+			snapshots.put(stage, histograms[stage.ordinal()].snapshot());
+		}
+		return snapshots;
+	}
+
+
+	private static int slotOf(final long key)
+	{
+		return (int) ((key * 0x9E3779B97F4A7C15L) >>> (Long.SIZE - SLOT_BITS));
+	}
+
+
+	private static int bitOf(final EFrameStage stage)
+	{
+		return 1 << stage.ordinal();
+	}
+}
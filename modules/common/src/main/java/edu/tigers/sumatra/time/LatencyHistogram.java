@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.time;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+/**
+ * A lock-free histogram for latencies.
+ * Values are counted in log-linear buckets of microseconds (16 buckets per power of two),
+ * so percentiles have a relative error of at most 1/16 up to about half an hour.
+ * Recording only increments a single counter, so it can be called from any thread.
+ */
+public class LatencyHistogram
+{
+	private static final int SUB_BUCKET_BITS = 4;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int MAX_EXPONENT = 30;
+	private static final int NUM_BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+	private final AtomicLongArray counts = new AtomicLongArray(NUM_BUCKETS);
+
+
+	/**
+	 * @param nanos the latency to add [ns]
+	 */
+	public void record(final long nanos)
+	{
+		counts.incrementAndGet(bucketOf(Math.max(0, nanos / 1000)));
+	}
+
+
+	/**
+	 * @return a copy of the current counts
+	 */
+	public Snapshot snapshot()
+	{
+		long[] copy = new long[NUM_BUCKETS];
+		for (int i = 0; i < NUM_BUCKETS; i++)
+		{
+			copy[i] = counts.get(i);
+		}
+		return new Snapshot(copy);
+	}
+
+
+	private static int bucketOf(final long micros)
+	{
+		if (micros < SUB_BUCKETS)
+		{
+			return (int) micros;
+		}
+		int exponent = 63 - Long.numberOfLeadingZeros(micros);
+		if (exponent > MAX_EXPONENT)
+		{
+			return NUM_BUCKETS - 1;
+		}
+		int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+		return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+	}
+
+
+	/**
+	 * @return the upper bound of the bucket [us]
+	 */
+	private static long upperBoundOf(final int bucket)
+	{
+		if (bucket < SUB_BUCKETS)
+		{
+			return bucket;
+		}
+		int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+		long subBucket = bucket % SUB_BUCKETS;
+		long width = 1L << (exponent - SUB_BUCKET_BITS);
+		return ((SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS)) + width - 1;
+	}
+
+
+	/**
+	 * The counts of a histogram at some point in time.
+	 */
+	public static final class Snapshot
+	{
+		private final long[] counts;
+		private final long count;
+
+
+		private Snapshot(final long[] counts)
+		{
+			this.counts = counts;
+			long sum = 0;
+			for (long c : counts)
+			{
+				sum += c;
+			}
+			count = sum;
+		}
+
+
+		/**
+		 * @param earlier an earlier snapshot of the same histogram
+		 * @return the values that were recorded between both snapshots
+		 */
+		public Snapshot since(final Snapshot earlier)
+		{
+			long[] diff = new long[counts.length];
+			for (int i = 0; i < counts.length; i++)
+			{
+				diff[i] = counts[i] - earlier.counts[i];
+			}
+			return new Snapshot(diff);
+		}
+
+
+		/**
+		 * @return the number of recorded values
+		 */
+		public long getCount()
+		{
+			return count;
+		}
+
+
+		/**
+		 * @param p the percentile in [0, 1]
+		 * @return the upper bound of the bucket that contains the percentile [ms], or 0 if empty
+		 */
+		public double getPercentile(final double p)
+		{
+			if (count == 0)
+			{
+				return 0;
+			}
+			long rank = Math.max(1, (long) Math.ceil(p * count));
+			long seen = 0;
+			for (int i = 0; i < counts.length; i++)
+			{
+				seen += counts[i];
+				if (seen >= rank)
+				{
+					return upperBoundOf(i) / 1e3;
+				}
+			}
+			return upperBoundOf(counts.length - 1) / 1e3;
+		}
+
+
+		/**
+		 * @return the upper bound of the highest non-empty bucket [ms], or 0 if empty
+		 */
+		public double getMax()
+		{
+			for (int i = counts.length - 1; i >= 0; i--)
+			{
+				if (counts[i] > 0)
+				{
+					return upperBoundOf(i) / 1e3;
+				}
+			}
+			return 0;
+		}
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.time;
+
+import java.util.Arrays;
+
+
+/**
+ * Keeps the most recent durations in a ring buffer to calculate exact percentiles over them.
+ * Instances are thread-safe.
+ */
+public class RecentDurations
+{
+	private final long[] samples;
+	private int nextIndex = 0;
+	private int numSamples = 0;
+
+
+	/**
+	 * @param capacity the number of recent durations to keep
+	 */
+	public RecentDurations(final int capacity)
+	{
+		samples = new long[capacity];
+	}
+
+
+	/**
+	 * @param nanos the duration to add [ns]
+	 */
+	public synchronized void add(final long nanos)
+	{
+		samples[nextIndex] = nanos;
+		nextIndex = (nextIndex + 1) % samples.length;
+		numSamples = Math.min(numSamples + 1, samples.length);
+	}
+
+
+	/**
+	 * @return a copy of the current durations
+	 */
+	public Snapshot snapshot()
+	{
+		long[] copy;
+		synchronized (this)
+		{
+			copy = Arrays.copyOf(samples, numSamples);
+		}
+		Arrays.sort(copy);
+		return new Snapshot(copy);
+	}
+
+
+	/**
+	 * The sorted durations at some point in time.
+	 */
+	public static final class Snapshot
+	{
+		private final long[] sortedSamples;
+
+
+		private Snapshot(final long[] sortedSamples)
+		{
+			this.sortedSamples = sortedSamples;
+		}
+
+
+		/**
+		 * @return the number of durations
+		 */
+		public int getCount()
+		{
+			return sortedSamples.length;
+		}
+
+
+		/**
+		 * @param p the percentile in [0, 1]
+		 * @return the duration at the percentile [ms], or 0 if empty
+		 */
+		public double getPercentile(final double p)
+		{
+			if (sortedSamples.length == 0)
+			{
+				return 0;
+			}
+			int index = (int) Math.ceil(p * sortedSamples.length) - 1;
+			return sortedSamples[Math.max(0, index)] / 1e6;
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2022, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 package edu.tigers.sumatra.trajectory;
 
@@ -16,7 +16,7 @@ import java.util.List;
  */
 @ToString
 @Persistent
-class BangBangTrajectory1D implements ITrajectory<Double>
+class BangBangTrajectory1D implements ITrajectory<Double>, IPrimitiveTrajectory1D
 {
 	static final int MAX_PARTS = 3;
 	final BBTrajectoryPart[] parts = new BBTrajectoryPart[MAX_PARTS];
@@ -34,6 +34,13 @@ class BangBangTrajectory1D implements ITrajectory<Double>
 
 	@Override
 	public Double getPosition(final double tt)
+	{
+		return positionAt(tt);
+	}
+
+
+	@Override
+	public double positionAt(final double tt)
 	{
 		float trajTime = Math.max(0, (float) tt);
 
@@ -42,26 +49,33 @@ class BangBangTrajectory1D implements ITrajectory<Double>
 			// requested time beyond final element
 			BBTrajectoryPart lastPart = parts[numParts - 1];
 			final float t = lastPart.tEnd - parts[numParts - 2].tEnd;
-			return (double) (lastPart.s0 + (lastPart.v0 * t) + (0.5f * lastPart.acc * t * t));
+			return lastPart.s0 + (lastPart.v0 * t) + (0.5f * lastPart.acc * t * t);
 		}
 
 		var pieceIdx = findPartIdx(trajTime);
 		var piece = parts[pieceIdx];
 		var tPieceStart = pieceIdx < 1 ? 0 : parts[pieceIdx - 1].tEnd;
 		var t = trajTime - tPieceStart;
-		return (double) (piece.s0 + (piece.v0 * t) + (0.5f * piece.acc * t * t));
+		return piece.s0 + (piece.v0 * t) + (0.5f * piece.acc * t * t);
 	}
 
 
 	@Override
 	public Double getPositionMM(final double t)
 	{
-		return getPosition(t) * 1000.0f;
+		return positionAt(t) * 1000.0f;
 	}
 
 
 	@Override
 	public Double getVelocity(final double tt)
+	{
+		return velocityAt(tt);
+	}
+
+
+	@Override
+	public double velocityAt(final double tt)
 	{
 		var trajTime = Math.max(0, (float) tt);
 
@@ -75,12 +89,19 @@ class BangBangTrajectory1D implements ITrajectory<Double>
 		var piece = parts[pieceIdx];
 		var tPieceStart = pieceIdx < 1 ? 0 : parts[pieceIdx - 1].tEnd;
 		var t = trajTime - tPieceStart;
-		return (double) (piece.v0 + (piece.acc * t));
+		return piece.v0 + (piece.acc * t);
 	}
 
 
 	@Override
 	public Double getAcceleration(final double tt)
+	{
+		return accelerationAt(tt);
+	}
+
+
+	@Override
+	public double accelerationAt(final double tt)
 	{
 		float trajTime = Math.max(0, (float) tt);
 
@@ -90,7 +111,7 @@ class BangBangTrajectory1D implements ITrajectory<Double>
 			return 0.0;
 		}
 
-		return (double) findPart(trajTime).acc;
+		return findPart(trajTime).acc;
 	}
 
 
@@ -119,24 +140,48 @@ class BangBangTrajectory1D implements ITrajectory<Double>
 
 	@Override
 	public PosVelAcc<Double> getValuesAtTime(final double tt)
+	{
+		double[] values = new double[3];
+		fillValuesAtTime(tt, values);
+		return new PosVelAcc<>(values[0], values[1], values[2]);
+	}
+
+
+	@Override
+	public void fillValuesAtTime(final double tt, final double[] values)
+	{
+		fillValuesAtTime(tt, values, 0, 1);
+	}
+
+
+	/**
+	 * Write the state of this dimension into a buffer of a multidimensional trajectory.
+	 *
+	 * @param tt            time [s]
+	 * @param values        the buffer with the layout of {@link IPrimitiveTrajectory}
+	 * @param dimension     the dimension of this trajectory
+	 * @param numDimensions the total number of dimensions
+	 */
+	void fillValuesAtTime(final double tt, final double[] values, final int dimension, final int numDimensions)
 	{
 		float trajTime = Math.max(0, (float) tt);
 
 		if (trajTime >= getTotalTime())
 		{
 			// requested time beyond final element
-			return new PosVelAcc<>(getPosition(tt), 0.0, 0.0);
+			values[dimension] = positionAt(tt);
+			values[numDimensions + dimension] = 0.0;
+			values[2 * numDimensions + dimension] = 0.0;
+			return;
 		}
 
 		var pieceIdx = findPartIdx(trajTime);
 		var piece = parts[pieceIdx];
 		var tPieceStart = pieceIdx < 1 ? 0 : parts[pieceIdx - 1].tEnd;
 		var t = trajTime - tPieceStart;
-		return new PosVelAcc<>(
-				(double) (piece.s0 + (piece.v0 * t) + (0.5f * piece.acc * t * t)),
-				(double) (piece.v0 + (piece.acc * t)),
-				(double) piece.acc
-		);
+		values[dimension] = piece.s0 + (piece.v0 * t) + (0.5f * piece.acc * t * t);
+		values[numDimensions + dimension] = piece.v0 + (piece.acc * t);
+		values[2 * numDimensions + dimension] = piece.acc;
 	}
 
 
@@ -155,7 +200,7 @@ class BangBangTrajectory1D implements ITrajectory<Double>
 	@Override
 	public double getMaxSpeed()
 	{
-		return getTimeSections().stream().mapToDouble(this::getVelocity).max().orElseThrow();
+		return getTimeSections().stream().mapToDouble(this::velocityAt).max().orElseThrow();
 	}
 
 
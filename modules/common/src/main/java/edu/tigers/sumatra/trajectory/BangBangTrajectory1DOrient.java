@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2022, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 package edu.tigers.sumatra.trajectory;
 
@@ -15,7 +15,7 @@ import java.util.List;
  */
 @Persistent
 @RequiredArgsConstructor
-class BangBangTrajectory1DOrient implements ITrajectory<Double>
+class BangBangTrajectory1DOrient implements ITrajectory<Double>, IPrimitiveTrajectory1D
 {
 	final BangBangTrajectory1D child;
 
@@ -37,21 +37,50 @@ class BangBangTrajectory1DOrient implements ITrajectory<Double>
 	@Override
 	public Double getPosition(final double t)
 	{
-		return AngleMath.normalizeAngle(child.getPosition(t));
+		return positionAt(t);
+	}
+
+
+	@Override
+	public double positionAt(final double t)
+	{
+		return AngleMath.normalizeAngle(child.positionAt(t));
 	}
 
 
 	@Override
 	public Double getVelocity(final double t)
 	{
-		return child.getVelocity(t);
+		return child.velocityAt(t);
+	}
+
+
+	@Override
+	public double velocityAt(final double t)
+	{
+		return child.velocityAt(t);
 	}
 
 
 	@Override
 	public Double getAcceleration(final double t)
 	{
-		return child.getAcceleration(t);
+		return child.accelerationAt(t);
+	}
+
+
+	@Override
+	public double accelerationAt(final double t)
+	{
+		return child.accelerationAt(t);
+	}
+
+
+	@Override
+	public void fillValuesAtTime(final double t, final double[] values)
+	{
+		child.fillValuesAtTime(t, values);
+		values[0] = AngleMath.normalizeAngle(values[0]);
 	}
 
 
@@ -98,6 +127,6 @@ class BangBangTrajectory1DOrient implements ITrajectory<Double>
 	@Override
 	public double getMaxSpeed()
 	{
-		return getTimeSections().stream().mapToDouble(this::getVelocity).max().orElseThrow();
+		return getTimeSections().stream().mapToDouble(this::velocityAt).max().orElseThrow();
 	}
 }
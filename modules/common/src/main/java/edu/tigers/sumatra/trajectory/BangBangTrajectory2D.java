@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2022, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 
 package edu.tigers.sumatra.trajectory;
@@ -24,7 +24,7 @@ import java.util.function.UnaryOperator;
  */
 @ToString
 @Persistent
-class BangBangTrajectory2D implements ITrajectory<IVector2>
+class BangBangTrajectory2D implements ITrajectory<IVector2>, IPrimitiveTrajectory
 {
 	final BangBangTrajectory1D x = new BangBangTrajectory1D();
 	final BangBangTrajectory1D y = new BangBangTrajectory1D();
@@ -99,6 +99,21 @@ class BangBangTrajectory2D implements ITrajectory<IVector2>
 	}
 
 
+	@Override
+	public int getNumDimensions()
+	{
+		return 2;
+	}
+
+
+	@Override
+	public void fillValuesAtTime(final double t, final double[] values)
+	{
+		x.fillValuesAtTime(t, values, 0, 2);
+		y.fillValuesAtTime(t, values, 1, 2);
+	}
+
+
 	@Override
 	public List<Double> getTimeSections()
 	{
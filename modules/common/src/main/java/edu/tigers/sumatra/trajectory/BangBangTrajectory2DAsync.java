@@ -1,11 +1,12 @@
 /*
- * Copyright (c) 2009 - 2022, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 
 package edu.tigers.sumatra.trajectory;
 
 import com.sleepycat.persist.model.Persistent;
 import edu.tigers.sumatra.math.AngleMath;
+import edu.tigers.sumatra.math.SumatraMath;
 import edu.tigers.sumatra.math.vector.IVector2;
 import edu.tigers.sumatra.math.vector.Vector2;
 import lombok.Getter;
@@ -24,7 +25,7 @@ import java.util.List;
 @Getter
 @Persistent
 @RequiredArgsConstructor
-class BangBangTrajectory2DAsync implements ITrajectory<IVector2>
+class BangBangTrajectory2DAsync implements ITrajectory<IVector2>, IPrimitiveTrajectory
 {
 	final BangBangTrajectory2D child;
 	final IVector2 initialPos;
@@ -104,6 +105,31 @@ class BangBangTrajectory2DAsync implements ITrajectory<IVector2>
 	}
 
 
+	@Override
+	public int getNumDimensions()
+	{
+		return 2;
+	}
+
+
+	@Override
+	public void fillValuesAtTime(final double t, final double[] values)
+	{
+		child.fillValuesAtTime(t, values);
+		double cos = SumatraMath.cos(rotation);
+		double sin = SumatraMath.sin(rotation);
+		for (int i = 0; i < 6; i += 2)
+		{
+			double vx = values[i];
+			double vy = values[i + 1];
+			values[i] = (vx * cos) - (vy * sin);
+			values[i + 1] = (vy * cos) + (vx * sin);
+		}
+		values[0] += initialPos.x();
+		values[1] += initialPos.y();
+	}
+
+
 	@Override
 	public List<Double> getTimeSections()
 	{
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+package edu.tigers.sumatra.trajectory;
+
+import edu.tigers.sumatra.math.vector.IVector2;
+
+
+/**
+ * Trajectory that can be evaluated into a caller-provided buffer without boxing values or allocating vectors.
+ * <p>
+ * The buffer layout is [pos_0..pos_n-1, vel_0..vel_n-1, acc_0..acc_n-1] with n = {@link #getNumDimensions()}.
+ * Positions are in [m], velocities in [m/s] and accelerations in [m/s²],
+ * like in {@link ITrajectory#getValuesAtTime(double)}.
+ */
+public interface IPrimitiveTrajectory
+{
+	/**
+	 * @return the number of dimensions of this trajectory
+	 */
+	int getNumDimensions();
+
+
+	/**
+	 * Write the full state at a certain time into the given buffer.
+	 *
+	 * @param t      time [s]
+	 * @param values buffer with at least 3 * {@link #getNumDimensions()} elements
+	 */
+	void fillValuesAtTime(double t, double[] values);
+
+
+	/**
+	 * Write the full state of any two dimensional trajectory into the given buffer.
+	 * The primitive API is used if the trajectory supports it.
+	 *
+	 * @param trajectory a two dimensional trajectory
+	 * @param t          time [s]
+	 * @param values     buffer with at least 6 elements
+	 */
+	static void fillValuesAtTime(ITrajectory<IVector2> trajectory, double t, double[] values)
+	{
+		if (trajectory instanceof IPrimitiveTrajectory primitiveTrajectory)
+		{
+			primitiveTrajectory.fillValuesAtTime(t, values);
+			return;
+		}
+		IVector2 pos = trajectory.getPosition(t);
+		IVector2 vel = trajectory.getVelocity(t);
+		IVector2 acc = trajectory.getAcceleration(t);
+		values[0] = pos.x();
+		values[1] = pos.y();
+		values[2] = vel.x();
+		values[3] = vel.y();
+		values[4] = acc.x();
+		values[5] = acc.y();
+	}
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+package edu.tigers.sumatra.trajectory;
+
+
+/**
+ * One dimensional trajectory that can be evaluated without boxing.
+ */
+public interface IPrimitiveTrajectory1D extends IPrimitiveTrajectory
+{
+	/**
+	 * @param t time [s]
+	 * @return position [m]
+	 */
+	double positionAt(double t);
+
+
+	/**
+	 * @param t time [s]
+	 * @return velocity [m/s]
+	 */
+	double velocityAt(double t);
+
+
+	/**
+	 * @param t time [s]
+	 * @return acceleration [m/s²]
+	 */
+	double accelerationAt(double t);
+
+
+	@Override
+	default int getNumDimensions()
+	{
+		return 1;
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2022, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 package edu.tigers.sumatra.trajectory;
 
@@ -20,7 +20,7 @@ import java.util.List;
 @Value
 @Persistent
 @RequiredArgsConstructor
-public class TrajectoryXyw implements ITrajectory<IVector3>
+public class TrajectoryXyw implements ITrajectory<IVector3>, IPrimitiveTrajectory
 {
 	ITrajectory<IVector2> trajXy;
 	ITrajectory<Double> trajW;
@@ -76,6 +76,37 @@ public class TrajectoryXyw implements ITrajectory<IVector3>
 	}
 
 
+	@Override
+	public int getNumDimensions()
+	{
+		return 3;
+	}
+
+
+	@Override
+	public void fillValuesAtTime(final double t, final double[] values)
+	{
+		// fill [x, y, vx, vy, ax, ay] and move it in place to [x, y, _, vx, vy, _, ax, ay, _]
+		IPrimitiveTrajectory.fillValuesAtTime(trajXy, t, values);
+		values[7] = values[5];
+		values[6] = values[4];
+		values[4] = values[3];
+		values[3] = values[2];
+
+		if (trajW instanceof IPrimitiveTrajectory1D primitiveTrajW)
+		{
+			values[2] = primitiveTrajW.positionAt(t);
+			values[5] = primitiveTrajW.velocityAt(t);
+			values[8] = primitiveTrajW.accelerationAt(t);
+		} else
+		{
+			values[2] = trajW.getPosition(t);
+			values[5] = trajW.getVelocity(t);
+			values[8] = trajW.getAcceleration(t);
+		}
+	}
+
+
 	@Override
 	public List<Double> getTimeSections()
 	{
@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+package edu.tigers.sumatra.ball.trajectory.chipped;
+
+import edu.tigers.sumatra.ball.BallParameters;
+import edu.tigers.sumatra.ball.BallState;
+import edu.tigers.sumatra.ball.trajectory.ABallTrajectory;
+import edu.tigers.sumatra.ball.trajectory.IBallTrajectory;
+import edu.tigers.sumatra.math.line.ILineSegment;
+import edu.tigers.sumatra.math.vector.IVector;
+import edu.tigers.sumatra.math.vector.IVector2;
+import edu.tigers.sumatra.math.vector.IVector3;
+import edu.tigers.sumatra.math.vector.Vector2;
+import edu.tigers.sumatra.math.vector.Vector2f;
+import edu.tigers.sumatra.math.vector.Vector3;
+import edu.tigers.sumatra.planarcurve.PlanarCurve;
+import edu.tigers.sumatra.planarcurve.PlanarCurveSegment;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+
+/**
+ * Compare the hop table based {@link ChipBallTrajectory} with the previous implementation
+ * ({@link ReferenceChipBallTrajectory}) on random kicks and queries.
+ */
+public class ChipHopTableTest
+{
+	private static final int NUM_KICKS = 300;
+	private static final int NUM_QUERIES = 50;
+	private static final double TOLERANCE = 1e-6;
+
+	private final BallParameters params = BallParameters.builder()
+			.withBallRadius(21.5)
+			.withAccSlide(-3600)
+			.withAccRoll(-400)
+			.withInertiaDistribution(0.667)
+			.withChipDampingXYFirstHop(0.75)
+			.withChipDampingXYOtherHops(0.95)
+			.withChipDampingZ(0.6)
+			.withMinHopHeight(10)
+			.withMaxInterceptableHeight(150)
+			.build();
+	private final Random rnd = new Random(42);
+
+
+	@Test
+	public void testFromKick()
+	{
+		for (int i = 0; i < NUM_KICKS; i++)
+		{
+			IVector2 kickPos = rndVector2(6000);
+			IVector3 kickVel = Vector3.from2d(rndVector2(6500), rnd.nextDouble() * 5000);
+			IVector2 spin = rnd.nextBoolean() ? Vector2f.ZERO_VECTOR : rndVector2(100);
+
+			assertSame(
+					ChipBallTrajectory.fromKick(params, kickPos, kickVel, spin),
+					ReferenceChipBallTrajectory.fromKick(params, kickPos, kickVel, spin));
+		}
+	}
+
+
+	@Test
+	public void testFromState()
+	{
+		for (int i = 0; i < NUM_KICKS; i++)
+		{
+			IVector3 pos = Vector3.from2d(rndVector2(6000), rnd.nextDouble() * 1000);
+			IVector3 vel = Vector3.from2d(rndVector2(6500), (rnd.nextDouble() - 0.5) * 6000);
+			IVector2 spin = rndVector2(100);
+
+			assertSame(
+					ChipBallTrajectory.fromState(params, pos, vel, spin),
+					ReferenceChipBallTrajectory.fromState(params, pos, vel, spin));
+		}
+	}
+
+
+	@Test
+	public void testDerivedTrajectories()
+	{
+		for (int i = 0; i < NUM_KICKS; i++)
+		{
+			IVector2 kickPos = rndVector2(6000);
+			IVector3 kickVel = Vector3.from2d(rndVector2(6500), rnd.nextDouble() * 5000);
+			IVector3 adjustedPos = Vector3.from2d(rndVector2(6000), 0);
+			double adjustTime = rnd.nextDouble();
+
+			IBallTrajectory trajectory = ChipBallTrajectory.fromKick(params, kickPos, kickVel, Vector2f.ZERO_VECTOR);
+			IBallTrajectory reference = ReferenceChipBallTrajectory.fromKick(params, kickPos, kickVel,
+					Vector2f.ZERO_VECTOR);
+			// compute the hop table before deriving the trajectories, so that it is shared
+			timeAtRest(trajectory);
+
+			assertSame(trajectory.mirrored(), reference.mirrored());
+			assertSame(trajectory.mirrored().mirrored(), reference.mirrored().mirrored());
+			assertSame(trajectory.withAdjustedInitialPos(adjustedPos, adjustTime),
+					reference.withAdjustedInitialPos(adjustedPos, adjustTime));
+			assertSame(trajectory.withAdjustedInitialPos(adjustedPos, adjustTime).mirrored(),
+					reference.withAdjustedInitialPos(adjustedPos, adjustTime).mirrored());
+		}
+	}
+
+
+	@Test
+	public void testTimeByVelWithIncreasingSpeed()
+	{
+		// not physical, but the hops must still be searched in order if the speed increases
+		BallParameters amplifying = params.toBuilder().withChipDampingXYOtherHops(1.1).build();
+		for (int i = 0; i < NUM_KICKS; i++)
+		{
+			IVector2 kickPos = rndVector2(6000);
+			IVector3 kickVel = Vector3.from2d(rndVector2(6500), rnd.nextDouble() * 5000);
+			IBallTrajectory actual = ChipBallTrajectory.fromKick(amplifying, kickPos, kickVel, Vector2f.ZERO_VECTOR);
+			IBallTrajectory expected = ReferenceChipBallTrajectory.fromKick(amplifying, kickPos, kickVel,
+					Vector2f.ZERO_VECTOR);
+
+			double maxVel = expected.getInitialVel().getLength2() * 1.5;
+			for (int q = 0; q < NUM_QUERIES; q++)
+			{
+				double vel = rnd.nextDouble() * maxVel;
+				assertSameTime(actual.getTimeByVel(vel * 1e-3), expected.getTimeByVel(vel * 1e-3));
+			}
+		}
+	}
+
+
+	private void assertSame(final IBallTrajectory actual, final IBallTrajectory expected)
+	{
+		double tRest = timeAtRest(expected);
+		assertThat(timeAtRest(actual)).isCloseTo(tRest, within(TOLERANCE));
+
+		for (int i = 0; i < NUM_QUERIES; i++)
+		{
+			double time = rnd.nextDouble() * (tRest + 0.5);
+			assertSame(actual.getMilliStateAtTime(time), expected.getMilliStateAtTime(time));
+		}
+		assertSame(actual.getMilliStateAtTime(-1), expected.getMilliStateAtTime(-1));
+
+		double maxDist = expected.getDistByTime(tRest) * 1000;
+		for (int i = 0; i < NUM_QUERIES; i++)
+		{
+			double dist = rnd.nextDouble() * (maxDist + 100);
+			assertSameTime(actual.getTimeByDist(dist * 1e-3), expected.getTimeByDist(dist * 1e-3));
+		}
+
+		double maxVel = expected.getInitialVel().getLength2();
+		for (int i = 0; i < NUM_QUERIES; i++)
+		{
+			double vel = rnd.nextDouble() * maxVel;
+			assertSameTime(actual.getTimeByVel(vel * 1e-3), expected.getTimeByVel(vel * 1e-3));
+		}
+
+		assertSameVectors(actual.getTouchdownLocations(), expected.getTouchdownLocations());
+		assertSameLines(actual.getTravelLinesInterceptable(), expected.getTravelLinesInterceptable());
+		assertSameLines(List.of(actual.getTravelLineRolling()), List.of(expected.getTravelLineRolling()));
+		assertSame(actual.getPlanarCurve(), expected.getPlanarCurve());
+	}
+
+
+	private void assertSame(final BallState actual, final BallState expected)
+	{
+		assertSame(actual.getPos(), expected.getPos());
+		assertSame(actual.getVel(), expected.getVel());
+		assertSame(actual.getAcc(), expected.getAcc());
+		assertSame(actual.getSpin(), expected.getSpin());
+	}
+
+
+	private void assertSame(final PlanarCurve actual, final PlanarCurve expected)
+	{
+		assertThat(actual.getSegments()).hasSameSizeAs(expected.getSegments());
+		for (int i = 0; i < expected.getSegments().size(); i++)
+		{
+			PlanarCurveSegment a = actual.getSegments().get(i);
+			PlanarCurveSegment e = expected.getSegments().get(i);
+			assertThat(a.getType()).isEqualTo(e.getType());
+			assertThat(a.getStartTime()).isCloseTo(e.getStartTime(), within(TOLERANCE));
+			assertThat(a.getEndTime()).isCloseTo(e.getEndTime(), within(TOLERANCE));
+			assertSame(a.getPos(), e.getPos());
+			assertSame(a.getVel(), e.getVel());
+			assertSame(a.getAcc(), e.getAcc());
+		}
+	}
+
+
+	private void assertSameTime(final double actual, final double expected)
+	{
+		if (Double.isInfinite(expected))
+		{
+			assertThat(actual).isEqualTo(expected);
+		} else
+		{
+			assertThat(actual).isCloseTo(expected, within(TOLERANCE));
+		}
+	}
+
+
+	private void assertSameLines(final List<ILineSegment> actual, final List<ILineSegment> expected)
+	{
+		assertThat(actual).hasSameSizeAs(expected);
+		for (int i = 0; i < expected.size(); i++)
+		{
+			assertSame(actual.get(i).getPathStart(), expected.get(i).getPathStart());
+			assertSame(actual.get(i).getPathEnd(), expected.get(i).getPathEnd());
+		}
+	}
+
+
+	private void assertSameVectors(final List<IVector2> actual, final List<IVector2> expected)
+	{
+		assertThat(actual).hasSameSizeAs(expected);
+		for (int i = 0; i < expected.size(); i++)
+		{
+			assertSame(actual.get(i), expected.get(i));
+		}
+	}
+
+
+	private void assertSame(final IVector actual, final IVector expected)
+	{
+		assertThat(actual.isCloseTo(expected, TOLERANCE))
+				.withFailMessage("Expected %s, but was %s", expected, actual)
+				.isTrue();
+	}
+
+
+	private double timeAtRest(final IBallTrajectory trajectory)
+	{
+		return ((ABallTrajectory) trajectory).getTimeAtRest();
+	}
+
+
+	private IVector2 rndVector2(final double maxLength)
+	{
+		return Vector2.fromAngleLength(rnd.nextDouble() * 2 * Math.PI, rnd.nextDouble() * maxLength);
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+package edu.tigers.sumatra.data;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+/**
+ * Test class for TimeSeriesBuffer
+ */
+public class TimeSeriesBufferTest
+{
+	@Test
+	public void testFixedCapacityOverwritesOldest()
+	{
+		TimeSeriesBuffer<Integer> buffer = TimeSeriesBuffer.withCapacity(3);
+		for (int i = 0; i < 5; i++)
+		{
+			buffer.add(i * 10L, i);
+		}
+		assertThat(buffer.size()).isEqualTo(3);
+		assertThat(buffer.toList()).containsExactly(2, 3, 4);
+		assertThat(buffer.getOldest()).contains(2);
+		assertThat(buffer.getLatest()).contains(4);
+		assertThat(buffer.getLatestTimestamp()).isEqualTo(40L);
+	}
+
+
+	@Test
+	public void testWindowEvictsAndGrows()
+	{
+		TimeSeriesBuffer<Integer> buffer = TimeSeriesBuffer.withWindow(1.0, 2);
+		for (int i = 0; i <= 20; i++)
+		{
+			buffer.add(i * 100_000_000L, i);
+		}
+		assertThat(buffer.toList()).containsExactly(10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20);
+
+		buffer.evictOlderThan(1_950_000_000L);
+		assertThat(buffer.toList()).containsExactly(20);
+	}
+
+
+	@Test
+	public void testLookupByTime()
+	{
+		TimeSeriesBuffer<Integer> buffer = TimeSeriesBuffer.withCapacity(4);
+		for (int i = 0; i < 6; i++)
+		{
+			buffer.add(i * 10L, i);
+		}
+		assertThat(buffer.floorIndex(15)).isEqualTo(-1);
+		assertThat(buffer.getFloor(15)).isEmpty();
+		assertThat(buffer.getFloor(20)).contains(2);
+		assertThat(buffer.getFloor(39)).contains(3);
+		assertThat(buffer.getFloor(100)).contains(5);
+		assertThat(buffer.getNearest(36)).contains(4);
+		assertThat(buffer.getNearest(0)).contains(2);
+		assertThat(buffer.countSince(30)).isEqualTo(3);
+		assertThat(buffer.countSince(31)).isEqualTo(2);
+	}
+
+
+	@Test
+	public void testOutOfOrderInsert()
+	{
+		TimeSeriesBuffer<Integer> buffer = TimeSeriesBuffer.withCapacity(4);
+		buffer.add(10, 1);
+		buffer.add(30, 3);
+		buffer.add(20, 2);
+		buffer.add(40, 4);
+		buffer.add(0, 0);
+		assertThat(buffer.toList()).containsExactly(1, 2, 3, 4);
+
+		buffer.add(25, 5);
+		assertThat(buffer.toList()).containsExactly(2, 5, 3, 4);
+
+		List<Long> timestamps = new ArrayList<>();
+		buffer.forEachTimestamp(timestamps::add);
+		assertThat(timestamps).containsExactly(20L, 25L, 30L, 40L);
+	}
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+package edu.tigers.sumatra.drawable;
+
+import edu.tigers.sumatra.math.vector.Vector2;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+public class ShapeMapTest
+{
+	private static final IShapeLayerIdentifier LAYER_A = ShapeLayerIdentifier.builder().id("a").build();
+	private static final IShapeLayerIdentifier LAYER_B = ShapeLayerIdentifier.builder().id("b").build();
+
+
+	@After
+	public void tearDown()
+	{
+		ShapeLayerDemand.removeDemand(this);
+		ShapeLayerDemand.setEnabled(false);
+	}
+
+
+	@Test
+	public void testAllLayersDemandedByDefault()
+	{
+		ShapeMap shapeMap = new ShapeMap();
+		shapeMap.get(LAYER_A).add(new DrawablePoint(Vector2.zero()));
+
+		assertThat(shapeMap.isDemanded(LAYER_A)).isTrue();
+		assertThat(shapeMap.get(LAYER_A)).hasSize(1);
+	}
+
+
+	@Test
+	public void testDiscardLayersWithoutDemand()
+	{
+		ShapeLayerDemand.setEnabled(true);
+		ShapeLayerDemand.setDemand(this, l -> l.getId().equals("a"));
+		long discarded = ShapeLayerDemand.getNumShapesDiscarded();
+		long consumed = ShapeLayerDemand.getNumShapesConsumed();
+
+		ShapeMap shapeMap = new ShapeMap();
+		shapeMap.get(LAYER_A).add(new DrawablePoint(Vector2.zero()));
+		shapeMap.get(LAYER_B).add(new DrawablePoint(Vector2.zero()));
+		shapeMap.get(LAYER_B).add(new DrawablePoint(Vector2.zero()));
+
+		assertThat(shapeMap.get(LAYER_A)).hasSize(1);
+		assertThat(shapeMap.get(LAYER_B)).isEmpty();
+		assertThat(shapeMap.getAllShapeLayersIdentifiers()).contains(LAYER_A, LAYER_B);
+		assertThat(ShapeLayerDemand.getNumShapesConsumed() - consumed).isEqualTo(1);
+		assertThat(ShapeLayerDemand.getNumShapesDiscarded() - discarded).isEqualTo(2);
+	}
+
+
+	@Test
+	public void testDemandChange()
+	{
+		ShapeLayerDemand.setEnabled(true);
+		ShapeLayerDemand.setDemand(this, l -> false);
+		assertThat(new ShapeMap().isDemanded(LAYER_A)).isFalse();
+
+		ShapeLayerDemand.setDemand(this, l -> true);
+		assertThat(new ShapeMap().isDemanded(LAYER_A)).isTrue();
+	}
+}
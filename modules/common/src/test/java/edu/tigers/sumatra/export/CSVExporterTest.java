@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.export;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+public class CSVExporterTest
+{
+	private static final int NUM_ROWS = 5000;
+
+	private Path folder;
+
+
+	@Before
+	public void setUp() throws IOException
+	{
+		folder = Files.createTempDirectory("csvExporterTest");
+	}
+
+
+	@After
+	public void tearDown() throws IOException
+	{
+		try (var paths = Files.walk(folder))
+		{
+			paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+		}
+	}
+
+
+	@Test
+	public void testCsvLinesMatchJoinedValues() throws IOException
+	{
+		List<Object> values = List.of(3, 42L, 0.1, 1e-7, 1.1f, "text", Double.NaN);
+		CSVExporter exporter = new CSVExporter(folder, "test", CSVExporter.EMode.EXACT_FILE_NAME);
+		exporter.setHeader(List.of("a", "b", "c", "d", "e", "f", "g"));
+		ExportRow row = new ExportRow();
+		for (int i = 0; i < NUM_ROWS; i++)
+		{
+			exporter.addValues(values);
+			row.clear();
+			exporter.addValues(row.add(3).add(42L).add(0.1).add(1e-7).add(1.1f).add("text").add(Double.NaN));
+		}
+		exporter.close();
+
+		List<String> lines = Files.readAllLines(folder.resolve("test.csv"));
+		assertThat(lines).hasSize(2 * NUM_ROWS + 1);
+		assertThat(lines.get(0)).isEqualTo("a,b,c,d,e,f,g");
+		assertThat(lines.subList(1, lines.size())).containsOnly("3,42,0.1,1.0E-7,1.1,text,NaN");
+	}
+
+
+	@Test
+	public void testBinaryFormat() throws IOException
+	{
+		CSVExporter exporter = new CSVExporter(folder, "test", CSVExporter.EMode.EXACT_FILE_NAME,
+				EExportFormat.BINARY);
+		exporter.setHeader(List.of("id", "value"));
+		for (int i = 0; i < NUM_ROWS; i++)
+		{
+			exporter.addValues(new ExportRow().add(i).add(i / 2.0));
+		}
+		exporter.close();
+
+		try (var in = new DataInputStream(new BufferedInputStream(
+				new FileInputStream(folder.resolve("test.bin").toFile()))))
+		{
+			assertThat(in.readNBytes(BinaryRowWriter.MAGIC.length)).isEqualTo(BinaryRowWriter.MAGIC);
+			assertThat(readRow(in)).containsExactly("id", "value");
+			for (int i = 0; i < NUM_ROWS; i++)
+			{
+				assertThat(readRow(in)).containsExactly((long) i, i / 2.0);
+			}
+			assertThat(in.read()).isEqualTo(-1);
+		}
+	}
+
+
+	@Test
+	public void testOpenExporterIsFlushedPeriodically() throws Exception
+	{
+		CSVExporter exporter = new CSVExporter(folder, "test", CSVExporter.EMode.EXACT_FILE_NAME);
+		exporter.setHeader(List.of("id"));
+		for (int i = 0; i < 10; i++)
+		{
+			exporter.addValues(new ExportRow().add(i));
+		}
+
+		Path file = folder.resolve("test.csv");
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while ((!Files.exists(file) || Files.readAllLines(file).size() < 11) && System.nanoTime() < deadline)
+		{
+			Thread.sleep(50);
+		}
+		assertThat(Files.readAllLines(file)).hasSize(11);
+		exporter.close();
+	}
+
+
+	@Test
+	public void testUnreferencedOpenExporterIsStillFlushed() throws Exception
+	{
+		addRowsAndForget(folder);
+		System.gc();
+
+		Path file = folder.resolve("test.csv");
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while ((!Files.exists(file) || Files.readAllLines(file).size() < NUM_ROWS + 1) && System.nanoTime() < deadline)
+		{
+			System.gc();
+			Thread.sleep(50);
+		}
+		assertThat(Files.readAllLines(file)).hasSize(NUM_ROWS + 1);
+	}
+
+
+	private static void addRowsAndForget(final Path folder)
+	{
+		CSVExporter exporter = new CSVExporter(folder, "test", CSVExporter.EMode.EXACT_FILE_NAME);
+		exporter.setHeader(List.of("id"));
+		for (int i = 0; i < NUM_ROWS; i++)
+		{
+			exporter.addValues(new ExportRow().add(i));
+		}
+	}
+
+
+	private List<Object> readRow(final DataInputStream in) throws IOException
+	{
+		int numValues = in.readInt();
+		List<Object> row = new ArrayList<>();
+		for (int i = 0; i < numValues; i++)
+		{
+			switch (in.readByte())
+			{
+				case ExportRow.LONG -> row.add(in.readLong());
+				case ExportRow.DOUBLE -> row.add(in.readDouble());
+				case ExportRow.FLOAT -> row.add(in.readFloat());
+				default -> row.add(in.readUTF());
+			}
+		}
+		return row;
+	}
+}
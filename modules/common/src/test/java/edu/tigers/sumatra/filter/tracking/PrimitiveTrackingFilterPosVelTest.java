@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+package edu.tigers.sumatra.filter.tracking;
+
+import edu.tigers.sumatra.math.vector.IVector2;
+import edu.tigers.sumatra.math.vector.Vector2;
+import org.apache.commons.math3.linear.ArrayRealVector;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+
+/**
+ * Compare the primitive tracking filters with the matrix based reference implementation
+ * on a camera-like measurement sequence (75Hz with jitter, dropped frames and outliers).
+ */
+public class PrimitiveTrackingFilterPosVelTest
+{
+	private static final int NUM_FRAMES = 2000;
+	private static final double TOLERANCE = 1e-6;
+
+
+	@Test
+	public void equivalent2D()
+	{
+		Random rnd = new Random(42);
+		IVector2 initPos = Vector2.fromXY(1000, -2000);
+		IVector2 initVel = Vector2.fromXY(500, 300);
+		var reference = new TrackingFilterPosVel2D(
+				new ArrayRealVector(new double[] { initPos.x(), initPos.y(), initVel.x(), initVel.y() }),
+				100, 0.1, 20, 0);
+		var primitive = new PrimitiveTrackingFilterPosVel2D(initPos, initVel, 100, 0.1, 20, 0);
+
+		long timestamp = 0;
+		for (int i = 0; i < NUM_FRAMES; i++)
+		{
+			timestamp += nextFrameDt(rnd);
+			double t = timestamp * 1e-9;
+			IVector2 pos = Vector2.fromXY(1000 + 2000 * Math.sin(t), -2000 + 1500 * Math.cos(0.7 * t))
+					.addNew(Vector2.fromXY(rnd.nextGaussian() * 5, rnd.nextGaussian() * 5));
+
+			reference.predict(timestamp);
+			primitive.predict(timestamp);
+			if (i % 13 == 0)
+			{
+				// dropped frame: only predict
+				continue;
+			}
+			if (i % 200 == 100)
+			{
+				// e.g. collision in ball tracker
+				reference.resetCovariance(1000);
+				primitive.resetCovariance(1000);
+				reference.setVelocity(Vector2.fromXY(-300, 100));
+				primitive.setVelocity(Vector2.fromXY(-300, 100));
+			}
+			reference.correct(pos);
+			primitive.correct(pos);
+
+			assertClose(primitive.getPositionEstimate(), reference.getPositionEstimate());
+			assertClose(primitive.getVelocityEstimate(), reference.getVelocityEstimate());
+			assertClose(primitive.getPositionUncertainty(), reference.getPositionUncertainty());
+			assertClose(primitive.getVelocityUncertainty(), reference.getVelocityUncertainty());
+			assertClose(primitive.getPositionInnovation(), reference.getPositionInnovation());
+			assertClose(primitive.getPositionEstimate(timestamp + 5_000_000),
+					reference.getPositionEstimate(timestamp + 5_000_000));
+			assertThat(primitive.getLastTimestamp()).isEqualTo(reference.getLastTimestamp());
+		}
+	}
+
+
+	@Test
+	public void equivalent1D()
+	{
+		Random rnd = new Random(42);
+		var reference = new TrackingFilterPosVel1D(new ArrayRealVector(new double[] { 0.5, 1.0 }), 100, 0.1, 2, 0);
+		var primitive = new PrimitiveTrackingFilterPosVel1D(0.5, 1.0, 100, 0.1, 2, 0);
+
+		long timestamp = 0;
+		for (int i = 0; i < NUM_FRAMES; i++)
+		{
+			timestamp += nextFrameDt(rnd);
+			double t = timestamp * 1e-9;
+			double orientation = 0.5 + 3 * Math.sin(2 * t) + rnd.nextGaussian() * 0.02;
+
+			reference.predict(timestamp);
+			primitive.predict(timestamp);
+			if (i % 13 == 0)
+			{
+				continue;
+			}
+			reference.correct(orientation);
+			primitive.correct(orientation);
+
+			assertThat(primitive.getPositionEstimate()).isCloseTo(reference.getPositionEstimate(), within(TOLERANCE));
+			assertThat(primitive.getVelocityEstimate()).isCloseTo(reference.getVelocityEstimate(), within(TOLERANCE));
+			assertThat(primitive.getPositionUncertainty())
+					.isCloseTo(reference.getPositionUncertainty(), within(TOLERANCE));
+			assertThat(primitive.getVelocityUncertainty())
+					.isCloseTo(reference.getVelocityUncertainty(), within(TOLERANCE));
+			assertThat(primitive.getPositionInnovation())
+					.isCloseTo(reference.getPositionInnovation(), within(TOLERANCE));
+		}
+	}
+
+
+	private long nextFrameDt(Random rnd)
+	{
+		// 75Hz with some jitter, sometimes a duplicate timestamp
+		if (rnd.nextInt(50) == 0)
+		{
+			return 0;
+		}
+		return (long) ((1 / 75.0 + rnd.nextGaussian() * 0.001) * 1e9);
+	}
+
+
+	private void assertClose(IVector2 actual, IVector2 expected)
+	{
+		assertThat(actual.x()).isCloseTo(expected.x(), within(TOLERANCE));
+		assertThat(actual.y()).isCloseTo(expected.y(), within(TOLERANCE));
+	}
+}
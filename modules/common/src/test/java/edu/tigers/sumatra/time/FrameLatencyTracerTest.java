@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.time;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+
+public class FrameLatencyTracerTest
+{
+	private long now = TimeUnit.SECONDS.toNanos(100);
+	private final FrameLatencyTracer tracer = new FrameLatencyTracer(() -> now);
+
+
+	@Test
+	public void testHistogramPercentiles()
+	{
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (int i = 1; i <= 1000; i++)
+		{
+			histogram.record(TimeUnit.MICROSECONDS.toNanos(i * 100L));
+		}
+		LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+		assertThat(snapshot.getCount()).isEqualTo(1000);
+		assertThat(snapshot.getPercentile(0.5)).isCloseTo(50, within(50 / 16.0));
+		assertThat(snapshot.getPercentile(0.99)).isCloseTo(99, within(99 / 16.0));
+		assertThat(snapshot.getMax()).isCloseTo(100, within(100 / 16.0));
+
+		histogram.record(TimeUnit.MILLISECONDS.toNanos(5));
+		LatencyHistogram.Snapshot interval = histogram.snapshot().since(snapshot);
+		assertThat(interval.getCount()).isEqualTo(1);
+		assertThat(interval.getPercentile(0.5)).isCloseTo(5, within(5 / 16.0));
+	}
+
+
+	@Test
+	public void testLatencyFromCaptureTime()
+	{
+		long tCapture = now - TimeUnit.MILLISECONDS.toNanos(4);
+		tracer.onCamFrame(tCapture);
+		now += TimeUnit.MILLISECONDS.toNanos(6);
+		tracer.mark(EFrameStage.AI, tCapture);
+		now += TimeUnit.MILLISECONDS.toNanos(10);
+		tracer.mark(EFrameStage.AI, tCapture);
+		tracer.mark(EFrameStage.AI, tCapture + 1);
+
+		var snapshots = tracer.snapshot();
+		assertThat(snapshots.get(EFrameStage.CAM_RECEIVED).getCount()).isEqualTo(1);
+		assertThat(snapshots.get(EFrameStage.CAM_RECEIVED).getMax()).isCloseTo(4, within(4 / 16.0));
+		assertThat(snapshots.get(EFrameStage.AI).getCount()).isEqualTo(1);
+		assertThat(snapshots.get(EFrameStage.AI).getMax()).isCloseTo(10, within(10 / 16.0));
+		assertThat(snapshots.get(EFrameStage.VISION).getCount()).isZero();
+	}
+
+
+	@Test
+	public void testLatencyFromProcessingTimeWithForeignTimeBase()
+	{
+		long simTime = TimeUnit.SECONDS.toNanos(3);
+		tracer.onCamFrame(simTime);
+		now += TimeUnit.MILLISECONDS.toNanos(2);
+		tracer.mark(EFrameStage.BOT_COMMAND, simTime);
+
+		var snapshots = tracer.snapshot();
+		assertThat(snapshots.get(EFrameStage.CAM_RECEIVED).getCount()).isZero();
+		assertThat(snapshots.get(EFrameStage.BOT_COMMAND).getCount()).isEqualTo(1);
+		assertThat(snapshots.get(EFrameStage.BOT_COMMAND).getMax()).isCloseTo(2, within(2 / 16.0));
+	}
+
+
+	@Test
+	public void testStageLatenciesAreMonotonicAlongThePipeline()
+	{
+		for (int frame = 0; frame < 100; frame++)
+		{
+			long tCapture = now - TimeUnit.MILLISECONDS.toNanos(1);
+			tracer.onCamFrame(tCapture);
+			for (EFrameStage stage : EFrameStage.values())
+			{
+				now += TimeUnit.MICROSECONDS.toNanos(500L + frame * 10L);
+				tracer.mark(stage, tCapture);
+			}
+			now += TimeUnit.MILLISECONDS.toNanos(16);
+		}
+
+		var snapshots = tracer.snapshot();
+		LatencyHistogram.Snapshot previous = null;
+		for (EFrameStage stage : EFrameStage.values())
+		{
+			LatencyHistogram.Snapshot snapshot = snapshots.get(stage);
+			assertThat(snapshot.getCount()).as(stage.name()).isEqualTo(100);
+			if (previous != null)
+			{
+				assertThat(snapshot.getPercentile(0.5)).as(stage.name())
+						.isGreaterThanOrEqualTo(previous.getPercentile(0.5));
+				assertThat(snapshot.getMax()).as(stage.name()).isGreaterThanOrEqualTo(previous.getMax());
+			}
+			previous = snapshot;
+		}
+	}
+}
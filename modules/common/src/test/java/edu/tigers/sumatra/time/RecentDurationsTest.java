@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.time;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+public class RecentDurationsTest
+{
+	@Test
+	public void testPercentiles()
+	{
+		RecentDurations durations = new RecentDurations(100);
+		assertThat(durations.snapshot().getPercentile(0.5)).isZero();
+
+		for (int i = 100; i >= 1; i--)
+		{
+			durations.add(TimeUnit.MILLISECONDS.toNanos(i));
+		}
+		RecentDurations.Snapshot snapshot = durations.snapshot();
+		assertThat(snapshot.getCount()).isEqualTo(100);
+		assertThat(snapshot.getPercentile(0)).isEqualTo(1);
+		assertThat(snapshot.getPercentile(0.5)).isEqualTo(50);
+		assertThat(snapshot.getPercentile(0.95)).isEqualTo(95);
+		assertThat(snapshot.getPercentile(1)).isEqualTo(100);
+	}
+
+
+	@Test
+	public void testOnlyRecentDurationsAreKept()
+	{
+		RecentDurations durations = new RecentDurations(10);
+		for (int i = 1; i <= 25; i++)
+		{
+			durations.add(TimeUnit.MILLISECONDS.toNanos(i));
+		}
+		RecentDurations.Snapshot snapshot = durations.snapshot();
+		assertThat(snapshot.getCount()).isEqualTo(10);
+		assertThat(snapshot.getPercentile(0)).isEqualTo(16);
+		assertThat(snapshot.getPercentile(1)).isEqualTo(25);
+	}
+}
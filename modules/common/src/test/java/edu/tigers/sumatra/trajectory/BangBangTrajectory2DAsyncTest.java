@@ -119,4 +119,32 @@ public class BangBangTrajectory2DAsyncTest
 			assertThat(traj.getPositionMM(traj.getTotalTime()).y() * 1e-3).isCloseTo(finalPos.y(), within(POS_TOLERANCE));
 		}
 	}
-}
\ No newline at end of file
+
+
+	@Test
+	public void testPrimitiveValues()
+	{
+		double[] values = new double[6];
+		for (int i = 0; i < NUMBER_OF_TESTS; i++)
+		{
+			IVector2 initPos = getRandomVector(POS_LIMIT);
+			IVector2 finalPos = getRandomVector(POS_LIMIT);
+			IVector2 initVel = getRandomVector(4.0f);
+			IVector2 primaryDirection = Vector2.fromAngle(getRandomDouble(AngleMath.PI_TWO));
+
+			BangBangTrajectory2DAsync traj = trajectoryFactory
+					.async(initPos, finalPos, initVel, 2.0, 3.0, primaryDirection);
+
+			for (double t = 0; t < traj.getTotalTime() + 0.5; t += 0.1)
+			{
+				traj.fillValuesAtTime(t, values);
+				assertThat(values[0]).isCloseTo(traj.getPosition(t).x(), within(POS_TOLERANCE));
+				assertThat(values[1]).isCloseTo(traj.getPosition(t).y(), within(POS_TOLERANCE));
+				assertThat(values[2]).isCloseTo(traj.getVelocity(t).x(), within(POS_TOLERANCE));
+				assertThat(values[3]).isCloseTo(traj.getVelocity(t).y(), within(POS_TOLERANCE));
+				assertThat(values[4]).isCloseTo(traj.getAcceleration(t).x(), within(POS_TOLERANCE));
+				assertThat(values[5]).isCloseTo(traj.getAcceleration(t).y(), within(POS_TOLERANCE));
+			}
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2022, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 
 package edu.tigers.sumatra.ai;
@@ -9,6 +9,8 @@ import edu.tigers.sumatra.drawable.ShapeMapSource;
 import edu.tigers.sumatra.ids.EAiTeam;
 import edu.tigers.sumatra.model.SumatraModel;
 import edu.tigers.sumatra.skillsystem.ASkillSystem;
+import edu.tigers.sumatra.time.EFrameStage;
+import edu.tigers.sumatra.time.FrameLatencyTracer;
 import edu.tigers.sumatra.timer.ATimer;
 import edu.tigers.sumatra.timer.ITimer;
 import edu.tigers.sumatra.wp.AWorldPredictor;
@@ -190,6 +192,7 @@ public class AiManager
 			AIInfoFrame frame = ai.processWorldFrame(wfw);
 			if (frame != null)
 			{
+				FrameLatencyTracer.getInstance().mark(EFrameStage.AI, tNow);
 				try
 				{
 					agent.notifyNewAIInfoFrame(frame);
@@ -1,11 +1,10 @@
 /*
- * Copyright (c) 2009 - 2018, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 package edu.tigers.sumatra.ai;
 
 import edu.tigers.sumatra.gamelog.GameLogRecorder;
 import edu.tigers.sumatra.model.SumatraModel;
-import edu.tigers.sumatra.persistence.BerkeleyAccessor;
 import edu.tigers.sumatra.persistence.BerkeleyAsyncRecorder;
 import edu.tigers.sumatra.persistence.BerkeleyDb;
 import edu.tigers.sumatra.persistence.RecordManager;
@@ -31,10 +30,10 @@ public class AiRecordManager extends RecordManager
 	protected void onNewBerkeleyDb(final BerkeleyDb db)
 	{
 		super.onNewBerkeleyDb(db);
-		db.add(BerkeleyAiFrame.class, new BerkeleyAccessor<>(BerkeleyAiFrame.class, true));
-		db.add(BerkeleyCamDetectionFrame.class, new BerkeleyAccessor<>(BerkeleyCamDetectionFrame.class, true));
-		db.add(BerkeleyShapeMapFrame.class, new BerkeleyAccessor<>(BerkeleyShapeMapFrame.class, true));
-		db.add(WorldFrameWrapper.class, new BerkeleyAccessor<>(WorldFrameWrapper.class, true));
+		db.add(BerkeleyAiFrame.class, true);
+		db.add(BerkeleyCamDetectionFrame.class, true);
+		db.add(BerkeleyShapeMapFrame.class, true);
+		db.add(WorldFrameWrapper.class, true);
 
 		db.getEnv().getStoreConfig().setMutations(getMutations());
 	}
@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.ai.recalc;
+
+import edu.tigers.sumatra.ai.AIInfoFrame;
+import edu.tigers.sumatra.ai.Ai;
+import edu.tigers.sumatra.ai.BerkeleyAiFrame;
+import edu.tigers.sumatra.ai.VisualizationFrame;
+import edu.tigers.sumatra.drawable.ShapeMap;
+import edu.tigers.sumatra.drawable.ShapeMapSource;
+import edu.tigers.sumatra.ids.BotID;
+import edu.tigers.sumatra.ids.EAiTeam;
+import edu.tigers.sumatra.ids.ETeamColor;
+import edu.tigers.sumatra.persistence.BerkeleyDb;
+import edu.tigers.sumatra.skillsystem.GenericSkillSystem;
+import edu.tigers.sumatra.thread.NamedThreadFactory;
+import edu.tigers.sumatra.wp.BerkeleyShapeMapFrame;
+import edu.tigers.sumatra.wp.data.WorldFrameWrapper;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+
+/**
+ * Recalculate the AI for a whole recording (or a time range of it) in the background.
+ * The recording is split into segments that are processed in parallel. Each segment starts with a warm-up
+ * window, in which the AI builds up its state without storing any results.
+ * The results are stored in an {@link AiRecalculationCache}.
+ */
+@Log4j2
+public class AiRecalculation
+{
+	private static final ShapeMapSource PRECOMPUTED = ShapeMapSource.of("Precomputed");
+	private static final ShapeMapSource SKILL_SHAPE_MAP_SOURCE = ShapeMapSource.of("Skills", PRECOMPUTED);
+	private static final int FLUSH_SIZE = 100;
+
+	private final BerkeleyDb db;
+	private final AiRecalculationCache cache;
+	private final AiRecalculationConfig config;
+	private final Supplier<GenericSkillSystem> skillSystemFactory;
+	private final AtomicLong processedTime = new AtomicLong();
+	private CompletableFuture<Void> completion = CompletableFuture.completedFuture(null);
+	private volatile boolean cancelled = false;
+	private long totalTime = 0;
+
+
+	/**
+	 * @param db                 the opened recording
+	 * @param cache              the opened cache to write the results to
+	 * @param config             the parameters
+	 * @param skillSystemFactory creates a skill system with bots for a single segment
+	 */
+	public AiRecalculation(
+			BerkeleyDb db,
+			AiRecalculationCache cache,
+			AiRecalculationConfig config,
+			Supplier<GenericSkillSystem> skillSystemFactory
+	)
+	{
+		this.db = db;
+		this.cache = cache;
+		this.config = config;
+		this.skillSystemFactory = skillSystemFactory;
+	}
+
+
+	/**
+	 * @param aiTeam the AI team
+	 * @return the source of the AI shapes of given team
+	 */
+	public static ShapeMapSource aiShapeMapSource(EAiTeam aiTeam)
+	{
+		return ShapeMapSource.of(aiTeam.getTeamColor().name(), ShapeMapSource.of("AI", PRECOMPUTED));
+	}
+
+
+	/**
+	 * @param botID the bot
+	 * @return the source of the skill shapes of given bot
+	 */
+	public static ShapeMapSource skillShapeMapSource(BotID botID)
+	{
+		return ShapeMapSource.of(botID.toString(), SKILL_SHAPE_MAP_SOURCE);
+	}
+
+
+	/**
+	 * Start the recalculation in the background
+	 *
+	 * @return a future that completes when all segments are processed
+	 */
+	public CompletableFuture<Void> start()
+	{
+		Long firstKey = db.getFirstKey();
+		Long lastKey = db.getLastKey();
+		if (firstKey == null || lastKey == null)
+		{
+			return CompletableFuture.completedFuture(null);
+		}
+		long start = config.getStartTime() == null ? firstKey : Math.max(firstKey, config.getStartTime());
+		long end = config.getEndTime() == null ? lastKey : Math.min(lastKey, config.getEndTime());
+		List<Segment> segments = createSegments(firstKey, start, end);
+		totalTime = Math.max(1, end - start);
+
+		log.info("Recalculating AI for {} s in {} segments", (end - start) / 1e9, segments.size());
+		long startNs = System.nanoTime();
+		ExecutorService executorService = Executors.newFixedThreadPool(
+				config.getNumThreads(),
+				new NamedThreadFactory("AiRecalculation")
+		);
+		CompletableFuture<?>[] futures = segments.stream()
+				.map(s -> CompletableFuture.runAsync(() -> processSegment(s), executorService))
+				.toArray(CompletableFuture[]::new);
+		executorService.shutdown();
+		completion = CompletableFuture.allOf(futures)
+				.whenComplete((r, e) -> log.info("Finished AI recalculation after {} s",
+						(System.nanoTime() - startNs) / 1e9));
+		return completion;
+	}
+
+
+	/**
+	 * Stop the recalculation. Segments that are in progress stop with the next frame.
+	 * The threads are not interrupted, as this could corrupt the cache.
+	 *
+	 * @return a future that completes when all segments have stopped
+	 */
+	public CompletableFuture<Void> cancel()
+	{
+		cancelled = true;
+		return completion;
+	}
+
+
+	/**
+	 * @return the share of the time range that was processed so far [0..1]
+	 */
+	public double getProgress()
+	{
+		return Math.min(1, processedTime.get() / (double) Math.max(1, totalTime));
+	}
+
+
+	/**
+	 * @param firstKey the first key of the recording
+	 * @param start    the first timestamp to store
+	 * @param end      the last timestamp to store, inclusive
+	 * @return the segments, whose warm-up does not start before the first key
+	 */
+	List<Segment> createSegments(long firstKey, long start, long end)
+	{
+		long segmentDuration = Math.max(1, (long) (config.getSegmentDuration() * 1e9));
+		long warmUpDuration = (long) (config.getWarmUpDuration() * 1e9);
+		List<Segment> segments = new ArrayList<>();
+		for (long segmentStart = start; segmentStart <= end; segmentStart += segmentDuration)
+		{
+			long segmentEnd = Math.min(end, segmentStart + segmentDuration - 1);
+			segments.add(new Segment(Math.max(firstKey, segmentStart - warmUpDuration), segmentStart, segmentEnd));
+		}
+		return segments;
+	}
+
+
+	private void processSegment(Segment segment)
+	{
+		GenericSkillSystem skillSystem = skillSystemFactory.get();
+		Map<EAiTeam, Ai> ais = new EnumMap<>(EAiTeam.class);
+		for (ETeamColor teamColor : ETeamColor.yellowBlueValues())
+		{
+			Ai ai = new Ai(EAiTeam.primary(teamColor), skillSystem);
+			ai.start();
+			ais.put(ai.getAiTeam(), ai);
+		}
+		try
+		{
+			processFrames(segment, ais, skillSystem);
+		} finally
+		{
+			ais.values().forEach(Ai::stop);
+		}
+	}
+
+
+	/**
+	 * Process all frames of the segment, including its warm-up, and store the results after the warm-up.
+	 *
+	 * @param segment     the segment
+	 * @param ais         the AIs of the segment
+	 * @param skillSystem the skill system of the segment
+	 */
+	void processFrames(Segment segment, Map<EAiTeam, Ai> ais, GenericSkillSystem skillSystem)
+	{
+		List<BerkeleyShapeMapFrame> shapeMapFrames = new ArrayList<>();
+		List<BerkeleyAiFrame> aiFrames = new ArrayList<>();
+		long lastTimestamp = segment.start();
+		try
+		{
+			Long key = db.getKey(segment.warmUpStart());
+			long lastWfwTimestamp = Long.MIN_VALUE;
+			while (key != null && key <= segment.end() && !cancelled)
+			{
+				WorldFrameWrapper wfw = db.get(WorldFrameWrapper.class, key);
+				if (wfw != null && wfw.getTimestamp() > lastWfwTimestamp && wfw.getTimestamp() <= segment.end())
+				{
+					lastWfwTimestamp = wfw.getTimestamp();
+					boolean store = wfw.getTimestamp() >= segment.start();
+					processFrame(wfw, ais, skillSystem, store, shapeMapFrames, aiFrames);
+				}
+				if (key > lastTimestamp)
+				{
+					processedTime.addAndGet(key - lastTimestamp);
+					lastTimestamp = key;
+				}
+				if (shapeMapFrames.size() >= FLUSH_SIZE)
+				{
+					flush(shapeMapFrames, aiFrames);
+				}
+				key = db.getNextKey(key);
+			}
+			flush(shapeMapFrames, aiFrames);
+		} catch (Exception e)
+		{
+			log.error("Failed to recalculate AI for segment {}", segment, e);
+		} finally
+		{
+			processedTime.addAndGet(Math.max(0, segment.end() - lastTimestamp));
+		}
+	}
+
+
+	private void processFrame(
+			WorldFrameWrapper wfw,
+			Map<EAiTeam, Ai> ais,
+			GenericSkillSystem skillSystem,
+			boolean store,
+			List<BerkeleyShapeMapFrame> shapeMapFrames,
+			List<BerkeleyAiFrame> aiFrames
+	)
+	{
+		BerkeleyShapeMapFrame shapeMapFrame = new BerkeleyShapeMapFrame(wfw.getTimestamp());
+		BerkeleyAiFrame aiFrame = new BerkeleyAiFrame(wfw.getTimestamp());
+		for (Ai ai : ais.values())
+		{
+			AIInfoFrame aiInfoFrame = ai.processWorldFrame(wfw);
+			if (aiInfoFrame == null)
+			{
+				continue;
+			}
+			boolean inverted = wfw.getWorldFrame(ai.getAiTeam()).isInverted();
+			aiInfoFrame.getShapeMap().setInverted(inverted);
+			shapeMapFrame.putShapeMap(aiShapeMapSource(ai.getAiTeam()), aiInfoFrame.getShapeMap());
+			aiFrame.addVisFrame(new VisualizationFrame(aiInfoFrame));
+
+			if (config.isRunSkills())
+			{
+				Map<BotID, ShapeMap> skillShapeMaps = skillSystem.process(wfw, ai.getAiTeam().getTeamColor());
+				skillShapeMaps.forEach((botID, shapeMap) -> {
+					shapeMap.setInverted(inverted);
+					shapeMapFrame.putShapeMap(skillShapeMapSource(botID), shapeMap);
+				});
+			}
+		}
+		if (store)
+		{
+			shapeMapFrames.add(shapeMapFrame);
+			aiFrames.add(aiFrame);
+		}
+	}
+
+
+	private void flush(List<BerkeleyShapeMapFrame> shapeMapFrames, List<BerkeleyAiFrame> aiFrames)
+	{
+		cache.write(shapeMapFrames, aiFrames);
+		shapeMapFrames.clear();
+		aiFrames.clear();
+	}
+
+
+	record Segment(long warmUpStart, long start, long end)
+	{
+	}
+}
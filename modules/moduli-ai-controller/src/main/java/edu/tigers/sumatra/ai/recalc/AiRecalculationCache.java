@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.ai.recalc;
+
+import edu.tigers.sumatra.ai.BerkeleyAiFrame;
+import edu.tigers.sumatra.persistence.BerkeleyAccessor;
+import edu.tigers.sumatra.persistence.BerkeleyDb;
+import edu.tigers.sumatra.wp.BerkeleyShapeMapFrame;
+import lombok.extern.log4j.Log4j2;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+
+/**
+ * On-disk cache for the results of an {@link AiRecalculation}.
+ * Frames can be read while they are still written, so that results are available as soon as they are calculated.
+ * A cache is only valid for a single recalculation, so it should be deleted when it is not needed anymore.
+ */
+@Log4j2
+public class AiRecalculationCache
+{
+	/** Max time offset [ns] between a requested timestamp and a cached frame */
+	private static final long MAX_TIME_OFFSET = 100_000_000L;
+
+	private final BerkeleyDb db;
+
+
+	private AiRecalculationCache(Path path)
+	{
+		db = BerkeleyDb.withCustomLocation(path);
+		// frames are written by multiple segments out of order, so the chunked storage can not be used
+		db.add(BerkeleyShapeMapFrame.class, new BerkeleyAccessor<>(BerkeleyShapeMapFrame.class, true));
+		db.add(BerkeleyAiFrame.class, new BerkeleyAccessor<>(BerkeleyAiFrame.class, true));
+	}
+
+
+	/**
+	 * @param recordingPath the path to the recording
+	 * @return the default cache location for the given recording, next to the recordings base folder
+	 */
+	public static Path defaultPath(String recordingPath)
+	{
+		return Path.of(BerkeleyDb.getDefaultBasePath())
+				.resolveSibling("ai-recalc")
+				.resolve(Path.of(recordingPath).getFileName());
+	}
+
+
+	/**
+	 * Delete any existing cache and create a new empty one.
+	 *
+	 * @param path the cache location
+	 * @return the opened cache
+	 */
+	public static AiRecalculationCache create(Path path)
+	{
+		AiRecalculationCache cache = new AiRecalculationCache(path);
+		try
+		{
+			cache.db.delete();
+		} catch (IOException e)
+		{
+			log.warn("Could not delete existing AI recalculation cache at {}", path, e);
+		}
+		cache.db.open();
+		return cache;
+	}
+
+
+	/**
+	 * @param shapeMapFrames the shape map frames to store
+	 * @param aiFrames       the AI frames to store
+	 */
+	public void write(List<BerkeleyShapeMapFrame> shapeMapFrames, List<BerkeleyAiFrame> aiFrames)
+	{
+		if (!shapeMapFrames.isEmpty())
+		{
+			db.write(BerkeleyShapeMapFrame.class, shapeMapFrames);
+		}
+		if (!aiFrames.isEmpty())
+		{
+			db.write(BerkeleyAiFrame.class, aiFrames);
+		}
+	}
+
+
+	/**
+	 * @param timestamp the Sumatra timestamp [ns]
+	 * @return the cached shape maps of the given frame, if already calculated
+	 */
+	public Optional<BerkeleyShapeMapFrame> getShapeMapFrame(long timestamp)
+	{
+		return Optional.ofNullable(db.get(BerkeleyShapeMapFrame.class, timestamp))
+				.filter(frame -> Math.abs(frame.getTimestamp() - timestamp) <= MAX_TIME_OFFSET);
+	}
+
+
+	/**
+	 * @param timestamp the Sumatra timestamp [ns]
+	 * @return the cached AI frame of the given frame, if already calculated
+	 */
+	public Optional<BerkeleyAiFrame> getAiFrame(long timestamp)
+	{
+		return Optional.ofNullable(db.get(BerkeleyAiFrame.class, timestamp))
+				.filter(frame -> Math.abs(frame.getTimestamp() - timestamp) <= MAX_TIME_OFFSET);
+	}
+
+
+	/**
+	 * @return the number of cached frames
+	 */
+	public long size()
+	{
+		return db.size(BerkeleyShapeMapFrame.class);
+	}
+
+
+	/**
+	 * Close the cache
+	 */
+	public void close()
+	{
+		db.close();
+	}
+
+
+	/**
+	 * Close the cache and delete it from the filesystem
+	 */
+	public void closeAndDelete()
+	{
+		db.close();
+		try
+		{
+			db.delete();
+		} catch (IOException e)
+		{
+			log.warn("Could not delete AI recalculation cache at {}", db.getDbPath(), e);
+		}
+	}
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.ai.recalc;
+
+import lombok.Builder;
+import lombok.Value;
+
+
+/**
+ * Parameters of an {@link AiRecalculation}.
+ */
+@Value
+@Builder
+public class AiRecalculationConfig
+{
+	/** First Sumatra timestamp [ns] to recalculate, null for the start of the recording */
+	Long startTime;
+	/** Last Sumatra timestamp [ns] to recalculate, null for the end of the recording */
+	Long endTime;
+	/** Duration [s] of the segments that are processed in parallel */
+	@Builder.Default
+	double segmentDuration = 30;
+	/** Duration [s] that is processed before each segment without storing the results, to build up the AI state */
+	@Builder.Default
+	double warmUpDuration = 5;
+	/** Number of segments that are processed in parallel */
+	@Builder.Default
+	int numThreads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+	/** Also run the skill system and store its shapes */
+	boolean runSkills;
+}
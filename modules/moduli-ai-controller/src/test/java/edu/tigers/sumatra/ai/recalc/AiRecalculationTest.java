@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.ai.recalc;
+
+import edu.tigers.sumatra.ai.recalc.AiRecalculation.Segment;
+import edu.tigers.sumatra.persistence.BerkeleyAccessor;
+import edu.tigers.sumatra.persistence.BerkeleyDb;
+import edu.tigers.sumatra.referee.data.GameState;
+import edu.tigers.sumatra.referee.data.RefereeMsg;
+import edu.tigers.sumatra.wp.BerkeleyShapeMapFrame;
+import edu.tigers.sumatra.wp.data.SimpleWorldFrame;
+import edu.tigers.sumatra.wp.data.TrackedBall;
+import edu.tigers.sumatra.wp.data.WorldFrameWrapper;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+public class AiRecalculationTest
+{
+	private static final long SECOND = 1_000_000_000L;
+	private static final long FRAME_DT = 200_000_000L;
+
+	private Path folder;
+
+
+	@Before
+	public void setUp() throws IOException
+	{
+		folder = Files.createTempDirectory("aiRecalculationTest");
+	}
+
+
+	@After
+	public void tearDown() throws IOException
+	{
+		try (var paths = Files.walk(folder))
+		{
+			paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+		}
+	}
+
+
+	@Test
+	public void testSegmentsCoverTheRangeWithClampedWarmUp()
+	{
+		var recalculation = recalculation(null, null, 10, 5);
+
+		var segments = recalculation.createSegments(2 * SECOND, 4 * SECOND, 30 * SECOND);
+
+		assertThat(segments).containsExactly(
+				new Segment(2 * SECOND, 4 * SECOND, 14 * SECOND - 1),
+				new Segment(9 * SECOND, 14 * SECOND, 24 * SECOND - 1),
+				new Segment(19 * SECOND, 24 * SECOND, 30 * SECOND)
+		);
+	}
+
+
+	@Test
+	public void testSegmentEndIsInclusive()
+	{
+		var recalculation = recalculation(null, null, 10, 5);
+
+		assertThat(recalculation.createSegments(0, 0, 20 * SECOND)).containsExactly(
+				new Segment(0, 0, 10 * SECOND - 1),
+				new Segment(5 * SECOND, 10 * SECOND, 20 * SECOND - 1),
+				new Segment(15 * SECOND, 20 * SECOND, 20 * SECOND)
+		);
+		assertThat(recalculation.createSegments(0, 3 * SECOND, 3 * SECOND)).containsExactly(
+				new Segment(0, 3 * SECOND, 3 * SECOND)
+		);
+	}
+
+
+	@Test
+	public void testWarmUpFramesAreNotStored()
+	{
+		BerkeleyDb recording = createRecording(0, 10 * SECOND);
+		var cache = AiRecalculationCache.create(folder.resolve("cache"));
+		try
+		{
+			var recalculation = recalculation(recording, cache, 10, 5);
+			var segment = new Segment(2 * SECOND, 4 * SECOND, 6 * SECOND);
+
+			recalculation.processFrames(segment, Map.of(), null);
+
+			assertThat(cache.size()).isEqualTo((6 - 4) * SECOND / FRAME_DT + 1);
+			assertThat(cache.getShapeMapFrame(4 * SECOND)).map(BerkeleyShapeMapFrame::getTimestamp)
+					.contains(4 * SECOND);
+			assertThat(cache.getShapeMapFrame(6 * SECOND)).map(BerkeleyShapeMapFrame::getTimestamp)
+					.contains(6 * SECOND);
+			assertThat(cache.getShapeMapFrame(3 * SECOND)).isEmpty();
+			assertThat(cache.getShapeMapFrame(7 * SECOND)).isEmpty();
+		} finally
+		{
+			cache.close();
+			recording.close();
+		}
+	}
+
+
+	private AiRecalculation recalculation(BerkeleyDb db, AiRecalculationCache cache, double segmentDuration,
+			double warmUpDuration)
+	{
+		var config = AiRecalculationConfig.builder()
+				.segmentDuration(segmentDuration)
+				.warmUpDuration(warmUpDuration)
+				.build();
+		return new AiRecalculation(db, cache, config, () -> null);
+	}
+
+
+	private BerkeleyDb createRecording(long start, long end)
+	{
+		BerkeleyDb db = BerkeleyDb.withCustomLocation(folder.resolve("recording"));
+		db.add(WorldFrameWrapper.class, new BerkeleyAccessor<>(WorldFrameWrapper.class, true));
+		db.open();
+		List<WorldFrameWrapper> frames = new ArrayList<>();
+		for (long t = start; t <= end; t += FRAME_DT)
+		{
+			var swf = new SimpleWorldFrame(t / FRAME_DT, t, new HashMap<>(), TrackedBall.createStub(), null);
+			frames.add(new WorldFrameWrapper(swf, new RefereeMsg(), GameState.HALT));
+		}
+		db.write(WorldFrameWrapper.class, frames);
+		return db;
+	}
+}
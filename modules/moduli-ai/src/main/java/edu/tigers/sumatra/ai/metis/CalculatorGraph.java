@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.ai.metis;
+
+import lombok.extern.log4j.Log4j2;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+
+/**
+ * Dependency graph of the Metis calculators.
+ * <p>
+ * The dependencies are derived from the suppliers (usually method references like {@code calc::getResult})
+ * that are passed to the calculators. The registration order is kept as a topological order:
+ * If a calculator consumes the result of a calculator that is registered later, it reads the result of the
+ * last frame, so the provider has to wait for the consumer instead.
+ * Suppliers are only followed through lambdas. Other objects that hold suppliers, like helper classes, are
+ * rejected, because their dependencies would be missed silently.
+ */
+@Log4j2
+class CalculatorGraph
+{
+	private static final int MAX_LAMBDA_DEPTH = 3;
+
+	private final Map<ACalculator, Integer> indices = new IdentityHashMap<>();
+	private final List<Set<Integer>> dependencies = new ArrayList<>();
+	private final List<Set<Integer>> consumers = new ArrayList<>();
+
+
+	CalculatorGraph(List<ACalculator> calculators)
+	{
+		for (int i = 0; i < calculators.size(); i++)
+		{
+			indices.put(calculators.get(i), i);
+			dependencies.add(new TreeSet<>());
+			consumers.add(new TreeSet<>());
+		}
+		for (int i = 0; i < calculators.size(); i++)
+		{
+			addProviders(i, calculators.get(i));
+		}
+	}
+
+
+	private void addProviders(int consumer, ACalculator calculator)
+	{
+		var providers = Collections.newSetFromMap(new IdentityHashMap<ACalculator, Boolean>());
+		if (!collectProviders(calculator, providers, 0))
+		{
+			log.warn("Could not derive dependencies of {}. It will run after all previous calculators.",
+					calculator.getClass().getSimpleName());
+			for (int i = 0; i < consumer; i++)
+			{
+				dependencies.get(consumer).add(i);
+			}
+		}
+		for (var provider : providers)
+		{
+			Integer providerIndex = indices.get(provider);
+			if (providerIndex == null || providerIndex == consumer)
+			{
+				continue;
+			}
+			consumers.get(providerIndex).add(consumer);
+			if (providerIndex < consumer)
+			{
+				dependencies.get(consumer).add(providerIndex);
+			} else
+			{
+				dependencies.get(providerIndex).add(consumer);
+			}
+		}
+	}
+
+
+	/**
+	 * Collect all calculators that are referenced by the given object directly or through captured lambdas.
+	 *
+	 * @return false, if some fields could not be read
+	 * @throws IllegalStateException if a field holds an object with suppliers that are not followed
+	 */
+	private boolean collectProviders(Object object, Set<ACalculator> providers, int depth)
+	{
+		boolean complete = true;
+		for (Class<?> clazz = object.getClass(); clazz != null && clazz != Object.class; clazz = clazz.getSuperclass())
+		{
+			for (Field field : clazz.getDeclaredFields())
+			{
+				if (Modifier.isStatic(field.getModifiers()) || field.getType().isPrimitive())
+				{
+					continue;
+				}
+				if (!field.trySetAccessible())
+				{
+					complete = false;
+					continue;
+				}
+				Object value = readField(field, object);
+				if (value instanceof ACalculator calculator)
+				{
+					providers.add(calculator);
+				} else if (value != null && isLambda(value))
+				{
+					complete &= depth < MAX_LAMBDA_DEPTH && collectProviders(value, providers, depth + 1);
+				} else if (value != null && holdsSuppliers(value))
+				{
+					throw new IllegalStateException(String.format(
+							"Can not derive the dependencies of %s through %s of type %s. "
+									+ "Pass its suppliers to the calculator directly.",
+							object.getClass().getName(), field.getName(), value.getClass().getName()));
+				}
+			}
+		}
+		return complete;
+	}
+
+
+	private Object readField(Field field, Object object)
+	{
+		try
+		{
+			return field.get(object);
+		} catch (IllegalAccessException e)
+		{
+			throw new IllegalStateException("Field is not accessible: " + field, e);
+		}
+	}
+
+
+	private boolean holdsSuppliers(Object value)
+	{
+		if (value instanceof Supplier<?>)
+		{
+			return true;
+		}
+		for (Class<?> clazz = value.getClass(); clazz != null && clazz != Object.class; clazz = clazz.getSuperclass())
+		{
+			for (Field field : clazz.getDeclaredFields())
+			{
+				if (!Modifier.isStatic(field.getModifiers()) && Supplier.class.isAssignableFrom(field.getType()))
+				{
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+
+	private boolean isLambda(Object value)
+	{
+		return value.getClass().isSynthetic() || value.getClass().isHidden();
+	}
+
+
+	/**
+	 * Run all consumers of the given provider in registration order.
+	 * This is required, if the consumers modify the result of the provider.
+	 *
+	 * @param provider a registered calculator
+	 */
+	void serializeConsumersOf(ACalculator provider)
+	{
+		int previous = -1;
+		for (int consumer : consumers.get(indices.get(provider)))
+		{
+			if (previous >= 0)
+			{
+				dependencies.get(consumer).add(previous);
+			}
+			previous = consumer;
+		}
+	}
+
+
+	/**
+	 * @return the indices of the required calculators for each calculator in registration order
+	 */
+	int[][] getDependencies()
+	{
+		return dependencies.stream()
+				.map(d -> d.stream().mapToInt(Integer::intValue).toArray())
+				.toArray(int[][]::new);
+	}
+}
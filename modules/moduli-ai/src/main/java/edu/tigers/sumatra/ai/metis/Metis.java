@@ -1,9 +1,10 @@
 /*
- * Copyright (c) 2009 - 2023, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 package edu.tigers.sumatra.ai.metis;
 
 import com.github.g3force.configurable.ConfigRegistration;
+import com.github.g3force.configurable.Configurable;
 import com.github.g3force.configurable.IConfigClient;
 import com.github.g3force.configurable.IConfigObserver;
 import edu.tigers.sumatra.ai.AIInfoFrame;
@@ -84,6 +85,7 @@ import edu.tigers.sumatra.ai.metis.pass.PassRatingCalc;
 import edu.tigers.sumatra.ai.metis.pass.PassSelectionCalc;
 import edu.tigers.sumatra.ai.metis.pass.PassStatisticsCalc;
 import edu.tigers.sumatra.ai.metis.pass.PassStatisticsExporterCalc;
+import edu.tigers.sumatra.ai.metis.reachability.ReachabilityCalc;
 import edu.tigers.sumatra.ai.metis.redirector.RedirectorDetectionCalc;
 import edu.tigers.sumatra.ai.metis.statistics.MatchStatisticsCalc;
 import edu.tigers.sumatra.ai.metis.statistics.TimeSeriesStatsCalc;
@@ -105,6 +107,9 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 
@@ -118,11 +123,39 @@ import java.util.function.Supplier;
 public class Metis implements IConfigObserver
 {
 	private static final String CONFIG_METIS = "metis";
+
+	/**
+	 * Pool that is shared by all Metis instances (e.g. yellow and blue AI in simulation)
+	 */
+	private static final ForkJoinPool CALCULATOR_POOL = new ForkJoinPool(
+			Runtime.getRuntime().availableProcessors(),
+			pool -> {
+				var thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+				thread.setName("Metis-" + thread.getPoolIndex());
+				return thread;
+			},
+			null,
+			false
+	);
+
+	@Configurable(
+			comment = "Run independent calculators in parallel, based on their dependencies. Else, run them sequentially.",
+			defValue = "false"
+	)
+	private static boolean parallelCalculators = false;
+
 	private final TacticalFieldFiller tacticalFieldFiller = new TacticalFieldFiller();
 	private final List<ACalculator> calculators = new ArrayList<>();
+	private final int[][] calculatorDependencies;
 	private ETeamColor teamColor = ETeamColor.NEUTRAL;
 
 
+	static
+	{
+		ConfigRegistration.registerClass(CONFIG_METIS, Metis.class);
+	}
+
+
 	/**
 	 * init new metis instance
 	 */
@@ -130,6 +163,7 @@ public class Metis implements IConfigObserver
 	{
 		//**************************************************************************************
 		// General Calculators
+		var reachabilityCalc = register(new ReachabilityCalc());
 		var ongoingPassCalc = register(new OngoingPassCalc());
 		var passStatisticsCalc = register(new PassStatisticsCalc(ongoingPassCalc::getOngoingPass));
 		register(new PassStatisticsExporterCalc(ongoingPassCalc::getOngoingPass));
@@ -167,7 +201,8 @@ public class Metis implements IConfigObserver
 		var keeperBehaviorCalc = register(new KeeperBehaviorCalc(
 				penaltyGoOutDistanceCalc::getKeeperRamboDistance,
 				botToBallDistanceCalc::getOpponentClosestToBall,
-				keeperBallInterceptionCalc::getKeeperBallInterception
+				keeperBallInterceptionCalc::getKeeperBallInterception,
+				reachabilityCalc::getReachability
 		));
 
 		//**************************************************************************************
@@ -309,12 +344,14 @@ public class Metis implements IConfigObserver
 				kickOriginCalc::getKickOrigins,
 				offensiveBallAccessibilityCalc::getInaccessibleBallAngles,
 				ballHandlingBotCalc::getBallHandlingBots,
-				crucialDefenderCalc::getCrucialDefenders
+				crucialDefenderCalc::getCrucialDefenders,
+				reachabilityCalc::getReachability
 		));
 		var passTargetRatingCalc = register(new PassRatingCalc(
 				passTargetGenerationCalc::getGeneratedPasses,
 				passStatisticsCalc::getPassStats,
-				offensiveZonesCalc::getOffensiveZones
+				offensiveZonesCalc::getOffensiveZones,
+				reachabilityCalc::getReachability
 		));
 		var passTargetFilteringCalc = register(new PassFilteringCalc(
 				passTargetRatingCalc::getPassesRated
@@ -585,6 +622,12 @@ public class Metis implements IConfigObserver
 		connect(TacticalFieldBuilder::dribblingInformation, ballDribblingDetectorCalc::getDribblingInformation);
 
 		calculators.forEach(c -> ConfigRegistration.registerClass(CONFIG_METIS, c.getClass()));
+
+		var calculatorGraph = new CalculatorGraph(calculators);
+		// these calculators modify the results of their provider, so the order of the consumers matters
+		calculatorGraph.serializeConsumersOf(desiredBotsCalc);
+		calculatorGraph.serializeConsumersOf(skirmishDetectorCalc);
+		calculatorDependencies = calculatorGraph.getDependencies();
 	}
 
 
@@ -615,7 +658,13 @@ public class Metis implements IConfigObserver
 			afterApply(null);
 		}
 		Map<Class<? extends ACalculator>, CalculatorExecution> calculatorExecutions = new HashMap<>();
-		calculators.forEach(c -> c.calculate(baseAiFrame));
+		if (parallelCalculators)
+		{
+			calculateParallel(baseAiFrame);
+		} else
+		{
+			calculators.forEach(c -> c.calculate(baseAiFrame));
+		}
 		calculators.forEach(c -> calculatorExecutions.put(c.getClass(), CalculatorExecution.builder()
 				.executed(c.isExecutionStatusLastFrame())
 				.processingTime(c.getLastProcessingTimeNs())
@@ -629,6 +678,42 @@ public class Metis implements IConfigObserver
 	}
 
 
+	private void calculateParallel(final BaseAiFrame baseAiFrame)
+	{
+		CompletableFuture<?>[] executions = new CompletableFuture[calculators.size()];
+		for (int i = 0; i < calculators.size(); i++)
+		{
+			var calculator = calculators.get(i);
+			Runnable calculation = () -> calculator.calculate(baseAiFrame);
+			int[] dependencies = calculatorDependencies[i];
+			if (dependencies.length == 0)
+			{
+				executions[i] = CompletableFuture.runAsync(calculation, CALCULATOR_POOL);
+			} else
+			{
+				CompletableFuture<?>[] required = new CompletableFuture[dependencies.length];
+				for (int j = 0; j < dependencies.length; j++)
+				{
+					required[j] = executions[dependencies[j]];
+				}
+				executions[i] = CompletableFuture.allOf(required).thenRunAsync(calculation, CALCULATOR_POOL);
+			}
+		}
+
+		try
+		{
+			CompletableFuture.allOf(executions).join();
+		} catch (CompletionException e)
+		{
+			if (e.getCause() instanceof RuntimeException runtimeException)
+			{
+				throw runtimeException;
+			}
+			throw e;
+		}
+	}
+
+
 	public void start()
 	{
 		ConfigRegistration.registerConfigurableCallback(CONFIG_METIS, this);
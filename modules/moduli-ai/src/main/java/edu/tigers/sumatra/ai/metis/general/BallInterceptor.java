@@ -11,7 +11,6 @@ import edu.tigers.sumatra.ai.metis.ballinterception.InterceptionIteration;
 import edu.tigers.sumatra.ai.metis.ballinterception.InterceptionZeroAxisCrossing;
 import edu.tigers.sumatra.ai.metis.ballinterception.RatedBallInterception;
 import edu.tigers.sumatra.ai.metis.ballinterception.RatedInterceptionIteration;
-import edu.tigers.sumatra.ai.metis.kicking.OngoingPass;
 import edu.tigers.sumatra.ball.trajectory.IBallTrajectory;
 import edu.tigers.sumatra.bot.EDribbleTractionState;
 import edu.tigers.sumatra.bot.MoveConstraints;
@@ -36,7 +35,6 @@ import edu.tigers.sumatra.wp.data.ITrackedBall;
 import edu.tigers.sumatra.wp.data.ITrackedBot;
 import edu.tigers.sumatra.wp.data.WorldFrame;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 
 import java.awt.Color;
@@ -47,13 +45,11 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
-import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static edu.tigers.sumatra.math.SumatraMath.cap;
 
 
-@RequiredArgsConstructor
 public class BallInterceptor
 {
 	@Getter
@@ -64,7 +60,8 @@ public class BallInterceptor
 		ConfigRegistration.registerClass("metis", BallInterceptor.class);
 	}
 
-	private final Supplier<Optional<OngoingPass>> ongoingPass;
+	@Setter
+	private boolean passOngoing = false;
 	@Setter
 	private IBallTrajectory ballTrajectory;
 	@Setter
@@ -213,7 +210,7 @@ public class BallInterceptor
 				.map(InterceptionIteration::getSlackTime).min(Comparator.comparingDouble(e -> e)).orElse(0.0);
 
 		if (previousInterception != null && previousInterception.getBallTravelTime() >= startTime
-				&& previousInterception.getBallTravelTime() < endTime && ongoingPass.get().isPresent())
+				&& previousInterception.getBallTravelTime() < endTime && passOngoing)
 		{
 			// previousInterception is a pass target and within corridor range
 			return Optional.of(
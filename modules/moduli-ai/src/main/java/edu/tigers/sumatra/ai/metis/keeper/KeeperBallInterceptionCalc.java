@@ -43,7 +43,7 @@ public class KeeperBallInterceptionCalc extends ACalculator
 
 	public KeeperBallInterceptionCalc()
 	{
-		ballInterceptor = new BallInterceptor(Optional::empty);
+		ballInterceptor = new BallInterceptor();
 		ballInterceptor.setShapeColor(Color.BLUE);
 	}
 
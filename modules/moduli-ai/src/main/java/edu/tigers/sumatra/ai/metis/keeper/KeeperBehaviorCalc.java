@@ -11,6 +11,7 @@ import edu.tigers.sumatra.ai.metis.ballinterception.BallInterception;
 import edu.tigers.sumatra.ai.metis.ballinterception.RatedBallInterception;
 import edu.tigers.sumatra.ai.metis.botdistance.BotDistance;
 import edu.tigers.sumatra.ai.metis.pass.rating.PassInterceptionMovingRobotRater;
+import edu.tigers.sumatra.ai.metis.reachability.Reachability;
 import edu.tigers.sumatra.bot.EDribbleTractionState;
 import edu.tigers.sumatra.drawable.DrawableAnnotation;
 import edu.tigers.sumatra.drawable.DrawableLine;
@@ -76,6 +77,7 @@ public class KeeperBehaviorCalc extends ACalculator
 	private final Supplier<Double> keeperRamboDistance;
 	private final Supplier<BotDistance> opponentClosestToBall;
 	private final Supplier<RatedBallInterception> keeperBallInterception;
+	private final Supplier<Reachability> reachability;
 
 	@NonNull
 	@Getter
@@ -390,7 +392,7 @@ public class KeeperBehaviorCalc extends ACalculator
 		var consideredBots = getWFrame().getBots().values().stream()
 				.filter(bot -> !bot.getBotId().equals(getBotID()))
 				.toList();
-		var rater = new PassInterceptionMovingRobotRater(consideredBots);
+		var rater = new PassInterceptionMovingRobotRater(consideredBots, reachability.get());
 		var shapes = getShapes(EAiShapesLayer.KEEPER_BEHAVIOR_DEBUG);
 		rater.setShapes(shapes);
 		rater.drawShapes(shapes);
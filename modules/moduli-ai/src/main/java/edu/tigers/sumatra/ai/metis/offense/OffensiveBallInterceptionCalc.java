@@ -82,7 +82,7 @@ public class OffensiveBallInterceptionCalc extends ACalculator
 			Supplier<BallPossession> ballPossession,
 			Supplier<Optional<OngoingPass>> ongoingPass)
 	{
-		ballInterceptor = new BallInterceptor(ongoingPass);
+		ballInterceptor = new BallInterceptor();
 		ballInterceptor.setShapeColor(Color.MAGENTA);
 		this.potentialOffensiveBots = potentialOffensiveBots;
 		this.ongoingPass = ongoingPass;
@@ -134,6 +134,7 @@ public class OffensiveBallInterceptionCalc extends ACalculator
 		tigerDribblingBall = false;
 		ballTrajectory = findBallTrajectory();
 		ballInterceptor.setBallTrajectory(ballTrajectory);
+		ballInterceptor.setPassOngoing(ongoingPass.get().isPresent());
 		ballInterceptor.updateInitialBallVelocity(getBall());
 		ballInterceptor.setOldTargetInterceptionBonus(oldTargetInterceptionBaseBonus);
 		ballInterceptor.setAreaOfInterest(Geometry.getField());
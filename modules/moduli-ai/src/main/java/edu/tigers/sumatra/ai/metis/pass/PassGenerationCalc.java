@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2022, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 
 package edu.tigers.sumatra.ai.metis.pass;
@@ -8,6 +8,7 @@ import edu.tigers.sumatra.ai.metis.ACalculator;
 import edu.tigers.sumatra.ai.metis.defense.data.DefenseThreatAssignment;
 import edu.tigers.sumatra.ai.metis.defense.data.EDefenseThreatType;
 import edu.tigers.sumatra.ai.metis.kicking.Pass;
+import edu.tigers.sumatra.ai.metis.reachability.Reachability;
 import edu.tigers.sumatra.ai.metis.targetrater.AngleRange;
 import edu.tigers.sumatra.ai.pandora.plays.EPlay;
 import edu.tigers.sumatra.ids.BotID;
@@ -36,6 +37,7 @@ public class PassGenerationCalc extends ACalculator
 	private final Supplier<Map<BotID, List<AngleRange>>> inaccessibleBallAngles;
 	private final Supplier<List<BotID>> ballHandlingBots;
 	private final Supplier<Set<BotID>> crucialDefender;
+	private final Supplier<Reachability> reachability;
 
 	private PassGenerator passGenerator;
 
@@ -56,7 +58,7 @@ public class PassGenerationCalc extends ACalculator
 	{
 		Set<BotID> consideredBots = consideredBots();
 
-		passGenerator.update(getAiFrame());
+		passGenerator.update(getAiFrame(), reachability.get());
 		generatedPasses = kickOrigins.get().values().stream()
 				.collect(Collectors.toUnmodifiableMap(
 						kickOrigin -> kickOrigin,
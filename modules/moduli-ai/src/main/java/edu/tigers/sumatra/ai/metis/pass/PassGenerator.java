@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2023, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 
 package edu.tigers.sumatra.ai.metis.pass;
@@ -14,6 +14,7 @@ import edu.tigers.sumatra.ai.metis.kicking.Pass;
 import edu.tigers.sumatra.ai.metis.kicking.PassFactory;
 import edu.tigers.sumatra.ai.metis.offense.OffensiveConstants;
 import edu.tigers.sumatra.ai.metis.pass.rating.RatedPass;
+import edu.tigers.sumatra.ai.metis.reachability.Reachability;
 import edu.tigers.sumatra.ai.metis.targetrater.AngleRange;
 import edu.tigers.sumatra.bot.MoveConstraints;
 import edu.tigers.sumatra.drawable.DrawableAnnotation;
@@ -39,12 +40,10 @@ import edu.tigers.sumatra.math.vector.Vector2;
 import edu.tigers.sumatra.math.vector.Vector2f;
 import edu.tigers.sumatra.movingrobot.StoppingRobotFactory;
 import edu.tigers.sumatra.pathfinder.IPathFinder;
-import edu.tigers.sumatra.pathfinder.MovementCon;
 import edu.tigers.sumatra.pathfinder.finder.PathFinder;
 import edu.tigers.sumatra.pathfinder.finder.PathFinderInput;
 import edu.tigers.sumatra.pathfinder.finder.PathFinderResult;
 import edu.tigers.sumatra.pathfinder.obstacles.IObstacle;
-import edu.tigers.sumatra.pathfinder.obstacles.ObstacleGenerator;
 import edu.tigers.sumatra.wp.data.ITrackedBall;
 import edu.tigers.sumatra.wp.data.ITrackedBot;
 import edu.tigers.sumatra.wp.data.WorldFrame;
@@ -121,6 +120,7 @@ public class PassGenerator
 	private final Supplier<Map<BotID, List<AngleRange>>> inaccessibleBallAngles;
 
 	private BaseAiFrame aiFrame = null;
+	private Reachability reachability;
 	private Set<BotID> consideredBots;
 	private KickOrigin kickOrigin;
 	private final PointChecker pointChecker = new PointChecker()
@@ -148,9 +148,10 @@ public class PassGenerator
 	}
 
 
-	public void update(BaseAiFrame aiFrame)
+	public void update(BaseAiFrame aiFrame, Reachability reachability)
 	{
 		this.aiFrame = aiFrame;
+		this.reachability = reachability;
 		passFactory.update(getWFrame());
 		passCreator.update(getWFrame());
 		updatePenaltyAreaMargin();
@@ -203,12 +204,8 @@ public class PassGenerator
 
 	private boolean isReachable(IVector2 pos, BotID receiverId)
 	{
-		MovementCon moveCon = new MovementCon();
-		ObstacleGenerator obstacleGen = new ObstacleGenerator(moveCon);
-
 		var receiver = getWFrame().getBot(receiverId);
-		moveCon.update(receiver);
-		List<IObstacle> obstacles = obstacleGen.generateObstacles(getWFrame(), receiverId, getAiFrame().getGameState());
+		List<IObstacle> obstacles = reachability.getObstacles(receiverId);
 
 		PathFinderInput pathFinderInput = getPathFinderInput(pos, receiverId, receiver.getMoveConstraints(),
 				obstacles);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2022, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 
 package edu.tigers.sumatra.ai.metis.pass;
@@ -12,6 +12,7 @@ import edu.tigers.sumatra.ai.metis.offense.situation.zone.OffensiveZones;
 import edu.tigers.sumatra.ai.metis.pass.rating.EPassRating;
 import edu.tigers.sumatra.ai.metis.pass.rating.RatedPass;
 import edu.tigers.sumatra.ai.metis.pass.rating.RatedPassFactory;
+import edu.tigers.sumatra.ai.metis.reachability.Reachability;
 import edu.tigers.sumatra.drawable.DrawableLine;
 import edu.tigers.sumatra.math.vector.IVector2;
 import edu.tigers.sumatra.wp.data.ITrackedBot;
@@ -50,6 +51,7 @@ public class PassRatingCalc extends ACalculator
 	private final Supplier<Map<KickOrigin, List<Pass>>> generatedPasses;
 	private final Supplier<PassStats> passStats;
 	private final Supplier<OffensiveZones> offensiveZones;
+	private final Supplier<Reachability> reachability;
 
 	private final RatedPassFactory ratingFactory = new RatedPassFactory();
 
@@ -70,11 +72,12 @@ public class PassRatingCalc extends ACalculator
 		{
 			ratingFactory.updateDynamic(consideredBots,
 					consideredBots.stream().filter(e -> e.getBotId() != getAiFrame().getKeeperOpponentId()).toList(),
-					passStats.get(), offensiveZones.get());
+					passStats.get(), offensiveZones.get(), reachability.get());
 		} else
 		{
 			ratingFactory.update(consideredBots,
-					consideredBots.stream().filter(e -> e.getBotId() != getAiFrame().getKeeperOpponentId()).toList());
+					consideredBots.stream().filter(e -> e.getBotId() != getAiFrame().getKeeperOpponentId()).toList(),
+					reachability.get());
 		}
 		if (debugShapes)
 		{
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2021, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 
 package edu.tigers.sumatra.ai.metis.pass.rating;
@@ -9,6 +9,7 @@ import com.github.g3force.configurable.Configurable;
 import edu.tigers.sumatra.ai.metis.kicking.Pass;
 import edu.tigers.sumatra.ai.metis.offense.situation.zone.OffensiveZones;
 import edu.tigers.sumatra.ai.metis.pass.PassStats;
+import edu.tigers.sumatra.ai.metis.reachability.Reachability;
 import edu.tigers.sumatra.drawable.IDrawableShape;
 import edu.tigers.sumatra.math.SumatraMath;
 import edu.tigers.sumatra.wp.data.ITrackedBot;
@@ -55,10 +56,11 @@ public class DynamicPassInterceptionMovingRobotRater extends APassRater
 			Collection<ITrackedBot> consideredBots,
 			Collection<ITrackedBot> consideredBotsIntercept,
 			PassStats passStats,
-			OffensiveZones offensiveZones
+			OffensiveZones offensiveZones,
+			Reachability reachability
 	)
 	{
-		passInterceptionMovingRobotRater = new PassInterceptionMovingRobotRater(consideredBots);
+		passInterceptionMovingRobotRater = new PassInterceptionMovingRobotRater(consideredBots, reachability);
 		this.passStats = passStats;
 		this.offensiveZones = offensiveZones;
 
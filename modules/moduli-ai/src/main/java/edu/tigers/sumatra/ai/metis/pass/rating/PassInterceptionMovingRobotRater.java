@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2023, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 
 package edu.tigers.sumatra.ai.metis.pass.rating;
@@ -9,6 +9,7 @@ import com.github.g3force.configurable.Configurable;
 import edu.tigers.sumatra.ai.metis.kicking.EBallReceiveMode;
 import edu.tigers.sumatra.ai.metis.kicking.Kick;
 import edu.tigers.sumatra.ai.metis.kicking.Pass;
+import edu.tigers.sumatra.ai.metis.reachability.Reachability;
 import edu.tigers.sumatra.ball.trajectory.IBallTrajectory;
 import edu.tigers.sumatra.drawable.ColorPickerFactory;
 import edu.tigers.sumatra.drawable.DrawableAnnotation;
@@ -25,9 +26,7 @@ import edu.tigers.sumatra.math.circle.ICircle;
 import edu.tigers.sumatra.math.line.ILineSegment;
 import edu.tigers.sumatra.math.line.Lines;
 import edu.tigers.sumatra.math.vector.IVector2;
-import edu.tigers.sumatra.movingrobot.AcceleratingRobotFactory;
 import edu.tigers.sumatra.movingrobot.IMovingRobot;
-import edu.tigers.sumatra.movingrobot.StoppingRobotFactory;
 import edu.tigers.sumatra.skillsystem.skills.util.KickParams;
 import edu.tigers.sumatra.wp.data.ITrackedBall;
 import edu.tigers.sumatra.wp.data.ITrackedBot;
@@ -108,14 +107,23 @@ public class PassInterceptionMovingRobotRater extends APassRater
 
 
 	public PassInterceptionMovingRobotRater(Collection<ITrackedBot> consideredBots)
+	{
+		this(consideredBots, new Reachability());
+	}
+
+
+	/**
+	 * @param consideredBots the bots that may intercept a pass
+	 * @param reachability   the reachability to take the moving robots from
+	 */
+	public PassInterceptionMovingRobotRater(Collection<ITrackedBot> consideredBots, Reachability reachability)
 	{
 		this.consideredBots = consideredBots;
 
 		movingRobotsFast = consideredBots.stream().collect(
 				Collectors.toMap(ITrackedBot::getBotId, bot ->
-						AcceleratingRobotFactory.create(
-								bot.getPos(),
-								bot.getVel(),
+						reachability.getAcceleratingRobot(
+								bot,
 								bot.getRobotInfo().getBotParams().getMovementLimits().getVelMax() * robotMovementLimitFactor,
 								bot.getRobotInfo().getBotParams().getMovementLimits().getAccMax() * robotMovementLimitFactor,
 								distToRobot,
@@ -124,9 +132,8 @@ public class PassInterceptionMovingRobotRater extends APassRater
 				));
 		movingRobotsSlow = consideredBots.stream().collect(
 				Collectors.toMap(ITrackedBot::getBotId, tBot ->
-						StoppingRobotFactory.create(
-								tBot.getPos(),
-								tBot.getVel(),
+						reachability.getStoppingRobot(
+								tBot,
 								slowRobotVel * robotMovementLimitFactor,
 								slowRobotAcc * robotMovementLimitFactor,
 								slowRobotBrkLimit * robotMovementLimitFactor,
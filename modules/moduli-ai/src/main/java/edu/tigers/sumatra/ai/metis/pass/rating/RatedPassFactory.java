@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2023, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 
 package edu.tigers.sumatra.ai.metis.pass.rating;
@@ -7,6 +7,7 @@ package edu.tigers.sumatra.ai.metis.pass.rating;
 import edu.tigers.sumatra.ai.metis.kicking.Pass;
 import edu.tigers.sumatra.ai.metis.offense.situation.zone.OffensiveZones;
 import edu.tigers.sumatra.ai.metis.pass.PassStats;
+import edu.tigers.sumatra.ai.metis.reachability.Reachability;
 import edu.tigers.sumatra.drawable.IDrawableShape;
 import edu.tigers.sumatra.wp.data.ITrackedBot;
 
@@ -34,7 +35,18 @@ public class RatedPassFactory
 
 	public void update(Collection<ITrackedBot> consideredBots, Collection<ITrackedBot> consideredBotsIntercept)
 	{
-		passRaters.put(EPassRating.INTERCEPTION, new PassInterceptionMovingRobotRater(consideredBotsIntercept));
+		update(consideredBots, consideredBotsIntercept, new Reachability());
+	}
+
+
+	public void update(
+			Collection<ITrackedBot> consideredBots,
+			Collection<ITrackedBot> consideredBotsIntercept,
+			Reachability reachability
+	)
+	{
+		passRaters.put(EPassRating.INTERCEPTION,
+				new PassInterceptionMovingRobotRater(consideredBotsIntercept, reachability));
 		passRaters.put(EPassRating.REFLECT_GOAL_KICK, new ReflectorRater(consideredBots));
 		passRaters.put(EPassRating.GOAL_KICK, new GoalRater(consideredBots));
 	}
@@ -44,14 +56,16 @@ public class RatedPassFactory
 			Collection<ITrackedBot> consideredBots,
 			Collection<ITrackedBot> consideredBotsIntercept,
 			PassStats passStats,
-			OffensiveZones offensiveZones
+			OffensiveZones offensiveZones,
+			Reachability reachability
 	)
 	{
 		passRaters.put(EPassRating.INTERCEPTION, new DynamicPassInterceptionMovingRobotRater(
 				consideredBots,
 				consideredBotsIntercept,
 				passStats,
-				offensiveZones
+				offensiveZones,
+				reachability
 		));
 		passRaters.put(EPassRating.REFLECT_GOAL_KICK, new ReflectorRater(consideredBots));
 		passRaters.put(EPassRating.GOAL_KICK, new GoalRater(consideredBots));
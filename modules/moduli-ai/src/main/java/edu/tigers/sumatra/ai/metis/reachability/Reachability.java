@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.ai.metis.reachability;
+
+import edu.tigers.sumatra.ids.BotID;
+import edu.tigers.sumatra.movingrobot.AcceleratingRobotFactory;
+import edu.tigers.sumatra.movingrobot.IMovingRobot;
+import edu.tigers.sumatra.movingrobot.StoppingRobotFactory;
+import edu.tigers.sumatra.pathfinder.MovementCon;
+import edu.tigers.sumatra.pathfinder.obstacles.FrameObstaclesCache;
+import edu.tigers.sumatra.pathfinder.obstacles.IObstacle;
+import edu.tigers.sumatra.pathfinder.obstacles.ObstacleGenerator;
+import edu.tigers.sumatra.referee.data.GameState;
+import edu.tigers.sumatra.wp.data.ITrackedBot;
+import edu.tigers.sumatra.wp.data.WorldFrame;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+/**
+ * Answers how fast robots can reach points on the field within a single frame.
+ * All results are created lazily on first request and reused by subsequent requests with the same parameters,
+ * so that multiple raters can share them. Instances are thread-safe.
+ */
+public class Reachability
+{
+	private final WorldFrame wFrame;
+	private final GameState gameState;
+	private final Map<MovingRobotKey, IMovingRobot> movingRobots = new ConcurrentHashMap<>();
+	private final Map<BotID, List<IObstacle>> obstacles = new ConcurrentHashMap<>();
+	private final FrameObstaclesCache frameObstaclesCache = new FrameObstaclesCache();
+
+
+	/**
+	 * Create a reachability that only provides moving robots.
+	 */
+	public Reachability()
+	{
+		this(null, null);
+	}
+
+
+	/**
+	 * @param wFrame    the current world frame
+	 * @param gameState the current game state
+	 */
+	public Reachability(WorldFrame wFrame, GameState gameState)
+	{
+		this.wFrame = wFrame;
+		this.gameState = gameState;
+	}
+
+
+	/**
+	 * Get a moving robot that accelerates into any direction.
+	 *
+	 * @param bot          the robot
+	 * @param vMax         the max velocity [m/s]
+	 * @param acc          the acceleration [m/s^2]
+	 * @param radius       the radius of the robot [mm]
+	 * @param reactionTime the time [s] the robot keeps its current velocity
+	 * @return the (cached) moving robot
+	 */
+	public IMovingRobot getAcceleratingRobot(ITrackedBot bot, double vMax, double acc, double radius,
+			double reactionTime)
+	{
+		return movingRobots.computeIfAbsent(
+				new MovingRobotKey(bot, EMovingRobotModel.ACCELERATING, vMax, acc, 0, radius, reactionTime),
+				k -> AcceleratingRobotFactory.create(bot.getPos(), bot.getVel(), vMax, acc, radius, reactionTime));
+	}
+
+
+	/**
+	 * Get a moving robot that stops before it moves into any direction.
+	 *
+	 * @param bot          the robot
+	 * @param vLimit       the max velocity [m/s]
+	 * @param aLimit       the acceleration [m/s^2]
+	 * @param brkLimit     the brake acceleration [m/s^2]
+	 * @param radius       the radius of the robot [mm]
+	 * @param reactionTime the time [s] the robot keeps its current velocity
+	 * @return the (cached) moving robot
+	 */
+	public IMovingRobot getStoppingRobot(ITrackedBot bot, double vLimit, double aLimit, double brkLimit, double radius,
+			double reactionTime)
+	{
+		return movingRobots.computeIfAbsent(
+				new MovingRobotKey(bot, EMovingRobotModel.STOPPING, vLimit, aLimit, brkLimit, radius, reactionTime),
+				k -> StoppingRobotFactory.create(bot.getPos(), bot.getVel(), vLimit, aLimit, brkLimit, radius,
+						reactionTime));
+	}
+
+
+	/**
+	 * Get the obstacles that the given robot has to avoid with default movement constraints.
+	 *
+	 * @param botId the robot
+	 * @return the (cached) obstacles
+	 */
+	public List<IObstacle> getObstacles(BotID botId)
+	{
+		if (wFrame == null)
+		{
+			throw new IllegalStateException("No world frame available to generate obstacles");
+		}
+		return obstacles.computeIfAbsent(botId, this::generateObstacles);
+	}
+
+
+	private List<IObstacle> generateObstacles(BotID botId)
+	{
+		MovementCon moveCon = new MovementCon();
+		moveCon.update(wFrame.getBot(botId));
+		ObstacleGenerator obstacleGenerator = new ObstacleGenerator(moveCon);
+		obstacleGenerator.setFrameObstaclesCache(frameObstaclesCache);
+		return obstacleGenerator.generateObstacles(wFrame, botId, gameState);
+	}
+
+
+	private enum EMovingRobotModel
+	{
+		ACCELERATING,
+		STOPPING,
+	}
+
+	/**
+	 * Tracked bots do not implement equals, so the key refers to a bot of the current frame.
+	 */
+	private record MovingRobotKey(
+			ITrackedBot bot,
+			EMovingRobotModel model,
+			double vLimit,
+			double aLimit,
+			double brkLimit,
+			double radius,
+			double reactionTime
+	)
+	{
+	}
+}
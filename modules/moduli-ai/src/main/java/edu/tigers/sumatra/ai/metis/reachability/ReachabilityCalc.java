@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.ai.metis.reachability;
+
+import com.github.g3force.configurable.Configurable;
+import edu.tigers.sumatra.ai.metis.ACalculator;
+import lombok.Setter;
+
+
+/**
+ * Provides a {@link Reachability} per frame that is shared by all raters of this frame.
+ */
+public class ReachabilityCalc extends ACalculator
+{
+	@Setter
+	@Configurable(defValue = "true", comment = "Share reachability results between all raters of a frame")
+	private static boolean shareReachability = true;
+
+	private Reachability reachability;
+
+
+	@Override
+	public void doCalc()
+	{
+		reachability = new Reachability(getWFrame(), getAiFrame().getGameState());
+	}
+
+
+	/**
+	 * @return the reachability of the current frame or a new, unshared one, if sharing is disabled
+	 */
+	public Reachability getReachability()
+	{
+		if (shareReachability)
+		{
+			return reachability;
+		}
+		return new Reachability(getWFrame(), getAiFrame().getGameState());
+	}
+}
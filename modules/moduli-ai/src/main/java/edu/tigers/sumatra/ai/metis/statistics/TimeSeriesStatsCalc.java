@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2022, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 
 package edu.tigers.sumatra.ai.metis.statistics;
@@ -15,11 +15,15 @@ import edu.tigers.sumatra.ai.metis.statistics.timeseries.BallPosTssCalc;
 import edu.tigers.sumatra.ai.metis.statistics.timeseries.BallPossessionTssCalc;
 import edu.tigers.sumatra.ai.metis.statistics.timeseries.BallVelTssCalc;
 import edu.tigers.sumatra.ai.metis.statistics.timeseries.FoulEventTssCalc;
+import edu.tigers.sumatra.ai.metis.statistics.timeseries.FrameLatencyTssCalc;
 import edu.tigers.sumatra.ai.metis.statistics.timeseries.GameEventsTssCalc;
 import edu.tigers.sumatra.ai.metis.statistics.timeseries.ITssCalc;
+import edu.tigers.sumatra.ai.metis.statistics.timeseries.PathFinderTssCalc;
 import edu.tigers.sumatra.ai.metis.statistics.timeseries.RealTimeTssCalc;
 import edu.tigers.sumatra.ai.metis.statistics.timeseries.RefereeTssCalc;
+import edu.tigers.sumatra.ai.metis.statistics.timeseries.SkillExecutorTssCalc;
 import edu.tigers.sumatra.ai.metis.statistics.timeseries.StatisticsTssCalc;
+import edu.tigers.sumatra.ai.metis.statistics.timeseries.WorldFrameDispatchTssCalc;
 import edu.tigers.sumatra.ai.pandora.plays.EPlay;
 import edu.tigers.sumatra.ids.BotID;
 import edu.tigers.sumatra.model.SumatraModel;
@@ -74,6 +78,10 @@ public class TimeSeriesStatsCalc extends ACalculator
 		tssCalcs.add(new GameEventsTssCalc());
 		tssCalcs.add(new RefereeTssCalc());
 		tssCalcs.add(new FoulEventTssCalc());
+		tssCalcs.add(new PathFinderTssCalc());
+		tssCalcs.add(new WorldFrameDispatchTssCalc());
+		tssCalcs.add(new SkillExecutorTssCalc());
+		tssCalcs.add(new FrameLatencyTssCalc());
 		tssCalcs.add(new StatisticsTssCalc(
 				matchStats
 		));
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.ai.metis.statistics.timeseries;
+
+import edu.tigers.sumatra.ai.BaseAiFrame;
+import edu.tigers.sumatra.statistics.TimeSeriesStatsEntry;
+import edu.tigers.sumatra.time.EFrameStage;
+import edu.tigers.sumatra.time.FrameLatencyTracer;
+import edu.tigers.sumatra.time.LatencyHistogram;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Time series stats calc for the latency of camera frames through the pipeline.
+ * The percentiles are calculated over intervals of one second, so there is an entry per second only.
+ */
+public class FrameLatencyTssCalc implements ITssCalc
+{
+	private static final long INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+	private Map<EFrameStage, LatencyHistogram.Snapshot> lastSnapshots = FrameLatencyTracer.getInstance().snapshot();
+	private long lastWorldFrameTimestamp = 0;
+
+
+	@Override
+	public TimeSeriesStatsEntry createTimeSeriesStatsEntry(final BaseAiFrame aiFrame, final long timestamp)
+	{
+		long worldFrameTimestamp = aiFrame.getWorldFrame().getTimestamp();
+		if (Math.abs(worldFrameTimestamp - lastWorldFrameTimestamp) < INTERVAL)
+		{
+			return null;
+		}
+		lastWorldFrameTimestamp = worldFrameTimestamp;
+
+		Map<EFrameStage, LatencyHistogram.Snapshot> snapshots = FrameLatencyTracer.getInstance().snapshot();
+		TimeSeriesStatsEntry entry = new TimeSeriesStatsEntry("frame.latency", timestamp);
+		for (EFrameStage stage : EFrameStage.values())
+		{
+			String name = stage.name().toLowerCase();
+			LatencyHistogram.Snapshot interval = snapshots.get(stage).since(lastSnapshots.get(stage));
+			entry.addField(name + ".count", interval.getCount());
+			entry.addField(name + ".p50", interval.getPercentile(0.5));
+			entry.addField(name + ".p99", interval.getPercentile(0.99));
+			entry.addField(name + ".max", interval.getMax());
+		}
+		lastSnapshots = snapshots;
+		return entry;
+	}
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.ai.metis.statistics.timeseries;
+
+import edu.tigers.sumatra.ai.BaseAiFrame;
+import edu.tigers.sumatra.model.SumatraModel;
+import edu.tigers.sumatra.pathfinder.finder.PathFinderStats;
+import edu.tigers.sumatra.skillsystem.ASkillSystem;
+import edu.tigers.sumatra.statistics.TimeSeriesStatsEntry;
+
+
+/**
+ * Time series stats calc for the reuse of paths in the path finders of the skills of our team since the last frame.
+ */
+public class PathFinderTssCalc implements ITssCalc
+{
+	private PathFinderStats.Snapshot lastSnapshot;
+
+
+	@Override
+	public TimeSeriesStatsEntry createTimeSeriesStatsEntry(final BaseAiFrame aiFrame, final long timestamp)
+	{
+		PathFinderStats.Snapshot snapshot = SumatraModel.getInstance().getModuleOpt(ASkillSystem.class)
+				.flatMap(skillSystem -> skillSystem.getPathFinderStats(aiFrame.getTeamColor()))
+				.map(PathFinderStats::snapshot)
+				.orElse(null);
+
+		TimeSeriesStatsEntry entry = new TimeSeriesStatsEntry("pathfinder", timestamp);
+		if (snapshot == null)
+		{
+			return entry;
+		}
+		PathFinderStats.Snapshot counts = snapshot.since(lastSnapshot == null ? snapshot : lastSnapshot);
+		lastSnapshot = snapshot;
+
+		long calls = counts.numCalls();
+		long hits = counts.numCacheHits();
+		long misses = counts.numCacheMisses();
+		entry.addField("calls", calls);
+		entry.addField("directPaths", counts.numDirectPaths());
+		entry.addField("cache.hits", hits);
+		entry.addField("cache.misses", misses);
+		entry.addField("cache.hitRate", hits + misses > 0 ? (double) hits / (hits + misses) : 0.0);
+		entry.addField("checksPerCall", calls > 0 ? (double) counts.numPathChecks() / calls : 0.0);
+		entry.addField("budgetExceeded", counts.numBudgetExceeded());
+		return entry;
+	}
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.ai.metis.statistics.timeseries;
+
+import edu.tigers.sumatra.ai.BaseAiFrame;
+import edu.tigers.sumatra.model.SumatraModel;
+import edu.tigers.sumatra.skillsystem.ASkillSystem;
+import edu.tigers.sumatra.skillsystem.SkillExecutorStats;
+import edu.tigers.sumatra.statistics.TimeSeriesStatsEntry;
+
+import java.util.List;
+
+
+/**
+ * Time series stats calc for the update times of the skill executors of our bots.
+ */
+public class SkillExecutorTssCalc implements ITssCalc
+{
+	@Override
+	public TimeSeriesStatsEntry createTimeSeriesStatsEntry(final BaseAiFrame aiFrame, final long timestamp)
+	{
+		List<SkillExecutorStats> executorStats = SumatraModel.getInstance().getModuleOpt(ASkillSystem.class)
+				.map(ASkillSystem::getExecutorStats)
+				.orElse(List.of());
+
+		TimeSeriesStatsEntry entry = new TimeSeriesStatsEntry("skill.executors", timestamp);
+		executorStats.stream()
+				.filter(stats -> stats.getBotID().getTeamColor() == aiFrame.getTeamColor())
+				.forEach(stats -> {
+					String name = stats.getBotID().getSaveableString();
+					entry.addField(name + ".updateTime.p50", stats.getUpdateTimeP50());
+					entry.addField(name + ".updateTime.p95", stats.getUpdateTimeP95());
+					entry.addField(name + ".updateTime.p99", stats.getUpdateTimeP99());
+				});
+		return entry;
+	}
+}
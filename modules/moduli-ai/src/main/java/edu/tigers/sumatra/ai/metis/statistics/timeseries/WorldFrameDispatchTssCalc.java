@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.ai.metis.statistics.timeseries;
+
+import edu.tigers.sumatra.ai.BaseAiFrame;
+import edu.tigers.sumatra.model.SumatraModel;
+import edu.tigers.sumatra.statistics.TimeSeriesStatsEntry;
+import edu.tigers.sumatra.wp.AWorldPredictor;
+import edu.tigers.sumatra.wp.dispatch.WorldFrameObserverStats;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Time series stats calc for the world frame dispatch metrics per observer.
+ * Dropped and handled frames are counted since the last frame.
+ */
+public class WorldFrameDispatchTssCalc implements ITssCalc
+{
+	private final Map<String, Long> lastNumDropped = new HashMap<>();
+	private final Map<String, Long> lastNumHandled = new HashMap<>();
+
+
+	@Override
+	public TimeSeriesStatsEntry createTimeSeriesStatsEntry(final BaseAiFrame aiFrame, final long timestamp)
+	{
+		List<WorldFrameObserverStats> observerStats = SumatraModel.getInstance().getModuleOpt(AWorldPredictor.class)
+				.map(AWorldPredictor::getObserverStats)
+				.orElse(List.of());
+
+		TimeSeriesStatsEntry entry = new TimeSeriesStatsEntry("wp.observers", timestamp);
+		for (WorldFrameObserverStats stats : observerStats)
+		{
+			String name = stats.getName();
+			long dropped = stats.getNumDropped() - lastNumDropped.getOrDefault(name, 0L);
+			long handled = stats.getNumHandled() - lastNumHandled.getOrDefault(name, 0L);
+			lastNumDropped.put(name, stats.getNumDropped());
+			lastNumHandled.put(name, stats.getNumHandled());
+
+			entry.addField(name + ".queueDepth", stats.getQueueDepth());
+			entry.addField(name + ".dropped", dropped);
+			entry.addField(name + ".handled", handled);
+			entry.addField(name + ".handlerTime.p50", stats.getHandlerTimeP50());
+			entry.addField(name + ".handlerTime.p95", stats.getHandlerTimeP95());
+			entry.addField(name + ".handlerTime.p99", stats.getHandlerTimeP99());
+		}
+		return entry;
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2023, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 
 package edu.tigers.sumatra.ai.metis.test;
@@ -16,6 +16,7 @@ import edu.tigers.sumatra.ai.metis.pass.PassCreator;
 import edu.tigers.sumatra.ai.metis.pass.PassStats;
 import edu.tigers.sumatra.ai.metis.pass.rating.EPassRating;
 import edu.tigers.sumatra.ai.metis.pass.rating.RatedPassFactory;
+import edu.tigers.sumatra.ai.metis.reachability.Reachability;
 import edu.tigers.sumatra.ai.metis.targetrater.BestGoalKickRater;
 import edu.tigers.sumatra.drawable.ColorPickerFactory;
 import edu.tigers.sumatra.drawable.DrawableAnnotation;
@@ -192,7 +193,8 @@ public class DebugGridTestCalc extends ACalculator
 					consideredBots,
 					consideredBots,
 					passStats.get(),
-					offensiveZones.get()
+					offensiveZones.get(),
+					new Reachability()
 			);
 		} else
 		{
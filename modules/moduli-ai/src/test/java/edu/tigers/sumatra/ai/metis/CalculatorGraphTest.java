@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.ai.metis;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+
+public class CalculatorGraphTest
+{
+	@Test
+	public void independentCalculators()
+	{
+		var graph = new CalculatorGraph(List.of(new ProviderCalc(), new ProviderCalc()));
+
+		assertThat(graph.getDependencies()).isDeepEqualTo(new int[][] { {}, {} });
+	}
+
+
+	@Test
+	public void dependencyFromMethodReference()
+	{
+		var provider = new ProviderCalc();
+		var otherProvider = new ProviderCalc();
+		var consumer = new ConsumerCalc(provider::getValue);
+		var graph = new CalculatorGraph(List.of(provider, otherProvider, consumer));
+
+		assertThat(graph.getDependencies()).isDeepEqualTo(new int[][] { {}, {}, { 0 } });
+	}
+
+
+	@Test
+	public void dependencyFromWrappingLambda()
+	{
+		var provider = new ProviderCalc();
+		Supplier<Integer> supplier = provider::getValue;
+		var consumer = new ConsumerCalc(() -> supplier.get() + 1);
+		var graph = new CalculatorGraph(List.of(provider, consumer));
+
+		assertThat(graph.getDependencies()).isDeepEqualTo(new int[][] { {}, { 0 } });
+	}
+
+
+	@Test
+	public void providerRegisteredAfterConsumer()
+	{
+		var provider = new ProviderCalc();
+		var consumer = new ConsumerCalc(provider::getValue);
+		var graph = new CalculatorGraph(List.of(consumer, provider));
+
+		assertThat(graph.getDependencies()).isDeepEqualTo(new int[][] { {}, { 0 } });
+	}
+
+
+	@Test
+	public void serializedConsumers()
+	{
+		var provider = new ProviderCalc();
+		var consumer1 = new ConsumerCalc(provider::getValue);
+		var consumer2 = new ConsumerCalc(provider::getValue);
+		var consumer3 = new ConsumerCalc(provider::getValue);
+		var graph = new CalculatorGraph(List.of(provider, consumer1, consumer2, consumer3));
+
+		assertThat(graph.getDependencies()).isDeepEqualTo(new int[][] { {}, { 0 }, { 0 }, { 0 } });
+
+		graph.serializeConsumersOf(provider);
+
+		assertThat(graph.getDependencies()).isDeepEqualTo(new int[][] { {}, { 0 }, { 0, 1 }, { 0, 2 } });
+	}
+
+
+	@Test
+	public void supplierInHelperIsRejected()
+	{
+		var provider = new ProviderCalc();
+		var consumer = new HelperConsumerCalc(new Helper(provider::getValue));
+		var calculators = List.<ACalculator>of(provider, consumer);
+
+		assertThatThrownBy(() -> new CalculatorGraph(calculators))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("helper");
+	}
+
+
+	private static class ProviderCalc extends ACalculator
+	{
+		@Getter
+		private int value;
+	}
+
+	@RequiredArgsConstructor
+	private static class ConsumerCalc extends ACalculator
+	{
+		private final Supplier<Integer> value;
+	}
+
+	@RequiredArgsConstructor
+	private static class HelperConsumerCalc extends ACalculator
+	{
+		private final Helper helper;
+	}
+
+	@RequiredArgsConstructor
+	private static class Helper
+	{
+		private final Supplier<Integer> value;
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.ai.metis.reachability;
+
+import edu.tigers.sumatra.ai.metis.kicking.EBallReceiveMode;
+import edu.tigers.sumatra.ai.metis.kicking.Kick;
+import edu.tigers.sumatra.ai.metis.kicking.Pass;
+import edu.tigers.sumatra.ai.metis.pass.rating.PassInterceptionMovingRobotRater;
+import edu.tigers.sumatra.bot.State;
+import edu.tigers.sumatra.ids.BotID;
+import edu.tigers.sumatra.ids.EAiTeam;
+import edu.tigers.sumatra.ids.ETeamColor;
+import edu.tigers.sumatra.math.pose.Pose;
+import edu.tigers.sumatra.math.vector.IVector2;
+import edu.tigers.sumatra.math.vector.Vector2;
+import edu.tigers.sumatra.math.vector.Vector3;
+import edu.tigers.sumatra.referee.data.GameState;
+import edu.tigers.sumatra.skillsystem.skills.util.KickParams;
+import edu.tigers.sumatra.wp.data.ITrackedBot;
+import edu.tigers.sumatra.wp.data.SimpleWorldFrame;
+import edu.tigers.sumatra.wp.data.TrackedBall;
+import edu.tigers.sumatra.wp.data.TrackedBot;
+import edu.tigers.sumatra.wp.data.WorldFrame;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+
+public class ReachabilityTest
+{
+	private static final BotID SHOOTER = BotID.createBotId(0, ETeamColor.YELLOW);
+	private static final BotID RECEIVER = BotID.createBotId(1, ETeamColor.YELLOW);
+
+	private final List<ITrackedBot> bots = List.of(
+			bot(SHOOTER, 0, 0, 0, 0),
+			bot(RECEIVER, 3000, 0, 0, 0),
+			bot(BotID.createBotId(0, ETeamColor.BLUE), 1500, 100, 0, 0),
+			bot(BotID.createBotId(1, ETeamColor.BLUE), 2000, -500, 0, 0.5),
+			bot(BotID.createBotId(2, ETeamColor.BLUE), 2500, 1500, 0, 0)
+	);
+
+
+	@Test
+	public void testMovingRobotsAreSharedForEqualParameters()
+	{
+		var reachability = new Reachability();
+		var bot = bots.get(2);
+
+		var robot = reachability.getAcceleratingRobot(bot, 2, 3, 100, 0.1);
+
+		assertThat(reachability.getAcceleratingRobot(bot, 2, 3, 100, 0.1)).isSameAs(robot);
+		assertThat(reachability.getAcceleratingRobot(bot, 2, 3, 100, 0)).isNotSameAs(robot);
+		assertThat(reachability.getAcceleratingRobot(bot, 2.5, 3, 100, 0.1)).isNotSameAs(robot);
+		assertThat(reachability.getAcceleratingRobot(bots.get(3), 2, 3, 100, 0.1)).isNotSameAs(robot);
+
+		var stoppingRobot = reachability.getStoppingRobot(bot, 2, 3, 0, 100, 0.1);
+		assertThat(stoppingRobot).isNotSameAs(robot);
+		assertThat(reachability.getStoppingRobot(bot, 2, 3, 0, 100, 0.1)).isSameAs(stoppingRobot);
+		assertThat(reachability.getStoppingRobot(bot, 2, 3, 4, 100, 0.1)).isNotSameAs(stoppingRobot);
+	}
+
+
+	@Test
+	public void testObstaclesRequireWorldFrame()
+	{
+		var reachability = new Reachability();
+
+		assertThatThrownBy(() -> reachability.getObstacles(SHOOTER)).isInstanceOf(IllegalStateException.class);
+	}
+
+
+	@Test
+	public void testObstaclesAreSharedPerBot()
+	{
+		var reachability = new Reachability(worldFrame(), GameState.RUNNING);
+
+		var obstacles = reachability.getObstacles(SHOOTER);
+
+		assertThat(obstacles).isNotEmpty();
+		assertThat(reachability.getObstacles(SHOOTER)).isSameAs(obstacles);
+		assertThat(reachability.getObstacles(RECEIVER)).isNotSameAs(obstacles);
+	}
+
+
+	@Test
+	public void testSharedReachabilityDoesNotChangePassInterceptionRating()
+	{
+		var reachability = new Reachability();
+		var firstRater = new PassInterceptionMovingRobotRater(bots, reachability);
+		var sharedRater = new PassInterceptionMovingRobotRater(bots, reachability);
+		var unsharedRater = new PassInterceptionMovingRobotRater(bots);
+
+		List<Pass> passes = List.of(
+				pass(Vector2.fromXY(3000, 0), 4, 1.0),
+				pass(Vector2.fromXY(3000, 600), 3, 1.2),
+				pass(Vector2.fromXY(2500, -1000), 5, 0.8),
+				pass(Vector2.fromXY(1000, 1000), 2, 1.0)
+		);
+
+		List<Double> ratings = passes.stream().map(unsharedRater::rate).toList();
+		assertThat(passes.stream().map(firstRater::rate).toList()).isEqualTo(ratings);
+		assertThat(passes.stream().map(sharedRater::rate).toList()).isEqualTo(ratings);
+		assertThat(ratings).anyMatch(rating -> rating < 1);
+	}
+
+
+	private static Pass pass(IVector2 target, double speed, double duration)
+	{
+		var kickVel = Vector3.from2d(target.normalizeNew().multiplyNew(speed), 0);
+		var kick = Kick.builder()
+				.source(Vector2.zero())
+				.target(target)
+				.kickParams(KickParams.straight(speed))
+				.kickVel(kickVel)
+				.aimingTolerance(0)
+				.build();
+		return new Pass(kick, RECEIVER, SHOOTER, 0, duration, 0, EBallReceiveMode.DONT_CARE);
+	}
+
+
+	private WorldFrame worldFrame()
+	{
+		Map<BotID, ITrackedBot> botMap = new HashMap<>();
+		bots.forEach(bot -> botMap.put(bot.getBotId(), bot));
+		var swf = new SimpleWorldFrame(1, 1, botMap, TrackedBall.createStub(), null);
+		return new WorldFrame(swf, EAiTeam.YELLOW, false);
+	}
+
+
+	private static ITrackedBot bot(BotID botID, double x, double y, double vx, double vy)
+	{
+		var state = State.of(Pose.from(Vector3.fromXYZ(x, y, 0)), Vector3.fromXYZ(vx, vy, 0));
+		return TrackedBot.stubBuilder(botID, 1).withState(state).build();
+	}
+}
@@ -1,10 +1,9 @@
 /*
- * Copyright (c) 2009 - 2018, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 
 package edu.tigers.autoreferee;
 
-import edu.tigers.sumatra.persistence.BerkeleyAccessor;
 import edu.tigers.sumatra.persistence.BerkeleyAsyncRecorder;
 import edu.tigers.sumatra.persistence.BerkeleyDb;
 import edu.tigers.sumatra.persistence.RecordManager;
@@ -23,9 +22,9 @@ public class AutoRefRecordManager extends RecordManager
 	protected void onNewBerkeleyDb(final BerkeleyDb db)
 	{
 		super.onNewBerkeleyDb(db);
-		db.add(BerkeleyCamDetectionFrame.class, new BerkeleyAccessor<>(BerkeleyCamDetectionFrame.class, true));
-		db.add(BerkeleyShapeMapFrame.class, new BerkeleyAccessor<>(BerkeleyShapeMapFrame.class, true));
-		db.add(WorldFrameWrapper.class, new BerkeleyAccessor<>(WorldFrameWrapper.class, true));
+		db.add(BerkeleyCamDetectionFrame.class, true);
+		db.add(BerkeleyShapeMapFrame.class, true);
+		db.add(WorldFrameWrapper.class, true);
 
 		db.getEnv().getStoreConfig().setMutations(getMutations());
 	}
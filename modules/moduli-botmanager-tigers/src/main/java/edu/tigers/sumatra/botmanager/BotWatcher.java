@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2021, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 package edu.tigers.sumatra.botmanager;
 
@@ -19,17 +19,15 @@ import edu.tigers.sumatra.botparams.EBotParamLabel;
 import edu.tigers.sumatra.data.collector.ITimeSeriesDataCollectorObserver;
 import edu.tigers.sumatra.data.collector.TimeSeriesDataCollector;
 import edu.tigers.sumatra.export.CSVExporter;
+import edu.tigers.sumatra.export.ExportRow;
 import edu.tigers.sumatra.ids.BotID;
+import edu.tigers.sumatra.math.vector.IVector2;
 import edu.tigers.sumatra.math.vector.IVector3;
-import edu.tigers.sumatra.math.vector.Vector3;
-import edu.tigers.sumatra.math.vector.Vector3f;
 import edu.tigers.sumatra.model.SumatraModel;
 import edu.tigers.sumatra.wp.util.TimeSeriesDataCollectorFactory;
 
 import java.text.SimpleDateFormat;
-import java.util.ArrayList;
 import java.util.Date;
-import java.util.List;
 import java.util.Optional;
 
 
@@ -41,6 +39,8 @@ public class BotWatcher implements ITigerBotObserver
 	private final BotID botId;
 	private final EDataAcquisitionMode acqMode;
 	private final String id;
+	/** reused for each exported row */
+	private final ExportRow row = new ExportRow();
 	private CSVExporter exporter = null;
 	private long frameId = 0;
 	private boolean dataReceived = false;
@@ -153,20 +153,20 @@ public class BotWatcher implements ITigerBotObserver
 			return;
 		}
 
-		IVector3 pos = Vector3.from2d(cmd.getPosition(), cmd.getOrientation());
-		IVector3 vel = Vector3.from2d(cmd.getVelocity(), cmd.getAngularVelocity());
-		List<Number> nbrs = new ArrayList<>();
-		nbrs.add(botId.getNumber());
-		nbrs.addAll(botId.getTeamColor().getNumberList());
-		nbrs.addAll(pos.getNumberList());
-		nbrs.addAll(vel.getNumberList());
-		nbrs.addAll(Vector3f.ZERO_VECTOR.getNumberList());
-		nbrs.add(frameId);
-		nbrs.add(System.nanoTime());
-		nbrs.add(cmd.isPositionValid() ? 1 : 0);
-		nbrs.add(cmd.isVelocityValid() ? 1 : 0);
-		nbrs.add(cmd.isAccelerationValid() ? 1 : 0);
-		exporter.addValues(nbrs);
+		IVector2 pos = cmd.getPosition();
+		IVector2 vel = cmd.getVelocity();
+		row.add(botId.getNumber());
+		row.add(botId.getTeamColor().getId());
+		row.add(pos.x()).add(pos.y()).add(cmd.getOrientation());
+		row.add(vel.x()).add(vel.y()).add(cmd.getAngularVelocity());
+		// acceleration is not available
+		row.add(0.0).add(0.0).add(0.0);
+		row.add(frameId);
+		row.add(System.nanoTime());
+		row.add(cmd.isPositionValid() ? 1 : 0);
+		row.add(cmd.isVelocityValid() ? 1 : 0);
+		row.add(cmd.isAccelerationValid() ? 1 : 0);
+		exporter.addValues(row);
 		frameId++;
 
 		dataReceived = true;
@@ -197,7 +197,7 @@ public class BotWatcher implements ITigerBotObserver
 			return;
 		}
 
-		List<Number> nbrs = new ArrayList<>();
+		row.clear();
 		switch (cmd.getType())
 		{
 			case CMD_SYSTEM_MATCH_FEEDBACK:
@@ -205,19 +205,19 @@ public class BotWatcher implements ITigerBotObserver
 				onNewFeedbackCmd(fdbk);
 				break;
 			case CMD_DATA_ACQ_MOTOR_MODEL:
-				handleAcqMotorModel(cmd, nbrs);
+				handleAcqMotorModel(cmd);
 				break;
 			case CMD_DATA_ACQ_BOT_MODEL:
-				handleAcqBotModel(cmd, nbrs);
+				handleAcqBotModel(cmd);
 				break;
 			case CMD_DATA_ACQ_DELAYS:
-				handleAcqDelays(cmd, nbrs);
+				handleAcqDelays(cmd);
 				break;
 			case CMD_DATA_ACQ_VELOCITY:
-				handleAcqVelocity(cmd, nbrs);
+				handleAcqVelocity(cmd);
 				break;
 			case CMD_DATA_ACQ_BOT_MODEL_V2:
-				handleAcqBotModelV2(cmd, nbrs);
+				handleAcqBotModelV2(cmd);
 				break;
 			default:
 				break;
@@ -225,47 +225,47 @@ public class BotWatcher implements ITigerBotObserver
 	}
 
 
-	private void handleAcqVelocity(final ACommand cmd, final List<Number> nbrs)
+	private void handleAcqVelocity(final ACommand cmd)
 	{
 		TigerDataAcqVelocity vel = (TigerDataAcqVelocity) cmd;
-		nbrs.add(botId.getNumberWithColorOffsetBS());
-		nbrs.add(vel.getTimestamp());
-		nbrs.addAll(vel.getSetAcc().getNumberList());
-		nbrs.addAll(vel.getSetVel().getNumberList());
-		nbrs.addAll(vel.getOutVel().getNumberList());
-		exporter.addValues(nbrs);
+		row.add(botId.getNumberWithColorOffsetBS());
+		row.add(vel.getTimestamp());
+		addVector(vel.getSetAcc());
+		addVector(vel.getSetVel());
+		addVector(vel.getOutVel());
+		exporter.addValues(row);
 		dataReceived = true;
 	}
 
 
-	private void handleAcqDelays(final ACommand cmd, final List<Number> nbrs)
+	private void handleAcqDelays(final ACommand cmd)
 	{
 		TigerDataAcqDelays de = (TigerDataAcqDelays) cmd;
-		nbrs.add(botId.getNumberWithColorOffsetBS());
-		nbrs.add(de.getTimestamp());
-		nbrs.add(de.getVisionTime());
-		nbrs.add(de.getOutVelocityW());
-		nbrs.add(de.getVisionPositionW());
-		nbrs.add(de.getGyroVelocityW());
-		exporter.addValues(nbrs);
+		row.add(botId.getNumberWithColorOffsetBS());
+		row.add(de.getTimestamp());
+		row.add(de.getVisionTime());
+		row.add(de.getOutVelocityW());
+		row.add(de.getVisionPositionW());
+		row.add(de.getGyroVelocityW());
+		exporter.addValues(row);
 		dataReceived = true;
 	}
 
 
-	private void handleAcqBotModel(final ACommand cmd, final List<Number> nbrs)
+	private void handleAcqBotModel(final ACommand cmd)
 	{
 		TigerDataAcqBotModel bm = (TigerDataAcqBotModel) cmd;
-		nbrs.add(botId.getNumberWithColorOffsetBS());
-		nbrs.add(bm.getTimestamp());
-		nbrs.add(bm.getVisionTime());
-		nbrs.addAll(bm.getOutVelocityList());
-		nbrs.addAll(bm.getVisionPositionList());
-		exporter.addValues(nbrs);
+		row.add(botId.getNumberWithColorOffsetBS());
+		row.add(bm.getTimestamp());
+		row.add(bm.getVisionTime());
+		row.addAll(bm.getOutVelocity());
+		row.addAll(bm.getVisionPosition());
+		exporter.addValues(row);
 		dataReceived = true;
 	}
 
 
-	private void handleAcqBotModelV2(final ACommand cmd, final List<Number> nbrs)
+	private void handleAcqBotModelV2(final ACommand cmd)
 	{
 		int botParamsLabelNbr = SumatraModel.getInstance().getModuleOpt(TigersBotManager.class)
 				.flatMap(b -> b.getTigerBot(botId))
@@ -273,29 +273,35 @@ public class BotWatcher implements ITigerBotObserver
 				.map(l -> l == EBotParamLabel.TIGER_V2016 ? 2016 : 2020)
 				.orElse(0);
 		TigerDataAcqBotModelV2 bm = (TigerDataAcqBotModelV2) cmd;
-		nbrs.add(botId.getNumberWithColorOffsetBS());
-		nbrs.add(bm.getTimestamp());
-		nbrs.addAll(bm.getStateVelocityList());
-		nbrs.addAll(bm.getEncoderVelocityList());
-		nbrs.addAll(bm.getOutputForceList());
-		nbrs.add(bm.getEfficiencyXY());
-		nbrs.add(bm.getEfficiencyW());
-		nbrs.add(bm.getModeXY());
-		nbrs.add(bm.getModeW());
-		nbrs.add(botParamsLabelNbr);
-		exporter.addValues(nbrs);
+		row.add(botId.getNumberWithColorOffsetBS());
+		row.add(bm.getTimestamp());
+		row.addAll(bm.getStateVelocity());
+		row.addAll(bm.getEncoderVelocity());
+		row.addAll(bm.getOutputForce());
+		row.add(bm.getEfficiencyXY());
+		row.add(bm.getEfficiencyW());
+		row.add(bm.getModeXY());
+		row.add(bm.getModeW());
+		row.add(botParamsLabelNbr);
+		exporter.addValues(row);
 		dataReceived = true;
 	}
 
 
-	private void handleAcqMotorModel(final ACommand cmd, final List<Number> nbrs)
+	private void handleAcqMotorModel(final ACommand cmd)
 	{
 		TigerDataAcqMotorModel mm = (TigerDataAcqMotorModel) cmd;
-		nbrs.add(botId.getNumberWithColorOffsetBS());
-		nbrs.add(mm.getTimestamp());
-		nbrs.addAll(mm.getMotorVoltageList());
-		nbrs.addAll(mm.getMotorVelocityList());
-		exporter.addValues(nbrs);
+		row.add(botId.getNumberWithColorOffsetBS());
+		row.add(mm.getTimestamp());
+		row.addAll(mm.getMotorVoltage());
+		row.addAll(mm.getMotorVelocity());
+		exporter.addValues(row);
 		dataReceived = true;
 	}
+
+
+	private void addVector(final IVector3 vector)
+	{
+		row.add(vector.x()).add(vector.y()).add(vector.z());
+	}
 }
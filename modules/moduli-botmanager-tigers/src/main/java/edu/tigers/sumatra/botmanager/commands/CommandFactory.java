@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2022, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 package edu.tigers.sumatra.botmanager.commands;
 
@@ -9,6 +9,7 @@ import edu.tigers.sumatra.botmanager.serial.SerialException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -139,17 +140,8 @@ public final class CommandFactory
 			return null;
 		}
 
-		byte[] cmdData;
-
-		if (reliable)
-		{
-			cmdData = new byte[data.length - RELIABLE_HEADER_LENGTH];
-			System.arraycopy(data, RELIABLE_HEADER_LENGTH, cmdData, 0, data.length - RELIABLE_HEADER_LENGTH);
-		} else
-		{
-			cmdData = new byte[data.length - HEADER_LENGTH];
-			System.arraycopy(data, HEADER_LENGTH, cmdData, 0, data.length - HEADER_LENGTH);
-		}
+		int headerLength = reliable ? RELIABLE_HEADER_LENGTH : HEADER_LENGTH;
+		int cmdDataLength = data.length - headerLength;
 
 		SerialDescription cmdDesc = commands.get(cmdId);
 
@@ -157,23 +149,23 @@ public final class CommandFactory
 
 		try
 		{
-			acmd = (ACommand) cmdDesc.decode(cmdData);
+			acmd = (ACommand) cmdDesc.decode(ByteBuffer.wrap(data, headerLength, cmdDataLength));
 			if (reliable)
 			{
 				acmd.setReliable(true);
 				acmd.setSeq(seq);
 			}
 			int cmdDataLen = cmdDesc.getLength(acmd);
-			if (cmdDataLen != cmdData.length)
+			if (cmdDataLen != cmdDataLength)
 			{
 				String cmdStr = String.format("0x%x", cmdId);
 				StringBuilder sb = new StringBuilder();
-				for (byte b : cmdData)
+				for (int i = headerLength; i < data.length; i++)
 				{
-					sb.append(String.format("%02x ", b));
+					sb.append(String.format("%02x ", data[i]));
 				}
 				log.debug("Command {} did not parse all data ({}} used of {} available) Data: {}",
-						cmdStr, cmdDataLen, cmdData.length, sb);
+						cmdStr, cmdDataLen, cmdDataLength, sb);
 			}
 		} catch (SerialException err)
 		{
@@ -203,36 +195,28 @@ public final class CommandFactory
 
 		SerialDescription cmdDesc = commands.get(cmdId);
 
-		byte[] cmdData;
+		int headerLength = cmd.isReliable() ? RELIABLE_HEADER_LENGTH : HEADER_LENGTH;
+		byte[] data;
 		try
 		{
-			cmdData = cmdDesc.encode(cmd);
+			int cmdDataLength = cmdDesc.getLength(cmd);
+			data = new byte[cmdDataLength + headerLength];
+			cmdDesc.encode(cmd, ByteBuffer.wrap(data, headerLength, cmdDataLength));
 		} catch (SerialException err)
 		{
 			log.error("Could not encode command: {}", cmdId, err);
 			return new byte[0];
 		}
 
-		byte[] data;
-
 		if (cmd.isReliable())
 		{
-			data = new byte[cmdData.length + RELIABLE_HEADER_LENGTH];
-
 			cmdId |= RELIABLE_CMD_MASK;
 
 			SerialByteConverter.short2ByteArray(data, 0, cmdId);
 			SerialByteConverter.short2ByteArray(data, 2, cmd.getSeq());
-
-			System.arraycopy(cmdData, 0, data, RELIABLE_HEADER_LENGTH, cmdData.length);
-
 		} else
 		{
-			data = new byte[cmdData.length + HEADER_LENGTH];
-
 			SerialByteConverter.short2ByteArray(data, 0, cmdId);
-
-			System.arraycopy(cmdData, 0, data, HEADER_LENGTH, cmdData.length);
 		}
 
 		return data;
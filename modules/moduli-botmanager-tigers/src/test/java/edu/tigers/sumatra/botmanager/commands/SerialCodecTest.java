@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.botmanager.commands;
+
+import edu.tigers.sumatra.botmanager.serial.SerialData;
+import edu.tigers.sumatra.botmanager.serial.SerialData.ESerialDataType;
+import edu.tigers.sumatra.botmanager.serial.SerialDescription;
+import org.junit.Test;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+/**
+ * Compare the generated serial codecs with the reflective serial description for all commands.
+ */
+public class SerialCodecTest
+{
+	private final Random rnd = new Random(42);
+
+
+	@Test
+	public void testRoundTripOfAllCommands() throws Exception
+	{
+		for (ECommand ecmd : ECommand.values())
+		{
+			Class<?> clazz = ecmd.getInstanceableClass().getImpl();
+			SerialDescription generated = new SerialDescription(clazz);
+			SerialDescription reflective = new SerialDescription(clazz, false);
+			assertThat(generated.isGenerated())
+					.as("generated codec of %s", ecmd)
+					.isEqualTo(hasSerialFields(clazz));
+
+			Object cmd = generated.newInstance();
+			fill(cmd);
+
+			byte[] data = reflective.encode(cmd);
+			assertThat(generated.getLength(cmd)).as("length of %s", ecmd).isEqualTo(data.length);
+			assertThat(generated.encode(cmd)).as("encoding of %s", ecmd).isEqualTo(data);
+			assertThat(generated.encode(generated.decode(data))).as("decoding of %s", ecmd).isEqualTo(data);
+			assertThat(reflective.encode(generated.decode(data))).as("decoding of %s", ecmd).isEqualTo(data);
+		}
+	}
+
+
+	private boolean hasSerialFields(final Class<?> clazz)
+	{
+		for (Class<?> c = clazz; c != Object.class; c = c.getSuperclass())
+		{
+			for (Field field : c.getDeclaredFields())
+			{
+				if (field.isAnnotationPresent(SerialData.class))
+				{
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+
+	private void fill(final Object obj) throws Exception
+	{
+		for (Class<?> c = obj.getClass(); c != Object.class; c = c.getSuperclass())
+		{
+			for (Field field : c.getDeclaredFields())
+			{
+				SerialData annotation = field.getAnnotation(SerialData.class);
+				if (annotation == null || Modifier.isStatic(field.getModifiers()))
+				{
+					continue;
+				}
+				field.setAccessible(true);
+				fill(obj, field, annotation.type());
+			}
+		}
+	}
+
+
+	private void fill(final Object obj, final Field field, final ESerialDataType type) throws Exception
+	{
+		if (type == ESerialDataType.TAIL)
+		{
+			byte[] tail = new byte[rnd.nextInt(1, 8)];
+			rnd.nextBytes(tail);
+			field.set(obj, tail);
+		} else if (field.getType().isArray())
+		{
+			Object array = field.get(obj);
+			for (int i = 0; array != null && i < Array.getLength(array); i++)
+			{
+				Array.set(array, i, value(field.getType().getComponentType(), type, Array.get(array, i)));
+			}
+		} else
+		{
+			field.set(obj, value(field.getType(), type, field.get(obj)));
+		}
+	}
+
+
+	private Object value(final Class<?> javaType, final ESerialDataType type, final Object current) throws Exception
+	{
+		if (type == ESerialDataType.EMBEDDED)
+		{
+			Object embedded = current;
+			if (embedded == null)
+			{
+				var ctor = javaType.getDeclaredConstructor();
+				ctor.setAccessible(true);
+				embedded = ctor.newInstance();
+			}
+			fill(embedded);
+			return embedded;
+		}
+		if (type == ESerialDataType.FLOAT16 || type == ESerialDataType.FLOAT32)
+		{
+			float value = rnd.nextInt(-100, 100) / 4.0f;
+			return javaType == double.class ? (Object) (double) value : (Object) value;
+		}
+		long value = rnd.nextLong(type.getMin(), type.getMax() + 1);
+		return javaType == long.class ? (Object) value : (Object) (int) value;
+	}
+}
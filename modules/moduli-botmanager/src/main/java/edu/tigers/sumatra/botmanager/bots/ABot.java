@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2023, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 
 package edu.tigers.sumatra.botmanager.bots;
@@ -17,6 +17,8 @@ import edu.tigers.sumatra.botparams.EBotParamLabel;
 import edu.tigers.sumatra.ids.BotID;
 import edu.tigers.sumatra.ids.ETeamColor;
 import edu.tigers.sumatra.math.vector.IVector3;
+import edu.tigers.sumatra.time.EFrameStage;
+import edu.tigers.sumatra.time.FrameLatencyTracer;
 import edu.tigers.sumatra.trajectory.TrajectoryWithTime;
 
 import java.util.Map;
@@ -78,6 +80,18 @@ public abstract class ABot implements IBot
 	}
 
 
+	/**
+	 * Send the match command and trace the latency of the frame it is based on
+	 *
+	 * @param frameTimestamp the timestamp of the world frame that the match command was computed from
+	 */
+	public void sendMatchCommand(final long frameTimestamp)
+	{
+		sendMatchCommand();
+		FrameLatencyTracer.getInstance().mark(EFrameStage.BOT_COMMAND, frameTimestamp);
+	}
+
+
 	@Override
 	public double getKickerLevelMax()
 	{
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.botmanager.serial;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+
+/**
+ * Encodes and decodes objects with {@link SerialData} fields.
+ * All buffers are expected to be in little endian byte order.
+ *
+ * @param <T> the type of the serial object
+ */
+public interface ISerialCodec<T>
+{
+	/**
+	 * @return a new instance of the serial object
+	 * @throws SerialException if the object could not be created
+	 */
+	T newInstance() throws SerialException;
+
+
+	/**
+	 * @return the names of all serial fields in encoding order
+	 */
+	List<String> getFieldNames();
+
+
+	/**
+	 * @param obj the serial object
+	 * @return the serialized length of the object
+	 * @throws SerialException if a field could not be read
+	 */
+	int getLength(T obj) throws SerialException;
+
+
+	/**
+	 * Encode the object into the buffer at its current position.
+	 *
+	 * @param obj the serial object
+	 * @param buffer the target buffer
+	 * @throws SerialException if a field could not be read
+	 */
+	void encode(T obj, ByteBuffer buffer) throws SerialException;
+
+
+	/**
+	 * Decode a new object from the remaining bytes of the buffer.
+	 *
+	 * @param buffer the source buffer
+	 * @return the decoded object
+	 * @throws SerialException if the buffer is too short or a field could not be set
+	 */
+	T decode(ByteBuffer buffer) throws SerialException;
+}
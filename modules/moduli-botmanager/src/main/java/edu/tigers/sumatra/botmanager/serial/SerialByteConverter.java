@@ -185,7 +185,7 @@ public final class SerialByteConverter
 	 * @param hbits 16 Bits of a half float
 	 * @return 32Bit float
 	 */
-	private static float halfFloatBitsToFloat(final int hbits)
+	public static float halfFloatBitsToFloat(final int hbits)
 	{
 		int mant = hbits & 0x03ff; // 10.0 bits mantissa
 		int exp = hbits & 0x7c00; // 5.0 bits exponent
@@ -224,7 +224,7 @@ public final class SerialByteConverter
 	 * @param fval Float to convert.
 	 * @return 16Bits of a half float.
 	 */
-	private static int floatToHalfFloatBits(final float fval)
+	public static int floatToHalfFloatBits(final float fval)
 	{
 		int fbits = Float.floatToIntBits(fval);
 		int sign = (fbits >>> 16) & 0x8000; // sign only
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.botmanager.serial;
+
+import edu.tigers.sumatra.botmanager.serial.SerialData.ESerialDataType;
+import lombok.extern.log4j.Log4j2;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+
+
+/**
+ * Runtime helpers for the generated serial codecs.
+ * The serial fields are mostly private, so the generated codecs access them through method handles
+ * that are created once per field.
+ */
+@Log4j2
+public final class SerialCodecSupport
+{
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+
+	private SerialCodecSupport()
+	{
+	}
+
+
+	/**
+	 * @param codecClass the generated codec class
+	 * @param className the binary name of the serial class
+	 * @return a handle of type ()Object that creates a new instance of the serial class
+	 */
+	public static MethodHandle constructor(final Class<?> codecClass, final String className)
+	{
+		try
+		{
+			Constructor<?> ctor = loadClass(codecClass, className).getDeclaredConstructor();
+			ctor.setAccessible(true);
+			return LOOKUP.unreflectConstructor(ctor).asType(MethodType.methodType(Object.class));
+		} catch (ReflectiveOperationException e)
+		{
+			throw new IllegalStateException("No default constructor in " + className, e);
+		}
+	}
+
+
+	/**
+	 * @param codecClass the generated codec class
+	 * @param className the binary name of the class that declares the field
+	 * @param fieldName the name of the field
+	 * @param type the type of the field, or Object/Object[] for reference types
+	 * @return a handle of type (Object)type that reads the field
+	 */
+	public static MethodHandle getter(final Class<?> codecClass, final String className, final String fieldName,
+			final Class<?> type)
+	{
+		try
+		{
+			return LOOKUP.unreflectGetter(field(codecClass, className, fieldName))
+					.asType(MethodType.methodType(type, Object.class));
+		} catch (IllegalAccessException e)
+		{
+			throw new IllegalStateException("Could not read " + className + "::" + fieldName, e);
+		}
+	}
+
+
+	/**
+	 * @param codecClass the generated codec class
+	 * @param className the binary name of the class that declares the field
+	 * @param fieldName the name of the field
+	 * @param type the type of the field, or Object/Object[] for reference types
+	 * @return a handle of type (Object,type)void that writes the field, even if it is final
+	 */
+	public static MethodHandle setter(final Class<?> codecClass, final String className, final String fieldName,
+			final Class<?> type)
+	{
+		try
+		{
+			return LOOKUP.unreflectSetter(field(codecClass, className, fieldName))
+					.asType(MethodType.methodType(void.class, Object.class, type));
+		} catch (IllegalAccessException e)
+		{
+			throw new IllegalStateException("Could not write " + className + "::" + fieldName, e);
+		}
+	}
+
+
+	/**
+	 * @param codecClass the generated codec class
+	 * @param className the binary name of the class that declares the field
+	 * @param fieldName the name of an embedded field or array
+	 * @return the codec of the embedded type
+	 */
+	public static ISerialCodec<Object> embedded(final Class<?> codecClass, final String className,
+			final String fieldName)
+	{
+		Class<?> type = field(codecClass, className, fieldName).getType();
+		if (type.isArray())
+		{
+			type = type.getComponentType();
+		}
+		try
+		{
+			return SerialCodecs.get(type);
+		} catch (SerialException e)
+		{
+			throw new IllegalStateException("Could not describe embedded type " + type.getName(), e);
+		}
+	}
+
+
+	/**
+	 * @param ctor the constructor handle
+	 * @return a new instance
+	 * @throws SerialException if the constructor failed
+	 */
+	public static Object newInstance(final MethodHandle ctor) throws SerialException
+	{
+		try
+		{
+			return (Object) ctor.invokeExact();
+		} catch (Throwable e)
+		{
+			throw new SerialException("Could not create new instance", e);
+		}
+	}
+
+
+	/**
+	 * @param prototype a new instance of the serial class
+	 * @param getter the getter of an array field
+	 * @return the length of the array in the prototype, which is the number of serialized elements
+	 */
+	public static int arrayLength(final Object prototype, final MethodHandle getter)
+	{
+		try
+		{
+			Object array = getter.invoke(prototype);
+			return array == null ? 0 : Array.getLength(array);
+		} catch (Throwable e)
+		{
+			throw new IllegalStateException("Could not get array length", e);
+		}
+	}
+
+
+	/**
+	 * @param buffer the buffer to decode from
+	 * @param length the number of bytes required
+	 * @param name the name of the serial class
+	 * @throws SerialException if the buffer has fewer bytes remaining
+	 */
+	public static void checkRemaining(final ByteBuffer buffer, final int length, final String name)
+			throws SerialException
+	{
+		if (buffer.remaining() < length)
+		{
+			throw new SerialException(name + " object requires " + length + " bytes. Given are only: "
+					+ buffer.remaining());
+		}
+	}
+
+
+	/**
+	 * Warn, if the value does not fit into the serial type.
+	 *
+	 * @param value the value to encode
+	 * @param type the serial type
+	 * @param name the name of the field
+	 */
+	public static void checkRange(final long value, final ESerialDataType type, final String name)
+	{
+		if ((value < type.getMin()) || (value > type.getMax()))
+		{
+			log.warn("{} {} value is out of bounds ({})", type, name, value);
+		}
+	}
+
+
+	/**
+	 * Warn, if the array element does not fit into the serial type.
+	 *
+	 * @param value the value to encode
+	 * @param type the serial type
+	 * @param name the name of the field
+	 * @param index the array index
+	 */
+	public static void checkRange(final long value, final ESerialDataType type, final String name, final int index)
+	{
+		if ((value < type.getMin()) || (value > type.getMax()))
+		{
+			log.warn("{} {}[{}] value is out of bounds ({})", type, name, index, value);
+		}
+	}
+
+
+	private static Field field(final Class<?> codecClass, final String className, final String fieldName)
+	{
+		try
+		{
+			Field field = loadClass(codecClass, className).getDeclaredField(fieldName);
+			field.setAccessible(true);
+			return field;
+		} catch (ReflectiveOperationException e)
+		{
+			throw new IllegalStateException("Could not find " + className + "::" + fieldName, e);
+		}
+	}
+
+
+	private static Class<?> loadClass(final Class<?> codecClass, final String className)
+			throws ClassNotFoundException
+	{
+		return Class.forName(className, false, codecClass.getClassLoader());
+	}
+}
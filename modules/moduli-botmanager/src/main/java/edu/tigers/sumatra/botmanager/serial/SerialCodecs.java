@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.botmanager.serial;
+
+import lombok.extern.log4j.Log4j2;
+
+import java.util.Optional;
+
+
+/**
+ * Lookup of the serial codecs that are generated at compile time for classes with {@link SerialData} fields.
+ */
+@Log4j2
+public final class SerialCodecs
+{
+	/** Suffix of the generated codec classes */
+	public static final String CODEC_SUFFIX = "SerialCodec";
+
+
+	private SerialCodecs()
+	{
+	}
+
+
+	/**
+	 * @param className the binary name of a serial class, like pkg.Outer$Inner
+	 * @return the binary name of the generated codec class, like pkg.Outer_InnerSerialCodec
+	 */
+	public static String getCodecClassName(final String className)
+	{
+		int pkgEnd = className.lastIndexOf('.');
+		return className.substring(0, pkgEnd + 1) + className.substring(pkgEnd + 1).replace('$', '_') + CODEC_SUFFIX;
+	}
+
+
+	/**
+	 * Find the generated codec of the given class.
+	 *
+	 * @param clazz the serial class
+	 * @return the codec, if one was generated and could be initialized
+	 */
+	@SuppressWarnings("unchecked")
+	public static Optional<ISerialCodec<Object>> findGenerated(final Class<?> clazz)
+	{
+		String codecClassName = getCodecClassName(clazz.getName());
+		try
+		{
+			Class<?> codecClass = Class.forName(codecClassName, true, clazz.getClassLoader());
+			return Optional.of((ISerialCodec<Object>) codecClass.getConstructor().newInstance());
+		} catch (ClassNotFoundException e)
+		{
+			return Optional.empty();
+		} catch (ReflectiveOperationException | LinkageError | RuntimeException e)
+		{
+			log.warn("Could not initialize generated serial codec {}", codecClassName, e);
+			return Optional.empty();
+		}
+	}
+
+
+	/**
+	 * Get a codec for the given class, preferring the generated codec over the reflective one.
+	 *
+	 * @param clazz the serial class
+	 * @return a codec
+	 * @throws SerialException if the class could not be described
+	 */
+	public static ISerialCodec<Object> get(final Class<?> clazz) throws SerialException
+	{
+		return new SerialDescription(clazz).getCodec();
+	}
+}
@@ -11,26 +11,35 @@ package edu.tigers.sumatra.botmanager.serial;
 import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
 import edu.tigers.sumatra.botmanager.serial.SerialData.ESerialDataType;
 
 
 /**
  * Parsed serial object description.
- * Decodes and encodes serial objects by using reflection.
+ * Decodes and encodes serial objects with the codec that was generated at compile time, if available.
+ * Otherwise, the objects are decoded and encoded by using reflection.
  * 
  * @author AndreR
  */
 public class SerialDescription
 {
+	private static final Logger log = LogManager.getLogger(SerialDescription.class.getName());
+	
 	private final List<ASerialField> cmdFields = new ArrayList<>();
 	private final Class<?> clazz;
 	private final Constructor<?> ctor;
+	private final ISerialCodec<Object> codec;
 	
 	
 	/**
@@ -40,6 +49,19 @@ public class SerialDescription
 	 * @throws SerialException
 	 */
 	public SerialDescription(final Class<?> clazz) throws SerialException
+	{
+		this(clazz, true);
+	}
+	
+	
+	/**
+	 * Create a serial description for encoding/decoding byte arrays.
+	 * 
+	 * @param clazz
+	 * @param useGeneratedCodec use the generated codec, if available, instead of reflection
+	 * @throws SerialException
+	 */
+	public SerialDescription(final Class<?> clazz, final boolean useGeneratedCodec) throws SerialException
 	{
 		this.clazz = clazz;
 		
@@ -54,6 +76,30 @@ public class SerialDescription
 		
 		
 		loadFields(clazz);
+		
+		ISerialCodec<Object> reflectiveCodec = new ReflectiveCodec();
+		if (useGeneratedCodec)
+		{
+			codec = SerialCodecs.findGenerated(clazz)
+					.filter(this::matchesFields)
+					.orElse(reflectiveCodec);
+		} else
+		{
+			codec = reflectiveCodec;
+		}
+	}
+	
+	
+	private boolean matchesFields(final ISerialCodec<Object> generatedCodec)
+	{
+		List<String> fieldNames = getFieldNames();
+		if (generatedCodec.getFieldNames().equals(fieldNames))
+		{
+			return true;
+		}
+		log.warn("Generated serial codec of {} does not match fields {}, falling back to reflection",
+				clazz.getName(), fieldNames);
+		return false;
 	}
 	
 	
@@ -139,6 +185,24 @@ public class SerialDescription
 	}
 	
 	
+	/**
+	 * @return the codec that is used for this description
+	 */
+	public ISerialCodec<Object> getCodec()
+	{
+		return codec;
+	}
+	
+	
+	/**
+	 * @return true, if the codec was generated at compile time
+	 */
+	public boolean isGenerated()
+	{
+		return !(codec instanceof ReflectiveCodec);
+	}
+	
+	
 	/**
 	 * Get the serialized length of this object.
 	 * 
@@ -148,14 +212,7 @@ public class SerialDescription
 	 */
 	public int getLength(final Object obj) throws SerialException
 	{
-		int length = 0;
-		
-		for (ASerialField cmdField : cmdFields)
-		{
-			length += cmdField.getLength(obj);
-		}
-		
-		return length;
+		return codec.getLength(obj);
 	}
 	
 	
@@ -167,6 +224,77 @@ public class SerialDescription
 	 * @throws SerialException
 	 */
 	public byte[] encode(final Object obj) throws SerialException
+	{
+		ByteBuffer buffer = ByteBuffer.allocate(codec.getLength(obj)).order(ByteOrder.LITTLE_ENDIAN);
+		codec.encode(obj, buffer);
+		return buffer.array();
+	}
+	
+	
+	/**
+	 * Encode object into the buffer at its current position.
+	 * 
+	 * @param obj
+	 * @param buffer a buffer with enough remaining space
+	 * @throws SerialException
+	 */
+	public void encode(final Object obj, final ByteBuffer buffer) throws SerialException
+	{
+		codec.encode(obj, buffer.order(ByteOrder.LITTLE_ENDIAN));
+	}
+	
+	
+	/**
+	 * Decode an object from byte array.
+	 * 
+	 * @param data
+	 * @return
+	 * @throws SerialException
+	 */
+	public Object decode(final byte[] data) throws SerialException
+	{
+		return codec.decode(ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN));
+	}
+	
+	
+	/**
+	 * Decode an object from the remaining bytes of the buffer.
+	 * 
+	 * @param buffer
+	 * @return
+	 * @throws SerialException
+	 */
+	public Object decode(final ByteBuffer buffer) throws SerialException
+	{
+		return codec.decode(buffer.order(ByteOrder.LITTLE_ENDIAN));
+	}
+	
+	
+	/**
+	 * Create a new instance of this object.
+	 * 
+	 * @return
+	 * @throws SerialException
+	 */
+	public Object newInstance() throws SerialException
+	{
+		try
+		{
+			return ctor.newInstance();
+		} catch (Exception err)
+		{
+			throw new SerialException("Could not create new instance of: " + clazz.getName(), err);
+		}
+	}
+	
+	
+	private List<String> getFieldNames()
+	{
+		return cmdFields.stream().map(f -> f.field.getName()).toList();
+	}
+	
+	
+	private int getReflectiveLength(final Object obj) throws SerialException
 	{
 		int length = 0;
 		
@@ -175,7 +303,13 @@ public class SerialDescription
 			length += cmdField.getLength(obj);
 		}
 		
-		byte[] data = new byte[length];
+		return length;
+	}
+	
+	
+	private byte[] encodeReflective(final Object obj) throws SerialException
+	{
+		byte[] data = new byte[getReflectiveLength(obj)];
 		
 		for (ASerialField cmdField : cmdFields)
 		{
@@ -186,23 +320,11 @@ public class SerialDescription
 	}
 	
 	
-	/**
-	 * Decode an object from byte array.
-	 * 
-	 * @param data
-	 * @return
-	 * @throws SerialException
-	 */
-	public Object decode(final byte[] data) throws SerialException
+	private Object decodeReflective(final byte[] data) throws SerialException
 	{
 		Object obj = newInstance();
 		
-		int length = 0;
-		
-		for (ASerialField cmdField : cmdFields)
-		{
-			length += cmdField.getLength(obj);
-		}
+		int length = getReflectiveLength(obj);
 		
 		if (data.length < length)
 		{
@@ -220,19 +342,46 @@ public class SerialDescription
 	
 	
 	/**
-	 * Create a new instance of this object.
-	 * 
-	 * @return
-	 * @throws SerialException
+	 * Codec based on the reflective serial fields.
 	 */
-	public Object newInstance() throws SerialException
+	private class ReflectiveCodec implements ISerialCodec<Object>
 	{
-		try
+		@Override
+		public Object newInstance() throws SerialException
 		{
-			return ctor.newInstance();
-		} catch (Exception err)
+			return SerialDescription.this.newInstance();
+		}
+		
+		
+		@Override
+		public List<String> getFieldNames()
 		{
-			throw new SerialException("Could not create new instance of: " + clazz.getName(), err);
+			return SerialDescription.this.getFieldNames();
+		}
+		
+		
+		@Override
+		public int getLength(final Object obj) throws SerialException
+		{
+			return getReflectiveLength(obj);
+		}
+		
+		
+		@Override
+		public void encode(final Object obj, final ByteBuffer buffer) throws SerialException
+		{
+			buffer.put(encodeReflective(obj));
+		}
+		
+		
+		@Override
+		public Object decode(final ByteBuffer buffer) throws SerialException
+		{
+			byte[] data = new byte[buffer.remaining()];
+			buffer.duplicate().get(data);
+			Object obj = decodeReflective(data);
+			buffer.position(buffer.position() + Math.min(getReflectiveLength(obj), data.length));
+			return obj;
 		}
 	}
 }
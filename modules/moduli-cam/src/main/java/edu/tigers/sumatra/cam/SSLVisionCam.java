@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2022, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 package edu.tigers.sumatra.cam;
 
@@ -7,12 +7,12 @@ import com.github.g3force.configurable.ConfigRegistration;
 import com.github.g3force.configurable.Configurable;
 import com.github.g3force.configurable.IConfigClient;
 import com.github.g3force.configurable.IConfigObserver;
+import com.google.protobuf.InvalidProtocolBufferException;
 import edu.tigers.moduli.exceptions.InitModuleException;
 import edu.tigers.sumatra.cam.data.CamGeometry;
 import edu.tigers.sumatra.cam.proto.SslVisionWrapper.SSL_WrapperPacket;
 import edu.tigers.sumatra.clock.NanoTime;
 import edu.tigers.sumatra.gamelog.EMessageType;
-import edu.tigers.sumatra.gamelog.GameLogMessage;
 import edu.tigers.sumatra.gamelog.GameLogRecorder;
 import edu.tigers.sumatra.model.SumatraModel;
 import edu.tigers.sumatra.network.IReceiverObserver;
@@ -22,13 +22,12 @@ import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang.StringUtils;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.net.DatagramPacket;
 import java.net.InetAddress;
 import java.net.NetworkInterface;
-import java.nio.ByteBuffer;
 import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
 
 
 /**
@@ -40,6 +39,10 @@ public class SSLVisionCam extends ACam implements Runnable, IReceiverObserver, I
 {
 	private static final int BUFFER_SIZE = 10000;
 	private final byte[] bufferArr = new byte[BUFFER_SIZE];
+	private final LongAdder numPacketsReceived = new LongAdder();
+	private final LongAdder numPacketsParsed = new LongAdder();
+	private final LongAdder numPacketsDropped = new LongAdder();
+	private final LongAdder parseDurationNs = new LongAdder();
 
 	@Setter
 	private static int customPort;
@@ -105,6 +108,9 @@ public class SSLVisionCam extends ACam implements Runnable, IReceiverObserver, I
 	@Override
 	public void stopModule()
 	{
+		log.debug("Received {} vision packets, parsed {}, dropped {}, avg parse time: {} us",
+				getNumPacketsReceived(), getNumPacketsParsed(), getNumPacketsDropped(),
+				String.format("%.1f", getAvgParseDuration() / 1e3));
 		cleanup();
 		ConfigRegistration.unregisterConfigurableCallback("user", this);
 	}
@@ -113,39 +119,41 @@ public class SSLVisionCam extends ACam implements Runnable, IReceiverObserver, I
 	@Override
 	public void run()
 	{
-		// Create new buffer
-		final ByteBuffer buffer = ByteBuffer.wrap(bufferArr);
+		// The packet and its buffer are reused for all datagrams. The data is only used until the next receive.
+		final DatagramPacket packet = new DatagramPacket(bufferArr, bufferArr.length);
 
 		while (!Thread.currentThread().isInterrupted())
 		{
 			try
 			{
-				buffer.clear();
-
-				// Fetch packet
-				final DatagramPacket packet = new DatagramPacket(buffer.array(), buffer.capacity());
-
 				if (receiver == null)
 				{
 					break;
 				}
+				packet.setLength(bufferArr.length);
 				receiver.receive(packet);
+				numPacketsReceived.increment();
 
 				visionAddress = packet.getAddress();
-				final ByteArrayInputStream packetIn = new ByteArrayInputStream(packet.getData(), 0, packet.getLength());
 
-				// Translate
+				// Translate straight from the received byte range
 				final SSL_WrapperPacket sslPacket;
+				long tStart = System.nanoTime();
 				try
 				{
-					sslPacket = SSL_WrapperPacket.parseFrom(packetIn);
-				} catch (Exception err)
+					sslPacket = SSL_WrapperPacket.parser()
+							.parseFrom(packet.getData(), packet.getOffset(), packet.getLength());
+				} catch (InvalidProtocolBufferException err)
 				{
+					numPacketsDropped.increment();
 					log.error("invalid ssl package", err);
 					continue;
 				}
+				parseDurationNs.add(System.nanoTime() - tStart);
+				numPacketsParsed.increment();
 
 				publishData(sslPacket);
+				recordData(packet);
 			} catch (final IOException err)
 			{
 				if (!expectIOE)
@@ -180,10 +188,16 @@ public class SSLVisionCam extends ACam implements Runnable, IReceiverObserver, I
 		}
 
 		notifyNewVisionPacket(sslPacket);
+	}
+
 
-		if(gameLogRecorder != null)
+	private void recordData(final DatagramPacket packet)
+	{
+		if (gameLogRecorder != null)
 		{
-			gameLogRecorder.writeMessage(new GameLogMessage(NanoTime.getTimestampNow(), EMessageType.SSL_VISION_2014, sslPacket.toByteArray()));
+			// record the original bytes instead of serializing the parsed packet again
+			gameLogRecorder.writeMessage(NanoTime.getTimestampNow(), EMessageType.SSL_VISION_2014,
+					packet.getData(), packet.getOffset(), packet.getLength());
 		}
 	}
 
@@ -245,4 +259,41 @@ public class SSLVisionCam extends ACam implements Runnable, IReceiverObserver, I
 	{
 		return Optional.ofNullable(visionAddress);
 	}
+
+
+	/**
+	 * @return the number of received datagrams
+	 */
+	public long getNumPacketsReceived()
+	{
+		return numPacketsReceived.sum();
+	}
+
+
+	/**
+	 * @return the number of datagrams that were parsed successfully
+	 */
+	public long getNumPacketsParsed()
+	{
+		return numPacketsParsed.sum();
+	}
+
+
+	/**
+	 * @return the number of datagrams that were dropped, because they could not be parsed
+	 */
+	public long getNumPacketsDropped()
+	{
+		return numPacketsDropped.sum();
+	}
+
+
+	/**
+	 * @return the average duration [ns] of parsing a datagram
+	 */
+	public double getAvgParseDuration()
+	{
+		long numParsed = numPacketsParsed.sum();
+		return numParsed > 0 ? (double) parseDurationNs.sum() / numParsed : 0;
+	}
 }
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.gamelog;
+
+import lombok.extern.log4j.Log4j2;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.GZIPInputStream;
+
+
+/**
+ * Index of all messages in a (decompressed) game log file.
+ * <p>
+ * The index is built by scanning the file once and is persisted next to the log file, so that it can be reused.
+ * It is validated against the size and modification time of the original log file, as the offsets of a compressed log
+ * refer to its decompressed content.
+ * It stores the file offset, timestamp, type and size of each message.
+ */
+@Log4j2
+class GameLogIndex
+{
+	private static final int MAGIC = 0x53534c49; // SSLI
+	private static final int VERSION = 1;
+	private static final int MESSAGE_HEADER_SIZE = 16;
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	final long[] offsets;
+	final long[] timestamps;
+	final int[] types;
+	final int[] sizes;
+
+
+	private GameLogIndex(int numMessages)
+	{
+		offsets = new long[numMessages];
+		timestamps = new long[numMessages];
+		types = new int[numMessages];
+		sizes = new int[numMessages];
+	}
+
+
+	int size()
+	{
+		return offsets.length;
+	}
+
+
+	/**
+	 * Load the index from the index file, if it is up-to-date, or build (and persist) it otherwise.
+	 *
+	 * @param dataFile     the uncompressed log file
+	 * @param headerLength the length of the file header in bytes
+	 * @param logFile      the original (possibly compressed) log file that the index is validated against
+	 * @param indexFile    the file in which the index is persisted
+	 * @return the index
+	 * @throws IOException if the log file can not be read
+	 */
+	static GameLogIndex loadOrBuild(Path dataFile, long headerLength, Path logFile, Path indexFile) throws IOException
+	{
+		long logSize = Files.size(logFile);
+		long logLastModified = Files.getLastModifiedTime(logFile).toMillis();
+		if (Files.exists(indexFile))
+		{
+			try
+			{
+				GameLogIndex index = read(indexFile, logSize, logLastModified);
+				if (index != null)
+				{
+					log.info("Loaded game log index with {} messages from {}", index.size(), indexFile);
+					return index;
+				}
+			} catch (IOException e)
+			{
+				log.warn("Could not read game log index {}, rebuilding it", indexFile, e);
+			}
+		}
+
+		long tStart = System.nanoTime();
+		GameLogIndex index = build(dataFile, headerLength, Files.size(dataFile));
+		log.info("Built game log index with {} messages in {}s", index.size(), (System.nanoTime() - tStart) / 1e9);
+		try
+		{
+			index.write(indexFile, logSize, logLastModified);
+		} catch (IOException e)
+		{
+			log.warn("Could not persist game log index to {}", indexFile, e);
+		}
+		return index;
+	}
+
+
+	/**
+	 * Decompress a gzipped log file into a temporary file, so that it can be read with random access.
+	 * The caller is responsible for deleting the file.
+	 *
+	 * @param gzFile the compressed log file
+	 * @return the decompressed temporary file
+	 * @throws IOException if the log file can not be read
+	 */
+	static Path decompress(Path gzFile) throws IOException
+	{
+		Path rawFile = Files.createTempFile(gzFile.getFileName().toString(), ".raw");
+		rawFile.toFile().deleteOnExit();
+
+		log.info("Decompressing {} to {}", gzFile, rawFile);
+		try (InputStream in = new GZIPInputStream(Files.newInputStream(gzFile), BUFFER_SIZE))
+		{
+			Files.copy(in, rawFile, StandardCopyOption.REPLACE_EXISTING);
+		} catch (EOFException e)
+		{
+			log.info("Compressed log file {} is truncated", gzFile, e);
+		} catch (IOException e)
+		{
+			Files.deleteIfExists(rawFile);
+			throw e;
+		}
+		return rawFile;
+	}
+
+
+	private static GameLogIndex build(Path dataFile, long headerLength, long dataSize) throws IOException
+	{
+		int capacity = 1024;
+		GameLogIndex index = new GameLogIndex(capacity);
+		int numMessages = 0;
+
+		try (DataInputStream stream = new DataInputStream(
+				new BufferedInputStream(Files.newInputStream(dataFile), BUFFER_SIZE)))
+		{
+			stream.skipNBytes(headerLength);
+			long offset = headerLength;
+			while (offset + MESSAGE_HEADER_SIZE <= dataSize)
+			{
+				long timestamp = stream.readLong();
+				int type = stream.readInt();
+				int size = stream.readInt();
+				if (size < 0 || offset + MESSAGE_HEADER_SIZE + size > dataSize)
+				{
+					log.info("Ignoring truncated message at end of log file");
+					break;
+				}
+				stream.skipNBytes(size);
+
+				if (numMessages == capacity)
+				{
+					capacity *= 2;
+					index = index.copy(capacity, numMessages);
+				}
+				index.offsets[numMessages] = offset;
+				index.timestamps[numMessages] = timestamp;
+				index.types[numMessages] = type;
+				index.sizes[numMessages] = size;
+				numMessages++;
+
+				offset += MESSAGE_HEADER_SIZE + size;
+			}
+		}
+		return index.copy(numMessages, numMessages);
+	}
+
+
+	private GameLogIndex copy(int capacity, int numMessages)
+	{
+		GameLogIndex copy = new GameLogIndex(capacity);
+		System.arraycopy(offsets, 0, copy.offsets, 0, numMessages);
+		System.arraycopy(timestamps, 0, copy.timestamps, 0, numMessages);
+		System.arraycopy(types, 0, copy.types, 0, numMessages);
+		System.arraycopy(sizes, 0, copy.sizes, 0, numMessages);
+		return copy;
+	}
+
+
+	private static GameLogIndex read(Path indexFile, long logSize, long logLastModified) throws IOException
+	{
+		try (DataInputStream stream = new DataInputStream(
+				new BufferedInputStream(Files.newInputStream(indexFile), BUFFER_SIZE)))
+		{
+			if (stream.readInt() != MAGIC || stream.readInt() != VERSION
+					|| stream.readLong() != logSize || stream.readLong() != logLastModified)
+			{
+				log.info("Game log index {} is outdated", indexFile);
+				return null;
+			}
+			GameLogIndex index = new GameLogIndex(stream.readInt());
+			for (int i = 0; i < index.size(); i++)
+			{
+				index.offsets[i] = stream.readLong();
+				index.timestamps[i] = stream.readLong();
+				index.types[i] = stream.readInt();
+				index.sizes[i] = stream.readInt();
+			}
+			return index;
+		}
+	}
+
+
+	private void write(Path indexFile, long logSize, long logLastModified) throws IOException
+	{
+		Path tmpFile = Files.createTempFile(indexFile.toAbsolutePath().getParent(), indexFile.getFileName().toString(),
+				".tmp");
+		try (DataOutputStream stream = new DataOutputStream(
+				new BufferedOutputStream(Files.newOutputStream(tmpFile), BUFFER_SIZE)))
+		{
+			stream.writeInt(MAGIC);
+			stream.writeInt(VERSION);
+			stream.writeLong(logSize);
+			stream.writeLong(logLastModified);
+			stream.writeInt(size());
+			for (int i = 0; i < size(); i++)
+			{
+				stream.writeLong(offsets[i]);
+				stream.writeLong(timestamps[i]);
+				stream.writeInt(types[i]);
+				stream.writeInt(sizes[i]);
+			}
+		}
+		Files.move(tmpFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2023, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 
 package edu.tigers.sumatra.gamelog;
@@ -130,6 +130,8 @@ public class GameLogPlayer extends AModule
 			} else
 			{
 				playLog(currentLog);
+				// release the file of logs that are read on demand
+				currentLog.close();
 				log.info("Replay finished");
 				observers.forEach(GameLogPlayerObserver::onGameLogTimeJump);
 			}
@@ -1,18 +1,24 @@
 /*
- * Copyright (c) 2009 - 2023, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 
 package edu.tigers.sumatra.gamelog;
 
+import com.google.common.io.CountingInputStream;
 import com.google.common.primitives.Bytes;
 import edu.tigers.sumatra.gamelog.filters.MessageFilter;
 import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
 
+import java.io.BufferedInputStream;
+import java.io.Closeable;
 import java.io.DataInputStream;
 import java.io.EOFException;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -22,9 +28,13 @@ import java.util.zip.GZIPInputStream;
 
 /**
  * Reads file in SSL game log format.
+ * <p>
+ * By default, all messages are loaded into memory. In indexed mode, only an index of the messages is kept in memory
+ * and the messages are read on demand from the file. The index is persisted next to the log file (*.idx) and
+ * compressed logs are decompressed into a temporary file that is deleted when the reader is closed.
  */
 @Log4j2
-public class GameLogReader
+public class GameLogReader implements Closeable
 {
 	@Getter
 	private GameLogType fileType = GameLogType.UNKNOWN;
@@ -36,11 +46,22 @@ public class GameLogReader
 
 	private GameLogReaderObserver loadCompleteObserver = null;
 
+	/**
+	 * Read messages on demand from the file instead of loading them into memory.
+	 */
+	@Setter
+	private boolean indexed = false;
+
 	/**
 	 * Messages are only loaded if all filters return true for them.
 	 */
 	private List<MessageFilter> filters = new ArrayList<>();
 
+	/**
+	 * Temporary decompressed copy of a compressed log file in indexed mode.
+	 */
+	private Path decompressedFile;
+
 
 	/**
 	 * Load a logfile asynchronously.
@@ -69,6 +90,12 @@ public class GameLogReader
 
 	public void loadFileBlocking(final String path)
 	{
+		if (indexed)
+		{
+			loadIndexedFileBlocking(path);
+			return;
+		}
+
 		try (FileInputStream fileInStream = new FileInputStream(path))
 		{
 			DataInputStream fileStream;
@@ -100,12 +127,86 @@ public class GameLogReader
 	}
 
 
+	private void loadIndexedFileBlocking(final String path)
+	{
+		Path logFile = Path.of(path);
+		Path dataFile = logFile;
+		try
+		{
+			if (path.endsWith(".gz"))
+			{
+				dataFile = GameLogIndex.decompress(logFile);
+			}
+
+			long headerLength;
+			try (CountingInputStream countingStream = new CountingInputStream(
+					new BufferedInputStream(Files.newInputStream(dataFile))))
+			{
+				if (!parseHeader(new DataInputStream(countingStream)))
+					throw new IOException("Unhandled log file type.");
+				headerLength = countingStream.getCount();
+			}
+
+			GameLogIndex index = GameLogIndex.loadOrBuild(dataFile, headerLength, logFile, Path.of(path + ".idx"));
+			var indexedMessages = new IndexedGameLogMessages(dataFile, index, filters);
+			close();
+			messages = indexedMessages;
+			decompressedFile = dataFile.equals(logFile) ? null : dataFile;
+			notifyLoadComplete(true);
+		} catch (IOException e)
+		{
+			if (!dataFile.equals(logFile))
+			{
+				delete(dataFile);
+			}
+			notifyLoadComplete(false);
+			log.error("Loading logfile failed", e);
+		}
+	}
+
+
 	public void addFilter(final MessageFilter filter)
 	{
 		filters.add(filter);
 	}
 
 
+	/**
+	 * Release the log file and delete its decompressed copy, if messages are read on demand.
+	 */
+	@Override
+	public void close()
+	{
+		if (messages instanceof IndexedGameLogMessages indexedMessages)
+		{
+			try
+			{
+				indexedMessages.close();
+			} catch (IOException e)
+			{
+				log.warn("Could not close logfile", e);
+			}
+		}
+		if (decompressedFile != null)
+		{
+			delete(decompressedFile);
+			decompressedFile = null;
+		}
+	}
+
+
+	private void delete(final Path file)
+	{
+		try
+		{
+			Files.deleteIfExists(file);
+		} catch (IOException e)
+		{
+			log.warn("Could not delete decompressed logfile {}", file, e);
+		}
+	}
+
+
 	private boolean parseHeader(DataInputStream fileStream) throws IOException
 	{
 		byte[] nextBytes = new byte[4];
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2023, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 
 package edu.tigers.sumatra.gamelog;
@@ -57,4 +57,19 @@ public class GameLogRecorder extends AModule
 	{
 		writer.write(msg);
 	}
+
+
+	/**
+	 * Write a message that is still in its receive buffer, like a raw datagram.
+	 *
+	 * @param timestampNs receiver timestamp in ns
+	 * @param type        the message type
+	 * @param data        the buffer containing the binary message data
+	 * @param offset      the start of the message in the buffer
+	 * @param length      the length of the message
+	 */
+	public void writeMessage(long timestampNs, EMessageType type, byte[] data, int offset, int length)
+	{
+		writer.write(timestampNs, type, data, offset, length);
+	}
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2019, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 package edu.tigers.sumatra.gamelog;
 
@@ -130,7 +130,22 @@ public class GameLogWriter
 	 *
 	 * @param msg
 	 */
-	public synchronized void write(final GameLogMessage msg)
+	public void write(final GameLogMessage msg)
+	{
+		write(msg.getTimestampNs(), msg.getType(), msg.getData(), 0, msg.getData().length);
+	}
+
+
+	/**
+	 * Write gamelog entry to file, taking the data from a range of a buffer, without copying it.
+	 *
+	 * @param timestampNs receiver timestamp in ns
+	 * @param type        the message type
+	 * @param data        the buffer containing the binary message data
+	 * @param offset      the start of the message in the buffer
+	 * @param length      the length of the message
+	 */
+	public synchronized void write(long timestampNs, EMessageType type, byte[] data, int offset, int length)
 	{
 		if (outputStream == null)
 		{
@@ -139,10 +154,10 @@ public class GameLogWriter
 
 		try
 		{
-			outputStream.writeLong(msg.getTimestampNs());
-			outputStream.writeInt(msg.getType().getId());
-			outputStream.writeInt(msg.getData().length);
-			outputStream.write(msg.getData());
+			outputStream.writeLong(timestampNs);
+			outputStream.writeInt(type.getId());
+			outputStream.writeInt(length);
+			outputStream.write(data, offset, length);
 		} catch (IOException e)
 		{
 			log.error("Exception writing to gamelog", e);
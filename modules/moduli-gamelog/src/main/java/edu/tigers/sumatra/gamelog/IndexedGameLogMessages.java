@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.gamelog;
+
+import edu.tigers.sumatra.gamelog.filters.MessageFilter;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+
+/**
+ * Read-only list of game log messages that are read on demand from the log file.
+ * Only the offset and size of each message is kept in memory.
+ */
+class IndexedGameLogMessages extends AbstractList<GameLogMessage> implements RandomAccess, Closeable
+{
+	private static final int MESSAGE_HEADER_SIZE = 16;
+
+	private final FileChannel channel;
+	private final long[] offsets;
+	private final int[] sizes;
+
+
+	IndexedGameLogMessages(Path dataFile, GameLogIndex index, List<MessageFilter> filters) throws IOException
+	{
+		long[] filteredOffsets = new long[index.size()];
+		int[] filteredSizes = new int[index.size()];
+		int numMessages = 0;
+		for (int i = 0; i < index.size(); i++)
+		{
+			long timestamp = index.timestamps[i];
+			EMessageType type = EMessageType.getMessageTypeConstant(index.types[i]);
+			if (filters.stream().allMatch(f -> f.filter(timestamp, type)))
+			{
+				filteredOffsets[numMessages] = index.offsets[i];
+				filteredSizes[numMessages] = index.sizes[i];
+				numMessages++;
+			}
+		}
+		offsets = Arrays.copyOf(filteredOffsets, numMessages);
+		sizes = Arrays.copyOf(filteredSizes, numMessages);
+		channel = FileChannel.open(dataFile, StandardOpenOption.READ);
+	}
+
+
+	@Override
+	public GameLogMessage get(int index)
+	{
+		ByteBuffer buffer = ByteBuffer.allocate(MESSAGE_HEADER_SIZE + sizes[index]);
+		try
+		{
+			long position = offsets[index];
+			while (buffer.hasRemaining())
+			{
+				int read = channel.read(buffer, position + buffer.position());
+				if (read < 0)
+				{
+					throw new EOFException("Unexpected end of log file at message " + index);
+				}
+			}
+		} catch (IOException e)
+		{
+			throw new UncheckedIOException("Could not read message " + index + " from log file", e);
+		}
+		buffer.flip();
+
+		long timestamp = buffer.getLong();
+		EMessageType type = EMessageType.getMessageTypeConstant(buffer.getInt());
+		byte[] data = new byte[buffer.getInt()];
+		buffer.get(data);
+		return new GameLogMessage(timestamp, type, data);
+	}
+
+
+	@Override
+	public int size()
+	{
+		return offsets.length;
+	}
+
+
+	@Override
+	public void close() throws IOException
+	{
+		channel.close();
+	}
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.gamelog;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+public class GameLogReaderTest
+{
+	private static final int NUM_MESSAGES = 50;
+
+	private Path folder;
+	private Path logFile;
+
+
+	@Before
+	public void setUp() throws IOException
+	{
+		folder = Files.createTempDirectory("gameLogReaderTest");
+		logFile = folder.resolve("test.log");
+		var writer = new GameLogWriter(GameLogType.LOG_FILE);
+		writer.openPath(logFile.toString());
+		for (int i = 0; i < NUM_MESSAGES; i++)
+		{
+			EMessageType type = i % 2 == 0 ? EMessageType.SSL_VISION_2014 : EMessageType.SSL_REFBOX_2013;
+			writer.write(new GameLogMessage(1000L * i, type, new byte[] { (byte) i, (byte) (i + 1) }));
+		}
+		writer.close();
+	}
+
+
+	@After
+	public void tearDown() throws IOException
+	{
+		try (var paths = Files.walk(folder))
+		{
+			paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+		}
+	}
+
+
+	@Test
+	public void testIndexedMessagesEqualLoadedMessages() throws IOException
+	{
+		var loaded = load(logFile, false);
+		var indexed = load(logFile, true);
+
+		assertThat(indexed.getMessages()).hasSize(NUM_MESSAGES);
+		assertMessagesEqual(indexed.getMessages(), loaded.getMessages());
+		assertThat(folder.resolve("test.log.idx")).exists();
+		indexed.close();
+	}
+
+
+	@Test
+	public void testIndexIsReused() throws IOException
+	{
+		load(logFile, true).close();
+		Path indexFile = folder.resolve("test.log.idx");
+		var lastModified = Files.getLastModifiedTime(indexFile);
+
+		var reader = load(logFile, true);
+
+		assertThat(Files.getLastModifiedTime(indexFile)).isEqualTo(lastModified);
+		assertThat(reader.getMessages()).hasSize(NUM_MESSAGES);
+		reader.close();
+	}
+
+
+	@Test
+	public void testDecompressedFileIsDeletedOnClose() throws IOException
+	{
+		Path gzFile = gzip(logFile);
+		var loaded = load(logFile, false);
+		Set<Path> rawFilesBefore = rawTempFiles();
+
+		var reader = load(gzFile, true);
+		Set<Path> rawFiles = rawTempFiles();
+		rawFiles.removeAll(rawFilesBefore);
+
+		assertThat(rawFiles).hasSize(1);
+		assertMessagesEqual(reader.getMessages(), loaded.getMessages());
+
+		reader.close();
+
+		assertThat(rawFiles.iterator().next()).doesNotExist();
+		try (Stream<Path> files = Files.list(folder))
+		{
+			assertThat(files.map(p -> p.getFileName().toString()))
+					.containsExactlyInAnyOrder("test.log", "test.log.gz", "test.log.gz.idx");
+		}
+	}
+
+
+	@Test
+	public void testIndexOfCompressedLogIsReused() throws IOException
+	{
+		Path gzFile = gzip(logFile);
+		load(gzFile, true).close();
+		Path indexFile = folder.resolve("test.log.gz.idx");
+		var lastModified = Files.getLastModifiedTime(indexFile);
+
+		var reader = load(gzFile, true);
+
+		assertThat(Files.getLastModifiedTime(indexFile)).isEqualTo(lastModified);
+		assertThat(reader.getMessages()).hasSize(NUM_MESSAGES);
+		assertThat(reader.getMessages().get(NUM_MESSAGES - 1).getTimestampNs()).isEqualTo(1000L * (NUM_MESSAGES - 1));
+		reader.close();
+	}
+
+
+	private static GameLogReader load(Path file, boolean indexed)
+	{
+		var reader = new GameLogReader();
+		reader.setIndexed(indexed);
+		reader.loadFileBlocking(file.toString());
+		return reader;
+	}
+
+
+	private static void assertMessagesEqual(List<GameLogMessage> actual, List<GameLogMessage> expected)
+	{
+		assertThat(actual).hasSameSizeAs(expected);
+		for (int i = 0; i < expected.size(); i++)
+		{
+			assertThat(actual.get(i).getTimestampNs()).isEqualTo(expected.get(i).getTimestampNs());
+			assertThat(actual.get(i).getType()).isEqualTo(expected.get(i).getType());
+			assertThat(actual.get(i).getData()).isEqualTo(expected.get(i).getData());
+		}
+	}
+
+
+	private Path gzip(Path file) throws IOException
+	{
+		Path gzFile = file.resolveSibling(file.getFileName() + ".gz");
+		try (InputStream in = Files.newInputStream(file);
+				OutputStream out = new GZIPOutputStream(Files.newOutputStream(gzFile)))
+		{
+			in.transferTo(out);
+		}
+		return gzFile;
+	}
+
+
+	private static Set<Path> rawTempFiles() throws IOException
+	{
+		try (Stream<Path> files = Files.list(Path.of(System.getProperty("java.io.tmpdir"))))
+		{
+			return new HashSet<>(files.filter(p -> p.getFileName().toString().startsWith("test.log.gz")).toList());
+		}
+	}
+}
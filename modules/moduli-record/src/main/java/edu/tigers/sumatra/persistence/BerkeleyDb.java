@@ -1,10 +1,11 @@
 /*
- * Copyright (c) 2009 - 2022, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 
 package edu.tigers.sumatra.persistence;
 
 import edu.tigers.sumatra.model.SumatraModel;
+import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
 import net.lingala.zip4j.ZipFile;
 import net.lingala.zip4j.exception.ZipException;
@@ -38,6 +39,11 @@ public class BerkeleyDb
 	private final BerkeleyEnv env = new BerkeleyEnv();
 	private final Path dbPath;
 	private final Map<Class<?>, IBerkeleyAccessor<?>> accessors = new HashMap<>();
+	/**
+	 * Store frames of a new database in chunk files instead of the berkeley store
+	 */
+	@Setter
+	private boolean chunkedStorage = false;
 
 
 	/**
@@ -143,6 +149,26 @@ public class BerkeleyDb
 	}
 
 
+	/**
+	 * Add an accessor for timestamp-indexed frames.
+	 * Existing databases are read in the format they were written in,
+	 * new databases use the chunked storage, if enabled.
+	 *
+	 * @param clazz                 the entity class
+	 * @param sumatraTimestampBased true, if the key is a Sumatra timestamp
+	 */
+	public <T> void add(Class<T> clazz, boolean sumatraTimestampBased)
+	{
+		if (ChunkedAccessor.exists(dbPath, clazz) || (chunkedStorage && !dbPath.toFile().exists()))
+		{
+			add(clazz, new ChunkedAccessor<>(clazz, sumatraTimestampBased));
+		} else
+		{
+			add(clazz, new BerkeleyAccessor<>(clazz, sumatraTimestampBased));
+		}
+	}
+
+
 	public Set<Class<?>> getAccessorTypes()
 	{
 		return Collections.unmodifiableSet(accessors.keySet());
@@ -257,6 +283,7 @@ public class BerkeleyDb
 	 */
 	public void close()
 	{
+		accessors.values().forEach(IBerkeleyAccessor::close);
 		env.close();
 	}
 
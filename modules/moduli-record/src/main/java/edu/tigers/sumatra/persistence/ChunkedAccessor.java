@@ -0,0 +1,547 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+package edu.tigers.sumatra.persistence;
+
+import com.sleepycat.bind.EntityBinding;
+import com.sleepycat.bind.EntryBinding;
+import com.sleepycat.je.DatabaseEntry;
+import com.sleepycat.persist.EntityStore;
+import com.sleepycat.persist.PrimaryIndex;
+import lombok.extern.log4j.Log4j2;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+
+/**
+ * An accessor for timestamp-indexed data that stores the frames of a single type in an append-only file
+ * next to the berkeley environment.
+ * <p>
+ * Frames are serialized with the entity binding of the berkeley store, so the same class catalog and proxies are used,
+ * but they are written in deflate-compressed chunks instead of a B-tree. Only the chunk headers
+ * (key range and file offset) are kept in memory as a sparse index.
+ * A lookup decompresses at most the chunks that overlap the requested key, the last decoded chunks are cached.
+ * <p>
+ * The key must be a timestamp that is set by the element itself, sequence keys are not supported.
+ *
+ * @param <T>
+ */
+@Log4j2
+public class ChunkedAccessor<T> implements IBerkeleyAccessor<T>
+{
+	private static final String FILE_SUFFIX = ".chunks";
+	private static final int MAGIC = 0x53434b31;
+	private static final int HEADER_SIZE = 4 + 4 + 8 + 8 + 4 + 4;
+	private static final int RECORDS_PER_CHUNK = 256;
+	private static final int MAX_CACHED_CHUNKS = 4;
+	private static final long EXPECTED_FRAME_RATE = 16;
+
+	private final Class<T> clazz;
+	private final boolean sumatraTimestampBased;
+	private final List<Chunk> chunks = new ArrayList<>();
+	private final NavigableMap<Long, byte[]> pending = new TreeMap<>();
+	private final Map<Chunk, DecodedChunk> cache = new LinkedHashMap<>(MAX_CACHED_CHUNKS, 0.75f, true)
+	{
+		@Override
+		protected boolean removeEldestEntry(final Map.Entry<Chunk, DecodedChunk> eldest)
+		{
+			return size() > MAX_CACHED_CHUNKS;
+		}
+	};
+
+	private Deflater deflater;
+	private Inflater inflater;
+	private EntityBinding<T> entityBinding;
+	private EntryBinding<Long> keyBinding;
+	private FileChannel channel;
+	private long endOfFile;
+
+
+	/**
+	 * @param clazz                 the entity class
+	 * @param sumatraTimestampBased true, if the key is a Sumatra timestamp
+	 */
+	public ChunkedAccessor(final Class<T> clazz, final boolean sumatraTimestampBased)
+	{
+		this.clazz = clazz;
+		this.sumatraTimestampBased = sumatraTimestampBased;
+	}
+
+
+	/**
+	 * @param dbPath the database folder
+	 * @param clazz  the entity class
+	 * @return true, if there is a chunk file for the given class in the database
+	 */
+	public static boolean exists(final Path dbPath, final Class<?> clazz)
+	{
+		return getFile(dbPath.toFile(), clazz).exists();
+	}
+
+
+	private static File getFile(final File dbFolder, final Class<?> clazz)
+	{
+		return new File(dbFolder, clazz.getName() + FILE_SUFFIX);
+	}
+
+
+	@Override
+	public synchronized void open(final EntityStore entityStore)
+	{
+		PrimaryIndex<Long, T> index = entityStore.getPrimaryIndex(Long.class, clazz);
+		entityBinding = index.getEntityBinding();
+		keyBinding = index.getKeyBinding();
+
+		deflater = new Deflater(Deflater.BEST_SPEED);
+		inflater = new Inflater();
+
+		File file = getFile(entityStore.getEnvironment().getHome(), clazz);
+		try
+		{
+			channel = FileChannel.open(file.toPath(),
+					StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+			readIndex();
+		} catch (IOException e)
+		{
+			log.error("Could not open {}", file, e);
+		}
+	}
+
+
+	private void readIndex() throws IOException
+	{
+		ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+		long pos = 0;
+		long size = channel.size();
+		while (pos + HEADER_SIZE <= size)
+		{
+			header.clear();
+			channel.read(header, pos);
+			header.flip();
+			Chunk chunk = new Chunk(pos, header.getInt(), header.getInt(), header.getLong(), header.getLong(),
+					header.getInt(), header.getInt());
+			if (chunk.magic != MAGIC || pos + HEADER_SIZE + chunk.compressedSize > size)
+			{
+				log.warn("Ignoring incomplete chunk at {} in {}", pos, clazz.getSimpleName());
+				break;
+			}
+			chunks.add(chunk);
+			pos += HEADER_SIZE + chunk.compressedSize;
+		}
+		endOfFile = pos;
+	}
+
+
+	@Override
+	public synchronized void close()
+	{
+		if (channel != null)
+		{
+			try
+			{
+				writeChunk();
+				channel.close();
+			} catch (IOException e)
+			{
+				log.error("Could not close chunk file of {}", clazz.getSimpleName(), e);
+			}
+			channel = null;
+		}
+		chunks.clear();
+		cache.clear();
+		if (deflater != null)
+		{
+			// release the native resources, new ones are created when the accessor is opened again
+			deflater.end();
+			inflater.end();
+			deflater = null;
+			inflater = null;
+		}
+	}
+
+
+	@Override
+	public synchronized void write(final Collection<T> elements)
+	{
+		elements.forEach(this::write);
+	}
+
+
+	@Override
+	public synchronized void write(final T element)
+	{
+		if (element == null)
+		{
+			log.error("null element! sth is wrong...");
+			return;
+		}
+		ensureOpen();
+		DatabaseEntry keyEntry = new DatabaseEntry();
+		DatabaseEntry dataEntry = new DatabaseEntry();
+		entityBinding.objectToKey(element, keyEntry);
+		entityBinding.objectToData(element, dataEntry);
+		byte[] data = Arrays.copyOfRange(dataEntry.getData(), dataEntry.getOffset(),
+				dataEntry.getOffset() + dataEntry.getSize());
+		pending.put(keyBinding.entryToObject(keyEntry), data);
+
+		if (pending.size() >= RECORDS_PER_CHUNK)
+		{
+			try
+			{
+				writeChunk();
+			} catch (IOException e)
+			{
+				log.error("Could not write chunk of {}", clazz.getSimpleName(), e);
+			}
+		}
+	}
+
+
+	private void ensureOpen()
+	{
+		if (deflater == null)
+		{
+			throw new IllegalStateException("Chunk file of " + clazz.getSimpleName() + " is not open");
+		}
+	}
+
+
+	private void writeChunk() throws IOException
+	{
+		if (pending.isEmpty())
+		{
+			return;
+		}
+		int numRecords = pending.size();
+		int dataSize = pending.values().stream().mapToInt(d -> d.length).sum();
+		ByteBuffer raw = ByteBuffer.allocate(numRecords * (8 + 4) + dataSize);
+		pending.keySet().forEach(raw::putLong);
+		pending.values().forEach(d -> raw.putInt(d.length));
+		pending.values().forEach(raw::put);
+
+		deflater.reset();
+		deflater.setInput(raw.array());
+		deflater.finish();
+		byte[] compressed = new byte[Math.max(64, raw.capacity())];
+		int compressedSize = 0;
+		while (!deflater.finished())
+		{
+			if (compressedSize == compressed.length)
+			{
+				compressed = Arrays.copyOf(compressed, compressed.length * 2);
+			}
+			compressedSize += deflater.deflate(compressed, compressedSize, compressed.length - compressedSize);
+		}
+
+		Chunk chunk = new Chunk(endOfFile, MAGIC, numRecords, pending.firstKey(), pending.lastKey(),
+				compressedSize, raw.capacity());
+		ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + compressedSize);
+		buffer.putInt(MAGIC)
+				.putInt(numRecords)
+				.putLong(chunk.firstKey)
+				.putLong(chunk.lastKey)
+				.putInt(compressedSize)
+				.putInt(raw.capacity())
+				.put(compressed, 0, compressedSize)
+				.flip();
+		long pos = endOfFile;
+		while (buffer.hasRemaining())
+		{
+			pos += channel.write(buffer, pos);
+		}
+		endOfFile = pos;
+		chunks.add(chunk);
+		pending.clear();
+	}
+
+
+	private DecodedChunk decode(final Chunk chunk)
+	{
+		DecodedChunk decoded = cache.get(chunk);
+		if (decoded != null)
+		{
+			return decoded;
+		}
+		try
+		{
+			ByteBuffer compressed = ByteBuffer.allocate(chunk.compressedSize);
+			long pos = chunk.offset + HEADER_SIZE;
+			while (compressed.hasRemaining())
+			{
+				int n = channel.read(compressed, pos + compressed.position());
+				if (n < 0)
+				{
+					throw new IOException("Unexpected end of file");
+				}
+			}
+			byte[] raw = new byte[chunk.uncompressedSize];
+			inflater.reset();
+			inflater.setInput(compressed.array());
+			int size = 0;
+			while (size < raw.length && !inflater.finished())
+			{
+				size += inflater.inflate(raw, size, raw.length - size);
+			}
+			decoded = DecodedChunk.of(chunk.numRecords, raw);
+		} catch (IOException | DataFormatException e)
+		{
+			log.error("Could not read chunk at {} of {}", chunk.offset, clazz.getSimpleName(), e);
+			decoded = DecodedChunk.of(0, new byte[0]);
+		}
+		cache.put(chunk, decoded);
+		return decoded;
+	}
+
+
+	private T toObject(final long key, final byte[] data, final int offset, final int length)
+	{
+		DatabaseEntry keyEntry = new DatabaseEntry();
+		keyBinding.objectToEntry(key, keyEntry);
+		return entityBinding.entryToObject(keyEntry, new DatabaseEntry(data, offset, length));
+	}
+
+
+	@Override
+	public synchronized T get(final long tCur)
+	{
+		ensureOpen();
+		Long key = getNearestKey(tCur);
+		if (key == null)
+		{
+			return null;
+		}
+		byte[] data = pending.get(key);
+		if (data != null)
+		{
+			return toObject(key, data, 0, data.length);
+		}
+		// newer chunks overwrite older ones
+		for (int i = chunks.size() - 1; i >= 0; i--)
+		{
+			Chunk chunk = chunks.get(i);
+			if (chunk.contains(key))
+			{
+				DecodedChunk decoded = decode(chunk);
+				int idx = Arrays.binarySearch(decoded.keys, key);
+				if (idx >= 0)
+				{
+					return toObject(key, decoded.data, decoded.offsets[idx], decoded.lengths[idx]);
+				}
+			}
+		}
+		return null;
+	}
+
+
+	@Override
+	public synchronized void forEach(final Consumer<T> consumer)
+	{
+		ensureOpen();
+		List<Chunk> sortedChunks = new ArrayList<>(chunks);
+		sortedChunks.sort(Comparator.comparingLong(Chunk::firstKey));
+		for (Chunk chunk : sortedChunks)
+		{
+			// do not pollute the cache, the chunk is only needed once
+			DecodedChunk decoded = cache.containsKey(chunk) ? cache.get(chunk) : decode(chunk);
+			cache.remove(chunk);
+			for (int i = 0; i < decoded.keys.length; i++)
+			{
+				consumer.accept(toObject(decoded.keys[i], decoded.data, decoded.offsets[i], decoded.lengths[i]));
+			}
+		}
+		pending.forEach((key, data) -> consumer.accept(toObject(key, data, 0, data.length)));
+	}
+
+
+	@Override
+	public synchronized List<T> load()
+	{
+		List<T> elements = new ArrayList<>((int) size());
+		forEach(elements::add);
+		return elements;
+	}
+
+
+	@Override
+	public synchronized Long getNearestKey(final long key)
+	{
+		Long nearest = getCeilingKey(key - (EXPECTED_FRAME_RATE / 2), true);
+		if (nearest == null)
+		{
+			return getFirstKey();
+		}
+		return nearest;
+	}
+
+
+	@Override
+	public synchronized Long getNextKey(final long key)
+	{
+		return getCeilingKey(key, false);
+	}
+
+
+	@Override
+	public synchronized Long getPreviousKey(final long key)
+	{
+		Long best = pending.lowerKey(key);
+		for (Chunk chunk : chunks)
+		{
+			if (chunk.firstKey >= key || (best != null && chunk.lastKey <= best))
+			{
+				continue;
+			}
+			if (chunk.lastKey < key)
+			{
+				best = chunk.lastKey;
+			} else
+			{
+				long[] keys = decode(chunk).keys;
+				int idx = Arrays.binarySearch(keys, key);
+				int lower = (idx >= 0 ? idx : -idx - 1) - 1;
+				if (lower >= 0 && (best == null || keys[lower] > best))
+				{
+					best = keys[lower];
+				}
+			}
+		}
+		return best;
+	}
+
+
+	private Long getCeilingKey(final long key, final boolean inclusive)
+	{
+		Long best = inclusive ? pending.ceilingKey(key) : pending.higherKey(key);
+		for (Chunk chunk : chunks)
+		{
+			boolean before = inclusive ? chunk.lastKey < key : chunk.lastKey <= key;
+			if (before || (best != null && chunk.firstKey >= best))
+			{
+				continue;
+			}
+			boolean after = inclusive ? chunk.firstKey >= key : chunk.firstKey > key;
+			if (after)
+			{
+				best = chunk.firstKey;
+			} else
+			{
+				long[] keys = decode(chunk).keys;
+				int idx = Arrays.binarySearch(keys, key);
+				int upper = idx >= 0 ? (inclusive ? idx : idx + 1) : -idx - 1;
+				if (upper < keys.length && (best == null || keys[upper] < best))
+				{
+					best = keys[upper];
+				}
+			}
+		}
+		return best;
+	}
+
+
+	@Override
+	public synchronized long size()
+	{
+		return chunks.stream().mapToLong(Chunk::numRecords).sum() + pending.size();
+	}
+
+
+	@Override
+	public synchronized Long getFirstKey()
+	{
+		Long first = pending.isEmpty() ? null : pending.firstKey();
+		for (Chunk chunk : chunks)
+		{
+			if (first == null || chunk.firstKey < first)
+			{
+				first = chunk.firstKey;
+			}
+		}
+		return first;
+	}
+
+
+	@Override
+	public synchronized Long getLastKey()
+	{
+		Long last = pending.isEmpty() ? null : pending.lastKey();
+		for (Chunk chunk : chunks)
+		{
+			if (last == null || chunk.lastKey > last)
+			{
+				last = chunk.lastKey;
+			}
+		}
+		return last;
+	}
+
+
+	@Override
+	public boolean isSumatraTimestampBased()
+	{
+		return sumatraTimestampBased;
+	}
+
+
+	/**
+	 * The header of a chunk in the file, which is also an entry of the sparse index.
+	 */
+	private record Chunk(
+			long offset,
+			int magic,
+			int numRecords,
+			long firstKey,
+			long lastKey,
+			int compressedSize,
+			int uncompressedSize
+	)
+	{
+		boolean contains(long key)
+		{
+			return firstKey <= key && key <= lastKey;
+		}
+	}
+
+	/**
+	 * The uncompressed content of a chunk: all keys, followed by all record lengths, followed by all records.
+	 */
+	private record DecodedChunk(long[] keys, int[] offsets, int[] lengths, byte[] data)
+	{
+		static DecodedChunk of(int numRecords, byte[] raw)
+		{
+			ByteBuffer buffer = ByteBuffer.wrap(raw);
+			long[] keys = new long[numRecords];
+			int[] lengths = new int[numRecords];
+			int[] offsets = new int[numRecords];
+			for (int i = 0; i < numRecords; i++)
+			{
+				keys[i] = buffer.getLong();
+			}
+			int offset = numRecords * (8 + 4);
+			for (int i = 0; i < numRecords; i++)
+			{
+				lengths[i] = buffer.getInt();
+				offsets[i] = offset;
+				offset += lengths[i];
+			}
+			return new DecodedChunk(keys, offsets, lengths, raw);
+		}
+	}
+}
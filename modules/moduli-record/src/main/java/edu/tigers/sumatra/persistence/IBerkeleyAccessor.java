@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2022, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 
 package edu.tigers.sumatra.persistence;
@@ -26,6 +26,14 @@ public interface IBerkeleyAccessor<T>
 	void open(EntityStore entityStore);
 
 
+	/**
+	 * Close the accessor, before the entity store is closed
+	 */
+	default void close()
+	{
+	}
+
+
 	/**
 	 * @return the number of elements stored
 	 */
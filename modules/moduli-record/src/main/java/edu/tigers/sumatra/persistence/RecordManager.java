@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2022, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 
 package edu.tigers.sumatra.persistence;
@@ -45,6 +45,10 @@ public class RecordManager extends AModule implements IRefereeObserver
 	@Configurable(defValue = "false", comment = "Automatically compress recordings after they were closed")
 	private static boolean compressOnClose = false;
 
+	@Configurable(defValue = "false",
+			comment = "Store frames of new recordings in compressed chunk files instead of the berkeley store")
+	private static boolean chunkedStorage = false;
+
 	@Configurable(defValue = "true", comment = "Automatically record game in productive mode")
 	private static boolean autoRecord = true;
 
@@ -294,6 +298,7 @@ public class RecordManager extends AModule implements IRefereeObserver
 	public BerkeleyDb newBerkeleyDb(Path dbPath)
 	{
 		BerkeleyDb db = BerkeleyDb.withCustomLocation(dbPath);
+		db.setChunkedStorage(chunkedStorage);
 		onNewBerkeleyDb(db);
 		return db;
 	}
@@ -307,6 +312,7 @@ public class RecordManager extends AModule implements IRefereeObserver
 	private BerkeleyDb newBerkeleyDb()
 	{
 		BerkeleyDb db = BerkeleyDb.withDefaultLocation(matchType, matchStage, teamYellow, teamBlue);
+		db.setChunkedStorage(chunkedStorage);
 		onNewBerkeleyDb(db);
 		return db;
 	}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.sim;
+
+import edu.tigers.sumatra.ball.BallState;
+import edu.tigers.sumatra.ids.BotID;
+import edu.tigers.sumatra.ids.ETeamColor;
+import edu.tigers.sumatra.math.pose.Pose;
+import edu.tigers.sumatra.math.vector.Vector2;
+import edu.tigers.sumatra.math.vector.Vector2f;
+import edu.tigers.sumatra.math.vector.Vector3;
+import edu.tigers.sumatra.math.vector.Vector3f;
+import edu.tigers.sumatra.sim.dynamics.bot.EDriveMode;
+import edu.tigers.sumatra.sim.dynamics.bot.SimBotAction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+
+
+/**
+ * Simulation steps per second of the headless {@link SimPhysics} with a moving ball and driving robots.
+ * A single invocation simulates one camera frame, the score is given in physics steps ({@link SimPhysics#SIM_DT}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(value = 2, warmups = 1)
+@Warmup(iterations = 2)
+public class SimPhysicsBenchmark
+{
+	private static final int STEPS_PER_FRAME = (int) (SimPhysics.CAM_DT / SimPhysics.SIM_DT);
+	private static final int FRAMES_PER_SCENE = 200;
+	private static final double MAX_X = 6000;
+	private static final double MAX_Y = 4500;
+
+	@Param({ "2", "12", "22" })
+	private int numBots;
+
+	private final Random rnd = new Random(42);
+	private final SimPhysics physics = new SimPhysics();
+	private final SimState simState = new SimState();
+	private int frame = 0;
+
+
+	public static void main(String[] args) throws Exception
+	{
+		org.openjdk.jmh.Main.main(args);
+	}
+
+
+	@Setup
+	public void setup()
+	{
+		for (int i = 0; i < numBots; i++)
+		{
+			BotID botID = BotID.createBotId(i / 2, i % 2 == 0 ? ETeamColor.YELLOW : ETeamColor.BLUE);
+			physics.registerBot(simState, botID, Pose.from(rndPos(), 0), Vector3f.ZERO_VECTOR);
+		}
+		newScene();
+	}
+
+
+	@Benchmark
+	@OperationsPerInvocation(STEPS_PER_FRAME)
+	public Object simulateFrame()
+	{
+		if (++frame % FRAMES_PER_SCENE == 0)
+		{
+			newScene();
+		}
+		physics.processBotCollisions(simState);
+		physics.simulate(simState, SimPhysics.CAM_DT);
+		physics.updateKickEvent(simState);
+		return simState.getSimulatedBall().getState();
+	}
+
+
+	private void newScene()
+	{
+		for (SimulatedBot bot : simState.getSimulatedBots().values())
+		{
+			bot.setAction(SimBotAction.Builder.create()
+					.empty()
+					.targetPos(Vector3.from2d(rndPos(), rnd.nextDouble() * 2 * Math.PI))
+					.modeXY(EDriveMode.GLOBAL_POS)
+					.modeW(EDriveMode.GLOBAL_POS)
+					.dribbleRpm(rnd.nextBoolean() ? 0 : 1000)
+					.kickSpeed(rnd.nextBoolean() ? 0 : 4)
+					.build());
+		}
+		physics.placeBall(simState, BallState.builder()
+				.withPos(Vector3.from2d(rndPos(), 0))
+				.withVel(Vector3.from2d(Vector2.fromAngleLength(rnd.nextDouble() * 2 * Math.PI, 6000), 0))
+				.withAcc(Vector3f.ZERO_VECTOR)
+				.withSpin(Vector2f.ZERO_VECTOR)
+				.build());
+	}
+
+
+	private Vector2 rndPos()
+	{
+		return Vector2.fromXY((rnd.nextDouble() * 2 - 1) * MAX_X, (rnd.nextDouble() * 2 - 1) * MAX_Y);
+	}
+}
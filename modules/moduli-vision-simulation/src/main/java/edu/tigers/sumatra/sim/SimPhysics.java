@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.sim;
+
+import edu.tigers.sumatra.ball.BallState;
+import edu.tigers.sumatra.drawable.ShapeMap;
+import edu.tigers.sumatra.geometry.Geometry;
+import edu.tigers.sumatra.ids.BotID;
+import edu.tigers.sumatra.math.pose.Pose;
+import edu.tigers.sumatra.math.vector.IVector2;
+import edu.tigers.sumatra.math.vector.IVector3;
+import edu.tigers.sumatra.sim.collision.ball.ICollision;
+import edu.tigers.sumatra.sim.collision.bot.BotCollisionHandler;
+import edu.tigers.sumatra.sim.dynamics.bot.SimBotState;
+import edu.tigers.sumatra.vision.data.FilteredVisionBall;
+import edu.tigers.sumatra.vision.data.FilteredVisionBot;
+import edu.tigers.sumatra.vision.data.FilteredVisionFrame;
+import edu.tigers.sumatra.vision.data.FilteredVisionKick;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+
+/**
+ * The physics of the Sumatra simulator.
+ * It advances a {@link SimState} and creates the resulting filtered vision frames.
+ * It does not pace the simulation, so it can be used by the simulator module as well as headless.
+ */
+public class SimPhysics
+{
+	/**
+	 * Time between two vision frames [ns]
+	 */
+	public static final long CAM_DT = 10_000_000;
+	/**
+	 * Time of a single physics step [ns]
+	 */
+	public static final long SIM_DT = 1_000_000;
+
+	private final BotCollisionHandler botCollisionHandler = new BotCollisionHandler();
+
+
+	/**
+	 * Resolve collisions between robots. Should be called once per frame before the robot actions are updated.
+	 *
+	 * @param simState the current state
+	 */
+	public void processBotCollisions(final SimState simState)
+	{
+		botCollisionHandler.process(new ArrayList<>(simState.getSimulatedBots().values()));
+	}
+
+
+	/**
+	 * Simulate the ball and robots with their current actions.
+	 *
+	 * @param simState the state to advance
+	 * @param dt       the time to simulate [ns]
+	 */
+	public void simulate(final SimState simState, final long dt)
+	{
+		for (int i = 0; (i < (dt / SIM_DT)) && (i < 100); i++)
+		{
+			double stepDt = SIM_DT / 1e9;
+			simState.incSimTime(SIM_DT);
+			simState.getSimulatedBall().collision(stepDt);
+			simState.getSimulatedBall().dynamics(stepDt);
+			simState.getSimulatedBots().values()
+					.forEach(b -> b.setBallPos(simState.getSimulatedBall().getState().getPos().getXYVector()));
+			simState.getSimulatedBots().values().forEach(b -> b.dynamics(stepDt));
+		}
+	}
+
+
+	/**
+	 * Update the kick event based on the last ball collision.
+	 *
+	 * @param simState the current state
+	 */
+	public void updateKickEvent(final SimState simState)
+	{
+		if (simState.getSimulatedBall().getState().getVel().getLength() < 10)
+		{
+			simState.setLastKickEvent(null);
+			return;
+		}
+
+		Optional<ICollision> lastCollision = simState.getSimulatedBall().getLastCollision();
+		if (lastCollision.isPresent())
+		{
+			IVector2 pos = lastCollision.get().getPos();
+			BotID botID = lastCollision.get().getObject().getBotID();
+			SimulatedBot simulatedBot = simState.getSimulatedBots().get(botID);
+			if (simulatedBot != null
+					&& !lastCollision.get().getObject().getImpulse().isZeroVector()
+					&& (simState.getLastKickEvent() == null || !pos.equals(simState.getLastKickEvent().getPosition())))
+			{
+				simState.setLastKickEvent(
+						new SimKickEvent(
+								pos,
+								botID,
+								simState.getSimTime(),
+								simulatedBot.getState().getPose().getPos(),
+								simulatedBot.getState().getPose().getOrientation(),
+								simState.getSimulatedBall().getState()
+						)
+				);
+			}
+		}
+	}
+
+
+	/**
+	 * Place the ball without a kick event.
+	 *
+	 * @param simState  the current state
+	 * @param ballState the new ball state [mm]
+	 */
+	public void placeBall(final SimState simState, final BallState ballState)
+	{
+		simState.setLastKickEvent(null);
+		simState.getSimulatedBall().setState(ballState);
+	}
+
+
+	/**
+	 * Add a robot to the simulation, if it is not registered yet.
+	 *
+	 * @param simState    the current state
+	 * @param botId       the robot id
+	 * @param initialPose [mm, mm, rad]
+	 * @param vel         [mm/s, mm/s, rad/s]
+	 * @return true, if the robot was added
+	 */
+	public boolean registerBot(final SimState simState, final BotID botId, final Pose initialPose, final IVector3 vel)
+	{
+		if (simState.getSimulatedBots().containsKey(botId))
+		{
+			return false;
+		}
+		simState.getSimulatedBots().put(botId, new SimulatedBot(botId, new SimBotState(initialPose, vel)));
+		return true;
+	}
+
+
+	/**
+	 * Create a filtered vision frame from the current state.
+	 *
+	 * @param simState the current state
+	 * @return a new frame that represents the true state
+	 */
+	public FilteredVisionFrame createFilteredFrame(final SimState simState)
+	{
+		List<FilteredVisionBot> filteredBots = new ArrayList<>();
+		for (Map.Entry<BotID, SimulatedBot> e : simState.getSimulatedBots().entrySet())
+		{
+			BotID botID = e.getKey();
+			SimulatedBot bot = e.getValue();
+			SimBotState botState = bot.getState();
+			Pose pose = botState.getPose();
+			IVector3 vel = botState.getVel();
+			FilteredVisionBot fBot = FilteredVisionBot.builder()
+					.withPos(pose.getPos())
+					.withVel(vel.getXYVector().multiplyNew(1e-3))
+					.withOrientation(pose.getOrientation())
+					.withAngularVel(vel.z())
+					.withBotID(botID)
+					.withTimestamp(simState.getSimTime())
+					.withQuality(1.0)
+					.build();
+			filteredBots.add(fBot);
+		}
+
+		FilteredVisionBall filteredBall = FilteredVisionBall.builder()
+				.withTimestamp(simState.getSimTime())
+				.withBallState(simState.getSimulatedBall().getState())
+				.withLastVisibleTimestamp(simState.getSimTime())
+				.build();
+
+		FilteredVisionKick filteredKick = null;
+
+		if (simState.getLastKickEvent() != null)
+		{
+			SimKickEvent kick = simState.getLastKickEvent();
+
+			filteredKick = FilteredVisionKick.builder()
+					.withKickTimestamp(kick.getTimestamp())
+					.withTrajectoryStartTime(kick.getTimestamp())
+					.withKickingBot(kick.getKickingBot())
+					.withKickingBotPosition(kick.getKickingBotPosition())
+					.withKickingBotOrientation(kick.getBotDirection())
+					.withNumBallDetectionsSinceKick(100)
+					.withBallTrajectory(Geometry.getBallFactory().createTrajectoryFromState(kick.getKickBallState()))
+					.build();
+		}
+
+		return FilteredVisionFrame.builder()
+				.withBots(filteredBots)
+				.withBall(filteredBall)
+				.withId(simState.getFrameId())
+				.withTimestamp(simState.getSimTime())
+				.withKick(filteredKick)
+				.withShapeMap(new ShapeMap())
+				.build();
+	}
+}
@@ -1,12 +1,11 @@
 /*
- * Copyright (c) 2009 - 2022, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 
 package edu.tigers.sumatra.sim;
 
 import edu.tigers.sumatra.ball.BallState;
 import edu.tigers.sumatra.ball.trajectory.IBallTrajectory;
-import edu.tigers.sumatra.drawable.ShapeMap;
 import edu.tigers.sumatra.geometry.Geometry;
 import edu.tigers.sumatra.ids.AObjectID;
 import edu.tigers.sumatra.ids.BotID;
@@ -22,8 +21,6 @@ import edu.tigers.sumatra.model.SumatraModel;
 import edu.tigers.sumatra.referee.AReferee;
 import edu.tigers.sumatra.referee.IRefereeObserver;
 import edu.tigers.sumatra.referee.proto.SslGcRefereeMessage;
-import edu.tigers.sumatra.sim.collision.ball.ICollision;
-import edu.tigers.sumatra.sim.collision.bot.BotCollisionHandler;
 import edu.tigers.sumatra.sim.dynamics.bot.SimBotAction;
 import edu.tigers.sumatra.sim.dynamics.bot.SimBotState;
 import edu.tigers.sumatra.sim.net.SimNetServer;
@@ -32,12 +29,10 @@ import edu.tigers.sumatra.vision.IBallPlacer;
 import edu.tigers.sumatra.vision.data.FilteredVisionBall;
 import edu.tigers.sumatra.vision.data.FilteredVisionBot;
 import edu.tigers.sumatra.vision.data.FilteredVisionFrame;
-import edu.tigers.sumatra.vision.data.FilteredVisionKick;
 import lombok.extern.log4j.Log4j2;
 import org.apache.logging.log4j.ThreadContext;
 
 import java.util.ArrayDeque;
-import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Deque;
 import java.util.HashMap;
@@ -61,11 +56,11 @@ import java.util.stream.Collectors;
 @Log4j2
 public class SumatraSimulator extends ASumatraSimulator implements IRefereeObserver, SimNetServer.ISimNetObserver
 {
-	private static final long CAM_DT = 10_000_000;
-	private static final long SIM_DT = 1_000_000;
+	private static final long CAM_DT = SimPhysics.CAM_DT;
+	private static final long SIM_DT = SimPhysics.SIM_DT;
 	private static final double SIMULATION_BUFFER_TIME = 5;
 	private static boolean waitForRemoteAis = false;
-	private final BotCollisionHandler botCollisionHandler = new BotCollisionHandler();
+	private final SimPhysics physics = new SimPhysics();
 	private final Deque<FilteredVisionFrame> stateBuffer = new ArrayDeque<>();
 	private final SimNetServer simNetServer = new SimNetServer();
 	private final Object simSync = new Object();
@@ -182,8 +177,7 @@ public class SumatraSimulator extends ASumatraSimulator implements IRefereeObser
 				log.warn("Can not register a bot id twice: {}", botId);
 			} else
 			{
-				SimBotState state = new SimBotState(initialPose, vel);
-				simState.getSimulatedBots().put(botId, new SimulatedBot(botId, state));
+				physics.registerBot(simState, botId, initialPose, vel);
 				simulatorObservers.forEach(o -> o.onBotAdded(botId));
 			}
 		}
@@ -249,20 +243,9 @@ public class SumatraSimulator extends ASumatraSimulator implements IRefereeObser
 
 	private void simulate(final long dt)
 	{
-		processBotCollisions();
+		physics.processBotCollisions(simState);
 		updateSimBotActions();
-
-		for (int i = 0; (i < (dt / SIM_DT)) && (i < 100); i++)
-		{
-			double stepDt = SIM_DT / 1e9;
-			simState.incSimTime(SIM_DT);
-			simState.getSimulatedBall().collision(stepDt);
-			simState.getSimulatedBall().dynamics(stepDt);
-			simState.getSimulatedBots().values()
-					.forEach(b -> b.setBallPos(simState.getSimulatedBall().getState().getPos().getXYVector()));
-			simState.getSimulatedBots().values().forEach(b -> b.dynamics(stepDt));
-		}
-
+		physics.simulate(simState, dt);
 		simNetServer.publish(simState);
 	}
 
@@ -277,8 +260,7 @@ public class SumatraSimulator extends ASumatraSimulator implements IRefereeObser
 		moveBotsAwayFromBallTargetPos();
 
 		IBallTrajectory traj = Geometry.getBallFactory().createTrajectoryFromBallAtRest(ballTargetPos.getXYVector());
-		simState.setLastKickEvent(null);
-		simState.getSimulatedBall().setState(traj.getMilliStateAtTime(0));
+		physics.placeBall(simState, traj.getMilliStateAtTime(0));
 		ballTargetPos = null;
 	}
 
@@ -324,101 +306,6 @@ public class SumatraSimulator extends ASumatraSimulator implements IRefereeObser
 	}
 
 
-	private void processBotCollisions()
-	{
-		botCollisionHandler.process(new ArrayList<>(simState.getSimulatedBots().values()));
-	}
-
-
-	private FilteredVisionFrame createFilteredFrame()
-	{
-		List<FilteredVisionBot> filteredBots = new ArrayList<>();
-		for (Map.Entry<BotID, SimulatedBot> e : simState.getSimulatedBots().entrySet())
-		{
-			BotID botID = e.getKey();
-			SimulatedBot bot = e.getValue();
-			SimBotState botState = bot.getState();
-			Pose pose = botState.getPose();
-			IVector3 vel = botState.getVel();
-			FilteredVisionBot fBot = FilteredVisionBot.builder()
-					.withPos(pose.getPos())
-					.withVel(vel.getXYVector().multiplyNew(1e-3))
-					.withOrientation(pose.getOrientation())
-					.withAngularVel(vel.z())
-					.withBotID(botID)
-					.withTimestamp(simState.getSimTime())
-					.withQuality(1.0)
-					.build();
-			filteredBots.add(fBot);
-		}
-
-		FilteredVisionBall filteredBall = FilteredVisionBall.builder()
-				.withTimestamp(simState.getSimTime())
-				.withBallState(simState.getSimulatedBall().getState())
-				.withLastVisibleTimestamp(simState.getSimTime())
-				.build();
-
-		FilteredVisionKick filteredKick = null;
-
-		if (simState.getLastKickEvent() != null)
-		{
-			SimKickEvent kick = simState.getLastKickEvent();
-
-			filteredKick = FilteredVisionKick.builder()
-					.withKickTimestamp(kick.getTimestamp())
-					.withTrajectoryStartTime(kick.getTimestamp())
-					.withKickingBot(kick.getKickingBot())
-					.withKickingBotPosition(kick.getKickingBotPosition())
-					.withKickingBotOrientation(kick.getBotDirection())
-					.withNumBallDetectionsSinceKick(100)
-					.withBallTrajectory(Geometry.getBallFactory().createTrajectoryFromState(kick.getKickBallState()))
-					.build();
-		}
-
-		return FilteredVisionFrame.builder()
-				.withBots(filteredBots)
-				.withBall(filteredBall)
-				.withId(simState.getFrameId())
-				.withTimestamp(simState.getSimTime())
-				.withKick(filteredKick)
-				.withShapeMap(new ShapeMap())
-				.build();
-	}
-
-
-	private void updateKickEvent()
-	{
-		if (simState.getSimulatedBall().getState().getVel().getLength() < 10)
-		{
-			simState.setLastKickEvent(null);
-			return;
-		}
-
-		Optional<ICollision> lastCollision = simState.getSimulatedBall().getLastCollision();
-		if (lastCollision.isPresent())
-		{
-			IVector2 pos = lastCollision.get().getPos();
-			BotID botID = lastCollision.get().getObject().getBotID();
-			SimulatedBot simulatedBot = simState.getSimulatedBots().get(botID);
-			if (simulatedBot != null
-					&& !lastCollision.get().getObject().getImpulse().isZeroVector()
-					&& (simState.getLastKickEvent() == null || !pos.equals(simState.getLastKickEvent().getPosition())))
-			{
-				simState.setLastKickEvent(
-						new SimKickEvent(
-								pos,
-								botID,
-								simState.getSimTime(),
-								simulatedBot.getState().getPose().getPos(),
-								simulatedBot.getState().getPose().getOrientation(),
-								simState.getSimulatedBall().getState()
-						)
-				);
-			}
-		}
-	}
-
-
 	@SuppressWarnings("java:S1181") // Catching Throwable intentionally
 	@Override
 	public void run()
@@ -458,11 +345,11 @@ public class SumatraSimulator extends ASumatraSimulator implements IRefereeObser
 		synchronized (simSync)
 		{
 			simulate(CAM_DT);
-			updateKickEvent();
+			physics.updateKickEvent(simState);
 			simState.incFrameId();
 			ThreadContext.put("wfTs", String.valueOf(simState.getSimTime()));
 			ThreadContext.put("wfId", String.valueOf(simState.getFrameId()));
-			final FilteredVisionFrame filteredFrame = createFilteredFrame();
+			final FilteredVisionFrame filteredFrame = physics.createFilteredFrame(simState);
 			storeFrameInStateBuffer(filteredFrame);
 			publishFilteredVisionFrame(filteredFrame);
 		}
@@ -498,7 +385,7 @@ public class SumatraSimulator extends ASumatraSimulator implements IRefereeObser
 
 	public void publishFilteredVisionFrame()
 	{
-		publishFilteredVisionFrame(createFilteredFrame());
+		publishFilteredVisionFrame(physics.createFilteredFrame(simState));
 	}
 
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2021, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 
 package edu.tigers.sumatra.sim.collision.ball;
@@ -7,14 +7,9 @@ package edu.tigers.sumatra.sim.collision.ball;
 import com.github.g3force.configurable.Configurable;
 import edu.tigers.sumatra.ball.BallState;
 import edu.tigers.sumatra.geometry.Geometry;
-import edu.tigers.sumatra.geometry.Goal;
 import edu.tigers.sumatra.math.AngleMath;
-import edu.tigers.sumatra.math.SumatraMath;
-import edu.tigers.sumatra.math.line.Lines;
-import edu.tigers.sumatra.math.rectangle.Rectangle;
 import edu.tigers.sumatra.math.vector.IVector2;
 import edu.tigers.sumatra.math.vector.IVector3;
-import edu.tigers.sumatra.math.vector.Vector2;
 import edu.tigers.sumatra.math.vector.Vector2f;
 import edu.tigers.sumatra.math.vector.Vector3;
 import edu.tigers.sumatra.sim.ISimBot;
@@ -23,7 +18,6 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Stream;
 
 
 /**
@@ -31,16 +25,17 @@ import java.util.stream.Stream;
  */
 public class BallCollisionHandler
 {
-	private static final double GOAL_BORDER_WIDTH_MM = 20;
 	@Configurable(defValue = "false", comment = "Set spin after reflecting the ball on a collision")
 	private static boolean reflectSpin = false;
 	@Configurable(defValue = "0", comment = "[RPM] spin speed applied if sth is sticky to the ball")
 	private static double dribblingSpeed = 0.0;
 
+	private StaticCollisionWorld staticWorld;
+
 
 	public ICollisionState process(final BallState preState, final double dt, final Collection<? extends ISimBot> bots)
 	{
-		var collisionObjects = generateCollisionObjects(bots);
+		var collisionObjects = collectCandidates(preState, dt, bots);
 		var state = new BallCollisionState(preState);
 		var isBelowRobotHeight = preState.getPos().z() <= Geometry.getBallParameters().getMaxInterceptableHeight();
 
@@ -71,103 +66,58 @@ public class BallCollisionHandler
 	}
 
 
-	private List<ICollisionObject> generateCollisionObjects(final Collection<? extends ISimBot> bots)
+	/**
+	 * Collect the collision objects that may collide with the ball in this step, in the order of their priority:
+	 * bots first, then goals and field boundary.
+	 * The bounds are checked before creating the bot collision objects, as most bots are far away from the ball.
+	 * The swept bounds contain the ball position before the step, so inside collisions are covered as well.
+	 */
+	private List<ICollisionObject> collectCandidates(final BallState preState, final double dt,
+			final Collection<? extends ISimBot> bots)
 	{
-		List<ICollisionObject> objects = new ArrayList<>();
-
-		addBots(bots, objects);
-
-		objects.addAll(objectsFromGoal(Geometry.getGoalOur()));
-		objects.addAll(objectsFromGoal(Geometry.getGoalTheir()));
-
-		addFieldBoundary(objects);
-
-		return objects;
-	}
+		List<ICollisionObject> candidates = new ArrayList<>();
+		IVector3 pos = preState.getPos();
+		IVector3 vel = preState.getVel();
 
+		for (ISimBot bot : bots)
+		{
+			IVector3 botVel = bot.getState().getVel();
+			double postX = pos.x() + (vel.x() - botVel.x()) * dt;
+			double postY = pos.y() + (vel.y() - botVel.y()) * dt;
+			var bounds = CollisionBounds.aroundCircle(
+					bot.getState().getPose().getPos(),
+					BotCollisionObject.getBoundingRadius(bot.getCenter2DribblerDist()));
+			if (bounds.overlapsMovement(pos.x(), pos.y(), postX, postY))
+			{
+				candidates.add(createBotCollisionObject(bot));
+			}
+		}
 
-	private void addFieldBoundary(final List<ICollisionObject> objects)
-	{
-		double maxX = Geometry.getFieldLength() / 2 + Geometry.getBoundaryLength() - Geometry.getBallRadius();
-		double maxY = Geometry.getFieldWidth() / 2 + Geometry.getBoundaryWidth() - Geometry.getBallRadius();
-
-		objects.add(new LineSegmentCollisionObject(
-				Lines.segmentFromPoints(
-						Vector2f.fromXY(maxX, maxY),
-						Vector2f.fromXY(-maxX, maxY)),
-				Vector2f.fromY(-1),
-				true));
-		objects.add(new LineSegmentCollisionObject(
-				Lines.segmentFromPoints(
-						Vector2f.fromXY(maxX, -maxY),
-						Vector2f.fromXY(-maxX, -maxY)),
-				Vector2f.fromY(1),
-				true));
-
-		objects.add(new LineSegmentCollisionObject(
-				Lines.segmentFromPoints(
-						Vector2f.fromXY(maxX, maxY),
-						Vector2f.fromXY(maxX, -maxY)),
-				Vector2f.fromX(-1),
-				true));
-		objects.add(new LineSegmentCollisionObject(
-				Lines.segmentFromPoints(
-						Vector2f.fromXY(-maxX, maxY),
-						Vector2f.fromXY(-maxX, -maxY)),
-				Vector2f.fromX(1),
-				true));
+		getStaticWorld().addCandidates(pos.x(), pos.y(), pos.x() + vel.x() * dt, pos.y() + vel.y() * dt, candidates);
+		return candidates;
 	}
 
 
-	private List<ICollisionObject> objectsFromGoal(Goal goal)
+	private StaticCollisionWorld getStaticWorld()
 	{
-		var sign = Math.signum(goal.getCenter().x());
-		var x = Math.abs(goal.getCenter().x());
-		var width = goal.getWidth();
-
-		var positiveFront = Vector2.fromXY(x + Geometry.getLineWidth() / 2 + GOAL_BORDER_WIDTH_MM / 2,
-				width / 2 + GOAL_BORDER_WIDTH_MM / 2).multiply(sign);
-		var negativeFront = Vector2.fromXY(x + Geometry.getLineWidth() / 2 + GOAL_BORDER_WIDTH_MM / 2,
-				-width / 2 - GOAL_BORDER_WIDTH_MM / 2).multiply(sign);
-
-		var backDistance = SumatraMath.max(
-				Geometry.getBoundaryWidth() - GOAL_BORDER_WIDTH_MM - Geometry.getLineWidth() / 2,
-				goal.getDepth()
-		);
-
-		var backOffset = Vector2.fromX(backDistance).multiply(sign);
-		var middleOffset = Vector2.fromX(goal.getDepth()).multiply(sign);
-
-		var positiveBack = positiveFront.addNew(backOffset);
-		var negativeBack = negativeFront.addNew(backOffset);
-
-		var positiveMiddle = positiveFront.addNew(middleOffset);
-		var negativeMiddle = negativeFront.addNew(middleOffset);
-
-		return Stream.of(
-						Lines.segmentFromPoints(positiveFront, positiveBack),
-						Lines.segmentFromPoints(negativeFront, negativeBack),
-						Lines.segmentFromPoints(positiveMiddle, negativeMiddle)
-				)
-				.map(segment -> Rectangle.aroundLine(segment, GOAL_BORDER_WIDTH_MM / 2))
-				.map(rectangle -> new RectCollisionObject(rectangle, true))
-				.map(ICollisionObject.class::cast)
-				.toList();
+		if (staticWorld == null || !staticWorld.isUpToDate())
+		{
+			staticWorld = StaticCollisionWorld.fromGeometry();
+		}
+		return staticWorld;
 	}
 
 
-	private void addBots(final Collection<? extends ISimBot> bots, final List<ICollisionObject> objects)
+	private BotCollisionObject createBotCollisionObject(final ISimBot bot)
 	{
-		bots.stream()
-				.map(info -> new BotCollisionObject(
-						info.getState().getPose(),
-						info.getState().getVel(),
-						info.getCenter2DribblerDist(),
-						info.getBotId(),
-						info.getAction().getDribbleRpm() > 0,
-						info.getAction().isDisarm() ? 0 : info.getAction().getKickSpeed(),
-						info.getAction().isChip()))
-				.forEach(objects::add);
+		return new BotCollisionObject(
+				bot.getState().getPose(),
+				bot.getState().getVel(),
+				bot.getCenter2DribblerDist(),
+				bot.getBotId(),
+				bot.getAction().getDribbleRpm() > 0,
+				bot.getAction().isDisarm() ? 0 : bot.getAction().getKickSpeed(),
+				bot.getAction().isChip());
 	}
 
 
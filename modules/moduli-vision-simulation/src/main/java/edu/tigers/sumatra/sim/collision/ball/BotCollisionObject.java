@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2021, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 
 package edu.tigers.sumatra.sim.collision.ball;
@@ -30,6 +30,11 @@ import static java.lang.Math.abs;
  */
 public class BotCollisionObject implements ICollisionObject
 {
+	/** margin of the front triangle, if the ball sticks on the dribbler */
+	private static final double STICKY_MARGIN = 10;
+	/** covers the corners of the front triangle with margin, which move further out than the margin itself */
+	private static final double BOUNDING_MARGIN = 5 * STICKY_MARGIN;
+
 	private final CircleCollisionObject circleCollisionObject;
 	private final KickerFrontLineCollisionObject lineCollision;
 	private final Pose pose;
@@ -115,6 +120,29 @@ public class BotCollisionObject implements ICollisionObject
 	}
 
 
+	/**
+	 * Get a radius around the bot center that contains all ball positions at which the ball can collide with the bot.
+	 * It can be checked before creating the collision object.
+	 *
+	 * @param center2DribblerDist the distance from the bot center to the dribbler [mm]
+	 * @return the bounding radius [mm]
+	 */
+	public static double getBoundingRadius(final double center2DribblerDist)
+	{
+		double circleRadius = Geometry.getBotRadius() + Geometry.getBallRadius();
+		double theta = SumatraMath.acos(center2DribblerDist / Geometry.getBotRadius());
+		double kickWidth = (center2DribblerDist + Geometry.getBallRadius()) * SumatraMath.tan(theta) * 2.0;
+		double frontRadius = SumatraMath.sqrt(
+				SumatraMath.square(center2DribblerDist + Geometry.getBallRadius()) + SumatraMath.square(kickWidth));
+		if (Double.isNaN(frontRadius))
+		{
+			// no valid front line: only the circle can collide
+			frontRadius = 0;
+		}
+		return Math.max(circleRadius, frontRadius) + BOUNDING_MARGIN;
+	}
+
+
 	@Override
 	public IVector3 getVel()
 	{
@@ -159,7 +187,8 @@ public class BotCollisionObject implements ICollisionObject
 	{
 		if (isInFront(prePos))
 		{
-			double margin = lineCollision.isSticky() && lineCollision.getImpulse().getXYVector().isZeroVector() ? 10
+			double margin = lineCollision.isSticky() && lineCollision.getImpulse().getXYVector().isZeroVector()
+					? STICKY_MARGIN
 					: 0;
 			if (frontTriangle.withMargin(margin).isPointInShape(prePos.getXYVector()))
 			{
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.sim.collision.ball;
+
+import edu.tigers.sumatra.math.vector.IVector2;
+
+
+/**
+ * An axis-aligned box that contains all ball positions at which a collision object can collide with the ball.
+ * It is used as broad phase in front of the exact collision tests.
+ */
+record CollisionBounds(double minX, double minY, double maxX, double maxY)
+{
+	/**
+	 * @param center the center [mm]
+	 * @param radius the radius [mm]
+	 * @return the box around the circle
+	 */
+	static CollisionBounds aroundCircle(final IVector2 center, final double radius)
+	{
+		return new CollisionBounds(center.x() - radius, center.y() - radius, center.x() + radius, center.y() + radius);
+	}
+
+
+	/**
+	 * @param p1     first point
+	 * @param p2     second point
+	 * @param margin the margin to add on all sides [mm]
+	 * @return the box around both points
+	 */
+	static CollisionBounds aroundPoints(final IVector2 p1, final IVector2 p2, final double margin)
+	{
+		return new CollisionBounds(
+				Math.min(p1.x(), p2.x()) - margin,
+				Math.min(p1.y(), p2.y()) - margin,
+				Math.max(p1.x(), p2.x()) + margin,
+				Math.max(p1.y(), p2.y()) + margin);
+	}
+
+
+	/**
+	 * @param preX  x of the start of the ball movement
+	 * @param preY  y of the start of the ball movement
+	 * @param postX x of the end of the ball movement
+	 * @param postY y of the end of the ball movement
+	 * @return false, if the ball movement can not collide with the object
+	 */
+	boolean overlapsMovement(final double preX, final double preY, final double postX, final double postY)
+	{
+		return Math.min(preX, postX) <= maxX
+				&& Math.max(preX, postX) >= minX
+				&& Math.min(preY, postY) <= maxY
+				&& Math.max(preY, postY) >= minY;
+	}
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.sim.collision.ball;
+
+import edu.tigers.sumatra.cam.data.CamGeometry;
+import edu.tigers.sumatra.geometry.Geometry;
+import edu.tigers.sumatra.geometry.Goal;
+import edu.tigers.sumatra.math.SumatraMath;
+import edu.tigers.sumatra.math.line.ILineSegment;
+import edu.tigers.sumatra.math.line.Lines;
+import edu.tigers.sumatra.math.rectangle.IRectangle;
+import edu.tigers.sumatra.math.rectangle.Rectangle;
+import edu.tigers.sumatra.math.vector.IVector2;
+import edu.tigers.sumatra.math.vector.Vector2;
+import edu.tigers.sumatra.math.vector.Vector2f;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * The static collision objects of the field (goals and field boundary) together with their bounds.
+ * They only depend on the geometry, so they are created once per geometry instead of once per simulation step.
+ */
+class StaticCollisionWorld
+{
+	private static final double GOAL_BORDER_WIDTH_MM = 20;
+	/** tolerance of the exact collision tests, e.g. line segments also collide with points close to the line */
+	private static final double BOUNDS_MARGIN = 1;
+
+	private final CamGeometry geometry;
+	private final List<ICollisionObject> objects = new ArrayList<>();
+	private final List<CollisionBounds> bounds = new ArrayList<>();
+
+
+	private StaticCollisionWorld(final CamGeometry geometry)
+	{
+		this.geometry = geometry;
+		addGoal(Geometry.getGoalOur());
+		addGoal(Geometry.getGoalTheir());
+		addFieldBoundary();
+	}
+
+
+	/**
+	 * @return the static collision world of the current geometry
+	 */
+	static StaticCollisionWorld fromGeometry()
+	{
+		return new StaticCollisionWorld(Geometry.getLastCamGeometry());
+	}
+
+
+	/**
+	 * Each geometry update creates a new {@link CamGeometry}, so comparing the instance also covers
+	 * the goals, the boundary, the line width and the ball radius.
+	 *
+	 * @return true, if this world was created from the current geometry
+	 */
+	boolean isUpToDate()
+	{
+		return Geometry.getLastCamGeometry() == geometry;
+	}
+
+
+	/**
+	 * Add all objects that may collide with the given ball movement.
+	 *
+	 * @param preX       x of the start of the ball movement
+	 * @param preY       y of the start of the ball movement
+	 * @param postX      x of the end of the ball movement
+	 * @param postY      y of the end of the ball movement
+	 * @param candidates the list to add the objects to
+	 */
+	void addCandidates(final double preX, final double preY, final double postX, final double postY,
+			final List<ICollisionObject> candidates)
+	{
+		for (int i = 0; i < objects.size(); i++)
+		{
+			if (bounds.get(i).overlapsMovement(preX, preY, postX, postY))
+			{
+				candidates.add(objects.get(i));
+			}
+		}
+	}
+
+
+	/**
+	 * @return all static collision objects
+	 */
+	List<ICollisionObject> getObjects()
+	{
+		return objects;
+	}
+
+
+	private void addFieldBoundary()
+	{
+		double maxX = Geometry.getFieldLength() / 2 + Geometry.getBoundaryLength() - Geometry.getBallRadius();
+		double maxY = Geometry.getFieldWidth() / 2 + Geometry.getBoundaryWidth() - Geometry.getBallRadius();
+
+		addLineSegment(Vector2f.fromXY(maxX, maxY), Vector2f.fromXY(-maxX, maxY), Vector2f.fromY(-1));
+		addLineSegment(Vector2f.fromXY(maxX, -maxY), Vector2f.fromXY(-maxX, -maxY), Vector2f.fromY(1));
+		addLineSegment(Vector2f.fromXY(maxX, maxY), Vector2f.fromXY(maxX, -maxY), Vector2f.fromX(-1));
+		addLineSegment(Vector2f.fromXY(-maxX, maxY), Vector2f.fromXY(-maxX, -maxY), Vector2f.fromX(1));
+	}
+
+
+	private void addLineSegment(final IVector2 start, final IVector2 end, final IVector2 normal)
+	{
+		objects.add(new LineSegmentCollisionObject(Lines.segmentFromPoints(start, end), normal, true));
+		bounds.add(CollisionBounds.aroundPoints(start, end, BOUNDS_MARGIN));
+	}
+
+
+	private void addGoal(final Goal goal)
+	{
+		var sign = Math.signum(goal.getCenter().x());
+		var x = Math.abs(goal.getCenter().x());
+		var width = goal.getWidth();
+
+		var positiveFront = Vector2.fromXY(x + Geometry.getLineWidth() / 2 + GOAL_BORDER_WIDTH_MM / 2,
+				width / 2 + GOAL_BORDER_WIDTH_MM / 2).multiply(sign);
+		var negativeFront = Vector2.fromXY(x + Geometry.getLineWidth() / 2 + GOAL_BORDER_WIDTH_MM / 2,
+				-width / 2 - GOAL_BORDER_WIDTH_MM / 2).multiply(sign);
+
+		var backDistance = SumatraMath.max(
+				Geometry.getBoundaryWidth() - GOAL_BORDER_WIDTH_MM - Geometry.getLineWidth() / 2,
+				goal.getDepth()
+		);
+
+		var backOffset = Vector2.fromX(backDistance).multiply(sign);
+		var middleOffset = Vector2.fromX(goal.getDepth()).multiply(sign);
+
+		var positiveBack = positiveFront.addNew(backOffset);
+		var negativeBack = negativeFront.addNew(backOffset);
+
+		var positiveMiddle = positiveFront.addNew(middleOffset);
+		var negativeMiddle = negativeFront.addNew(middleOffset);
+
+		for (ILineSegment segment : List.of(
+				Lines.segmentFromPoints(positiveFront, positiveBack),
+				Lines.segmentFromPoints(negativeFront, negativeBack),
+				Lines.segmentFromPoints(positiveMiddle, negativeMiddle)))
+		{
+			IRectangle rectangle = Rectangle.aroundLine(segment, GOAL_BORDER_WIDTH_MM / 2);
+			IRectangle withBall = rectangle.withMargin(Geometry.getBallRadius() + BOUNDS_MARGIN);
+			objects.add(new RectCollisionObject(rectangle, true));
+			bounds.add(new CollisionBounds(withBall.minX(), withBall.minY(), withBall.maxX(), withBall.maxY()));
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2023, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 
 package edu.tigers.sumatra.sim.collision.bot;
@@ -29,9 +29,17 @@ public class BotCollisionHandler
 	//	influenceFactor = 1 -> impulse orthogonal to the collision will behave as if the collision was 90° shifted
 	private static final double INFLUENCE_FACTOR = 0.1;
 
+	/** bot indices sorted by x, kept between steps, because the order barely changes */
+	private int[] order = new int[0];
+	private double[] x = new double[0];
+
 
 	public void process(final List<SimulatedBot> botsInPlay)
 	{
+		if (!anyBotsColliding(botsInPlay))
+		{
+			return;
+		}
 		for (int i = 0; i < botsInPlay.size(); i++)
 		{
 			for (int j = i + 1; j < botsInPlay.size(); j++)
@@ -48,6 +56,65 @@ public class BotCollisionHandler
 	}
 
 
+	/**
+	 * Broad phase: sweep over the bots sorted by x and only check the pairs whose x-ranges overlap.
+	 * Collisions are rare, so the full pairwise resolution is only done if at least one pair collides.
+	 */
+	private boolean anyBotsColliding(final List<SimulatedBot> botsInPlay)
+	{
+		int n = botsInPlay.size();
+		if (order.length != n)
+		{
+			order = new int[n];
+			x = new double[n];
+			for (int i = 0; i < n; i++)
+			{
+				order[i] = i;
+			}
+		}
+		double maxRadius = 0;
+		for (int i = 0; i < n; i++)
+		{
+			x[i] = botsInPlay.get(i).getState().getPose().getPos().x();
+			maxRadius = Math.max(maxRadius, botsInPlay.get(i).getRadius());
+		}
+		sortOrderByX();
+
+		for (int i = 0; i < n; i++)
+		{
+			SimulatedBot bot1 = botsInPlay.get(order[i]);
+			double maxDist = bot1.getRadius() + maxRadius;
+			for (int j = i + 1; j < n && x[order[j]] - x[order[i]] < maxDist; j++)
+			{
+				if (twoBotsAreColliding(bot1, botsInPlay.get(order[j])))
+				{
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+
+	/**
+	 * Insertion sort, which is linear for the almost sorted order of the last step.
+	 */
+	private void sortOrderByX()
+	{
+		for (int i = 1; i < order.length; i++)
+		{
+			int index = order[i];
+			int j = i - 1;
+			while (j >= 0 && x[order[j]] > x[index])
+			{
+				order[j + 1] = order[j];
+				j--;
+			}
+			order[j + 1] = index;
+		}
+	}
+
+
 	private boolean twoBotsAreColliding(final ISimBot bot1, final ISimBot bot2)
 	{
 		final IVector2 pos1 = bot1.getState().getPose().getPos();
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.sim.collision.ball;
+
+import edu.tigers.sumatra.cam.data.CamGeometry;
+import edu.tigers.sumatra.geometry.Geometry;
+import edu.tigers.sumatra.ids.BotID;
+import edu.tigers.sumatra.ids.ETeamColor;
+import edu.tigers.sumatra.math.pose.Pose;
+import edu.tigers.sumatra.math.vector.IVector2;
+import edu.tigers.sumatra.math.vector.IVector3;
+import edu.tigers.sumatra.math.vector.Vector2;
+import edu.tigers.sumatra.math.vector.Vector3;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+/**
+ * The broad phase must never reject a collision that the exact collision test would find.
+ */
+public class CollisionBoundsTest
+{
+	private static final int NUM_SAMPLES = 100_000;
+
+	private final Random rnd = new Random(42);
+
+
+	@Test
+	public void testBotBoundsContainAllCollisions()
+	{
+		int numCollisions = 0;
+		for (int i = 0; i < NUM_SAMPLES; i++)
+		{
+			double center2Dribbler = 60 + rnd.nextDouble() * 30;
+			Pose pose = Pose.from(rndVector(1000), rnd.nextDouble() * 2 * Math.PI);
+			boolean sticky = rnd.nextBoolean();
+			double kickSpeed = rnd.nextBoolean() ? 0 : 5;
+			var object = new BotCollisionObject(pose, Vector3.zero(), center2Dribbler,
+					BotID.createBotId(0, ETeamColor.YELLOW), sticky, kickSpeed, false);
+			var bounds = CollisionBounds.aroundCircle(pose.getPos(),
+					BotCollisionObject.getBoundingRadius(center2Dribbler));
+
+			IVector3 prePos = Vector3.from2d(pose.getPos().addNew(rndVector(300)), 0);
+			IVector3 postPos = Vector3.from2d(prePos.getXYVector().addNew(rndVector(50)), 0);
+			if (object.getCollision(prePos, postPos).isPresent())
+			{
+				numCollisions++;
+				assertThat(bounds.overlapsMovement(prePos.x(), prePos.y(), postPos.x(), postPos.y())).isTrue();
+			}
+			if (object.getInsideCollision(prePos).isPresent())
+			{
+				numCollisions++;
+				assertThat(bounds.overlapsMovement(prePos.x(), prePos.y(), prePos.x(), prePos.y())).isTrue();
+			}
+		}
+		assertThat(numCollisions).isGreaterThan(NUM_SAMPLES / 10);
+	}
+
+
+	@Test
+	public void testStaticBoundsContainAllCollisions()
+	{
+		var world = StaticCollisionWorld.fromGeometry();
+		assertThat(world.isUpToDate()).isTrue();
+
+		int numCollisions = 0;
+		for (int i = 0; i < NUM_SAMPLES; i++)
+		{
+			IVector2 pre = i % 2 == 0
+					? Vector2.fromXY(rndSign() * (5800 + rnd.nextDouble() * 600), (rnd.nextDouble() * 2 - 1) * 1200)
+					: Vector2.fromXY((rnd.nextDouble() * 2 - 1) * 6500, (rnd.nextDouble() * 2 - 1) * 5000);
+			IVector3 prePos = Vector3.from2d(pre, 0);
+			IVector3 postPos = Vector3.from2d(pre.addNew(rndVector(500)), 0);
+
+			List<ICollisionObject> candidates = new ArrayList<>();
+			world.addCandidates(prePos.x(), prePos.y(), postPos.x(), postPos.y(), candidates);
+			for (ICollisionObject object : world.getObjects())
+			{
+				if (object.getCollision(prePos, postPos).isPresent())
+				{
+					numCollisions++;
+					assertThat(candidates).contains(object);
+				}
+			}
+		}
+		assertThat(numCollisions).isGreaterThan(NUM_SAMPLES / 20);
+	}
+
+
+	@Test
+	public void testStaticWorldIsRecreatedOnGeometryUpdate()
+	{
+		CamGeometry geometry = Geometry.getLastCamGeometry();
+		var world = StaticCollisionWorld.fromGeometry();
+		try
+		{
+			Geometry.update(geometry);
+
+			assertThat(world.isUpToDate()).isFalse();
+			assertThat(StaticCollisionWorld.fromGeometry().isUpToDate()).isTrue();
+		} finally
+		{
+			Geometry.update(geometry);
+		}
+	}
+
+
+	private IVector2 rndVector(final double maxLength)
+	{
+		return Vector2.fromAngleLength(rnd.nextDouble() * 2 * Math.PI, rnd.nextDouble() * maxLength);
+	}
+
+
+	private double rndSign()
+	{
+		return rnd.nextBoolean() ? 1 : -1;
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2022, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 
 package edu.tigers.sumatra.vision;
@@ -12,6 +12,7 @@ import edu.tigers.sumatra.cam.data.CamCalibration;
 import edu.tigers.sumatra.cam.data.CamDetectionFrame;
 import edu.tigers.sumatra.cam.data.CamFieldSize;
 import edu.tigers.sumatra.cam.data.CamRobot;
+import edu.tigers.sumatra.data.TimeSeriesBuffer;
 import edu.tigers.sumatra.drawable.DrawableAnnotation;
 import edu.tigers.sumatra.drawable.DrawableCircle;
 import edu.tigers.sumatra.drawable.DrawableLine;
@@ -34,8 +35,6 @@ import edu.tigers.sumatra.vision.data.VirtualBall;
 import edu.tigers.sumatra.vision.tracker.BallTracker;
 import edu.tigers.sumatra.vision.tracker.RobotTracker;
 import lombok.Getter;
-import org.apache.commons.collections4.QueueUtils;
-import org.apache.commons.collections4.queue.CircularFifoQueue;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -45,7 +44,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
 
 
@@ -78,7 +76,11 @@ public class CamFilter
 
 	private Map<BotID, RobotInfo> robotInfoMap = new ConcurrentHashMap<>();
 
-	private Queue<CamBall> ballHistory = QueueUtils.synchronizedQueue(new CircularFifoQueue<>(100));
+	/**
+	 * Only written while the vision filter processes a frame of this camera and only read while it constructs
+	 * the filtered frame. Its camera filter lock excludes both, so no further synchronization is needed.
+	 */
+	private final TimeSeriesBuffer<CamBall> ballHistory = TimeSeriesBuffer.withCapacity(100);
 
 	@Getter
 	private long lastBallOnCamTimestamp = 0;
@@ -400,7 +402,7 @@ public class CamFilter
 				if (t.update(b, fieldRect))
 				{
 					// tracker accepted this ball
-					ballHistory.add(b);
+					ballHistory.add(b.getTimestamp(), b);
 					consumed = true;
 					break;
 				}
@@ -571,9 +573,9 @@ public class CamFilter
 	{
 		List<IDrawableShape> shapes = new ArrayList<>();
 
-		var ballHistorySnapshot = new ArrayList<>(ballHistory);
-		for (CamBall b : ballHistorySnapshot)
+		for (int i = 0; i < ballHistory.size(); i++)
 		{
+			CamBall b = ballHistory.get(i);
 			DrawableCircle pos = new DrawableCircle(b.getFlatPos(), 15, Color.BLACK);
 			pos.setFill(false);
 			pos.setStrokeWidth(3);
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.vision;
+
+import edu.tigers.sumatra.cam.data.CamDetectionFrame;
+import edu.tigers.sumatra.filter.iir.ExponentialMovingAverageFilter;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+
+/**
+ * Processing lane of a single camera with its own queue and thread.
+ * The latency is measured from enqueueing a frame until it was processed.
+ */
+@Log4j2
+class CamFrameLane
+{
+	private final BlockingDeque<QueuedFrame> queue;
+	private final Consumer<CamDetectionFrame> processor;
+	private final Thread thread;
+	private final ExponentialMovingAverageFilter latencyFilter = new ExponentialMovingAverageFilter(0.95);
+	private final AtomicLong numProcessed = new AtomicLong();
+	private final AtomicLong numDropped = new AtomicLong();
+
+	private final int camId;
+	private volatile boolean running = true;
+	private volatile double avgLatency;
+
+
+	CamFrameLane(int camId, int bufferSize, Consumer<CamDetectionFrame> processor)
+	{
+		this.camId = camId;
+		this.processor = processor;
+		queue = new LinkedBlockingDeque<>(bufferSize);
+		thread = new Thread(this::run, "VisionFilter Cam " + camId);
+		thread.start();
+	}
+
+
+	/**
+	 * Add a new frame. If the queue is full, the oldest frame is dropped.
+	 *
+	 * @param frame the new detection frame
+	 */
+	void offer(CamDetectionFrame frame)
+	{
+		var queuedFrame = new QueuedFrame(frame, System.nanoTime());
+		while (!queue.offerFirst(queuedFrame))
+		{
+			if (queue.pollLast() != null)
+			{
+				numDropped.incrementAndGet();
+			}
+		}
+	}
+
+
+	void stop()
+	{
+		running = false;
+		thread.interrupt();
+		queue.clear();
+	}
+
+
+	private void run()
+	{
+		while (running)
+		{
+			try
+			{
+				var queuedFrame = queue.pollLast(15, TimeUnit.MILLISECONDS);
+				if (queuedFrame != null)
+				{
+					processor.accept(queuedFrame.frame());
+					updateLatency((System.nanoTime() - queuedFrame.tEnqueued()) * 1e-9);
+				}
+			} catch (InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+				return;
+			} catch (Throwable e)
+			{
+				log.error("Uncaught exception while processing cam frame of cam {}", camId, e);
+			}
+		}
+	}
+
+
+	private void updateLatency(double latency)
+	{
+		numProcessed.incrementAndGet();
+		avgLatency = latencyFilter.update(latency);
+	}
+
+
+	/**
+	 * @return the smoothed latency [s]
+	 */
+	double getAvgLatency()
+	{
+		return avgLatency;
+	}
+
+
+	/**
+	 * @return the number of processed frames
+	 */
+	long getNumProcessed()
+	{
+		return numProcessed.get();
+	}
+
+
+	/**
+	 * @return the number of frames that were dropped, because the queue was full
+	 */
+	long getNumDropped()
+	{
+		return numDropped.get();
+	}
+
+
+	private record QueuedFrame(CamDetectionFrame frame, long tEnqueued)
+	{
+	}
+}
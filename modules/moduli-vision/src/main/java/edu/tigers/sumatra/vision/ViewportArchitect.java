@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2021, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 package edu.tigers.sumatra.vision;
 
@@ -73,7 +73,7 @@ public class ViewportArchitect
 	 *
 	 * @param geometry
 	 */
-	public void newCameraGeometry(final CamGeometry geometry)
+	public synchronized void newCameraGeometry(final CamGeometry geometry)
 	{
 		// insert calibrations into a map. This is important for multiple vision computers as not all geometry will come
 		// from a single source.
@@ -105,7 +105,7 @@ public class ViewportArchitect
 	 *
 	 * @param frame
 	 */
-	public void newDetectionFrame(final CamDetectionFrame frame)
+	public synchronized void newDetectionFrame(final CamDetectionFrame frame)
 	{
 		Viewport viewport = viewports.get(frame.getCameraId());
 		if (viewport == null)
@@ -166,7 +166,7 @@ public class ViewportArchitect
 	}
 
 
-	public void updateCameras(Set<Integer> cameraIds)
+	public synchronized void updateCameras(Set<Integer> cameraIds)
 	{
 		viewports.keySet().removeIf(id -> !cameraIds.contains(id));
 	}
@@ -391,7 +391,7 @@ public class ViewportArchitect
 	 * @param camId
 	 * @return
 	 */
-	public IRectangle getViewport(final int camId)
+	public synchronized IRectangle getViewport(final int camId)
 	{
 		Viewport viewport = viewports.get(camId);
 		if (viewport == null)
@@ -509,7 +509,7 @@ public class ViewportArchitect
 	 *
 	 * @return
 	 */
-	public List<IDrawableShape> getInfoShapes()
+	public synchronized List<IDrawableShape> getInfoShapes()
 	{
 		List<IDrawableShape> shapes = new ArrayList<>();
 
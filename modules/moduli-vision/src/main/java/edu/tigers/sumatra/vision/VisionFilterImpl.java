@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2021, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 
 package edu.tigers.sumatra.vision;
@@ -22,7 +22,11 @@ import edu.tigers.sumatra.math.vector.IVector3;
 import edu.tigers.sumatra.math.vector.Vector2;
 import edu.tigers.sumatra.math.vector.Vector2f;
 import edu.tigers.sumatra.model.SumatraModel;
+import edu.tigers.sumatra.statistics.StatisticsSaver;
+import edu.tigers.sumatra.statistics.TimeSeriesStatsEntry;
 import edu.tigers.sumatra.thread.NamedThreadFactory;
+import edu.tigers.sumatra.time.EFrameStage;
+import edu.tigers.sumatra.time.FrameLatencyTracer;
 import edu.tigers.sumatra.util.Safe;
 import edu.tigers.sumatra.vision.BallFilter.BallFilterOutput;
 import edu.tigers.sumatra.vision.BallFilterPreprocessor.BallFilterPreprocessorOutput;
@@ -43,12 +47,15 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.concurrent.BlockingDeque;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
 
 
@@ -60,10 +67,14 @@ public class VisionFilterImpl extends AVisionFilter
 		implements IViewportArchitect, IBallModelIdentificationObserver
 {
 	private static final int CAM_FRAME_BUFFER_SIZE = 10;
+	private static final long CAM_LANE_STATS_DT_MS = 1000;
 
 	@Configurable(defValue = "0.0125", comment = "Publish frequency (requires restart)")
 	private static double publishDt = 0.0125;
 
+	@Configurable(defValue = "false", comment = "Process each camera in its own thread (requires restart)")
+	private static boolean cameraLanes = false;
+
 	static
 	{
 		ConfigRegistration.registerClass("vision", VisionFilterImpl.class);
@@ -88,14 +99,30 @@ public class VisionFilterImpl extends AVisionFilter
 	private ScheduledExecutorService scheduledExecutorService;
 	private final BlockingDeque<CamDetectionFrame> camDetectionFrameQueue = new LinkedBlockingDeque<>(
 			CAM_FRAME_BUFFER_SIZE);
+	private final Map<Integer, CamFrameLane> camLanes = new ConcurrentHashMap<>();
+	private boolean useCameraLanes;
+	/**
+	 * Camera frames are processed with the read lock (multiple cameras in parallel),
+	 * the filtered frame is constructed with the write lock to get a consistent snapshot of all camera filters.
+	 */
+	private final ReadWriteLock camFilterLock = new ReentrantReadWriteLock();
 
 
 	private void publish()
 	{
 		try
 		{
-			lastFrame = constructFilteredVisionFrame(lastFrame);
+			camFilterLock.writeLock().lock();
+			try
+			{
+				lastFrame = constructFilteredVisionFrame(lastFrame);
+			} finally
+			{
+				camFilterLock.writeLock().unlock();
+			}
 			var extrapolatedFrame = extrapolateFilteredFrame(lastFrame, lastFrame.getTimestamp());
+			// mark before publishing, as the observers already mark the following stages synchronously
+			FrameLatencyTracer.getInstance().mark(EFrameStage.VISION, extrapolatedFrame.getTimestamp());
 			publishFilteredVisionFrame(extrapolatedFrame);
 			virtualBallProducer.update(extrapolatedFrame, getRobotInfoMap(), cams.values());
 		} catch (Throwable e)
@@ -105,6 +132,24 @@ public class VisionFilterImpl extends AVisionFilter
 	}
 
 
+	private void saveCamLaneStats(final StatisticsSaver statisticsSaver)
+	{
+		if (!statisticsSaver.hasWriter())
+		{
+			return;
+		}
+		long timestamp = lastFrame.getTimestamp();
+		camLanes.forEach((camId, lane) -> {
+			TimeSeriesStatsEntry entry = new TimeSeriesStatsEntry("vision.camLane", timestamp);
+			entry.addTag("cam.id", String.valueOf(camId));
+			entry.addField("latency", lane.getAvgLatency());
+			entry.addField("processed", lane.getNumProcessed());
+			entry.addField("dropped", lane.getNumDropped());
+			statisticsSaver.add("vision", entry);
+		});
+	}
+
+
 	private FilteredVisionFrame extrapolateFilteredFrame(final FilteredVisionFrame frame, final long timestampFuture)
 	{
 		final long timestampNow = frame.getTimestamp();
@@ -142,6 +187,11 @@ public class VisionFilterImpl extends AVisionFilter
 		{
 			processCamDetectionFrame(camDetectionFrame);
 			publish();
+		} else if (useCameraLanes)
+		{
+			camLanes.computeIfAbsent(camDetectionFrame.getCameraId(),
+					camId -> new CamFrameLane(camId, CAM_FRAME_BUFFER_SIZE, this::processCamDetectionFrameLocked)
+			).offer(camDetectionFrame);
 		} else
 		{
 			if (camDetectionFrameQueue.size() >= CAM_FRAME_BUFFER_SIZE)
@@ -162,7 +212,7 @@ public class VisionFilterImpl extends AVisionFilter
 				var camFrame = camDetectionFrameQueue.pollLast(15, TimeUnit.MILLISECONDS);
 				if (camFrame != null)
 				{
-					processCamDetectionFrame(camFrame);
+					processCamDetectionFrameLocked(camFrame);
 				}
 			} catch (InterruptedException e)
 			{
@@ -175,6 +225,19 @@ public class VisionFilterImpl extends AVisionFilter
 	}
 
 
+	private void processCamDetectionFrameLocked(CamDetectionFrame camDetectionFrame)
+	{
+		camFilterLock.readLock().lock();
+		try
+		{
+			processCamDetectionFrame(camDetectionFrame);
+		} finally
+		{
+			camFilterLock.readLock().unlock();
+		}
+	}
+
+
 	private void processCamDetectionFrame(CamDetectionFrame camDetectionFrame)
 	{
 		int camId = camDetectionFrame.getCameraId();
@@ -193,6 +256,7 @@ public class VisionFilterImpl extends AVisionFilter
 
 		// update camera filter with new detection frame
 		camFilter.update(camDetectionFrame, lastFrame, virtualBallProducer.getVirtualBalls());
+		FrameLatencyTracer.getInstance().onCamFrame(camFilter.getTimestamp());
 
 		// update robot quality inspector
 		camDetectionFrame.getRobots().forEach(robotQualityInspector::addDetection);
@@ -308,7 +372,14 @@ public class VisionFilterImpl extends AVisionFilter
 	@Override
 	public void onNewCameraGeometry(final CamGeometry geometry)
 	{
-		processGeometryFrame(geometry);
+		camFilterLock.writeLock().lock();
+		try
+		{
+			processGeometryFrame(geometry);
+		} finally
+		{
+			camFilterLock.writeLock().unlock();
+		}
 	}
 
 
@@ -350,12 +421,23 @@ public class VisionFilterImpl extends AVisionFilter
 
 		if (useThreads)
 		{
+			useCameraLanes = cameraLanes;
 			scheduledExecutorService = Executors
 					.newSingleThreadScheduledExecutor(new NamedThreadFactory("VisionFilter Publisher"));
-			new Thread(this::processCamFrameQueue, "VisionFilter Processor").start();
+			if (!useCameraLanes)
+			{
+				new Thread(this::processCamFrameQueue, "VisionFilter Processor").start();
+			}
 			scheduledExecutorService
 					.scheduleAtFixedRate(() -> Safe.run(this::publish), 0, (long) (publishDt * 1e9), TimeUnit.NANOSECONDS);
-			log.info("Using threaded VisionFilter");
+			if (useCameraLanes)
+			{
+				SumatraModel.getInstance().getModuleOpt(StatisticsSaver.class).ifPresent(
+						statisticsSaver -> scheduledExecutorService.scheduleAtFixedRate(
+								() -> Safe.run(() -> saveCamLaneStats(statisticsSaver)),
+								CAM_LANE_STATS_DT_MS, CAM_LANE_STATS_DT_MS, TimeUnit.MILLISECONDS));
+			}
+			log.info("Using threaded VisionFilter{}", useCameraLanes ? " with one thread per camera" : "");
 		}
 	}
 
@@ -371,6 +453,8 @@ public class VisionFilterImpl extends AVisionFilter
 			scheduledExecutorService = null;
 			camDetectionFrameQueue.clear();
 		}
+		camLanes.values().forEach(CamFrameLane::stop);
+		camLanes.clear();
 		cams.clear();
 		viewportArchitect.removeObserver(this);
 		ballFilterPreprocessor.removeObserver(this);
@@ -422,9 +506,28 @@ public class VisionFilterImpl extends AVisionFilter
 
 	private List<IDrawableShape> getCamInfoShapes()
 	{
-		return cams.values().stream()
+		List<IDrawableShape> shapes = cams.values().stream()
 				.flatMap(c -> c.getInfoShapes().stream())
 				.collect(Collectors.toList());
+		for (CamFilter camFilter : cams.values())
+		{
+			CamFrameLane lane = camLanes.get(camFilter.getCamId());
+			Optional<IVector3> camPos = camFilter.getCameraPosition();
+			if (lane == null || camPos.isEmpty())
+			{
+				continue;
+			}
+
+			// Draw latency and dropped frames of the processing lane of this camera
+			DrawableAnnotation latency = new DrawableAnnotation(camPos.get().getXYVector(),
+					String.format("Latency: %.1fms, dropped: %d/%d", lane.getAvgLatency() * 1e3,
+							lane.getNumDropped(), lane.getNumDropped() + lane.getNumProcessed()));
+			latency.withOffset(Vector2.fromXY(40, 180));
+			latency.withFontHeight(50);
+			latency.setColor(Color.GRAY);
+			shapes.add(latency);
+		}
+		return shapes;
 	}
 
 
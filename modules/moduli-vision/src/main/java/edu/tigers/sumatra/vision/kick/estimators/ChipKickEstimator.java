@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2021, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 package edu.tigers.sumatra.vision.kick.estimators;
 
@@ -26,7 +26,9 @@ import edu.tigers.sumatra.vision.data.KickEvent;
 import edu.tigers.sumatra.vision.data.KickSolverResult;
 import edu.tigers.sumatra.vision.kick.estimators.chip.AChipKickSolver;
 import edu.tigers.sumatra.vision.kick.estimators.chip.ChipKickSolverLin3Offset;
+import edu.tigers.sumatra.vision.kick.estimators.chip.ChipKickSolverLin3OffsetIncremental;
 import edu.tigers.sumatra.vision.kick.estimators.chip.ChipKickSolverLin5Offset;
+import edu.tigers.sumatra.vision.kick.estimators.chip.ChipKickSolverLin5OffsetIncremental;
 import edu.tigers.sumatra.vision.kick.estimators.chip.ChipKickSolverNonLin3Direct;
 import edu.tigers.sumatra.vision.kick.estimators.chip.ChipKickSolverNonLinIdentDirect;
 import edu.tigers.sumatra.vision.tracker.BallTracker;
@@ -88,6 +90,10 @@ public class ChipKickEstimator implements IKickEstimator
 	@Configurable(comment = "Estimate kick position if the ball is visible on two cameras", defValue = "false")
 	private static boolean useKickPositionEstimator = false;
 
+	@Configurable(comment = "Update the linear solvers incrementally instead of solving all records again",
+			defValue = "true")
+	private static boolean incrementalLinearSolvers = true;
+
 	static
 	{
 		ConfigRegistration.registerClass("vision", ChipKickEstimator.class);
@@ -106,8 +112,15 @@ public class ChipKickEstimator implements IKickEstimator
 		kickEventTimestamp = event.getTimestamp();
 		kickTimestamp = event.getTimestamp();
 
-		solverLin3 = new ChipKickSolverLin3Offset(event.getPosition(), event.getTimestamp(), camCalib);
-		solverLin5 = new ChipKickSolverLin5Offset(event.getPosition(), event.getTimestamp(), camCalib);
+		if (incrementalLinearSolvers)
+		{
+			solverLin3 = new ChipKickSolverLin3OffsetIncremental(event.getPosition(), event.getTimestamp(), camCalib);
+			solverLin5 = new ChipKickSolverLin5OffsetIncremental(event.getPosition(), event.getTimestamp(), camCalib);
+		} else
+		{
+			solverLin3 = new ChipKickSolverLin3Offset(event.getPosition(), event.getTimestamp(), camCalib);
+			solverLin5 = new ChipKickSolverLin5Offset(event.getPosition(), event.getTimestamp(), camCalib);
+		}
 
 		List<CamBall> camBalls = event.getRecordsSinceKick().stream()
 				.map(BallTracker.MergedBall::getLatestCamBall)
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+package edu.tigers.sumatra.vision.kick.estimators;
+
+import edu.tigers.sumatra.cam.data.CamBall;
+
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+
+/**
+ * Keeps track of the records that an incremental kick solver has already accumulated.
+ * The kick estimators add and prune their records freely, so the solvers synchronize with the current
+ * list of records before each solve and only process the records that were added or removed since then.
+ *
+ * @param <T> the data that the solver derived from a record
+ */
+public class IncrementalKickRecords<T>
+{
+	private final Map<CamBall, Entry<T>> entries = new IdentityHashMap<>();
+	private long generation = 0;
+
+
+	/**
+	 * Synchronize with the given records.
+	 *
+	 * @param records the current records
+	 * @param adder   called for each new record, returns the accumulated data of the record
+	 * @param remover called with the accumulated data of each record that is not present anymore
+	 */
+	public void sync(final List<CamBall> records, final Function<CamBall, T> adder, final Consumer<T> remover)
+	{
+		generation++;
+		for (CamBall ball : records)
+		{
+			Entry<T> entry = entries.get(ball);
+			if (entry == null)
+			{
+				entry = new Entry<>(adder.apply(ball));
+				entries.put(ball, entry);
+			}
+			entry.generation = generation;
+		}
+
+		if (entries.size() == records.size())
+		{
+			return;
+		}
+
+		Iterator<Entry<T>> iterator = entries.values().iterator();
+		while (iterator.hasNext())
+		{
+			Entry<T> entry = iterator.next();
+			if (entry.generation != generation)
+			{
+				remover.accept(entry.data);
+				iterator.remove();
+			}
+		}
+	}
+
+
+	/**
+	 * @param consumer called with the accumulated data of all current records
+	 */
+	public void forEach(final Consumer<T> consumer)
+	{
+		entries.values().forEach(e -> consumer.accept(e.data));
+	}
+
+
+	/**
+	 * @return the number of current records
+	 */
+	public int size()
+	{
+		return entries.size();
+	}
+
+
+	private static class Entry<T>
+	{
+		private final T data;
+		private long generation;
+
+
+		private Entry(final T data)
+		{
+			this.data = data;
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2021, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 package edu.tigers.sumatra.vision.kick.estimators;
 
@@ -26,6 +26,7 @@ import edu.tigers.sumatra.vision.data.KickEvent;
 import edu.tigers.sumatra.vision.data.KickSolverResult;
 import edu.tigers.sumatra.vision.kick.estimators.straight.FlatKickSolverNonLin3Factor;
 import edu.tigers.sumatra.vision.kick.estimators.straight.StraightKickSolverLin3;
+import edu.tigers.sumatra.vision.kick.estimators.straight.StraightKickSolverLin3Incremental;
 import edu.tigers.sumatra.vision.kick.estimators.straight.StraightKickSolverNonLin3Direct;
 import edu.tigers.sumatra.vision.kick.estimators.straight.StraightKickSolverNonLinIdentDirect;
 import edu.tigers.sumatra.vision.tracker.BallTracker;
@@ -59,6 +60,9 @@ public class StraightKickEstimator implements IKickEstimator
 	private static double maxDirectionError = 20.0;
 	@Configurable(comment = "Max number of records to keep over all cameras", defValue = "50")
 	private static int maxNumberOfRecords = 50;
+	@Configurable(comment = "Update the linear solver incrementally instead of solving all records again",
+			defValue = "true")
+	private static boolean incrementalLinearSolver = true;
 
 	static
 	{
@@ -103,7 +107,9 @@ public class StraightKickEstimator implements IKickEstimator
 
 		double avgKickVel = getKickSpeed(camBalls, event.getPosition());
 
-		solverSliding = new StraightKickSolverLin3();
+		solverSliding = incrementalLinearSolver
+				? new StraightKickSolverLin3Incremental()
+				: new StraightKickSolverLin3();
 		solverFull = new StraightKickSolverNonLin3Direct(event.getPosition(), avgKickVel);
 		solverFlatFull = ballStateAtKick
 				.map(bsk -> new FlatKickSolverNonLin3Factor(
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2021, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 package edu.tigers.sumatra.vision.kick.estimators.chip;
 
@@ -44,7 +44,7 @@ public class ChipKickSolverLin3Offset extends AChipKickSolver
 	}
 
 
-	private static class LinSolve3OffsetResult
+	protected static class LinSolve3OffsetResult
 	{
 		private RealVector x;
 		private double l1Error;
@@ -66,7 +66,7 @@ public class ChipKickSolverLin3Offset extends AChipKickSolver
 
 
 	@SuppressWarnings("squid:S1166") // Exception from solver not logged
-	private Optional<LinSolve3OffsetResult> linSolve3Offset(final List<CamBall> records, final double tOffset)
+	protected Optional<LinSolve3OffsetResult> linSolve3Offset(final List<CamBall> records, final double tOffset)
 	{
 		int numRecords = records.size();
 
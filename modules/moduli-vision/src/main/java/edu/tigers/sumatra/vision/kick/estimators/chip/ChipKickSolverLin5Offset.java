@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2021, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 package edu.tigers.sumatra.vision.kick.estimators.chip;
 
@@ -47,7 +47,7 @@ public class ChipKickSolverLin5Offset extends AChipKickSolver
 	}
 
 
-	private static class LinSolve5OffsetResult
+	protected static class LinSolve5OffsetResult
 	{
 		private RealVector x;
 		private double l1Error;
@@ -69,7 +69,7 @@ public class ChipKickSolverLin5Offset extends AChipKickSolver
 
 
 	@SuppressWarnings("squid:S1166") // Exception from solver not logged
-	private Optional<LinSolve5OffsetResult> linSolve5Offset(final List<CamBall> records, final double tOffset)
+	protected Optional<LinSolve5OffsetResult> linSolve5Offset(final List<CamBall> records, final double tOffset)
 	{
 		int numRecords = records.size();
 
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+package edu.tigers.sumatra.vision.kick.estimators.chip;
+
+import edu.tigers.sumatra.cam.data.CamBall;
+import edu.tigers.sumatra.cam.data.CamCalibration;
+import edu.tigers.sumatra.math.vector.IVector2;
+import edu.tigers.sumatra.math.vector.IVector3;
+import edu.tigers.sumatra.vision.data.KickSolverResult;
+import edu.tigers.sumatra.vision.kick.estimators.chip.TimeOffsetNormalEquations.Row;
+import org.apache.commons.math3.linear.RealVector;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+
+/**
+ * Incremental variant of {@link ChipKickSolverLin5Offset}.
+ * New records are added to the normal equations instead of solving the whole problem again for each record.
+ * It expects to be called with the same (growing or pruned) list of records of a single kick.
+ */
+public class ChipKickSolverLin5OffsetIncremental extends ChipKickSolverLin5Offset
+{
+	private static final double G = 9810;
+	private final TimeOffsetNormalEquations equations = new TimeOffsetNormalEquations(5);
+
+
+	/**
+	 * @param kickPosition
+	 * @param kickTimestamp
+	 * @param camCalib
+	 */
+	public ChipKickSolverLin5OffsetIncremental(final IVector2 kickPosition, final long kickTimestamp,
+			final Map<Integer, CamCalibration> camCalib)
+	{
+		super(kickPosition, kickTimestamp, camCalib);
+	}
+
+
+	@Override
+	public Optional<KickSolverResult> solve(final List<CamBall> records)
+	{
+		equations.sync(records, this::createRows);
+		return super.solve(records);
+	}
+
+
+	@Override
+	protected Optional<LinSolve5OffsetResult> linSolve5Offset(final List<CamBall> records, final double tOffset)
+	{
+		double tau = equations.offsetTo(records.getFirst().getCameraCaptureTimestamp()) + tOffset;
+		Optional<RealVector> x = equations.solve(tau);
+		return x.map(v -> new LinSolve5OffsetResult(v, equations.getL1Error(v, tau), tOffset));
+	}
+
+
+	private Row[] createRows(final CamBall ball, final double s)
+	{
+		IVector3 f = getCameraPosition(ball.getCameraId());
+		IVector2 g = ball.getPos().getXYVector();
+
+		return new Row[] {
+				new Row(s, new double[] { f.z(), 0, 0, 0, 0 }, new double[] { 0, 0, f.z(), 0, g.x() - f.x() },
+						g.x() * f.z(), 0, 0.5 * G * (g.x() - f.x())),
+				new Row(s, new double[] { 0, f.z(), 0, 0, 0 }, new double[] { 0, 0, 0, f.z(), g.y() - f.y() },
+						g.y() * f.z(), 0, 0.5 * G * (g.y() - f.y()))
+		};
+	}
+}
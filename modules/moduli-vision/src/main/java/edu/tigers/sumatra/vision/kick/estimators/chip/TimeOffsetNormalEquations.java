@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+package edu.tigers.sumatra.vision.kick.estimators.chip;
+
+import edu.tigers.sumatra.cam.data.CamBall;
+import edu.tigers.sumatra.vision.kick.estimators.IncrementalKickRecords;
+import org.apache.commons.math3.linear.Array2DRowRealMatrix;
+import org.apache.commons.math3.linear.ArrayRealVector;
+import org.apache.commons.math3.linear.LUDecomposition;
+import org.apache.commons.math3.linear.RealMatrix;
+import org.apache.commons.math3.linear.RealVector;
+import org.apache.commons.math3.linear.SingularMatrixException;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+
+/**
+ * Normal equations of a linear least squares problem whose rows depend on the time since the kick.
+ * <p>
+ * Each row is {@code (r0 + r1 * t) * x = b0 + b1 * t + b2 * t^2} with {@code t = s + tau}, where {@code s} is
+ * the time of the record relative to a fixed base time and {@code tau} is a time offset that is only known
+ * when solving. The normal equations are stored as polynomials in {@code tau}, so records can be added and
+ * removed in O(k^2) and the system can be solved for any offset without touching the records again.
+ */
+class TimeOffsetNormalEquations
+{
+	private static final int MATRIX_DEGREE = 3;
+	private static final int VECTOR_DEGREE = 4;
+
+	private final int numParams;
+	private final double[][][] matrixCoeffs;
+	private final double[][] vectorCoeffs;
+	private final IncrementalKickRecords<Row[]> records = new IncrementalKickRecords<>();
+	private long baseTimestamp;
+	private boolean hasBaseTimestamp = false;
+
+
+	/**
+	 * @param numParams the number of parameters to estimate
+	 */
+	TimeOffsetNormalEquations(final int numParams)
+	{
+		this.numParams = numParams;
+		matrixCoeffs = new double[numParams][numParams][MATRIX_DEGREE];
+		vectorCoeffs = new double[numParams][VECTOR_DEGREE];
+	}
+
+
+	/**
+	 * Add new records and remove the ones that are not present anymore.
+	 *
+	 * @param camBalls   the current records
+	 * @param rowFactory creates the rows of a record, given the time of the record relative to the base time
+	 */
+	void sync(final List<CamBall> camBalls, final RowFactory rowFactory)
+	{
+		if (!hasBaseTimestamp && !camBalls.isEmpty())
+		{
+			baseTimestamp = camBalls.getFirst().getCameraCaptureTimestamp();
+			hasBaseTimestamp = true;
+		}
+		Function<CamBall, Row[]> adder = ball -> {
+			Row[] rows = rowFactory.create(ball, (ball.getCameraCaptureTimestamp() - baseTimestamp) * 1e-9);
+			for (Row row : rows)
+			{
+				accumulate(row, 1);
+			}
+			return rows;
+		};
+		records.sync(camBalls, adder, rows -> {
+			for (Row row : rows)
+			{
+				accumulate(row, -1);
+			}
+		});
+	}
+
+
+	/**
+	 * @param timestamp a timestamp [ns]
+	 * @return the offset [s] that converts times relative to the given timestamp to the time of the rows
+	 */
+	double offsetTo(final long timestamp)
+	{
+		return (baseTimestamp - timestamp) * 1e-9;
+	}
+
+
+	/**
+	 * @param tau the time offset [s]
+	 * @return the least squares solution, if the system is not singular
+	 */
+	@SuppressWarnings("squid:S1166") // Exception from solver not logged
+	Optional<RealVector> solve(final double tau)
+	{
+		RealMatrix matA = new Array2DRowRealMatrix(numParams, numParams);
+		RealVector b = new ArrayRealVector(numParams);
+		for (int j = 0; j < numParams; j++)
+		{
+			for (int l = 0; l < numParams; l++)
+			{
+				matA.setEntry(j, l, evaluate(matrixCoeffs[j][l], tau));
+			}
+			b.setEntry(j, evaluate(vectorCoeffs[j], tau));
+		}
+
+		try
+		{
+			return Optional.of(new LUDecomposition(matA).getSolver().solve(b));
+		} catch (SingularMatrixException e)
+		{
+			return Optional.empty();
+		}
+	}
+
+
+	/**
+	 * @param x   a solution
+	 * @param tau the time offset [s]
+	 * @return the L1 norm of the residuals of all rows
+	 */
+	double getL1Error(final RealVector x, final double tau)
+	{
+		double[] params = x.toArray();
+		double[] error = new double[1];
+		records.forEach(rows -> {
+			for (Row row : rows)
+			{
+				error[0] += Math.abs(row.residual(params, row.s + tau));
+			}
+		});
+		return error[0];
+	}
+
+
+	private void accumulate(final Row row, final double sign)
+	{
+		double s = row.s;
+		for (int j = 0; j < numParams; j++)
+		{
+			for (int l = 0; l < numParams; l++)
+			{
+				double c0 = row.r0[j] * row.r0[l];
+				double c1 = (row.r0[j] * row.r1[l]) + (row.r1[j] * row.r0[l]);
+				double c2 = row.r1[j] * row.r1[l];
+				addShifted(matrixCoeffs[j][l], sign, s, c0, c1, c2, 0);
+			}
+
+			double d0 = row.r0[j] * row.b0;
+			double d1 = (row.r0[j] * row.b1) + (row.r1[j] * row.b0);
+			double d2 = (row.r0[j] * row.b2) + (row.r1[j] * row.b1);
+			double d3 = row.r1[j] * row.b2;
+			addShifted(vectorCoeffs[j], sign, s, d0, d1, d2, d3);
+		}
+	}
+
+
+	/**
+	 * Add the polynomial {@code c0 + c1 * t + c2 * t^2 + c3 * t^3} with {@code t = s + tau} as polynomial in tau.
+	 */
+	private static void addShifted(final double[] coeffs, final double sign, final double s,
+			final double c0, final double c1, final double c2, final double c3)
+	{
+		double s2 = s * s;
+		coeffs[0] += sign * (c0 + (c1 * s) + (c2 * s2) + (c3 * s2 * s));
+		coeffs[1] += sign * (c1 + (2 * c2 * s) + (3 * c3 * s2));
+		coeffs[2] += sign * (c2 + (3 * c3 * s));
+		if (coeffs.length > 3)
+		{
+			coeffs[3] += sign * c3;
+		}
+	}
+
+
+	private static double evaluate(final double[] coeffs, final double tau)
+	{
+		double value = 0;
+		for (int i = coeffs.length - 1; i >= 0; i--)
+		{
+			value = (value * tau) + coeffs[i];
+		}
+		return value;
+	}
+
+
+	/**
+	 * Creates the rows of a single record.
+	 */
+	@FunctionalInterface
+	interface RowFactory
+	{
+		/**
+		 * @param ball the record
+		 * @param s    the time [s] of the record relative to the base time
+		 * @return the rows of the record
+		 */
+		Row[] create(CamBall ball, double s);
+	}
+
+	/**
+	 * A row {@code (r0 + r1 * t) * x = b0 + b1 * t + b2 * t^2}
+	 */
+	record Row(double s, double[] r0, double[] r1, double b0, double b1, double b2)
+	{
+		private double residual(final double[] x, final double t)
+		{
+			double ax = 0;
+			for (int j = 0; j < x.length; j++)
+			{
+				ax += (r0[j] + (r1[j] * t)) * x[j];
+			}
+			return ax - (b0 + (b1 * t) + (b2 * t * t));
+		}
+	}
+}
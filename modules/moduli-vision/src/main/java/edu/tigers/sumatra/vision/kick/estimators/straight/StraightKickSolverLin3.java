@@ -1,11 +1,10 @@
 /*
- * Copyright (c) 2009 - 2021, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 package edu.tigers.sumatra.vision.kick.estimators.straight;
 
 import edu.tigers.sumatra.cam.data.CamBall;
 import edu.tigers.sumatra.geometry.Geometry;
-import edu.tigers.sumatra.math.line.ILineSegment;
 import edu.tigers.sumatra.math.line.Lines;
 import edu.tigers.sumatra.math.vector.IVector2;
 import edu.tigers.sumatra.math.vector.IVector3;
@@ -30,24 +29,57 @@ import java.util.Optional;
 public class StraightKickSolverLin3 implements IKickSolver
 {
 	@Override
-	@SuppressWarnings("squid:S1166") // Exception from solver not logged
 	public Optional<KickSolverResult> solve(final List<CamBall> records)
 	{
-		final int numRecords = records.size();
-		long tZero = records.get(0).getCameraCaptureTimestamp();
-		double acc = Geometry.getBallParameters().getAccSlide();
+		Optional<IVector2> dir = kickDirection(records);
+		if (dir.isEmpty())
+		{
+			return Optional.empty();
+		}
+
+		Optional<RealVector> optX = solveLinear(records, dir.get());
+		if (optX.isEmpty())
+		{
+			return Optional.empty();
+		}
+		RealVector x = optX.get();
+
+		IVector2 kickPos = Vector2.fromXY(x.getEntry(0), x.getEntry(1));
+		IVector3 kickVel = dir.get().scaleToNew(x.getEntry(2)).getXYZVector();
+
+		return Optional.of(
+				new KickSolverResult(kickPos, kickVel, records.get(0).gettCapture(), getClass().getSimpleName()));
+	}
 
+
+	/**
+	 * @param records the records
+	 * @return the normalized direction of the regression line through the records
+	 */
+	protected Optional<IVector2> kickDirection(final List<CamBall> records)
+	{
 		List<IVector2> groundPos = records.stream()
 				.map(CamBall::getFlatPos)
 				.toList();
 
-		Optional<ILineSegment> kickLine = Lines.regressionLineFromPointsList(groundPos);
-		if (kickLine.isEmpty())
-		{
-			return Optional.empty();
-		}
+		return Lines.regressionLineFromPointsList(groundPos)
+				.map(kickLine -> kickLine.directionVector().normalizeNew());
+	}
 
-		IVector2 dir = kickLine.get().directionVector().normalizeNew();
+
+	/**
+	 * Solve for the kick position and the initial speed along the kick direction.
+	 *
+	 * @param records the records
+	 * @param dir     the normalized kick direction
+	 * @return the kick position x, y and the initial speed, if the problem is not singular
+	 */
+	@SuppressWarnings("squid:S1166") // Exception from solver not logged
+	protected Optional<RealVector> solveLinear(final List<CamBall> records, final IVector2 dir)
+	{
+		final int numRecords = records.size();
+		long tZero = records.get(0).getCameraCaptureTimestamp();
+		double acc = Geometry.getBallParameters().getAccSlide();
 
 		// linear solving, construct matrices...
 		RealMatrix matA = new Array2DRowRealMatrix(numRecords * 2, 3);
@@ -68,19 +100,12 @@ public class StraightKickSolverLin3 implements IKickSolver
 		}
 
 		DecompositionSolver solver = new QRDecomposition(matA).getSolver();
-		RealVector x;
 		try
 		{
-			x = solver.solve(b);
+			return Optional.of(solver.solve(b));
 		} catch (SingularMatrixException e)
 		{
 			return Optional.empty();
 		}
-
-		IVector2 kickPos = Vector2.fromXY(x.getEntry(0), x.getEntry(1));
-		IVector3 kickVel = dir.scaleToNew(x.getEntry(2)).getXYZVector();
-
-		return Optional.of(
-				new KickSolverResult(kickPos, kickVel, records.get(0).gettCapture(), getClass().getSimpleName()));
 	}
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+package edu.tigers.sumatra.vision.kick.estimators.straight;
+
+import edu.tigers.sumatra.cam.data.CamBall;
+import edu.tigers.sumatra.geometry.Geometry;
+import edu.tigers.sumatra.math.vector.IVector2;
+import edu.tigers.sumatra.math.vector.Vector2;
+import edu.tigers.sumatra.vision.data.KickSolverResult;
+import edu.tigers.sumatra.vision.kick.estimators.IncrementalKickRecords;
+import org.apache.commons.math3.linear.Array2DRowRealMatrix;
+import org.apache.commons.math3.linear.ArrayRealVector;
+import org.apache.commons.math3.linear.LUDecomposition;
+import org.apache.commons.math3.linear.RealMatrix;
+import org.apache.commons.math3.linear.RealVector;
+import org.apache.commons.math3.linear.SingularMatrixException;
+
+import java.util.List;
+import java.util.Optional;
+
+
+/**
+ * Incremental variant of {@link StraightKickSolverLin3}.
+ * The regression line and the linear problem only depend on a few sums over the records,
+ * which are updated when records are added or removed.
+ * Positions are summed up relative to the first record to keep the sums well-conditioned.
+ * It expects to be called with the same (growing or pruned) list of records of a single kick.
+ */
+public class StraightKickSolverLin3Incremental extends StraightKickSolverLin3
+{
+	private final IncrementalKickRecords<double[]> records = new IncrementalKickRecords<>();
+	private boolean hasOrigin = false;
+	private long baseTimestamp;
+	private IVector2 origin;
+
+	private int n;
+	private double sumS;
+	private double sumS2;
+	private double sumS3;
+	private double sumX;
+	private double sumY;
+	private double sumXS;
+	private double sumYS;
+	private double sumXX;
+	private double sumXY;
+
+
+	@Override
+	public Optional<KickSolverResult> solve(final List<CamBall> camBalls)
+	{
+		if (!hasOrigin && !camBalls.isEmpty())
+		{
+			baseTimestamp = camBalls.getFirst().getCameraCaptureTimestamp();
+			origin = camBalls.getFirst().getFlatPos();
+			hasOrigin = true;
+		}
+		records.sync(camBalls, this::add, sample -> accumulate(sample, -1));
+		return super.solve(camBalls);
+	}
+
+
+	@Override
+	protected Optional<IVector2> kickDirection(final List<CamBall> camBalls)
+	{
+		double det = (n * sumXX) - (sumX * sumX);
+		if (n < 2 || det <= 0)
+		{
+			return Optional.empty();
+		}
+		double slope = ((n * sumXY) - (sumX * sumY)) / det;
+		double dx = camBalls.getLast().getFlatPos().x() - camBalls.getFirst().getFlatPos().x();
+		return Optional.of(Vector2.fromXY(dx, dx * slope).normalizeNew());
+	}
+
+
+	@Override
+	@SuppressWarnings("squid:S1166") // Exception from solver not logged
+	protected Optional<RealVector> solveLinear(final List<CamBall> camBalls, final IVector2 dir)
+	{
+		double acc = Geometry.getBallParameters().getAccSlide();
+		double tau = (baseTimestamp - camBalls.getFirst().getCameraCaptureTimestamp()) * 1e-9;
+		double tau2 = tau * tau;
+		double sumT = sumS + (n * tau);
+		double sumT2 = sumS2 + (2 * tau * sumS) + (n * tau2);
+		double sumT3 = sumS3 + (3 * tau * sumS2) + (3 * tau2 * sumS) + (n * tau2 * tau);
+		double sumXT = sumXS + (tau * sumX);
+		double sumYT = sumYS + (tau * sumY);
+		double dirLen2 = dir.getLength2() * dir.getLength2();
+
+		RealMatrix matA = new Array2DRowRealMatrix(new double[][] {
+				{ n, 0, dir.x() * sumT },
+				{ 0, n, dir.y() * sumT },
+				{ dir.x() * sumT, dir.y() * sumT, dirLen2 * sumT2 } });
+		RealVector b = new ArrayRealVector(new double[] {
+				sumX - (0.5 * acc * dir.x() * sumT2),
+				sumY - (0.5 * acc * dir.y() * sumT2),
+				(dir.x() * sumXT) + (dir.y() * sumYT) - (0.5 * acc * dirLen2 * sumT3) });
+
+		RealVector x;
+		try
+		{
+			x = new LUDecomposition(matA).getSolver().solve(b);
+		} catch (SingularMatrixException e)
+		{
+			return Optional.empty();
+		}
+		x.addToEntry(0, origin.x());
+		x.addToEntry(1, origin.y());
+		return Optional.of(x);
+	}
+
+
+	private double[] add(final CamBall ball)
+	{
+		double s = (ball.getCameraCaptureTimestamp() - baseTimestamp) * 1e-9;
+		IVector2 pos = ball.getFlatPos();
+		double[] sample = new double[] { s, pos.x() - origin.x(), pos.y() - origin.y() };
+		accumulate(sample, 1);
+		return sample;
+	}
+
+
+	private void accumulate(final double[] sample, final int sign)
+	{
+		double s = sample[0];
+		double x = sample[1];
+		double y = sample[2];
+		n += sign;
+		sumS += sign * s;
+		sumS2 += sign * s * s;
+		sumS3 += sign * s * s * s;
+		sumX += sign * x;
+		sumY += sign * y;
+		sumXS += sign * x * s;
+		sumYS += sign * y * s;
+		sumXX += sign * x * x;
+		sumXY += sign * x * y;
+	}
+}
@@ -1,11 +1,13 @@
 /*
- * Copyright (c) 2009 - 2020, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 package edu.tigers.sumatra.vision.tracker;
 
 import com.github.g3force.configurable.ConfigRegistration;
 import com.github.g3force.configurable.Configurable;
 import edu.tigers.sumatra.cam.data.CamBall;
+import edu.tigers.sumatra.filter.tracking.ITrackingFilter2D;
+import edu.tigers.sumatra.filter.tracking.PrimitiveTrackingFilterPosVel2D;
 import edu.tigers.sumatra.filter.tracking.TrackingFilterPosVel2D;
 import edu.tigers.sumatra.math.rectangle.IRectangle;
 import edu.tigers.sumatra.math.vector.IVector2;
@@ -26,7 +28,7 @@ import java.util.Optional;
  */
 public class BallTracker
 {
-	private final TrackingFilterPosVel2D filter;
+	private final ITrackingFilter2D filter;
 
 
 	private long lastInFieldTimestamp;
@@ -54,6 +56,8 @@ public class BallTracker
 	private static int maxHealth = 20;
 	@Configurable(defValue = "3", comment = "How many updates are required until this tracker is grown up?")
 	private static int grownUpAge = 3;
+	@Configurable(defValue = "false", comment = "Use the allocation-free tracking filter implementation")
+	private static boolean usePrimitiveFilter = false;
 
 	static
 	{
@@ -68,8 +72,7 @@ public class BallTracker
 	 */
 	public BallTracker(final CamBall ball)
 	{
-		filter = new TrackingFilterPosVel2D(ball.getPos().getXYVector(), initialCovarianceXY, modelError, measError,
-				ball.gettCapture());
+		filter = createFilter(ball.getPos().getXYVector(), Vector2f.ZERO_VECTOR, ball.gettCapture());
 
 		lastInFieldTimestamp = ball.gettCapture();
 		lastCamBall = ball;
@@ -89,16 +92,24 @@ public class BallTracker
 		{
 			filtVel = filtVel.scaleToNew(maxLinearVel);
 		}
-		RealVector initState = camBall.getPos().getXYVector().toRealVector()
-				.append(filtVel.toRealVector());
-		filter = new TrackingFilterPosVel2D(initState, initialCovarianceXY, modelError, measError,
-				camBall.gettCapture());
+		filter = createFilter(camBall.getPos().getXYVector(), filtVel, camBall.gettCapture());
 
 		lastInFieldTimestamp = camBall.gettCapture();
 		lastCamBall = camBall;
 	}
 
 
+	private static ITrackingFilter2D createFilter(final IVector2 pos, final IVector2 vel, final long timestamp)
+	{
+		if (usePrimitiveFilter)
+		{
+			return new PrimitiveTrackingFilterPosVel2D(pos, vel, initialCovarianceXY, modelError, measError, timestamp);
+		}
+		RealVector initState = pos.toRealVector().append(vel.toRealVector());
+		return new TrackingFilterPosVel2D(initState, initialCovarianceXY, modelError, measError, timestamp);
+	}
+
+
 	/**
 	 * Do a prediction step on to a specific time.
 	 *
@@ -263,7 +274,7 @@ public class BallTracker
 	/**
 	 * @return the filter
 	 */
-	public TrackingFilterPosVel2D getFilter()
+	public ITrackingFilter2D getFilter()
 	{
 		return filter;
 	}
@@ -1,14 +1,19 @@
 /*
- * Copyright (c) 2009 - 2021, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 package edu.tigers.sumatra.vision.tracker;
 
 import com.github.g3force.configurable.ConfigRegistration;
 import com.github.g3force.configurable.Configurable;
 import edu.tigers.sumatra.cam.data.CamRobot;
+import edu.tigers.sumatra.data.TimeSeriesBuffer;
 import edu.tigers.sumatra.drawable.DrawableAnnotation;
 import edu.tigers.sumatra.drawable.DrawableBotShape;
 import edu.tigers.sumatra.drawable.IDrawableShape;
+import edu.tigers.sumatra.filter.tracking.ITrackingFilter1D;
+import edu.tigers.sumatra.filter.tracking.ITrackingFilter2D;
+import edu.tigers.sumatra.filter.tracking.PrimitiveTrackingFilterPosVel1D;
+import edu.tigers.sumatra.filter.tracking.PrimitiveTrackingFilterPosVel2D;
 import edu.tigers.sumatra.filter.tracking.TrackingFilterPosVel1D;
 import edu.tigers.sumatra.filter.tracking.TrackingFilterPosVel2D;
 import edu.tigers.sumatra.ids.BotID;
@@ -32,11 +37,11 @@ import java.util.List;
  */
 public class RobotTracker
 {
-	private final TrackingFilterPosVel2D filterXY;
-	private final TrackingFilterPosVel1D filterW;
+	private final ITrackingFilter2D filterXY;
+	private final ITrackingFilter1D filterW;
 	private final BotID botId;
 	private final int camId;
-	private final List<Long> updateTimestamps = new ArrayList<>();
+	private final TimeSeriesBuffer<Void> updateTimestamps = TimeSeriesBuffer.withWindow(1.0, 128);
 
 	private long lastUpdateTimestamp;
 
@@ -67,6 +72,8 @@ public class RobotTracker
 	private static double maxAngularVel = 30.0;
 	@Configurable(defValue = "20", comment = "Reciprocal health is used as uncertainty, increased on update, decreased on prediction")
 	private static int maxHealth = 20;
+	@Configurable(defValue = "false", comment = "Use the allocation-free tracking filter implementation")
+	private static boolean usePrimitiveFilter = false;
 
 	static
 	{
@@ -81,10 +88,8 @@ public class RobotTracker
 	 */
 	public RobotTracker(final CamRobot robot)
 	{
-		filterXY = new TrackingFilterPosVel2D(robot.getPos(), initialCovarianceXY, modelErrorXY, measErrorXY,
-				robot.gettCapture());
-		filterW = new TrackingFilterPosVel1D(robot.getOrientation(), initialCovarianceW, modelErrorW, measErrorW,
-				robot.gettCapture());
+		filterXY = createFilterXY(robot.getPos(), Vector2f.ZERO_VECTOR, robot.gettCapture());
+		filterW = createFilterW(robot.getOrientation(), 0, robot.gettCapture());
 
 		lastCamOrientation = robot.getOrientation();
 		lastUpdateTimestamp = robot.gettCapture();
@@ -102,13 +107,8 @@ public class RobotTracker
 	 */
 	public RobotTracker(final CamRobot robot, final FilteredVisionBot filtered)
 	{
-		RealVector xy = new ArrayRealVector(filtered.getPos().toArray(), filtered.getVel().multiplyNew(1000.0).toArray());
-		RealVector w = new ArrayRealVector(new double[] { filtered.getOrientation(), filtered.getAngularVel() });
-
-		filterXY = new TrackingFilterPosVel2D(xy, initialCovarianceXY, modelErrorXY, measErrorXY,
-				robot.gettCapture());
-		filterW = new TrackingFilterPosVel1D(w, initialCovarianceW, modelErrorW, measErrorW,
-				robot.gettCapture());
+		filterXY = createFilterXY(filtered.getPos(), filtered.getVel().multiplyNew(1000.0), robot.gettCapture());
+		filterW = createFilterW(filtered.getOrientation(), filtered.getAngularVel(), robot.gettCapture());
 
 		lastCamOrientation = robot.getOrientation();
 		lastUpdateTimestamp = robot.gettCapture();
@@ -117,6 +117,31 @@ public class RobotTracker
 	}
 
 
+	private static ITrackingFilter2D createFilterXY(final IVector2 pos, final IVector2 vel, final long timestamp)
+	{
+		if (usePrimitiveFilter)
+		{
+			return new PrimitiveTrackingFilterPosVel2D(pos, vel, initialCovarianceXY, modelErrorXY, measErrorXY,
+					timestamp);
+		}
+		RealVector xy = new ArrayRealVector(pos.toArray(), vel.toArray());
+		return new TrackingFilterPosVel2D(xy, initialCovarianceXY, modelErrorXY, measErrorXY, timestamp);
+	}
+
+
+	private static ITrackingFilter1D createFilterW(final double orientation, final double angularVel,
+			final long timestamp)
+	{
+		if (usePrimitiveFilter)
+		{
+			return new PrimitiveTrackingFilterPosVel1D(orientation, angularVel, initialCovarianceW, modelErrorW,
+					measErrorW, timestamp);
+		}
+		RealVector w = new ArrayRealVector(new double[] { orientation, angularVel });
+		return new TrackingFilterPosVel1D(w, initialCovarianceW, modelErrorW, measErrorW, timestamp);
+	}
+
+
 	/**
 	 * Do a prediction step on all filters to a specific time.
 	 *
@@ -133,7 +158,7 @@ public class RobotTracker
 			health--;
 		}
 
-		updateTimestamps.removeIf(t -> (timestamp - t) > 1_000_000_000L);
+		updateTimestamps.evictOlderThan(timestamp - 1_000_000_000L);
 
 		visionQuality = (updateTimestamps.size() * avgFrameDt) + 0.01;
 	}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.vision;
+
+import edu.tigers.sumatra.cam.data.CamDetectionFrame;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+public class CamFrameLaneTest
+{
+	private final List<Long> processed = new CopyOnWriteArrayList<>();
+	private final CountDownLatch firstFrameTaken = new CountDownLatch(1);
+	private final CountDownLatch release = new CountDownLatch(1);
+	private CamFrameLane lane;
+
+
+	@After
+	public void tearDown()
+	{
+		release.countDown();
+		if (lane != null)
+		{
+			lane.stop();
+		}
+	}
+
+
+	@Test
+	public void testFramesAreProcessedInOrder() throws InterruptedException
+	{
+		lane = new CamFrameLane(0, 10, blockingProcessor());
+
+		lane.offer(frame(0));
+		assertThat(firstFrameTaken.await(1, TimeUnit.SECONDS)).isTrue();
+		for (long i = 1; i <= 10; i++)
+		{
+			lane.offer(frame(i));
+		}
+		release.countDown();
+
+		awaitProcessed(11);
+		assertThat(processed).containsExactly(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+		assertThat(lane.getNumDropped()).isZero();
+	}
+
+
+	@Test
+	public void testOldestFramesAreDroppedIfQueueIsFull() throws InterruptedException
+	{
+		lane = new CamFrameLane(0, 2, blockingProcessor());
+
+		lane.offer(frame(0));
+		assertThat(firstFrameTaken.await(1, TimeUnit.SECONDS)).isTrue();
+		for (long i = 1; i <= 5; i++)
+		{
+			lane.offer(frame(i));
+		}
+		assertThat(lane.getNumDropped()).isEqualTo(3);
+		release.countDown();
+
+		awaitProcessed(3);
+		assertThat(processed).containsExactly(0L, 4L, 5L);
+		assertThat(lane.getNumDropped()).isEqualTo(3);
+	}
+
+
+	@Test
+	public void testExceptionsDoNotStopTheLane() throws InterruptedException
+	{
+		var failed = new CountDownLatch(2);
+		lane = new CamFrameLane(0, 10, frame -> {
+			processed.add(frame.getFrameNumber());
+			failed.countDown();
+			throw new IllegalStateException("test");
+		});
+
+		lane.offer(frame(0));
+		lane.offer(frame(1));
+
+		assertThat(failed.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(processed).containsExactly(0L, 1L);
+	}
+
+
+	private Consumer<CamDetectionFrame> blockingProcessor()
+	{
+		return frame -> {
+			firstFrameTaken.countDown();
+			try
+			{
+				release.await();
+			} catch (InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+			}
+			processed.add(frame.getFrameNumber());
+		};
+	}
+
+
+	private void awaitProcessed(int numFrames) throws InterruptedException
+	{
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (lane.getNumProcessed() < numFrames && System.nanoTime() < deadline)
+		{
+			Thread.sleep(1);
+		}
+	}
+
+
+	private static CamDetectionFrame frame(long frameNumber)
+	{
+		return new CamDetectionFrame(frameNumber + 1, frameNumber + 1, null, 0, frameNumber, frameNumber,
+				Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+	}
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+package edu.tigers.sumatra.vision.kick.estimators;
+
+import edu.tigers.sumatra.cam.data.CamBall;
+import edu.tigers.sumatra.geometry.Geometry;
+import edu.tigers.sumatra.math.vector.IVector2;
+import edu.tigers.sumatra.math.vector.IVector3;
+import edu.tigers.sumatra.math.vector.Vector2;
+import edu.tigers.sumatra.math.vector.Vector2f;
+import edu.tigers.sumatra.math.vector.Vector3;
+import edu.tigers.sumatra.vision.data.KickSolverResult;
+import edu.tigers.sumatra.vision.kick.estimators.chip.ChipKickSolverLin3Offset;
+import edu.tigers.sumatra.vision.kick.estimators.chip.ChipKickSolverLin3OffsetIncremental;
+import edu.tigers.sumatra.vision.kick.estimators.chip.ChipKickSolverLin5Offset;
+import edu.tigers.sumatra.vision.kick.estimators.chip.ChipKickSolverLin5OffsetIncremental;
+import edu.tigers.sumatra.vision.kick.estimators.straight.StraightKickSolverLin3;
+import edu.tigers.sumatra.vision.kick.estimators.straight.StraightKickSolverLin3Incremental;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+
+/**
+ * Compare the incremental linear kick solvers with their batch counterparts on simulated kicks.
+ * The records are added and pruned like in the kick estimators.
+ */
+public class IncrementalKickSolverTest
+{
+	private static final long KICK_TIMESTAMP = 1_000_000_000L;
+	private static final long FRAME_DT = 13_333_333L;
+	private static final int MAX_RECORDS = 30;
+	private static final IVector3 CAMERA_POS = Vector3.fromXYZ(0, 0, 2000.0);
+	private static final IVector2 KICK_POS = Vector2.fromXY(1000, -500);
+
+
+	@Test
+	public void testChipLin3()
+	{
+		for (int seed = 0; seed < 5; seed++)
+		{
+			List<CamBall> kick = chipKick(Vector3.fromXYZ(2500, 1000, 2500), seed);
+			compare(kick, 0,
+					new ChipKickSolverLin3Offset(KICK_POS, KICK_TIMESTAMP, Map.of()),
+					new ChipKickSolverLin3OffsetIncremental(KICK_POS, KICK_TIMESTAMP, Map.of()));
+		}
+	}
+
+
+	@Test
+	public void testChipLin5()
+	{
+		for (int seed = 0; seed < 5; seed++)
+		{
+			List<CamBall> kick = chipKick(Vector3.fromXYZ(-1500, 2500, 3000), seed);
+			compare(kick, 0,
+					new ChipKickSolverLin5Offset(KICK_POS, KICK_TIMESTAMP, Map.of()),
+					new ChipKickSolverLin5OffsetIncremental(KICK_POS, KICK_TIMESTAMP, Map.of()));
+		}
+	}
+
+
+	@Test
+	public void testStraightLin3()
+	{
+		for (int seed = 0; seed < 5; seed++)
+		{
+			List<CamBall> kick = straightKick(Vector2.fromXY(3000, 2000), seed);
+			compare(kick, 1, new StraightKickSolverLin3(), new StraightKickSolverLin3Incremental());
+		}
+	}
+
+
+	private void compare(final List<CamBall> kick, final int minPruneIndex, final IKickSolver batch,
+			final IKickSolver incremental)
+	{
+		List<CamBall> records = new ArrayList<>(kick.subList(0, 8));
+		int pruneIndex = minPruneIndex;
+		int numCompared = 0;
+		for (CamBall ball : kick.subList(8, kick.size()))
+		{
+			records.add(ball);
+			if (records.size() >= MAX_RECORDS)
+			{
+				records.remove(pruneIndex);
+				pruneIndex++;
+				if (pruneIndex > (records.size() - (MAX_RECORDS / 5)))
+				{
+					pruneIndex = minPruneIndex;
+				}
+			}
+
+			Optional<KickSolverResult> expected = batch.solve(records);
+			Optional<KickSolverResult> actual = incremental.solve(records);
+
+			assertThat(actual.isPresent()).isEqualTo(expected.isPresent());
+			if (expected.isPresent())
+			{
+				assertSameFit(actual.orElseThrow(), expected.get());
+				numCompared++;
+			}
+		}
+		assertThat(numCompared).isPositive();
+	}
+
+
+	private void assertSameFit(final KickSolverResult actual, final KickSolverResult expected)
+	{
+		assertThat(actual.getKickPosition().x()).isCloseTo(expected.getKickPosition().x(), within(1e-3));
+		assertThat(actual.getKickPosition().y()).isCloseTo(expected.getKickPosition().y(), within(1e-3));
+		assertThat(actual.getKickVelocity().x()).isCloseTo(expected.getKickVelocity().x(), within(1e-3));
+		assertThat(actual.getKickVelocity().y()).isCloseTo(expected.getKickVelocity().y(), within(1e-3));
+		assertThat(actual.getKickVelocity().z()).isCloseTo(expected.getKickVelocity().z(), within(1e-3));
+		assertThat(actual.getKickTimestamp()).isEqualTo(expected.getKickTimestamp());
+	}
+
+
+	private List<CamBall> chipKick(final IVector3 kickVel, final int seed)
+	{
+		Random rnd = new Random(seed);
+		List<CamBall> records = new ArrayList<>();
+		for (int i = 0; i < 50; i++)
+		{
+			long timestamp = KICK_TIMESTAMP + 20_000_000L + (i * FRAME_DT) + rnd.nextInt(1_000_000);
+			double t = (timestamp - KICK_TIMESTAMP) * 1e-9;
+			IVector3 pos = KICK_POS.getXYZVector()
+					.addNew(kickVel.multiplyNew(t))
+					.add(Vector3.fromXYZ(0, 0, -0.5 * 9810 * t * t));
+			records.add(camBall(pos.projectToGroundNew(CAMERA_POS), timestamp, rnd));
+		}
+		return records;
+	}
+
+
+	private List<CamBall> straightKick(final IVector2 kickVel, final int seed)
+	{
+		Random rnd = new Random(seed);
+		double acc = Geometry.getBallParameters().getAccSlide();
+		IVector2 dir = kickVel.normalizeNew();
+		List<CamBall> records = new ArrayList<>();
+		for (int i = 0; i < 60; i++)
+		{
+			long timestamp = KICK_TIMESTAMP + (i * FRAME_DT) + rnd.nextInt(1_000_000);
+			double t = (timestamp - KICK_TIMESTAMP) * 1e-9;
+			double dist = (kickVel.getLength2() * t) + (0.5 * acc * t * t);
+			records.add(camBall(KICK_POS.addNew(dir.multiplyNew(dist)), timestamp, rnd));
+		}
+		return records;
+	}
+
+
+	private CamBall camBall(final IVector2 pos, final long timestamp, final Random rnd)
+	{
+		IVector2 noisyPos = pos.addNew(Vector2.fromXY(rnd.nextGaussian() * 2, rnd.nextGaussian() * 2));
+		return new CamBall(1, 0, Vector3.from2d(noisyPos, 0), Vector2f.ZERO_VECTOR, timestamp, null, timestamp, 0, 0);
+	}
+}
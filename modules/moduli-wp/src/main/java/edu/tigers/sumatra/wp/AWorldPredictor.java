@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2022, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 
 package edu.tigers.sumatra.wp;
@@ -9,10 +9,17 @@ import edu.tigers.moduli.AModule;
 import edu.tigers.sumatra.cam.ICamFrameObserver;
 import edu.tigers.sumatra.drawable.ShapeMap;
 import edu.tigers.sumatra.drawable.ShapeMapSource;
+import edu.tigers.sumatra.util.Safe;
+import edu.tigers.sumatra.wp.data.ExtendedCamDetectionFrame;
+import edu.tigers.sumatra.wp.data.WorldFrameWrapper;
+import edu.tigers.sumatra.wp.dispatch.EWorldFrameDispatchPolicy;
+import edu.tigers.sumatra.wp.dispatch.WorldFrameDispatcher;
+import edu.tigers.sumatra.wp.dispatch.WorldFrameObserverStats;
 import edu.tigers.sumatra.wp.util.IRobotInfoProvider;
 
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 
 /**
@@ -25,6 +32,7 @@ public abstract class AWorldPredictor extends AModule implements ICamFrameObserv
 {
 	protected final List<IWorldFrameObserver> observers = new CopyOnWriteArrayList<>();
 	protected final List<IWorldFrameObserver> consumers = new CopyOnWriteArrayList<>();
+	protected final WorldFrameDispatcher observerDispatcher = new WorldFrameDispatcher();
 
 
 	/**
@@ -39,6 +47,21 @@ public abstract class AWorldPredictor extends AModule implements ICamFrameObserv
 	public final void addObserver(final IWorldFrameObserver observer)
 	{
 		observers.add(observer);
+		observerDispatcher.add(observer);
+	}
+
+
+	/**
+	 * Add an observer for worldFrames with a fixed dispatch policy, independent of the configuration.
+	 *
+	 * @param observer that wants to listen for new frames
+	 * @param policy   how the observer is notified
+	 */
+	@SuppressWarnings("squid:S2250") // Collection methods with O(n) performance
+	public final void addObserver(final IWorldFrameObserver observer, final EWorldFrameDispatchPolicy policy)
+	{
+		observers.add(observer);
+		observerDispatcher.add(observer, policy);
 	}
 
 
@@ -49,6 +72,7 @@ public abstract class AWorldPredictor extends AModule implements ICamFrameObserv
 	public final void removeObserver(final IWorldFrameObserver observer)
 	{
 		observers.remove(observer);
+		observerDispatcher.remove(observer);
 	}
 
 
@@ -87,19 +111,57 @@ public abstract class AWorldPredictor extends AModule implements ICamFrameObserv
 	public final void notifyNewShapeMap(final long timestamp, ShapeMap shapeMap, ShapeMapSource source)
 	{
 		ShapeMap unmodifiableShapeMap = ShapeMap.unmodifiableCopy(shapeMap);
-		for (IWorldFrameObserver o : observers)
-		{
-			o.onNewShapeMap(timestamp, unmodifiableShapeMap, source);
-		}
+		observerDispatcher.publishLatest(source, o -> o.onNewShapeMap(timestamp, unmodifiableShapeMap, source));
 	}
 
 
 	public final void notifyRemoveSourceFromShapeMap(ShapeMapSource source)
 	{
-		for (IWorldFrameObserver o : observers)
-		{
-			o.onRemoveSourceFromShapeMap(source);
-		}
+		observerDispatcher.publish(o -> o.onRemoveSourceFromShapeMap(source));
+	}
+
+
+	/**
+	 * Notify all consumers synchronously and then all observers according to their dispatch policy.
+	 *
+	 * @param wfw the new world frame
+	 */
+	protected final void notifyNewWorldFrame(final WorldFrameWrapper wfw)
+	{
+		Safe.forEach(consumers, c -> c.onNewWorldFrame(wfw));
+		observerDispatcher.publishWorldFrame(wfw);
+	}
+
+
+	/**
+	 * Notify all observers about a new cam frame. With the LATEST_ONLY policy, a queued frame of the same camera
+	 * is skipped.
+	 *
+	 * @param frame the new cam frame
+	 */
+	protected final void notifyNewCamDetectionFrame(final ExtendedCamDetectionFrame frame)
+	{
+		observerDispatcher.publish(new CamFrameKey(frame.getCameraId()), o -> o.onNewCamDetectionFrame(frame));
+	}
+
+
+	/**
+	 * Notify all observers about an event other than a new world frame.
+	 *
+	 * @param event the event
+	 */
+	protected final void notifyObservers(final Consumer<IWorldFrameObserver> event)
+	{
+		observerDispatcher.publish(event);
+	}
+
+
+	/**
+	 * @return the dispatch metrics of all observers
+	 */
+	public final List<WorldFrameObserverStats> getObserverStats()
+	{
+		return observerDispatcher.getStats();
 	}
 
 
@@ -107,4 +169,9 @@ public abstract class AWorldPredictor extends AModule implements ICamFrameObserv
 
 
 	public abstract void reset();
+
+
+	private record CamFrameKey(int cameraId)
+	{
+	}
 }
@@ -1,9 +1,10 @@
 /*
- * Copyright (c) 2009 - 2021, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 
 package edu.tigers.sumatra.wp;
 
+import edu.tigers.sumatra.drawable.ShapeLayerDemand;
 import edu.tigers.sumatra.drawable.ShapeMap;
 import edu.tigers.sumatra.drawable.ShapeMapSource;
 import edu.tigers.sumatra.model.SumatraModel;
@@ -47,6 +48,7 @@ public class ShapeMapBerkeleyRecorder implements IBerkeleyRecorder
 	{
 		AWorldPredictor wp = SumatraModel.getInstance().getModule(AWorldPredictor.class);
 		wp.addObserver(wfwObserver);
+		ShapeLayerDemand.setDemand(this, ShapeMap::isPersistent);
 		running = true;
 	}
 
@@ -56,6 +58,7 @@ public class ShapeMapBerkeleyRecorder implements IBerkeleyRecorder
 	{
 		AWorldPredictor wp = SumatraModel.getInstance().getModule(AWorldPredictor.class);
 		wp.removeObserver(wfwObserver);
+		ShapeLayerDemand.removeDemand(this);
 		running = false;
 	}
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2023, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 
 package edu.tigers.sumatra.wp;
@@ -17,7 +17,6 @@ import edu.tigers.sumatra.cam.ICamFrameObserver;
 import edu.tigers.sumatra.cam.data.CamBall;
 import edu.tigers.sumatra.cam.data.CamDetectionFrame;
 import edu.tigers.sumatra.cam.data.CamObjectFilterParams;
-import edu.tigers.sumatra.data.TimestampBasedBuffer;
 import edu.tigers.sumatra.drawable.DrawableBorderText;
 import edu.tigers.sumatra.drawable.DrawableRectangle;
 import edu.tigers.sumatra.drawable.EFontSize;
@@ -39,7 +38,8 @@ import edu.tigers.sumatra.referee.data.GameState;
 import edu.tigers.sumatra.referee.data.RefereeMsg;
 import edu.tigers.sumatra.referee.proto.SslGcRefereeMessage;
 import edu.tigers.sumatra.referee.source.ERefereeMessageSource;
-import edu.tigers.sumatra.util.Safe;
+import edu.tigers.sumatra.time.EFrameStage;
+import edu.tigers.sumatra.time.FrameLatencyTracer;
 import edu.tigers.sumatra.vision.AVisionFilter;
 import edu.tigers.sumatra.vision.IVisionFilterObserver;
 import edu.tigers.sumatra.vision.data.FilteredVisionBall;
@@ -124,7 +124,6 @@ public class WorldInfoCollector extends AWorldPredictor
 	}
 
 	private final BerkeleyAutoPauseHook berkeleyAutoPauseHook = new BerkeleyAutoPauseHook();
-	private final TimestampBasedBuffer<ITrackedBall> ballBuffer = new TimestampBasedBuffer<>(0.3);
 	private final GameStateCalculator gameStateCalculator = new GameStateCalculator();
 	private final WorldFrameVisualization worldFrameVisualization = new WorldFrameVisualization();
 	private final MalFunctioningBotCalculator malFunctioningBotCalculator = new MalFunctioningBotCalculator();
@@ -316,7 +315,6 @@ public class WorldInfoCollector extends AWorldPredictor
 		Map<BotID, ITrackedBot> bots = collectTrackedBots(filteredVisionFrame.getBots(), robotInfo.values());
 
 		ITrackedBall ball = getTrackedBall(filteredVisionFrame);
-		ballBuffer.add(ball);
 
 		KickedBall kickedBall = filteredVisionFrame.getKick()
 				.map(this::getKickedBall).orElse(null);
@@ -332,8 +330,8 @@ public class WorldInfoCollector extends AWorldPredictor
 		GameState gameState = gameStateCalculator.getNextGameState(latestRefereeMsg, ball.getPos(), lastWFTimestamp);
 
 		WorldFrameWrapper wfw = new WorldFrameWrapper(swf, latestRefereeMsg, gameState);
-		Safe.forEach(consumers, c -> c.onNewWorldFrame(wfw));
-		Safe.forEach(observers, c -> c.onNewWorldFrame(wfw));
+		FrameLatencyTracer.getInstance().mark(EFrameStage.WORLD_FRAME, lastWFTimestamp);
+		notifyNewWorldFrame(wfw);
 
 		visualize(wfw);
 		ShapeMap.setPersistDebugShapes(!SumatraModel.getInstance().isTournamentMode());
@@ -490,7 +488,7 @@ public class WorldInfoCollector extends AWorldPredictor
 	public void reset()
 	{
 		log.debug("Resetting world info collector");
-		observers.forEach(IWorldFrameObserver::onClearCamDetectionFrame);
+		notifyObservers(IWorldFrameObserver::onClearCamDetectionFrame);
 
 		gameStateCalculator.reset();
 		worldFrameVisualization.reset();
@@ -516,6 +514,7 @@ public class WorldInfoCollector extends AWorldPredictor
 		{
 			log.warn("There were observers left: {}", observers);
 			observers.clear();
+			observerDispatcher.clear();
 		}
 		if (!consumers.isEmpty())
 		{
@@ -560,7 +559,7 @@ public class WorldInfoCollector extends AWorldPredictor
 	{
 		CamBall ball = currentBallDetector.findCurrentBall(camDetectionFrame.getBalls());
 		ExtendedCamDetectionFrame eFrame = new ExtendedCamDetectionFrame(camDetectionFrame, ball);
-		observers.forEach(o -> o.onNewCamDetectionFrame(eFrame));
+		notifyNewCamDetectionFrame(eFrame);
 		camFrameShapeMapProducer.updateCamFrameShapes(eFrame);
 	}
 
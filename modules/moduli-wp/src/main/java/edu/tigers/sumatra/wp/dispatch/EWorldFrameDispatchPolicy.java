@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.wp.dispatch;
+
+/**
+ * How world frames and other events are delivered to a single {@link edu.tigers.sumatra.wp.IWorldFrameObserver}.
+ */
+public enum EWorldFrameDispatchPolicy
+{
+	/** Notify the observer directly on the publishing thread */
+	SYNC,
+	/**
+	 * Notify the observer on its own thread, skipping all but the latest world frame, cam frame per camera
+	 * and shape map per source since the last other event, if it can not keep up
+	 */
+	LATEST_ONLY,
+	/**
+	 * Notify the observer on its own thread, skipping all but the latest shape map per source
+	 * and dropping the oldest world frame, cam frame or shape map, if the queue is full.
+	 * Other events are never dropped.
+	 */
+	BOUNDED_QUEUE,
+}
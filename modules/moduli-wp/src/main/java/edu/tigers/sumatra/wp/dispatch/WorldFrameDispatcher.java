@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.wp.dispatch;
+
+import com.github.g3force.configurable.ConfigRegistration;
+import com.github.g3force.configurable.Configurable;
+import edu.tigers.sumatra.wp.IWorldFrameObserver;
+import edu.tigers.sumatra.wp.data.WorldFrameWrapper;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+
+/**
+ * Dispatches world frames and other events to the observers of a world predictor.
+ * By default, all observers are notified synchronously on the publishing thread.
+ * With asynchronous dispatch enabled, each observer gets its own lane, so that a slow observer
+ * (like a visualizer or a recorder) does not delay the others.
+ */
+@Log4j2
+public class WorldFrameDispatcher
+{
+	@Configurable(
+			comment = "Notify world frame observers on their own threads. Applies to newly added observers.",
+			defValue = "false"
+	)
+	private static boolean asyncDispatch = false;
+
+	@Configurable(
+			comment = "Dispatch policy of observers that are not listed in observerPolicies",
+			defValue = "LATEST_ONLY"
+	)
+	private static EWorldFrameDispatchPolicy defaultPolicy = EWorldFrameDispatchPolicy.LATEST_ONLY;
+
+	@Configurable(
+			comment = "Dispatch policies per observer class, like 'RecordManager=BOUNDED_QUEUE;AutoRefRunner=SYNC'",
+			defValue = ""
+	)
+	private static String observerPolicies = "";
+
+	@Configurable(
+			comment = "Max number of queued world frames, cam frames and shape maps per asynchronous observer",
+			defValue = "100"
+	)
+	private static int queueCapacity = 100;
+
+	static
+	{
+		ConfigRegistration.registerClass("wp", WorldFrameDispatcher.class);
+	}
+
+	private final List<WorldFrameObserverLane> lanes = new CopyOnWriteArrayList<>();
+
+
+	/**
+	 * Add a lane for the observer, using the configured policy.
+	 *
+	 * @param observer the observer to notify
+	 */
+	public void add(IWorldFrameObserver observer)
+	{
+		add(observer, asyncDispatch ? getConfiguredPolicy(observer) : EWorldFrameDispatchPolicy.SYNC);
+	}
+
+
+	/**
+	 * Add a lane for the observer with a fixed policy.
+	 *
+	 * @param observer the observer to notify
+	 * @param policy   the dispatch policy
+	 */
+	public synchronized void add(IWorldFrameObserver observer, EWorldFrameDispatchPolicy policy)
+	{
+		lanes.add(new WorldFrameObserverLane(observer, uniqueName(observer), policy, queueCapacity));
+	}
+
+
+	/**
+	 * Remove the lane of the observer and stop its thread, if any.
+	 *
+	 * @param observer the observer to remove
+	 */
+	public synchronized void remove(IWorldFrameObserver observer)
+	{
+		lanes.stream()
+				.filter(lane -> lane.getObserver() == observer)
+				.findFirst()
+				.ifPresent(lane -> {
+					lanes.remove(lane);
+					lane.stop();
+				});
+	}
+
+
+	/**
+	 * Remove all lanes
+	 */
+	public synchronized void clear()
+	{
+		lanes.forEach(WorldFrameObserverLane::stop);
+		lanes.clear();
+	}
+
+
+	/**
+	 * @param wfw the new world frame
+	 */
+	public void publishWorldFrame(WorldFrameWrapper wfw)
+	{
+		for (WorldFrameObserverLane lane : lanes)
+		{
+			lane.publishWorldFrame(wfw);
+		}
+	}
+
+
+	/**
+	 * Notify all observers about any other event. The event is ordered with the world frames of each observer.
+	 *
+	 * @param event the event
+	 */
+	public void publish(Consumer<IWorldFrameObserver> event)
+	{
+		for (WorldFrameObserverLane lane : lanes)
+		{
+			lane.publish(event);
+		}
+	}
+
+
+	/**
+	 * Notify all observers about an event of a stream, like a cam frame.
+	 * Observers with the LATEST_ONLY policy skip a queued event with the same key.
+	 *
+	 * @param key   the key of the stream
+	 * @param event the event
+	 */
+	public void publish(Object key, Consumer<IWorldFrameObserver> event)
+	{
+		for (WorldFrameObserverLane lane : lanes)
+		{
+			lane.publish(key, event);
+		}
+	}
+
+
+	/**
+	 * Notify all observers about an event that replaces the previous state of the key, like a shape map.
+	 * Asynchronous observers skip a queued event with the same key.
+	 *
+	 * @param key   the key of the state
+	 * @param event the event
+	 */
+	public void publishLatest(Object key, Consumer<IWorldFrameObserver> event)
+	{
+		for (WorldFrameObserverLane lane : lanes)
+		{
+			lane.publishLatest(key, event);
+		}
+	}
+
+
+	/**
+	 * @return the current metrics of all observers
+	 */
+	public List<WorldFrameObserverStats> getStats()
+	{
+		return lanes.stream().map(WorldFrameObserverLane::getStats).toList();
+	}
+
+
+	private String uniqueName(IWorldFrameObserver observer)
+	{
+		String baseName = observerName(observer);
+		String name = baseName;
+		for (int i = 2; isNameUsed(name); i++)
+		{
+			name = baseName + "#" + i;
+		}
+		return name;
+	}
+
+
+	private boolean isNameUsed(String name)
+	{
+		return lanes.stream().anyMatch(lane -> lane.getName().equals(name));
+	}
+
+
+	private static String observerName(IWorldFrameObserver observer)
+	{
+		String simpleName = observer.getClass().getSimpleName();
+		if (simpleName.isEmpty())
+		{
+			String name = observer.getClass().getName();
+			return name.substring(name.lastIndexOf('.') + 1);
+		}
+		return simpleName;
+	}
+
+
+	private static EWorldFrameDispatchPolicy getConfiguredPolicy(IWorldFrameObserver observer)
+	{
+		return parsePolicies(observerPolicies).getOrDefault(observerName(observer), defaultPolicy);
+	}
+
+
+	private static Map<String, EWorldFrameDispatchPolicy> parsePolicies(String policies)
+	{
+		Map<String, EWorldFrameDispatchPolicy> policyMap = new HashMap<>();
+		Arrays.stream(policies.split(";"))
+				.map(String::trim)
+				.filter(s -> !s.isEmpty())
+				.forEach(s -> parsePolicy(s).ifPresent(p -> policyMap.put(s.split("=")[0].trim(), p)));
+		return policyMap;
+	}
+
+
+	private static Optional<EWorldFrameDispatchPolicy> parsePolicy(String entry)
+	{
+		String[] parts = entry.split("=");
+		if (parts.length != 2)
+		{
+			log.warn("Invalid observer policy: {}", entry);
+			return Optional.empty();
+		}
+		try
+		{
+			return Optional.of(EWorldFrameDispatchPolicy.valueOf(parts[1].trim()));
+		} catch (IllegalArgumentException e)
+		{
+			log.warn("Invalid observer policy: {}", entry, e);
+			return Optional.empty();
+		}
+	}
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.wp.dispatch;
+
+import edu.tigers.sumatra.time.RecentDurations;
+import edu.tigers.sumatra.util.Safe;
+import edu.tigers.sumatra.wp.IWorldFrameObserver;
+import edu.tigers.sumatra.wp.data.WorldFrameWrapper;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+
+/**
+ * Delivers the events of a world predictor to a single observer according to a {@link EWorldFrameDispatchPolicy}.
+ * Asynchronous lanes own a worker thread, so that a slow observer does not delay the others.
+ * World frames and other events share a single queue, so the observer receives them in the order of publishing.
+ * Events with a key (world frames, cam frames, shape maps) count against the capacity and may be skipped,
+ * events without a key (like clearing the world frame) are always delivered and are never passed by a keyed event.
+ */
+@Log4j2
+class WorldFrameObserverLane
+{
+	private static final int NUM_HANDLER_TIME_SAMPLES = 512;
+	private static final Object WORLD_FRAME_KEY = new Object();
+
+	@Getter
+	private final IWorldFrameObserver observer;
+	@Getter
+	private final String name;
+	@Getter
+	private final EWorldFrameDispatchPolicy policy;
+
+	private final int capacity;
+	private final Deque<Event> queue = new ArrayDeque<>();
+	private int numQueuedKeyed = 0;
+	private final LongAdder numHandled = new LongAdder();
+	private final LongAdder numDropped = new LongAdder();
+	private final RecentDurations handlerTimes = new RecentDurations(NUM_HANDLER_TIME_SAMPLES);
+
+	private Thread worker;
+	private volatile boolean running = true;
+
+
+	WorldFrameObserverLane(IWorldFrameObserver observer, String name, EWorldFrameDispatchPolicy policy, int capacity)
+	{
+		this.observer = observer;
+		this.name = name;
+		this.policy = policy;
+		this.capacity = capacity;
+		if (policy != EWorldFrameDispatchPolicy.SYNC)
+		{
+			worker = Thread.ofPlatform()
+					.name("WorldFrameObserver-" + name)
+					.daemon()
+					.start(this::run);
+		}
+	}
+
+
+	void publishWorldFrame(WorldFrameWrapper wfw)
+	{
+		if (policy == EWorldFrameDispatchPolicy.SYNC)
+		{
+			handleWorldFrame(wfw);
+			return;
+		}
+		enqueue(new Event(wfw, null, WORLD_FRAME_KEY, false));
+	}
+
+
+	void publish(Consumer<IWorldFrameObserver> event)
+	{
+		if (policy == EWorldFrameDispatchPolicy.SYNC)
+		{
+			Safe.run(event, observer);
+			return;
+		}
+		enqueue(new Event(null, event, null, false));
+	}
+
+
+	/**
+	 * Publish an event of a stream, like a cam frame. It is superseded by a later event with the same key
+	 * with the {@link EWorldFrameDispatchPolicy#LATEST_ONLY} policy.
+	 *
+	 * @param key   the key of the stream
+	 * @param event the event
+	 */
+	void publish(Object key, Consumer<IWorldFrameObserver> event)
+	{
+		if (policy == EWorldFrameDispatchPolicy.SYNC)
+		{
+			Safe.run(event, observer);
+			return;
+		}
+		enqueue(new Event(null, event, key, false));
+	}
+
+
+	/**
+	 * Publish an event that replaces the previous state of the key, like a shape map.
+	 * It is superseded by a later event with the same key with all asynchronous policies.
+	 *
+	 * @param key   the key of the state
+	 * @param event the event
+	 */
+	void publishLatest(Object key, Consumer<IWorldFrameObserver> event)
+	{
+		if (policy == EWorldFrameDispatchPolicy.SYNC)
+		{
+			Safe.run(event, observer);
+			return;
+		}
+		enqueue(new Event(null, event, key, true));
+	}
+
+
+	void stop()
+	{
+		running = false;
+		if (worker != null)
+		{
+			LockSupport.unpark(worker);
+		}
+	}
+
+
+	WorldFrameObserverStats getStats()
+	{
+		RecentDurations.Snapshot samples = handlerTimes.snapshot();
+		int queueDepth;
+		synchronized (queue)
+		{
+			queueDepth = queue.size();
+		}
+		return new WorldFrameObserverStats(name, policy, queueDepth, numHandled.sum(), numDropped.sum(),
+				samples.getPercentile(0.5), samples.getPercentile(0.95), samples.getPercentile(0.99));
+	}
+
+
+	private void enqueue(Event event)
+	{
+		synchronized (queue)
+		{
+			if (event.key() != null)
+			{
+				if (event.latestOnly() || policy == EWorldFrameDispatchPolicy.LATEST_ONLY)
+				{
+					removeSuperseded(event.key());
+				}
+				if (numQueuedKeyed >= capacity)
+				{
+					dropOldestKeyed();
+				}
+				numQueuedKeyed++;
+			}
+			queue.offerLast(event);
+		}
+		LockSupport.unpark(worker);
+	}
+
+
+	private void removeSuperseded(Object key)
+	{
+		// only events after the last event without a key are merged, so that no keyed event passes such an event
+		for (Iterator<Event> it = queue.descendingIterator(); it.hasNext(); )
+		{
+			Event queued = it.next();
+			if (queued.key() == null)
+			{
+				return;
+			}
+			if (queued.key().equals(key))
+			{
+				it.remove();
+				numQueuedKeyed--;
+				numDropped.increment();
+				return;
+			}
+		}
+	}
+
+
+	private void dropOldestKeyed()
+	{
+		for (Iterator<Event> it = queue.iterator(); it.hasNext(); )
+		{
+			if (it.next().key() != null)
+			{
+				it.remove();
+				numQueuedKeyed--;
+				numDropped.increment();
+				return;
+			}
+		}
+	}
+
+
+	private Event poll()
+	{
+		synchronized (queue)
+		{
+			Event event = queue.pollFirst();
+			if (event != null && event.key() != null)
+			{
+				numQueuedKeyed--;
+			}
+			return event;
+		}
+	}
+
+
+	private void handleWorldFrame(WorldFrameWrapper wfw)
+	{
+		long start = System.nanoTime();
+		Safe.run(observer::onNewWorldFrame, wfw);
+		handlerTimes.add(System.nanoTime() - start);
+		numHandled.increment();
+	}
+
+
+	private void run()
+	{
+		log.debug("Started world frame lane for {} with policy {}", name, policy);
+		while (running)
+		{
+			Event event = poll();
+			if (event == null)
+			{
+				LockSupport.park(this);
+			} else if (event.worldFrame() != null)
+			{
+				handleWorldFrame(event.worldFrame());
+			} else
+			{
+				Safe.run(event.action(), observer);
+			}
+		}
+		log.debug("Stopped world frame lane for {}", name);
+	}
+
+
+	/**
+	 * A queued world frame or any other event
+	 *
+	 * @param worldFrame the world frame or null
+	 * @param action     the other event or null
+	 * @param key        the key of superseding events or null, if the event must always be delivered
+	 * @param latestOnly if the event is superseded independent of the policy
+	 */
+	private record Event(
+			WorldFrameWrapper worldFrame,
+			Consumer<IWorldFrameObserver> action,
+			Object key,
+			boolean latestOnly
+	)
+	{
+	}
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.wp.dispatch;
+
+import lombok.Value;
+
+
+/**
+ * Snapshot of the dispatch metrics of a single world frame observer.
+ */
+@Value
+public class WorldFrameObserverStats
+{
+	String name;
+	EWorldFrameDispatchPolicy policy;
+	/** Number of pending events */
+	int queueDepth;
+	/** Number of world frames handled so far */
+	long numHandled;
+	/** Number of events dropped so far */
+	long numDropped;
+	/** Handler time percentiles of the recent world frames [ms] */
+	double handlerTimeP50;
+	double handlerTimeP95;
+	double handlerTimeP99;
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2019, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 
 package edu.tigers.sumatra.wp.util;
@@ -44,6 +44,8 @@ public class TimeSeriesWpDataProvider implements ITimeSeriesDataProvider, IWorld
 	 */
 	public TimeSeriesWpDataProvider()
 	{
+		dataBuffers.put("wpBall", new ConcurrentLinkedQueue<>());
+		dataBuffers.put("wpBots", new ConcurrentLinkedQueue<>());
 		dataBuffers.put("nearestBot", new ConcurrentLinkedQueue<>());
 	}
 
@@ -109,10 +111,8 @@ public class TimeSeriesWpDataProvider implements ITimeSeriesDataProvider, IWorld
 
 	private void processWorldFrame(final SimpleWorldFrame currentFrame)
 	{
-		dataBuffers.computeIfAbsent("wpBall", key -> new ConcurrentLinkedQueue<>())
-				.add(currentFrame.getBall());
-		dataBuffers.computeIfAbsent("wpBots", key -> new ConcurrentLinkedQueue<>())
-				.addAll(currentFrame.getBots().values());
+		dataBuffers.get("wpBall").add(currentFrame.getBall());
+		dataBuffers.get("wpBots").addAll(currentFrame.getBots().values());
 
 		ITrackedBot nearestBot = getBotNearestToBall(currentFrame);
 		if (nearestBot != null)
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.wp.dispatch;
+
+import edu.tigers.sumatra.drawable.ShapeMap;
+import edu.tigers.sumatra.drawable.ShapeMapSource;
+import edu.tigers.sumatra.referee.data.GameState;
+import edu.tigers.sumatra.referee.data.RefereeMsg;
+import edu.tigers.sumatra.wp.IWorldFrameObserver;
+import edu.tigers.sumatra.wp.data.SimpleWorldFrame;
+import edu.tigers.sumatra.wp.data.TrackedBall;
+import edu.tigers.sumatra.wp.data.WorldFrameWrapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+/**
+ * Observer for tests that records the received events and can block in the first world frame.
+ */
+class RecordingObserver implements IWorldFrameObserver
+{
+	static final String CLEAR = "clear";
+
+	private final List<Object> events = new ArrayList<>();
+	private final CountDownLatch blocked = new CountDownLatch(1);
+	private final CountDownLatch release;
+
+
+	RecordingObserver(boolean blockFirstFrame)
+	{
+		release = new CountDownLatch(blockFirstFrame ? 1 : 0);
+	}
+
+
+	/**
+	 * @param frameNumber the frame number and timestamp
+	 * @return a world frame without any robots
+	 */
+	static WorldFrameWrapper frame(long frameNumber)
+	{
+		var swf = new SimpleWorldFrame(frameNumber, frameNumber, Map.of(), TrackedBall.createStub(), null);
+		return new WorldFrameWrapper(swf, new RefereeMsg(), GameState.HALT);
+	}
+
+
+	@Override
+	public void onNewWorldFrame(WorldFrameWrapper wFrameWrapper)
+	{
+		synchronized (events)
+		{
+			events.add(wFrameWrapper);
+			events.notifyAll();
+		}
+		blocked.countDown();
+		await(release);
+	}
+
+
+	@Override
+	public void onClearWorldFrame()
+	{
+		synchronized (events)
+		{
+			events.add(CLEAR);
+			events.notifyAll();
+		}
+	}
+
+
+	@Override
+	public void onNewShapeMap(long timestamp, ShapeMap shapeMap, ShapeMapSource source)
+	{
+		synchronized (events)
+		{
+			events.add(shapes(source, timestamp));
+			events.notifyAll();
+		}
+	}
+
+
+	@Override
+	public void onRemoveSourceFromShapeMap(ShapeMapSource source)
+	{
+		synchronized (events)
+		{
+			events.add("remove " + source.getName());
+			events.notifyAll();
+		}
+	}
+
+
+	/**
+	 * @param source    the source of the shape map
+	 * @param timestamp the timestamp of the shape map
+	 * @return the recorded event of a new shape map
+	 */
+	static String shapes(ShapeMapSource source, long timestamp)
+	{
+		return source.getName() + "@" + timestamp;
+	}
+
+
+	/**
+	 * Wait until the observer blocks in the first world frame
+	 */
+	void awaitBlocked()
+	{
+		await(blocked);
+	}
+
+
+	void release()
+	{
+		release.countDown();
+	}
+
+
+	/**
+	 * @param numEvents the number of events to wait for
+	 * @return the received events
+	 */
+	List<Object> awaitEvents(int numEvents)
+	{
+		long deadline = System.currentTimeMillis() + 5000;
+		synchronized (events)
+		{
+			while (events.size() < numEvents && System.currentTimeMillis() < deadline)
+			{
+				try
+				{
+					events.wait(100);
+				} catch (InterruptedException e)
+				{
+					Thread.currentThread().interrupt();
+					break;
+				}
+			}
+			return List.copyOf(events);
+		}
+	}
+
+
+	private static void await(CountDownLatch latch)
+	{
+		try
+		{
+			assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		} catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.wp.dispatch;
+
+import edu.tigers.sumatra.wp.IWorldFrameObserver;
+import edu.tigers.sumatra.wp.data.WorldFrameWrapper;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+/**
+ * Unit tests for the {@link WorldFrameDispatcher}
+ */
+public class WorldFrameDispatcherTest
+{
+	private final WorldFrameDispatcher dispatcher = new WorldFrameDispatcher();
+	private final WorldFrameWrapper frame1 = RecordingObserver.frame(1);
+	private final WorldFrameWrapper frame2 = RecordingObserver.frame(2);
+
+
+	@After
+	public void after()
+	{
+		dispatcher.clear();
+	}
+
+
+	@Test
+	public void testSlowObserverDoesNotDelayOthers()
+	{
+		RecordingObserver slowObserver = new RecordingObserver(true);
+		RecordingObserver syncObserver = new RecordingObserver(false);
+		RecordingObserver asyncObserver = new RecordingObserver(false);
+		dispatcher.add(slowObserver, EWorldFrameDispatchPolicy.LATEST_ONLY);
+		dispatcher.add(syncObserver, EWorldFrameDispatchPolicy.SYNC);
+		dispatcher.add(asyncObserver, EWorldFrameDispatchPolicy.BOUNDED_QUEUE);
+
+		dispatcher.publishWorldFrame(frame1);
+		slowObserver.awaitBlocked();
+		dispatcher.publish(IWorldFrameObserver::onClearWorldFrame);
+		dispatcher.publishWorldFrame(frame2);
+
+		assertThat(syncObserver.awaitEvents(0)).containsExactly(frame1, RecordingObserver.CLEAR, frame2);
+		assertThat(asyncObserver.awaitEvents(3)).containsExactly(frame1, RecordingObserver.CLEAR, frame2);
+		assertThat(slowObserver.awaitEvents(0)).containsExactly(frame1);
+
+		slowObserver.release();
+		assertThat(slowObserver.awaitEvents(3)).containsExactly(frame1, RecordingObserver.CLEAR, frame2);
+	}
+
+
+	@Test
+	public void testStats()
+	{
+		dispatcher.add(new RecordingObserver(false), EWorldFrameDispatchPolicy.SYNC);
+		dispatcher.add(new RecordingObserver(false), EWorldFrameDispatchPolicy.LATEST_ONLY);
+		dispatcher.publishWorldFrame(frame1);
+
+		assertThat(dispatcher.getStats())
+				.extracting(WorldFrameObserverStats::getName)
+				.containsExactly("RecordingObserver", "RecordingObserver#2");
+		assertThat(dispatcher.getStats().getFirst().getNumHandled()).isEqualTo(1);
+	}
+
+
+	@Test
+	public void testRemove()
+	{
+		RecordingObserver observer = new RecordingObserver(false);
+		dispatcher.add(observer, EWorldFrameDispatchPolicy.SYNC);
+		dispatcher.remove(observer);
+		dispatcher.publishWorldFrame(frame1);
+
+		assertThat(observer.awaitEvents(0)).isEmpty();
+		assertThat(dispatcher.getStats()).isEmpty();
+	}
+}
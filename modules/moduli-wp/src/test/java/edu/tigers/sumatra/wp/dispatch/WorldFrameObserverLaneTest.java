@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.wp.dispatch;
+
+import edu.tigers.sumatra.drawable.ShapeMap;
+import edu.tigers.sumatra.drawable.ShapeMapSource;
+import edu.tigers.sumatra.wp.IWorldFrameObserver;
+import edu.tigers.sumatra.wp.data.WorldFrameWrapper;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+/**
+ * Unit tests for the order and dropping of events in a {@link WorldFrameObserverLane}
+ */
+public class WorldFrameObserverLaneTest
+{
+	private static final ShapeMapSource SOURCE_A = ShapeMapSource.of("A");
+	private static final ShapeMapSource SOURCE_B = ShapeMapSource.of("B");
+
+	private final List<WorldFrameWrapper> frames = IntStream.range(0, 5)
+			.mapToObj(RecordingObserver::frame)
+			.toList();
+	private WorldFrameObserverLane lane;
+
+
+	@After
+	public void after()
+	{
+		lane.stop();
+	}
+
+
+	@Test
+	public void testSync()
+	{
+		RecordingObserver observer = new RecordingObserver(false);
+		lane = new WorldFrameObserverLane(observer, "test", EWorldFrameDispatchPolicy.SYNC, 1);
+
+		lane.publishWorldFrame(frames.get(0));
+		lane.publish(IWorldFrameObserver::onClearWorldFrame);
+		lane.publishWorldFrame(frames.get(1));
+
+		assertThat(observer.awaitEvents(0)).containsExactly(frames.get(0), RecordingObserver.CLEAR, frames.get(1));
+	}
+
+
+	@Test
+	public void testLatestOnlyMergesConsecutiveFramesOnly()
+	{
+		RecordingObserver observer = new RecordingObserver(true);
+		lane = new WorldFrameObserverLane(observer, "test", EWorldFrameDispatchPolicy.LATEST_ONLY, 10);
+
+		lane.publishWorldFrame(frames.get(0));
+		observer.awaitBlocked();
+		lane.publishWorldFrame(frames.get(1));
+		lane.publish(IWorldFrameObserver::onClearWorldFrame);
+		lane.publishWorldFrame(frames.get(2));
+		lane.publishWorldFrame(frames.get(3));
+		assertThat(lane.getStats().getQueueDepth()).isEqualTo(3);
+		observer.release();
+
+		assertThat(observer.awaitEvents(4))
+				.containsExactly(frames.get(0), frames.get(1), RecordingObserver.CLEAR, frames.get(3));
+		assertThat(lane.getStats().getNumDropped()).isEqualTo(1);
+	}
+
+
+	@Test
+	public void testBoundedQueueDropsOldestFrameOnly()
+	{
+		RecordingObserver observer = new RecordingObserver(true);
+		lane = new WorldFrameObserverLane(observer, "test", EWorldFrameDispatchPolicy.BOUNDED_QUEUE, 2);
+
+		lane.publishWorldFrame(frames.get(0));
+		observer.awaitBlocked();
+		lane.publishWorldFrame(frames.get(1));
+		lane.publish(IWorldFrameObserver::onClearWorldFrame);
+		lane.publishWorldFrame(frames.get(2));
+		lane.publishWorldFrame(frames.get(3));
+		lane.publish(IWorldFrameObserver::onClearWorldFrame);
+		lane.publish(IWorldFrameObserver::onClearWorldFrame);
+		observer.release();
+
+		assertThat(observer.awaitEvents(6)).containsExactly(
+				frames.get(0), RecordingObserver.CLEAR, frames.get(2), frames.get(3),
+				RecordingObserver.CLEAR, RecordingObserver.CLEAR);
+		assertThat(lane.getStats().getNumDropped()).isEqualTo(1);
+	}
+
+
+	@Test
+	public void testLatestOnlyMergesFramesAcrossShapeMaps()
+	{
+		RecordingObserver observer = new RecordingObserver(true);
+		lane = new WorldFrameObserverLane(observer, "test", EWorldFrameDispatchPolicy.LATEST_ONLY, 10);
+
+		lane.publishWorldFrame(frames.get(0));
+		observer.awaitBlocked();
+		lane.publishWorldFrame(frames.get(1));
+		publishShapeMap(SOURCE_A, 1);
+		publishShapeMap(SOURCE_B, 1);
+		lane.publishWorldFrame(frames.get(2));
+		publishShapeMap(SOURCE_A, 2);
+		lane.publishWorldFrame(frames.get(3));
+		assertThat(lane.getStats().getQueueDepth()).isEqualTo(3);
+		observer.release();
+
+		assertThat(observer.awaitEvents(4)).containsExactly(
+				frames.get(0),
+				RecordingObserver.shapes(SOURCE_B, 1),
+				RecordingObserver.shapes(SOURCE_A, 2),
+				frames.get(3));
+		assertThat(lane.getStats().getNumDropped()).isEqualTo(3);
+	}
+
+
+	@Test
+	public void testShapeMapsDoNotPassOtherEvents()
+	{
+		RecordingObserver observer = new RecordingObserver(true);
+		lane = new WorldFrameObserverLane(observer, "test", EWorldFrameDispatchPolicy.BOUNDED_QUEUE, 10);
+
+		lane.publishWorldFrame(frames.get(0));
+		observer.awaitBlocked();
+		publishShapeMap(SOURCE_A, 1);
+		lane.publish(o -> o.onRemoveSourceFromShapeMap(SOURCE_A));
+		publishShapeMap(SOURCE_A, 2);
+		publishShapeMap(SOURCE_A, 3);
+		observer.release();
+
+		assertThat(observer.awaitEvents(4)).containsExactly(
+				frames.get(0),
+				RecordingObserver.shapes(SOURCE_A, 1),
+				"remove A",
+				RecordingObserver.shapes(SOURCE_A, 3));
+		assertThat(lane.getStats().getNumDropped()).isEqualTo(1);
+	}
+
+
+	@Test
+	public void testBlockedObserverStaysBoundedUnderShapeMapTraffic()
+	{
+		for (EWorldFrameDispatchPolicy policy : List.of(
+				EWorldFrameDispatchPolicy.LATEST_ONLY,
+				EWorldFrameDispatchPolicy.BOUNDED_QUEUE))
+		{
+			RecordingObserver observer = new RecordingObserver(true);
+			lane = new WorldFrameObserverLane(observer, "test", policy, 4);
+
+			lane.publishWorldFrame(frames.get(0));
+			observer.awaitBlocked();
+			for (int i = 0; i < 10_000; i++)
+			{
+				lane.publish("cam" + (i % 4), IWorldFrameObserver::onClearCamDetectionFrame);
+				publishShapeMap(ShapeMapSource.of("source" + (i % 8)), i);
+				lane.publishWorldFrame(frames.get(1));
+				assertThat(lane.getStats().getQueueDepth()).isLessThanOrEqualTo(4);
+			}
+			observer.release();
+			lane.stop();
+		}
+	}
+
+
+	private void publishShapeMap(ShapeMapSource source, long timestamp)
+	{
+		ShapeMap shapeMap = new ShapeMap();
+		lane.publishLatest(source, o -> o.onNewShapeMap(timestamp, shapeMap, source));
+	}
+}
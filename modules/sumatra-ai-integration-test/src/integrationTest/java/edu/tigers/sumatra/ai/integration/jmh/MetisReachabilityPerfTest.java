@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.ai.integration.jmh;
+
+import edu.tigers.sumatra.ai.integration.blocker.AiSimTimeBlocker;
+import edu.tigers.sumatra.ai.metis.reachability.ReachabilityCalc;
+import edu.tigers.sumatra.referee.proto.SslGcRefereeMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Compare the AI frame time with and without a shared reachability per Metis frame.
+ */
+@State(Scope.Benchmark)
+public class MetisReachabilityPerfTest extends AFullSimPerfTest
+{
+	@Param({ "true", "false" })
+	private boolean shareReachability;
+
+
+	@Setup(Level.Trial)
+	public void setupReachability()
+	{
+		ReachabilityCalc.setShareReachability(shareReachability);
+	}
+
+
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	public void run()
+	{
+		initSimulation("snapshots/stoppedGame11vs11.json");
+		sendRefereeCommand(SslGcRefereeMessage.Referee.Command.FORCE_START);
+		new AiSimTimeBlocker(1).await();
+	}
+
+
+	public static void main(String[] args) throws RunnerException
+	{
+		Options opt = new OptionsBuilder()
+				.include(MetisReachabilityPerfTest.class.getSimpleName())
+				.forks(2)
+				.warmupIterations(1)
+				.measurementIterations(4)
+				.build();
+
+		new Runner(opt).run();
+	}
+}
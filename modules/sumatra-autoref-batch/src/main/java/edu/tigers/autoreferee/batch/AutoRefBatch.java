@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.autoreferee.batch;
+
+import edu.tigers.sumatra.thread.NamedThreadFactory;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.DefaultParser;
+import org.apache.commons.cli.HelpFormatter;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+
+/**
+ * Headless batch analysis of a directory of game logs with the autoRef.
+ * Each log is replayed by an {@link AutoRefBatchWorker} in its own process, multiple logs are processed in parallel.
+ * A report with the detected and the recorded game events is written per log, plus a summary over all logs.
+ */
+@SuppressWarnings("squid:S1147") // calling System.exit() is ok in this entry class
+@Log4j2
+public final class AutoRefBatch
+{
+	private static final String SUMMARY_FILE = "summary.csv";
+
+
+	private AutoRefBatch()
+	{
+	}
+
+
+	public static void main(final String[] args)
+	{
+		Options options = createOptions();
+		CommandLine cmd;
+		try
+		{
+			cmd = new DefaultParser().parse(options, args);
+		} catch (ParseException e)
+		{
+			log.error("Could not parse options: {}", e.getMessage());
+			printHelp(options);
+			return;
+		}
+		if (cmd.hasOption("h") || !cmd.hasOption("i"))
+		{
+			printHelp(options);
+			return;
+		}
+
+		Path inputDir = Path.of(cmd.getOptionValue("i"));
+		Path outputDir = Path.of(cmd.getOptionValue("o", "autoref-batch"));
+		int numWorkers = Integer.parseInt(
+				cmd.getOptionValue("t", String.valueOf(Runtime.getRuntime().availableProcessors())));
+		String maxHeap = cmd.getOptionValue("m", "1g");
+
+		List<Path> logFiles = findLogFiles(inputDir);
+		List<LogResult> results;
+		try
+		{
+			Files.createDirectories(outputDir);
+			results = run(inputDir, logFiles, outputDir, numWorkers, maxHeap);
+		} catch (IOException e)
+		{
+			log.error("Could not create output directory {}", outputDir, e);
+			System.exit(1);
+			return;
+		}
+
+		writeSummary(outputDir.resolve(SUMMARY_FILE), results);
+		summarize(results);
+		System.exit(results.stream().allMatch(r -> r.exitCode() == 0) ? 0 : 1);
+	}
+
+
+	private static Options createOptions()
+	{
+		Options options = new Options();
+		options.addOption("h", "help", false, "Print this help message");
+		options.addOption("i", "input", true, "directory with the log files (*.log, *.log.gz) to analyze");
+		options.addOption("o", "output", true, "directory to write the reports to (default: autoref-batch)");
+		options.addOption("t", "threads", true, "number of logs to analyze in parallel (default: #cores)");
+		options.addOption("m", "max-heap", true, "max heap size of each worker process (default: 1g)");
+		return options;
+	}
+
+
+	private static void printHelp(final Options options)
+	{
+		HelpFormatter formatter = new HelpFormatter();
+		formatter.printHelp("AutoRefBatch", options);
+	}
+
+
+	private static List<Path> findLogFiles(Path inputDir)
+	{
+		try (Stream<Path> stream = Files.walk(inputDir))
+		{
+			return stream
+					.filter(Files::isRegularFile)
+					.filter(p -> p.toString().endsWith(".log") || p.toString().endsWith(".log.gz"))
+					.sorted()
+					.toList();
+		} catch (IOException e)
+		{
+			log.error("Could not list log files in {}", inputDir, e);
+			return List.of();
+		}
+	}
+
+
+	private static List<LogResult> run(
+			Path inputDir,
+			List<Path> logFiles,
+			Path outputDir,
+			int numWorkers,
+			String maxHeap
+	)
+	{
+		log.info("Analyzing {} log files with {} workers", logFiles.size(), numWorkers);
+		ExecutorService executor = Executors.newFixedThreadPool(numWorkers, new NamedThreadFactory("AutoRefBatch"));
+
+		List<Future<LogResult>> futures = new ArrayList<>();
+		for (Path logFile : logFiles)
+		{
+			String name = reportName(inputDir, logFile);
+			futures.add(executor.submit(() -> analyze(logFile, name, outputDir, maxHeap)));
+		}
+
+		List<LogResult> results = new ArrayList<>();
+		for (Future<LogResult> future : futures)
+		{
+			try
+			{
+				results.add(future.get());
+			} catch (ExecutionException e)
+			{
+				log.error("Analysis failed", e.getCause());
+			} catch (InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+				break;
+			}
+		}
+		executor.shutdownNow();
+		return results;
+	}
+
+
+	/**
+	 * The name of a log is its path relative to the input directory, without the file extension.
+	 * The reports are written to the same relative path in the output directory,
+	 * so logs with the same file name in different subdirectories do not overwrite each other.
+	 *
+	 * @param inputDir the input directory
+	 * @param logFile  a log file in the input directory
+	 * @return the name of the log with '/' as separator
+	 */
+	static String reportName(Path inputDir, Path logFile)
+	{
+		Path relativePath = inputDir.toAbsolutePath().normalize().relativize(logFile.toAbsolutePath().normalize());
+		String name = StreamSupport.stream(relativePath.spliterator(), false)
+				.map(Path::toString)
+				.collect(Collectors.joining("/"));
+		return name.replaceAll("\\.log(\\.gz)?$", "");
+	}
+
+
+	private static LogResult analyze(Path logFile, String name, Path outputDir, String maxHeap)
+			throws IOException, InterruptedException
+	{
+		Path reportFile = outputDir.resolve(name + ".csv");
+		Path outputFile = outputDir.resolve(name + ".out");
+		Files.createDirectories(reportFile.getParent());
+		String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+
+		long tStart = System.nanoTime();
+		Process process = new ProcessBuilder(java, "-Xmx" + maxHeap,
+				"-cp", System.getProperty("java.class.path"),
+				AutoRefBatchWorker.class.getName(),
+				logFile.toAbsolutePath().toString(),
+				reportFile.toAbsolutePath().toString())
+				.redirectErrorStream(true)
+				.redirectOutput(outputFile.toFile())
+				.start();
+		try
+		{
+			int exitCode = process.waitFor();
+			double wallTime = (System.nanoTime() - tStart) * 1e-9;
+			log.info("Analyzed {} in {}s with exit code {}", name, String.format("%.1f", wallTime), exitCode);
+			return LogResult.of(name, exitCode, readReport(reportFile), wallTime);
+		} finally
+		{
+			process.destroy();
+		}
+	}
+
+
+	private static List<ReportEntry> readReport(Path reportFile) throws IOException
+	{
+		if (!Files.exists(reportFile))
+		{
+			return List.of();
+		}
+		try (Stream<String> lines = Files.lines(reportFile))
+		{
+			return lines.skip(1).map(ReportEntry::fromCsvRow).toList();
+		}
+	}
+
+
+	private static void writeSummary(Path file, List<LogResult> results)
+	{
+		List<String> lines = new ArrayList<>();
+		lines.add(LogResult.CSV_HEADER);
+		results.stream().map(LogResult::toCsvRow).forEach(lines::add);
+		try
+		{
+			Files.write(file, lines);
+		} catch (IOException e)
+		{
+			log.error("Could not write summary to {}", file, e);
+		}
+	}
+
+
+	private static void summarize(List<LogResult> results)
+	{
+		long numFailed = results.stream().filter(r -> r.exitCode() != 0).count();
+		long numAutoRef = results.stream().mapToLong(LogResult::numAutoRef).sum();
+		long numAutoRefMatch = results.stream().mapToLong(LogResult::numAutoRefMatch).sum();
+		long numReferee = results.stream().mapToLong(LogResult::numReferee).sum();
+		long numRefereeMatch = results.stream().mapToLong(LogResult::numRefereeMatch).sum();
+		log.info("Analyzed {} logs ({} failed)", results.size(), numFailed);
+		log.info("AutoRef events: {} ({} matched), referee events: {} ({} matched)",
+				numAutoRef, numAutoRefMatch, numReferee, numRefereeMatch);
+	}
+}
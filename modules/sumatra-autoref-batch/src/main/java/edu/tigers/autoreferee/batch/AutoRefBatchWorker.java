@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.autoreferee.batch;
+
+import edu.tigers.autoreferee.engine.EAutoRefMode;
+import edu.tigers.autoreferee.module.AutoRefModule;
+import edu.tigers.moduli.exceptions.DependencyException;
+import edu.tigers.moduli.exceptions.InitModuleException;
+import edu.tigers.moduli.exceptions.LoadModulesException;
+import edu.tigers.moduli.exceptions.StartModuleException;
+import edu.tigers.sumatra.gamelog.GameLogPlayer;
+import edu.tigers.sumatra.gamelog.GameLogReader;
+import edu.tigers.sumatra.geometry.Geometry;
+import edu.tigers.sumatra.ids.ETeamColor;
+import edu.tigers.sumatra.model.SumatraModel;
+import edu.tigers.sumatra.referee.AReferee;
+import edu.tigers.sumatra.referee.gameevent.SimilarityChecker;
+import lombok.extern.log4j.Log4j2;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Replays a single log file through vision filter, world predictor and autoRef as fast as possible
+ * and writes a report of the detected and the recorded game events.
+ * <p>
+ * The modules are singletons, so there can only be one replay per JVM. {@link AutoRefBatch} runs
+ * multiple workers in separate processes.
+ */
+@SuppressWarnings("squid:S1147") // calling System.exit() is ok in this entry class
+@Log4j2
+public final class AutoRefBatchWorker
+{
+	private static final String MODULI_CONFIG = "autoref_batch.xml";
+	/** Max time between an autoRef event and a recorded event to consider them as the same event */
+	private static final long MATCH_WINDOW = TimeUnit.SECONDS.toNanos(10);
+
+
+	private AutoRefBatchWorker()
+	{
+	}
+
+
+	/**
+	 * @param args the log file and the report file
+	 */
+	public static void main(final String[] args)
+	{
+		if (args.length != 2)
+		{
+			log.error("Usage: AutoRefBatchWorker <log file> <report file>");
+			System.exit(2);
+		}
+		Path logFile = Path.of(args[0]);
+		Path reportFile = Path.of(args[1]);
+
+		start();
+		GameEventCollector collector = new GameEventCollector();
+		SumatraModel.getInstance().getModule(AutoRefModule.class).addObserver(collector);
+		SumatraModel.getInstance().getModule(AReferee.class).addObserver(collector);
+		SumatraModel.getInstance().getModule(GameLogPlayer.class).addObserver(collector);
+
+		long tStart = System.nanoTime();
+		try (GameLogReader logReader = new GameLogReader())
+		{
+			logReader.setIndexed(true);
+			logReader.loadFileBlocking(logFile.toAbsolutePath().toString());
+			log.info("Replaying {} with {} messages", logFile, logReader.getMessages().size());
+			SumatraModel.getInstance().getModule(GameLogPlayer.class).playlogFast(logReader);
+		}
+		SumatraModel.getInstance().stopModules();
+		log.info("Replayed {} in {}s", logFile, String.format("%.1f", (System.nanoTime() - tStart) * 1e-9));
+
+		List<ReportEntry> entries = collector.createReport(new SimilarityChecker().initAllGameEvents(), MATCH_WINDOW);
+		System.exit(writeReport(reportFile, entries) ? 0 : 1);
+	}
+
+
+	private static void start()
+	{
+		try
+		{
+			SumatraModel.getInstance().setCurrentModuliConfig(MODULI_CONFIG);
+			SumatraModel.getInstance().loadModulesOfConfig(MODULI_CONFIG);
+			SumatraModel.getInstance().startModules();
+		} catch (DependencyException | LoadModulesException | InitModuleException | StartModuleException e)
+		{
+			log.error("Could not start modules", e);
+			System.exit(1);
+		}
+		Geometry.setNegativeHalfTeam(ETeamColor.BLUE);
+		SumatraModel.getInstance().getModule(AutoRefModule.class).changeMode(EAutoRefMode.PASSIVE);
+	}
+
+
+	private static boolean writeReport(Path file, List<ReportEntry> entries)
+	{
+		List<String> lines = new ArrayList<>();
+		lines.add(ReportEntry.CSV_HEADER);
+		entries.stream().map(ReportEntry::toCsvRow).forEach(lines::add);
+		try
+		{
+			Files.write(file, lines);
+			return true;
+		} catch (IOException e)
+		{
+			log.error("Could not write report to {}", file, e);
+			return false;
+		}
+	}
+}
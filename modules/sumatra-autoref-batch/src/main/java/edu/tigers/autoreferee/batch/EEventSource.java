@@ -0,0 +1,16 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.autoreferee.batch;
+
+/**
+ * Origin of a game event in a batch report.
+ */
+public enum EEventSource
+{
+	/** Detected by the autoRef while replaying the log */
+	AUTO_REF,
+	/** Recorded in the referee messages of the log */
+	REFEREE,
+}
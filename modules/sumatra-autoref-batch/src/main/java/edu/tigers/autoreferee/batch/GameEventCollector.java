@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.autoreferee.batch;
+
+import edu.tigers.autoreferee.IAutoRefObserver;
+import edu.tigers.sumatra.gamelog.GameLogMessage;
+import edu.tigers.sumatra.gamelog.GameLogPlayerObserver;
+import edu.tigers.sumatra.referee.IRefereeObserver;
+import edu.tigers.sumatra.referee.gameevent.GameEventFactory;
+import edu.tigers.sumatra.referee.gameevent.IGameEvent;
+import edu.tigers.sumatra.referee.gameevent.SimilarityChecker;
+import edu.tigers.sumatra.referee.proto.SslGcGameEvent;
+import edu.tigers.sumatra.referee.proto.SslGcRefereeMessage;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+
+/**
+ * Collects the game events detected by the autoRef and the game events recorded in the referee messages
+ * while a log file is replayed. Both are stamped with the timestamp of the current log message.
+ */
+class GameEventCollector implements IAutoRefObserver, IRefereeObserver, GameLogPlayerObserver
+{
+	private final List<TimedGameEvent> autoRefEvents = new ArrayList<>();
+	private final List<TimedGameEvent> refereeEvents = new ArrayList<>();
+	private final Set<SslGcGameEvent.GameEvent> knownRefereeEvents = new HashSet<>();
+	private volatile long timestamp;
+
+
+	@Override
+	public void onNewGameLogMessage(GameLogMessage message, int index)
+	{
+		timestamp = message.getTimestampNs();
+	}
+
+
+	@Override
+	public void onGameLogTimeJump()
+	{
+		// not relevant
+	}
+
+
+	@Override
+	public synchronized void onNewGameEventDetected(IGameEvent gameEvent)
+	{
+		autoRefEvents.add(new TimedGameEvent(timestamp, gameEvent));
+	}
+
+
+	@Override
+	public synchronized void onNewRefereeMsg(SslGcRefereeMessage.Referee refMsg)
+	{
+		for (SslGcGameEvent.GameEvent proto : refMsg.getGameEventsList())
+		{
+			// the referee repeats all game events of the current stoppage in each message
+			if (knownRefereeEvents.add(proto))
+			{
+				GameEventFactory.fromProtobuf(proto)
+						.ifPresent(e -> refereeEvents.add(new TimedGameEvent(timestamp, e)));
+			}
+		}
+	}
+
+
+	/**
+	 * Match the events of both sources and create the report entries.
+	 *
+	 * @param similarityChecker the checker to compare events with
+	 * @param matchWindow       max time between two matching events [ns]
+	 * @return all entries, sorted by timestamp
+	 */
+	synchronized List<ReportEntry> createReport(SimilarityChecker similarityChecker, long matchWindow)
+	{
+		List<ReportEntry> entries = new ArrayList<>();
+		autoRefEvents.forEach(e -> entries.add(
+				e.toEntry(EEventSource.AUTO_REF, e.hasMatch(refereeEvents, similarityChecker, matchWindow))));
+		refereeEvents.forEach(e -> entries.add(
+				e.toEntry(EEventSource.REFEREE, e.hasMatch(autoRefEvents, similarityChecker, matchWindow))));
+		entries.sort(Comparator.comparingLong(ReportEntry::timestamp).thenComparing(ReportEntry::source));
+		return entries;
+	}
+
+
+	private record TimedGameEvent(long timestamp, IGameEvent gameEvent)
+	{
+		boolean hasMatch(List<TimedGameEvent> others, SimilarityChecker similarityChecker, long matchWindow)
+		{
+			return others.stream()
+					.filter(o -> Math.abs(o.timestamp - timestamp) <= matchWindow)
+					.anyMatch(o -> similarityChecker.isSimilar(gameEvent, o.gameEvent));
+		}
+
+
+		ReportEntry toEntry(EEventSource source, boolean matched)
+		{
+			String team = String.valueOf(gameEvent.getTeam());
+			return new ReportEntry(source, timestamp, gameEvent.getType().name(), team, matched, gameEvent.toString());
+		}
+	}
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.autoreferee.batch;
+
+import java.util.List;
+import java.util.Locale;
+
+
+/**
+ * Summary of the analysis of a single log file.
+ *
+ * @param logName          the path of the log relative to the input directory, without extension
+ * @param exitCode         the exit code of the worker process
+ * @param numAutoRef       the number of game events detected by the autoRef
+ * @param numAutoRefMatch  the number of autoRef events that match a recorded referee event
+ * @param numReferee       the number of game events recorded in the referee messages
+ * @param numRefereeMatch  the number of recorded events that match an autoRef event
+ * @param wallTime         the real time needed for the analysis [s]
+ */
+public record LogResult(
+		String logName,
+		int exitCode,
+		long numAutoRef,
+		long numAutoRefMatch,
+		long numReferee,
+		long numRefereeMatch,
+		double wallTime
+)
+{
+	static final String CSV_HEADER = "log,exitCode,autoRef,autoRefMatched,referee,refereeMatched,wallTime";
+
+
+	static LogResult of(String logName, int exitCode, List<ReportEntry> entries, double wallTime)
+	{
+		return new LogResult(logName, exitCode,
+				count(entries, EEventSource.AUTO_REF, false),
+				count(entries, EEventSource.AUTO_REF, true),
+				count(entries, EEventSource.REFEREE, false),
+				count(entries, EEventSource.REFEREE, true),
+				wallTime);
+	}
+
+
+	private static long count(List<ReportEntry> entries, EEventSource source, boolean matchedOnly)
+	{
+		return entries.stream()
+				.filter(e -> e.source() == source)
+				.filter(e -> !matchedOnly || e.matched())
+				.count();
+	}
+
+
+	String toCsvRow()
+	{
+		return String.format(Locale.ENGLISH, "%s,%d,%d,%d,%d,%d,%.3f",
+				logName, exitCode, numAutoRef, numAutoRefMatch, numReferee, numRefereeMatch, wallTime);
+	}
+}
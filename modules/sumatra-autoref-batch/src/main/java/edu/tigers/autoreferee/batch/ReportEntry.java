@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.autoreferee.batch;
+
+import java.util.Locale;
+
+
+/**
+ * A single game event in the report of a log file.
+ *
+ * @param source      where the event comes from
+ * @param timestamp   the log timestamp at which the event occurred [ns]
+ * @param type        the game event type
+ * @param team        the team that caused the event
+ * @param matched     true, if a similar event of the other source exists
+ * @param description the human-readable event description
+ */
+public record ReportEntry(
+		EEventSource source,
+		long timestamp,
+		String type,
+		String team,
+		boolean matched,
+		String description
+)
+{
+	static final String CSV_HEADER = "source,timestamp,type,team,matched,description";
+
+
+	String toCsvRow()
+	{
+		return String.format(Locale.ENGLISH, "%s,%d,%s,%s,%b,\"%s\"",
+				source, timestamp, type, team, matched, description.replace("\"", "\"\""));
+	}
+
+
+	static ReportEntry fromCsvRow(String row)
+	{
+		String[] values = row.split(",", 6);
+		String description = values[5];
+		return new ReportEntry(
+				EEventSource.valueOf(values[0]),
+				Long.parseLong(values[1]),
+				values[2],
+				values[3],
+				Boolean.parseBoolean(values[4]),
+				description.substring(1, description.length() - 1).replace("\"\"", "\"")
+		);
+	}
+}
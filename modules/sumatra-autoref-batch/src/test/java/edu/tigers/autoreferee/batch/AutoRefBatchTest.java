@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.autoreferee.batch;
+
+import org.junit.Test;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+/**
+ * Unit tests for {@link AutoRefBatch}
+ */
+public class AutoRefBatchTest
+{
+	@Test
+	public void testReportNameIsRelativeToInputDir()
+	{
+		Path inputDir = Path.of("logs");
+
+		assertThat(AutoRefBatch.reportName(inputDir, inputDir.resolve("game.log.gz"))).isEqualTo("game");
+		assertThat(AutoRefBatch.reportName(inputDir, inputDir.resolve("day1/game.log"))).isEqualTo("day1/game");
+		assertThat(AutoRefBatch.reportName(inputDir, inputDir.resolve("day2/game.log"))).isEqualTo("day2/game");
+	}
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.autoreferee.batch;
+
+import edu.tigers.sumatra.gamelog.EMessageType;
+import edu.tigers.sumatra.gamelog.GameLogMessage;
+import edu.tigers.sumatra.ids.BotID;
+import edu.tigers.sumatra.ids.ETeamColor;
+import edu.tigers.sumatra.math.vector.Vector2;
+import edu.tigers.sumatra.referee.data.RefereeMsgBuilder;
+import edu.tigers.sumatra.referee.gameevent.BotTippedOver;
+import edu.tigers.sumatra.referee.gameevent.IGameEvent;
+import edu.tigers.sumatra.referee.gameevent.SimilarityChecker;
+import edu.tigers.sumatra.referee.proto.SslGcRefereeMessage;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+
+/**
+ * Unit tests for the matching of autoRef and referee events in the {@link GameEventCollector}
+ */
+public class GameEventCollectorTest
+{
+	private static final long SEC = 1_000_000_000L;
+	private static final long MATCH_WINDOW = 10 * SEC;
+
+	private final GameEventCollector collector = new GameEventCollector();
+
+
+	@Test
+	public void testMatchWithinWindow()
+	{
+		detect(5 * SEC, tippedOver(3, 0));
+		referee(12 * SEC, tippedOver(3, 100));
+
+		assertThat(report())
+				.extracting(ReportEntry::source, ReportEntry::timestamp, ReportEntry::matched)
+				.containsExactly(
+						tuple(EEventSource.AUTO_REF, 5 * SEC, true),
+						tuple(EEventSource.REFEREE, 12 * SEC, true)
+				);
+	}
+
+
+	@Test
+	public void testNoMatchOutsideWindow()
+	{
+		detect(5 * SEC, tippedOver(3, 0));
+		referee(16 * SEC, tippedOver(3, 0));
+
+		assertThat(report()).extracting(ReportEntry::matched).containsExactly(false, false);
+	}
+
+
+	@Test
+	public void testNoMatchForDifferentBot()
+	{
+		detect(5 * SEC, tippedOver(3, 0));
+		referee(6 * SEC, tippedOver(4, 0));
+
+		assertThat(report()).extracting(ReportEntry::matched).containsExactly(false, false);
+	}
+
+
+	@Test
+	public void testRepeatedRefereeEventsAreCollectedOnce()
+	{
+		IGameEvent event = tippedOver(3, 0);
+		referee(5 * SEC, event);
+		referee(6 * SEC, event);
+
+		assertThat(report())
+				.extracting(ReportEntry::source, ReportEntry::timestamp, ReportEntry::type, ReportEntry::matched)
+				.containsExactly(tuple(EEventSource.REFEREE, 5 * SEC, "BOT_TIPPED_OVER", false));
+	}
+
+
+	private static IGameEvent tippedOver(int botNumber, double x)
+	{
+		return new BotTippedOver(BotID.createBotId(botNumber, ETeamColor.YELLOW), Vector2.fromX(x), Vector2.zero());
+	}
+
+
+	private void setTimestamp(long timestamp)
+	{
+		collector.onNewGameLogMessage(new GameLogMessage(timestamp, EMessageType.UNKNOWN, new byte[0]), 0);
+	}
+
+
+	private void detect(long timestamp, IGameEvent event)
+	{
+		setTimestamp(timestamp);
+		collector.onNewGameEventDetected(event);
+	}
+
+
+	private void referee(long timestamp, IGameEvent event)
+	{
+		setTimestamp(timestamp);
+		SslGcRefereeMessage.Referee refMsg = RefereeMsgBuilder.aRefereeMsg().build().toBuilder()
+				.addGameEvents(event.toProtobuf())
+				.build();
+		collector.onNewRefereeMsg(refMsg);
+	}
+
+
+	private List<ReportEntry> report()
+	{
+		return collector.createReport(new SimilarityChecker().initAllGameEvents(), MATCH_WINDOW);
+	}
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.autoreferee.batch;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+/**
+ * Unit tests for the CSV format of {@link ReportEntry}
+ */
+public class ReportEntryTest
+{
+	@Test
+	public void testCsvRoundTrip()
+	{
+		ReportEntry entry = new ReportEntry(EEventSource.AUTO_REF, 123_456_789L, "BOT_TIPPED_OVER", "YELLOW", true,
+				"Bot 3 Y tipped over at (1.0, -2.5), reason: \"fell\", again");
+
+		String row = entry.toCsvRow();
+
+		assertThat(row).startsWith("AUTO_REF,123456789,BOT_TIPPED_OVER,YELLOW,true,\"");
+		assertThat(ReportEntry.fromCsvRow(row)).isEqualTo(entry);
+	}
+
+
+	@Test
+	public void testCsvRoundTripEmptyDescription()
+	{
+		ReportEntry entry = new ReportEntry(EEventSource.REFEREE, 0, "NO_PROGRESS_IN_GAME", "null", false, "");
+
+		assertThat(ReportEntry.fromCsvRow(entry.toCsvRow())).isEqualTo(entry);
+	}
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.sim.batch;
+
+import edu.tigers.moduli.exceptions.DependencyException;
+import edu.tigers.moduli.exceptions.InitModuleException;
+import edu.tigers.moduli.exceptions.LoadModulesException;
+import edu.tigers.moduli.exceptions.StartModuleException;
+import edu.tigers.sumatra.botparams.BotParamsManager;
+import edu.tigers.sumatra.drawable.ShapeLayerDemand;
+import edu.tigers.sumatra.geometry.Geometry;
+import edu.tigers.sumatra.ids.ETeamColor;
+import edu.tigers.sumatra.model.SumatraModel;
+import edu.tigers.sumatra.thread.NamedThreadFactory;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.DefaultParser;
+import org.apache.commons.cli.HelpFormatter;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+
+/**
+ * Headless runner that simulates a batch of full matches faster than real time.
+ * Each match runs in lock-step on its own thread, multiple matches run in parallel.
+ * The global state that all matches share is set up once before the matches start,
+ * see {@link LockStepMatch} for what is shared.
+ */
+@SuppressWarnings("squid:S1147") // calling System.exit() is ok in this entry class
+@Log4j2
+public final class BatchSimulation
+{
+	private static final String MODULI_CONFIG = "batch_sim.xml";
+
+
+	private BatchSimulation()
+	{
+	}
+
+
+	public static void main(final String[] args)
+	{
+		Options options = createOptions();
+		CommandLine cmd;
+		try
+		{
+			cmd = new DefaultParser().parse(options, args);
+		} catch (ParseException e)
+		{
+			log.error("Could not parse options: {}", e.getMessage());
+			printHelp(options);
+			return;
+		}
+		if (cmd.hasOption("h"))
+		{
+			printHelp(options);
+			return;
+		}
+
+		int numMatches = Integer.parseInt(cmd.getOptionValue("n", "1"));
+		int numThreads = Integer.parseInt(
+				cmd.getOptionValue("t", String.valueOf(Runtime.getRuntime().availableProcessors())));
+		double duration = Double.parseDouble(cmd.getOptionValue("d", "300"));
+		int botsPerTeam = Integer.parseInt(cmd.getOptionValue("b", "11"));
+
+		start();
+		List<MatchResult> results = run(numMatches, numThreads, duration, botsPerTeam);
+		SumatraModel.getInstance().stopModules();
+
+		if (cmd.hasOption("o"))
+		{
+			writeCsv(Path.of(cmd.getOptionValue("o")), results);
+		}
+		summarize(results);
+		System.exit(results.size() == numMatches ? 0 : 1);
+	}
+
+
+	private static Options createOptions()
+	{
+		Options options = new Options();
+		options.addOption("h", "help", false, "Print this help message");
+		options.addOption("n", "matches", true, "number of matches to simulate (default: 1)");
+		options.addOption("t", "threads", true, "number of matches to simulate in parallel (default: #cores)");
+		options.addOption("d", "duration", true, "simulated duration [s] of each match (default: 300)");
+		options.addOption("b", "bots", true, "number of robots per team (default: 11)");
+		options.addOption("o", "output", true, "csv file to write the match results to");
+		return options;
+	}
+
+
+	private static void printHelp(final Options options)
+	{
+		HelpFormatter formatter = new HelpFormatter();
+		formatter.printHelp("BatchSimulation", options);
+	}
+
+
+	private static void start()
+	{
+		try
+		{
+			SumatraModel.getInstance().setCurrentModuliConfig(MODULI_CONFIG);
+			SumatraModel.getInstance().loadModulesOfConfig(MODULI_CONFIG);
+			SumatraModel.getInstance().startModules();
+		} catch (DependencyException | LoadModulesException | InitModuleException | StartModuleException e)
+		{
+			log.error("Could not start modules", e);
+			System.exit(1);
+		}
+		Geometry.refresh();
+		Geometry.setNegativeHalfTeam(ETeamColor.BLUE);
+		// nobody looks at the shapes, so do not keep them
+		ShapeLayerDemand.setEnabled(true);
+	}
+
+
+	private static List<MatchResult> run(int numMatches, int numThreads, double duration, int botsPerTeam)
+	{
+		BotParamsManager botParamsManager = SumatraModel.getInstance().getModule(BotParamsManager.class);
+		ExecutorService executor = Executors.newFixedThreadPool(numThreads, new NamedThreadFactory("BatchSim"));
+
+		List<Future<MatchResult>> futures = new ArrayList<>();
+		for (int i = 0; i < numMatches; i++)
+		{
+			futures.add(executor.submit(new LockStepMatch(i, duration, botsPerTeam, botParamsManager)));
+		}
+
+		List<MatchResult> results = new ArrayList<>();
+		for (Future<MatchResult> future : futures)
+		{
+			try
+			{
+				results.add(future.get());
+			} catch (ExecutionException e)
+			{
+				log.error("Match failed", e.getCause());
+			} catch (InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+				break;
+			}
+		}
+		executor.shutdownNow();
+		return results;
+	}
+
+
+	private static void writeCsv(Path file, List<MatchResult> results)
+	{
+		List<String> lines = new ArrayList<>();
+		lines.add(MatchResult.CSV_HEADER);
+		results.stream().map(MatchResult::toCsvRow).forEach(lines::add);
+		try
+		{
+			Files.write(file, lines);
+		} catch (IOException e)
+		{
+			log.error("Could not write results to {}", file, e);
+		}
+	}
+
+
+	private static void summarize(List<MatchResult> results)
+	{
+		double simTime = results.stream().mapToDouble(MatchResult::simTime).sum();
+		int goalsYellow = results.stream().mapToInt(MatchResult::goalsYellow).sum();
+		int goalsBlue = results.stream().mapToInt(MatchResult::goalsBlue).sum();
+		log.info("Simulated {} matches ({}s) with {}:{} goals (yellow:blue)",
+				results.size(), String.format("%.0f", simTime), goalsYellow, goalsBlue);
+		log.info("Discarded {} of {} created shapes",
+				ShapeLayerDemand.getNumShapesDiscarded(), ShapeLayerDemand.getNumShapesCreated());
+	}
+}
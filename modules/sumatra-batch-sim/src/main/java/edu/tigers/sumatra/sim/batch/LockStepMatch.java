@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.sim.batch;
+
+import edu.tigers.sumatra.ai.Ai;
+import edu.tigers.sumatra.ai.athena.EAIControlState;
+import edu.tigers.sumatra.botmanager.IBotProvider;
+import edu.tigers.sumatra.botmanager.RobotInfoProvider;
+import edu.tigers.sumatra.botmanager.basestation.IBaseStationObserver;
+import edu.tigers.sumatra.botmanager.bots.ABot;
+import edu.tigers.sumatra.botmanager.sim.SumatraBaseStation;
+import edu.tigers.sumatra.botparams.BotParamsProvider;
+import edu.tigers.sumatra.geometry.Geometry;
+import edu.tigers.sumatra.ids.BotID;
+import edu.tigers.sumatra.ids.EAiTeam;
+import edu.tigers.sumatra.ids.ETeamColor;
+import edu.tigers.sumatra.math.pose.Pose;
+import edu.tigers.sumatra.math.vector.IVector2;
+import edu.tigers.sumatra.math.vector.Vector2;
+import edu.tigers.sumatra.math.vector.Vector3;
+import edu.tigers.sumatra.referee.data.RefereeMsg;
+import edu.tigers.sumatra.sim.SimPhysics;
+import edu.tigers.sumatra.sim.SimState;
+import edu.tigers.sumatra.sim.SimulatedBot;
+import edu.tigers.sumatra.sim.dynamics.bot.SimBotAction;
+import edu.tigers.sumatra.sim.dynamics.bot.SimBotState;
+import edu.tigers.sumatra.skillsystem.GenericSkillSystem;
+import edu.tigers.sumatra.vision.data.FilteredVisionFrame;
+import edu.tigers.sumatra.wp.data.WorldFrameWrapper;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+
+/**
+ * A single match that runs simulation, world frame creation, both AIs and the skills synchronously
+ * on the calling thread, without any pacing.
+ * The simulation, the AIs and the skill system, including its path finder stats, are owned by the instance,
+ * so multiple matches can run in parallel. The following state is shared by all matches of the JVM, though:
+ * <ul>
+ * <li>{@link edu.tigers.sumatra.drawable.ShapeLayerDemand} and its counters, which count all matches</li>
+ * <li>the calculator pool of Metis, so that parallel matches compete for its threads</li>
+ * <li>the {@link Geometry} and static {@code @Configurable} values, which must not change during a batch</li>
+ * </ul>
+ */
+@Log4j2
+class LockStepMatch implements Callable<MatchResult>, IBotProvider, IBaseStationObserver
+{
+	private final int matchId;
+	private final int botsPerTeam;
+	private final BotParamsProvider botParamsProvider;
+
+	private final SimState simState = new SimState();
+	private final SimPhysics physics = new SimPhysics();
+	private final SumatraBaseStation baseStation = new SumatraBaseStation();
+	private final GenericSkillSystem skillSystem = GenericSkillSystem.forAnalysis();
+	private final Map<BotID, ABot> bots = new HashMap<>();
+	private final List<Ai> ais = new ArrayList<>();
+	private final LockStepReferee referee;
+	private final LockStepWorldFrameFactory worldFrameFactory;
+
+
+	/**
+	 * @param matchId           the id of this match within the batch
+	 * @param matchDuration     the simulated duration of the match [s]
+	 * @param botsPerTeam       the number of robots per team
+	 * @param botParamsProvider the provider of the robot parameters
+	 */
+	LockStepMatch(int matchId, double matchDuration, int botsPerTeam, BotParamsProvider botParamsProvider)
+	{
+		this.matchId = matchId;
+		this.botsPerTeam = botsPerTeam;
+		this.botParamsProvider = botParamsProvider;
+		referee = new LockStepReferee(matchDuration);
+		worldFrameFactory = new LockStepWorldFrameFactory(new RobotInfoProvider(this, botParamsProvider));
+	}
+
+
+	@Override
+	public MatchResult call()
+	{
+		Thread.currentThread().setName("BatchSim-" + matchId);
+		long tStart = System.nanoTime();
+		init();
+		try
+		{
+			while (!referee.isFinished(simState.getSimTime()))
+			{
+				step();
+			}
+		} finally
+		{
+			ais.forEach(Ai::stop);
+		}
+		double wallTime = (System.nanoTime() - tStart) / 1e9;
+
+		MatchResult result = new MatchResult(
+				matchId,
+				simState.getSimTime() / 1e9,
+				simState.getFrameId(),
+				referee.getGoals(ETeamColor.YELLOW),
+				referee.getGoals(ETeamColor.BLUE),
+				referee.getNumBallLeftField(),
+				wallTime
+		);
+		log.info("{}", result);
+		return result;
+	}
+
+
+	private void init()
+	{
+		// Do not start with time=0, as this is sometimes a special case
+		simState.setSimTime(SimPhysics.SIM_DT);
+		baseStation.addObserver(this);
+
+		for (ETeamColor color : ETeamColor.yellowBlueValues())
+		{
+			// blue is always on the negative half
+			double sign = color == ETeamColor.BLUE ? -1 : 1;
+			for (int i = 0; i < botsPerTeam; i++)
+			{
+				IVector2 pos = initialPos(i, sign);
+				physics.registerBot(simState, BotID.createBotId(i, color), Pose.from(pos, 0), Vector3.zero());
+			}
+
+			Ai ai = new Ai(EAiTeam.primary(color), skillSystem);
+			ai.changeMode(EAIControlState.MATCH_MODE);
+			ai.start();
+			ais.add(ai);
+		}
+	}
+
+
+	private IVector2 initialPos(int botIndex, double sign)
+	{
+		if (botIndex == 0)
+		{
+			return Vector2.fromX(sign * (Geometry.getFieldLength() / 2 - Geometry.getBotRadius() * 3));
+		}
+		double spacing = Geometry.getFieldWidth() / botsPerTeam;
+		return Vector2.fromXY(
+				sign * Geometry.getFieldLength() / 4,
+				-Geometry.getFieldWidth() / 2 + spacing * botIndex);
+	}
+
+
+	private void step()
+	{
+		physics.processBotCollisions(simState);
+		updateSimBotActions();
+		physics.simulate(simState, SimPhysics.CAM_DT);
+		physics.updateKickEvent(simState);
+		simState.incFrameId();
+
+		FilteredVisionFrame frame = physics.createFilteredFrame(simState);
+		RefereeMsg refereeMsg = referee.update(simState.getSimTime(), frame.getBall().getPos().getXYVector());
+		referee.pollBallPlacementPos().ifPresent(this::placeBall);
+
+		WorldFrameWrapper wfw = worldFrameFactory.create(frame, refereeMsg);
+		for (Ai ai : ais)
+		{
+			ai.processWorldFrame(wfw);
+			skillSystem.process(wfw, ai.getAiTeam().getTeamColor());
+		}
+	}
+
+
+	private void updateSimBotActions()
+	{
+		Map<BotID, SimBotState> botStates = new HashMap<>();
+		simState.getSimulatedBots().forEach((id, bot) -> botStates.put(id, bot.getState()));
+
+		baseStation.updateConnectedBotList(botStates.keySet());
+		Map<BotID, SimBotAction> actions = baseStation.nextSimBotActions(botStates, simState.getSimTime());
+
+		for (Map.Entry<BotID, SimulatedBot> bot : simState.getSimulatedBots().entrySet())
+		{
+			SimBotAction action = actions.get(bot.getKey());
+			bot.getValue().setAction(Objects.requireNonNullElseGet(action, SimBotAction::idle));
+		}
+	}
+
+
+	private void placeBall(IVector2 pos)
+	{
+		simState.getSimulatedBots().values().stream()
+				.filter(b -> b.getState().getPose().getPos().distanceTo(pos) < Geometry.getBotRadius() * 2)
+				.forEach(b -> b.setState(new SimBotState(
+						Pose.from(pos.addNew(Vector2.fromY(Geometry.getBotRadius() * 4)), 0),
+						Vector3.zero())));
+		physics.placeBall(simState,
+				Geometry.getBallFactory().createTrajectoryFromBallAtRest(pos).getMilliStateAtTime(0));
+	}
+
+
+	@Override
+	public void onBotOnline(ABot bot)
+	{
+		bot.setBotParams(botParamsProvider.get(bot.getBotParamLabel()));
+		bots.put(bot.getBotId(), bot);
+		skillSystem.onBotAdded(bot);
+	}
+
+
+	@Override
+	public void onBotOffline(BotID id)
+	{
+		Optional.ofNullable(bots.remove(id)).ifPresent(skillSystem::onBotRemoved);
+	}
+
+
+	@Override
+	public Optional<ABot> getBot(BotID botID)
+	{
+		return Optional.ofNullable(bots.get(botID));
+	}
+
+
+	@Override
+	public Map<BotID, ABot> getBots()
+	{
+		return Collections.unmodifiableMap(bots);
+	}
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.sim.batch;
+
+import edu.tigers.sumatra.geometry.Geometry;
+import edu.tigers.sumatra.ids.ETeamColor;
+import edu.tigers.sumatra.math.vector.IVector2;
+import edu.tigers.sumatra.referee.data.RefereeMsg;
+import edu.tigers.sumatra.referee.data.RefereeMsgBuilder;
+import edu.tigers.sumatra.referee.proto.SslGcRefereeMessage.Referee.Command;
+import edu.tigers.sumatra.referee.proto.SslGcRefereeMessage.Referee.Stage;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+
+
+/**
+ * A minimal referee that runs in simulation time.
+ * It starts the match with a kickoff, counts goals, restarts the game after goals, when the ball left the field
+ * or when the game got stuck and ends the match after a fixed duration.
+ * The blue team is always on the negative half.
+ */
+@Log4j2
+class LockStepReferee
+{
+	private static final double STOP_DURATION = 3.0;
+	private static final double PREPARE_DURATION = 3.0;
+	private static final double NO_PROGRESS_TIMEOUT = 10.0;
+	private static final double NO_PROGRESS_MIN_BALL_MOVEMENT = 100.0;
+	private static final double BALL_PLACEMENT_MARGIN = 300.0;
+
+	private final Map<ETeamColor, Integer> goals = new EnumMap<>(ETeamColor.class);
+	private final long matchDuration;
+
+	@Getter
+	private int numBallLeftField;
+
+	private long startTime = -1;
+	private Command command = Command.HALT;
+	private Command nextCommand = Command.PREPARE_KICKOFF_BLUE;
+	private int commandCounter;
+	private long commandTime;
+	private IVector2 lastProgressBallPos;
+	private long lastProgressTime;
+	private IVector2 ballPlacementPos;
+	private RefereeMsg refereeMsg = new RefereeMsg();
+
+
+	/**
+	 * @param matchDuration the duration of the match [s]
+	 */
+	LockStepReferee(double matchDuration)
+	{
+		this.matchDuration = (long) (matchDuration * 1e9);
+		goals.put(ETeamColor.YELLOW, 0);
+		goals.put(ETeamColor.BLUE, 0);
+	}
+
+
+	/**
+	 * Update the referee with the current state.
+	 *
+	 * @param timestamp the simulation time [ns]
+	 * @param ballPos   the current ball position [mm]
+	 * @return the latest referee message
+	 */
+	RefereeMsg update(long timestamp, IVector2 ballPos)
+	{
+		if (startTime < 0)
+		{
+			startTime = timestamp;
+			ballPlacementPos = Geometry.getCenter();
+			sendCommand(Command.STOP, timestamp);
+			return refereeMsg;
+		}
+
+		switch (command)
+		{
+			case STOP -> {
+				if (elapsed(timestamp) > STOP_DURATION)
+				{
+					sendCommand(nextCommand, timestamp);
+					resetProgress(timestamp, ballPos);
+				}
+			}
+			case PREPARE_KICKOFF_BLUE, PREPARE_KICKOFF_YELLOW -> {
+				if (elapsed(timestamp) > PREPARE_DURATION)
+				{
+					sendCommand(Command.NORMAL_START, timestamp);
+					resetProgress(timestamp, ballPos);
+				}
+			}
+			case NORMAL_START, FORCE_START -> checkRunningGame(timestamp, ballPos);
+			default -> sendCommand(Command.STOP, timestamp);
+		}
+		return refereeMsg;
+	}
+
+
+	private void checkRunningGame(long timestamp, IVector2 ballPos)
+	{
+		if (Geometry.getField().isPointInShape(ballPos))
+		{
+			if (ballPos.distanceTo(lastProgressBallPos) > NO_PROGRESS_MIN_BALL_MOVEMENT)
+			{
+				resetProgress(timestamp, ballPos);
+			} else if ((timestamp - lastProgressTime) / 1e9 > NO_PROGRESS_TIMEOUT)
+			{
+				log.debug("No progress for {}s, restarting the game", NO_PROGRESS_TIMEOUT);
+				stop(Command.FORCE_START, null, timestamp);
+			}
+			return;
+		}
+
+		if (Math.abs(ballPos.x()) > Geometry.getFieldLength() / 2
+				&& Math.abs(ballPos.y()) < Geometry.getGoalOur().getWidth() / 2)
+		{
+			// blue plays on the negative half, so a ball in the positive goal is a goal for blue
+			ETeamColor scoringTeam = ballPos.x() > 0 ? ETeamColor.BLUE : ETeamColor.YELLOW;
+			goals.merge(scoringTeam, 1, Integer::sum);
+			log.debug("Goal for {}", scoringTeam);
+			Command kickoff = scoringTeam == ETeamColor.BLUE
+					? Command.PREPARE_KICKOFF_YELLOW
+					: Command.PREPARE_KICKOFF_BLUE;
+			stop(kickoff, Geometry.getCenter(), timestamp);
+		} else
+		{
+			numBallLeftField++;
+			IVector2 placementPos = Geometry.getField().withMargin(-BALL_PLACEMENT_MARGIN).nearestPointInside(ballPos);
+			stop(Command.FORCE_START, placementPos, timestamp);
+		}
+	}
+
+
+	private void stop(Command next, IVector2 placementPos, long timestamp)
+	{
+		nextCommand = next;
+		ballPlacementPos = placementPos;
+		sendCommand(Command.STOP, timestamp);
+	}
+
+
+	private void resetProgress(long timestamp, IVector2 ballPos)
+	{
+		lastProgressTime = timestamp;
+		lastProgressBallPos = ballPos;
+	}
+
+
+	private double elapsed(long timestamp)
+	{
+		return (timestamp - commandTime) / 1e9;
+	}
+
+
+	private void sendCommand(Command newCommand, long timestamp)
+	{
+		command = newCommand;
+		commandCounter++;
+		commandTime = timestamp;
+
+		long timeLeft = Math.max(0, matchDuration - (timestamp - startTime));
+		var msg = RefereeMsgBuilder.aRefereeMsg()
+				.withCommand(newCommand)
+				.withCommandCounter(commandCounter)
+				.withCommandTimestamp(timestamp / 1000)
+				.withPacketTimestamp(timestamp / 1000)
+				.withStage(Stage.NORMAL_FIRST_HALF)
+				.withTimeLeft((int) (timeLeft / 1000))
+				.withGoalScore(ETeamColor.YELLOW, goals.get(ETeamColor.YELLOW))
+				.withGoalScore(ETeamColor.BLUE, goals.get(ETeamColor.BLUE))
+				.build();
+		refereeMsg = new RefereeMsg(timestamp, msg);
+	}
+
+
+	/**
+	 * @return the position to which the ball should be moved, if any. It is only returned once.
+	 */
+	Optional<IVector2> pollBallPlacementPos()
+	{
+		IVector2 pos = ballPlacementPos;
+		ballPlacementPos = null;
+		return Optional.ofNullable(pos);
+	}
+
+
+	/**
+	 * @param timestamp the simulation time [ns]
+	 * @return true, if the match duration has passed
+	 */
+	boolean isFinished(long timestamp)
+	{
+		return startTime >= 0 && timestamp - startTime >= matchDuration;
+	}
+
+
+	/**
+	 * @param teamColor the team
+	 * @return the number of goals scored by the team
+	 */
+	int getGoals(ETeamColor teamColor)
+	{
+		return goals.get(teamColor);
+	}
+}
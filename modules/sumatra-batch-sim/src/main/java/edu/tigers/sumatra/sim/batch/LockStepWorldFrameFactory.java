@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.sim.batch;
+
+import edu.tigers.sumatra.bot.RobotInfo;
+import edu.tigers.sumatra.ids.BotID;
+import edu.tigers.sumatra.math.pose.Pose;
+import edu.tigers.sumatra.referee.data.GameState;
+import edu.tigers.sumatra.referee.data.RefereeMsg;
+import edu.tigers.sumatra.vision.data.FilteredVisionBot;
+import edu.tigers.sumatra.vision.data.FilteredVisionFrame;
+import edu.tigers.sumatra.vision.data.FilteredVisionKick;
+import edu.tigers.sumatra.wp.data.ITrackedBall;
+import edu.tigers.sumatra.wp.data.ITrackedBot;
+import edu.tigers.sumatra.wp.data.KickedBall;
+import edu.tigers.sumatra.wp.data.SimpleWorldFrame;
+import edu.tigers.sumatra.wp.data.TrackedBall;
+import edu.tigers.sumatra.wp.data.TrackedBot;
+import edu.tigers.sumatra.wp.data.WorldFrameWrapper;
+import edu.tigers.sumatra.wp.util.BallContactCalculator;
+import edu.tigers.sumatra.wp.util.GameStateCalculator;
+import edu.tigers.sumatra.wp.util.IRobotInfoProvider;
+
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * Synchronous counterpart of the WorldInfoCollector for a single lock-step match.
+ * The simulator delivers the true state, so the filtered state is used directly and no
+ * malfunction detection or visualization is done.
+ */
+class LockStepWorldFrameFactory
+{
+	private final IRobotInfoProvider robotInfoProvider;
+	private final BallContactCalculator ballContactCalculator = new BallContactCalculator();
+	private final GameStateCalculator gameStateCalculator = new GameStateCalculator();
+
+
+	LockStepWorldFrameFactory(IRobotInfoProvider robotInfoProvider)
+	{
+		this.robotInfoProvider = robotInfoProvider;
+	}
+
+
+	/**
+	 * Create a new world frame from the simulated vision frame.
+	 *
+	 * @param frame      the filtered vision frame of the simulator
+	 * @param refereeMsg the latest referee message
+	 * @return the new world frame
+	 */
+	WorldFrameWrapper create(FilteredVisionFrame frame, RefereeMsg refereeMsg)
+	{
+		long timestamp = frame.getTimestamp();
+		robotInfoProvider.setLastWFTimestamp(timestamp);
+		ballContactCalculator.setBallPos(frame.getBall().getPos().getXYVector());
+
+		Map<BotID, ITrackedBot> bots = new HashMap<>();
+		for (FilteredVisionBot visionBot : frame.getBots())
+		{
+			RobotInfo robotInfo = robotInfoProvider.getRobotInfo(visionBot.getBotID());
+			Pose pose = Pose.from(visionBot.getPos(), visionBot.getOrientation());
+			bots.put(visionBot.getBotID(), TrackedBot.newBuilder()
+					.withBotId(visionBot.getBotID())
+					.withTimestamp(timestamp)
+					.withState(visionBot.toBotState())
+					.withFilteredState(visionBot.toBotState())
+					.withBotInfo(robotInfo)
+					.withLastBallContact(
+							ballContactCalculator.ballContact(robotInfo, pose, robotInfo.getCenter2DribblerDist()))
+					.withQuality(visionBot.getQuality())
+					.build());
+		}
+
+		ITrackedBall ball = TrackedBall.fromFilteredVisionBall(timestamp, frame.getBall());
+		KickedBall kickedBall = frame.getKick().map(this::getKickedBall).orElse(null);
+		SimpleWorldFrame swf = new SimpleWorldFrame(frame.getId(), timestamp, bots, ball, kickedBall);
+
+		GameState gameState = gameStateCalculator.getNextGameState(refereeMsg, ball.getPos(), timestamp);
+		return new WorldFrameWrapper(swf, refereeMsg, gameState);
+	}
+
+
+	private KickedBall getKickedBall(FilteredVisionKick kick)
+	{
+		return KickedBall.builder()
+				.kickTimestamp(kick.getKickTimestamp())
+				.trajectoryStartTime(kick.getTrajectoryStartTime())
+				.kickingBot(kick.getKickingBot())
+				.kickingBotPose(Pose.from(kick.getKickingBotPosition(), kick.getKickingBotOrientation()))
+				.ballTrajectory(kick.getBallTrajectory())
+				.build();
+	}
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.sim.batch;
+
+import java.util.Locale;
+
+
+/**
+ * Summary of a single simulated match.
+ *
+ * @param matchId          the id of the match within the batch
+ * @param simTime          the simulated time [s]
+ * @param numFrames        the number of simulated frames
+ * @param goalsYellow      the goals scored by yellow
+ * @param goalsBlue        the goals scored by blue
+ * @param numBallLeftField how often the ball left the field (without goals)
+ * @param wallTime         the real time needed for the simulation [s]
+ */
+public record MatchResult(
+		int matchId,
+		double simTime,
+		long numFrames,
+		int goalsYellow,
+		int goalsBlue,
+		int numBallLeftField,
+		double wallTime
+)
+{
+	static final String CSV_HEADER = "match,simTime,frames,goalsYellow,goalsBlue,ballLeftField,wallTime,realTimeFactor";
+
+
+	/**
+	 * @return how much faster than real time the match was simulated
+	 */
+	public double realTimeFactor()
+	{
+		return wallTime > 0 ? simTime / wallTime : 0;
+	}
+
+
+	String toCsvRow()
+	{
+		return String.format(Locale.ENGLISH, "%d,%.3f,%d,%d,%d,%d,%.3f,%.2f",
+				matchId, simTime, numFrames, goalsYellow, goalsBlue, numBallLeftField, wallTime, realTimeFactor());
+	}
+
+
+	@Override
+	public String toString()
+	{
+		return String.format(Locale.ENGLISH, "Match %d: %d:%d (yellow:blue), ball left field %dx, %.0fs in %.1fs (%.1fx)",
+				matchId, goalsYellow, goalsBlue, numBallLeftField, simTime, wallTime, realTimeFactor());
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.sim.batch;
+
+import edu.tigers.sumatra.geometry.Geometry;
+import edu.tigers.sumatra.ids.ETeamColor;
+import edu.tigers.sumatra.math.vector.IVector2;
+import edu.tigers.sumatra.math.vector.Vector2;
+import edu.tigers.sumatra.referee.data.RefereeMsg;
+import edu.tigers.sumatra.referee.proto.SslGcRefereeMessage.Referee.Command;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+public class LockStepRefereeTest
+{
+	private static final double KICKOFF_TIME = 6.2;
+
+	private LockStepReferee referee;
+
+
+	@Before
+	public void setUp()
+	{
+		referee = new LockStepReferee(300);
+	}
+
+
+	@Test
+	public void testKickoff()
+	{
+		assertThat(update(0, Vector2.zero()).getCommand()).isEqualTo(Command.STOP);
+		assertThat(referee.pollBallPlacementPos()).contains(Geometry.getCenter());
+		assertThat(referee.pollBallPlacementPos()).isEmpty();
+
+		assertThat(update(2.9, Vector2.zero()).getCommand()).isEqualTo(Command.STOP);
+		assertThat(update(3.1, Vector2.zero()).getCommand()).isEqualTo(Command.PREPARE_KICKOFF_BLUE);
+		assertThat(update(6.0, Vector2.zero()).getCommand()).isEqualTo(Command.PREPARE_KICKOFF_BLUE);
+		assertThat(update(KICKOFF_TIME, Vector2.zero()).getCommand()).isEqualTo(Command.NORMAL_START);
+	}
+
+
+	@Test
+	public void testGoal()
+	{
+		kickoff();
+
+		IVector2 ballInGoal = Vector2.fromX(Geometry.getFieldLength() / 2 + 50);
+		RefereeMsg msg = update(KICKOFF_TIME + 1, ballInGoal);
+
+		assertThat(msg.getCommand()).isEqualTo(Command.STOP);
+		assertThat(msg.getGoals()).containsEntry(ETeamColor.BLUE, 1).containsEntry(ETeamColor.YELLOW, 0);
+		assertThat(referee.getGoals(ETeamColor.BLUE)).isEqualTo(1);
+		assertThat(referee.getNumBallLeftField()).isZero();
+		assertThat(referee.pollBallPlacementPos()).contains(Geometry.getCenter());
+		assertThat(update(KICKOFF_TIME + 4.1, Vector2.zero()).getCommand()).isEqualTo(Command.PREPARE_KICKOFF_YELLOW);
+	}
+
+
+	@Test
+	public void testBallLeftField()
+	{
+		kickoff();
+
+		IVector2 ballOutside = Vector2.fromXY(1000, Geometry.getFieldWidth() / 2 + 100);
+		RefereeMsg msg = update(KICKOFF_TIME + 1, ballOutside);
+
+		assertThat(msg.getCommand()).isEqualTo(Command.STOP);
+		assertThat(referee.getNumBallLeftField()).isEqualTo(1);
+		assertThat(referee.getGoals(ETeamColor.BLUE)).isZero();
+		assertThat(referee.getGoals(ETeamColor.YELLOW)).isZero();
+		assertThat(referee.pollBallPlacementPos()).hasValueSatisfying(pos -> {
+			assertThat(pos.x()).isEqualTo(1000);
+			assertThat(Geometry.getField().withMargin(-299).isPointInShape(pos)).isTrue();
+		});
+		assertThat(update(KICKOFF_TIME + 4.1, Vector2.zero()).getCommand()).isEqualTo(Command.FORCE_START);
+	}
+
+
+	@Test
+	public void testForceStartWithoutProgress()
+	{
+		kickoff();
+
+		// small movements are no progress
+		for (int i = 1; i <= 10; i++)
+		{
+			RefereeMsg msg = update(KICKOFF_TIME + i, Vector2.fromX(1000 + i * 5.0));
+			assertThat(msg.getCommand()).isEqualTo(Command.NORMAL_START);
+		}
+		RefereeMsg msg = update(KICKOFF_TIME + 10.1, Vector2.fromX(1000));
+
+		assertThat(msg.getCommand()).isEqualTo(Command.STOP);
+		assertThat(referee.pollBallPlacementPos()).isEmpty();
+		assertThat(referee.getNumBallLeftField()).isZero();
+		assertThat(update(KICKOFF_TIME + 13.2, Vector2.fromX(1000)).getCommand()).isEqualTo(Command.FORCE_START);
+	}
+
+
+	@Test
+	public void testProgressResetsTimeout()
+	{
+		kickoff();
+
+		update(KICKOFF_TIME + 9, Vector2.fromX(1000));
+		update(KICKOFF_TIME + 9.5, Vector2.fromX(1200));
+
+		assertThat(update(KICKOFF_TIME + 15, Vector2.fromX(1200)).getCommand()).isEqualTo(Command.NORMAL_START);
+		assertThat(update(KICKOFF_TIME + 19.6, Vector2.fromX(1200)).getCommand()).isEqualTo(Command.STOP);
+	}
+
+
+	@Test
+	public void testFinished()
+	{
+		referee = new LockStepReferee(10);
+
+		assertThat(referee.isFinished(0)).isFalse();
+		update(1, Vector2.zero());
+		assertThat(referee.isFinished((long) 10.9e9)).isFalse();
+		assertThat(referee.isFinished((long) 11e9)).isTrue();
+	}
+
+
+	private void kickoff()
+	{
+		update(0, Vector2.zero());
+		update(3.1, Vector2.zero());
+		assertThat(update(KICKOFF_TIME, Vector2.fromX(1000)).getCommand()).isEqualTo(Command.NORMAL_START);
+		referee.pollBallPlacementPos();
+	}
+
+
+	private RefereeMsg update(double time, IVector2 ballPos)
+	{
+		return referee.update((long) (time * 1e9), ballPos);
+	}
+}
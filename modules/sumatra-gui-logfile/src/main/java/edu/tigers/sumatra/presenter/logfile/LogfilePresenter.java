@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2022, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 
 package edu.tigers.sumatra.presenter.logfile;
@@ -107,6 +107,7 @@ public class LogfilePresenter implements ISumatraViewPresenter, ILogfilePanelObs
 	public void onLoadLogfile(final String path)
 	{
 		logfile = new GameLogReader();
+		logfile.setIndexed(true);
 		logfile.addFilter(new MessageTypeFilter(EnumSet.of(EMessageType.SSL_REFBOX_2013, EMessageType.SSL_VISION_2014,
 				EMessageType.TIGERS_BASE_STATION_CMD_RECEIVED, EMessageType.TIGERS_BASE_STATION_CMD_SENT)));
 
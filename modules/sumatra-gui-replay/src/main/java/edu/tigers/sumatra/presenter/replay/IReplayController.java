@@ -28,4 +28,12 @@ public interface IReplayController
 	default void update(final BerkeleyDb db, WorldFrameWrapper wfw)
 	{
 	}
+	
+	
+	/**
+	 * Release all resources, called once when the replay is closed
+	 */
+	default void close()
+	{
+	}
 }
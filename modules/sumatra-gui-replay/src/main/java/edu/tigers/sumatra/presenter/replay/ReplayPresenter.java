@@ -153,6 +153,7 @@ public class ReplayPresenter extends AMainPresenter
 
 	private void cleanup()
 	{
+		replayControllers.forEach(IReplayController::close);
 		if (db != null)
 		{
 			db.close();
@@ -1,12 +1,16 @@
 /*
- * Copyright (c) 2009 - 2022, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 package edu.tigers.sumatra.presenter.timer;
 
 import edu.tigers.sumatra.model.SumatraModel;
+import edu.tigers.sumatra.time.EFrameStage;
+import edu.tigers.sumatra.time.FrameLatencyTracer;
+import edu.tigers.sumatra.time.LatencyHistogram;
 import edu.tigers.sumatra.timer.ITimerObserver;
 import edu.tigers.sumatra.timer.SumatraTimer;
 import edu.tigers.sumatra.timer.TimerInfo;
+import edu.tigers.sumatra.view.timer.FrameLatencyPanel;
 import edu.tigers.sumatra.view.timer.TimerChartPanel;
 import edu.tigers.sumatra.view.timer.TimerPanel;
 import edu.tigers.sumatra.views.ISumatraViewPresenter;
@@ -16,6 +20,10 @@ import lombok.extern.log4j.Log4j2;
 import javax.swing.Timer;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Optional;
 
 
@@ -26,10 +34,14 @@ import java.util.Optional;
 public class TimerPresenter implements ISumatraViewPresenter, ITimerObserver
 {
 	private static final int TIMER_UPDATE_RATE = 100;
+	/** number of updates over which the frame latencies are shown */
+	private static final int LATENCY_WINDOW = 10;
 
 	@Getter
 	private final TimerPanel viewPanel = new TimerPanel();
 	private final TimerChartPanel chartPanel = viewPanel.getChartPanel();
+	private final FrameLatencyPanel frameLatencyPanel = viewPanel.getFrameLatencyPanel();
+	private final Deque<Map<EFrameStage, LatencyHistogram.Snapshot>> latencySnapshots = new ArrayDeque<>();
 
 	private SumatraTimer timer;
 	private Timer updateTimer;
@@ -67,6 +79,7 @@ public class TimerPresenter implements ISumatraViewPresenter, ITimerObserver
 		}
 
 		chartPanel.clearChart();
+		latencySnapshots.clear();
 	}
 
 
@@ -104,10 +117,29 @@ public class TimerPresenter implements ISumatraViewPresenter, ITimerObserver
 			{
 				TimerInfo info = timer.getTimerInfo();
 				chartPanel.onNewTimerInfo(info);
+				updateFrameLatencies();
 			} catch (Exception err)
 			{
 				log.error("Error in TimerRunner", err);
 			}
 		}
+
+
+		private void updateFrameLatencies()
+		{
+			Map<EFrameStage, LatencyHistogram.Snapshot> current = FrameLatencyTracer.getInstance().snapshot();
+			Map<EFrameStage, LatencyHistogram.Snapshot> oldest = latencySnapshots.isEmpty()
+					? current
+					: latencySnapshots.peekFirst();
+			Map<EFrameStage, LatencyHistogram.Snapshot> window = new EnumMap<>(EFrameStage.class);
+			current.forEach((stage, snapshot) -> window.put(stage, snapshot.since(oldest.get(stage))));
+			frameLatencyPanel.setLatencies(window);
+
+			latencySnapshots.addLast(current);
+			if (latencySnapshots.size() > LATENCY_WINDOW)
+			{
+				latencySnapshots.removeFirst();
+			}
+		}
 	}
 }
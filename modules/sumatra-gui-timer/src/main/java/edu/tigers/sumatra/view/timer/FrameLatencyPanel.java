@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+package edu.tigers.sumatra.view.timer;
+
+import edu.tigers.sumatra.time.EFrameStage;
+import edu.tigers.sumatra.time.LatencyHistogram;
+import net.miginfocom.swing.MigLayout;
+
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.table.DefaultTableModel;
+import java.io.Serial;
+import java.util.Map;
+
+
+/**
+ * Table with the latencies of camera frames through the processing stages
+ */
+public class FrameLatencyPanel extends JPanel
+{
+	@Serial
+	private static final long serialVersionUID = 6146382473902264178L;
+
+	private static final String[] COLUMNS = { "Stage", "Frames", "p50 [ms]", "p99 [ms]", "max [ms]" };
+
+	private final DefaultTableModel model = new DefaultTableModel(COLUMNS, EFrameStage.values().length)
+	{
+		@Override
+		public boolean isCellEditable(final int row, final int column)
+		{
+			return false;
+		}
+	};
+
+
+	public FrameLatencyPanel()
+	{
+		setLayout(new MigLayout("fill, inset 0", "", ""));
+
+		for (EFrameStage stage : EFrameStage.values())
+		{
+			model.setValueAt(stage.name(), stage.ordinal(), 0);
+		}
+		JTable table = new JTable(model);
+		table.setFillsViewportHeight(true);
+		add(new JScrollPane(table), "grow");
+	}
+
+
+	/**
+	 * @param latencies the latencies per stage
+	 */
+	public void setLatencies(final Map<EFrameStage, LatencyHistogram.Snapshot> latencies)
+	{
+		latencies.forEach((stage, snapshot) -> {
+			int row = stage.ordinal();
+			model.setValueAt(snapshot.getCount(), row, 1);
+			model.setValueAt(String.format("%.2f", snapshot.getPercentile(0.5)), row, 2);
+			model.setValueAt(String.format("%.2f", snapshot.getPercentile(0.99)), row, 3);
+			model.setValueAt(String.format("%.2f", snapshot.getMax()), row, 4);
+		});
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2022, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 package edu.tigers.sumatra.view.timer;
 
@@ -20,14 +20,17 @@ public class TimerPanel extends JPanel
 
 	@Getter
 	private final TimerChartPanel chartPanel = new TimerChartPanel();
+	@Getter
+	private final FrameLatencyPanel frameLatencyPanel = new FrameLatencyPanel();
 
 
 	public TimerPanel()
 	{
-		setLayout(new MigLayout("fill, inset 0", "", ""));
+		setLayout(new MigLayout("fill, inset 0, wrap 1", "", "[grow][]"));
 
 		chartPanel.setVisible(false);
 
 		add(chartPanel, "grow");
+		add(frameLatencyPanel, "growx, hmin 150");
 	}
 }
@@ -1,11 +1,12 @@
 /*
- * Copyright (c) 2009 - 2022, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 
 package edu.tigers.sumatra.visualizer;
 
 import edu.tigers.sumatra.clock.ThreadUtil;
 import edu.tigers.sumatra.drawable.IShapeLayerIdentifier;
+import edu.tigers.sumatra.drawable.ShapeLayerDemand;
 import edu.tigers.sumatra.drawable.ShapeMap;
 import edu.tigers.sumatra.drawable.ShapeMapSource;
 import edu.tigers.sumatra.model.SumatraModel;
@@ -209,6 +210,7 @@ public class VisualizerPresenter implements ISumatraViewPresenter, IWorldFrameOb
 
 		ISumatraViewPresenter.super.onStop();
 		GlobalShortcuts.removeAllForComponent(viewPanel);
+		ShapeLayerDemand.removeDemand(this);
 	}
 
 
@@ -290,9 +292,14 @@ public class VisualizerPresenter implements ISumatraViewPresenter, IWorldFrameOb
 			fieldPresenter.setSourceVisibility(source, visible);
 		});
 
+		Set<String> visibleLayers = new HashSet<>();
 		shapeSelectionModel.getLayers().forEach((layer, node) -> {
 			boolean visible = isSelected(node, true);
 			fieldPresenter.setShapeLayerVisibility(layer.getId(), visible);
+			if (visible)
+			{
+				visibleLayers.add(layer.getId());
+			}
 			if (defaultVisibilityObtained.contains(layer))
 			{
 				var noDigIn = isSelected(node, false);
@@ -307,6 +314,7 @@ public class VisualizerPresenter implements ISumatraViewPresenter, IWorldFrameOb
 				SumatraModel.getInstance().setUserProperty(propertiesPrefix + category.name(), String.valueOf(noDigIn));
 			}
 		});
+		ShapeLayerDemand.setDemand(this, layer -> visibleLayers.contains(layer.getId()));
 		viewPanel.getShapeSelectionPanel().getTree().updateUI();
 	}
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2022, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 
 package edu.tigers.sumatra.pathfinder.checker;
@@ -7,6 +7,7 @@ package edu.tigers.sumatra.pathfinder.checker;
 import edu.tigers.sumatra.drawable.DrawableAnnotation;
 import edu.tigers.sumatra.drawable.DrawablePoint;
 import edu.tigers.sumatra.drawable.ShapeMap;
+import edu.tigers.sumatra.math.vector.Vector2;
 import edu.tigers.sumatra.pathfinder.EPathFinderShapesLayer;
 import edu.tigers.sumatra.pathfinder.obstacles.IObstacle;
 import edu.tigers.sumatra.pathfinder.obstacles.input.CollisionInput;
@@ -62,19 +63,29 @@ class ObstacleCollisionChecker
 
 		if (shapeMap != null)
 		{
-			if (collides)
-			{
-				shapeMap.get(EPathFinderShapesLayer.obstacleCheckPointsCollision(obstacle.getIdentifier())).add(
-						new DrawablePoint(collisionInput.getRobotPos()).withSize(13).setColor(Color.red)
-				);
-			} else
-			{
-				shapeMap.get(EPathFinderShapesLayer.obstacleCheckPointsNoCollision(obstacle.getIdentifier())).add(
-						new DrawablePoint(collisionInput.getRobotPos()).withSize(15).setColor(Color.green)
-				);
-			}
-			shapeMap.get(EPathFinderShapesLayer.obstacleCheckPoints(obstacle.getIdentifier())).add(
-					new DrawableAnnotation(collisionInput.getRobotPos(),
+			drawCheckPoint(collisionInput, distance, collides);
+		}
+	}
+
+
+	private void drawCheckPoint(CollisionInput collisionInput, double distance, boolean collides)
+	{
+		var collisionLayer = collides
+				? EPathFinderShapesLayer.obstacleCheckPointsCollision(obstacle.getIdentifier())
+				: EPathFinderShapesLayer.obstacleCheckPointsNoCollision(obstacle.getIdentifier());
+		if (shapeMap.isDemanded(collisionLayer))
+		{
+			shapeMap.get(collisionLayer).add(
+					new DrawablePoint(collisionInput.getRobotPos())
+							.withSize(collides ? 13 : 15)
+							.setColor(collides ? Color.red : Color.green)
+			);
+		}
+		var checkPointLayer = EPathFinderShapesLayer.obstacleCheckPoints(obstacle.getIdentifier());
+		if (shapeMap.isDemanded(checkPointLayer))
+		{
+			shapeMap.get(checkPointLayer).add(
+					new DrawableAnnotation(Vector2.copy(collisionInput.getRobotPos()),
 							String.format("%.2f%n%.0f", collisionInput.getTimeOffset(), distance))
 							.withCenterHorizontally(true)
 							.withFontHeight(3)
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2022, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 
 package edu.tigers.sumatra.pathfinder.checker;
@@ -9,15 +9,13 @@ import edu.tigers.sumatra.drawable.DrawableAnnotation;
 import edu.tigers.sumatra.drawable.DrawablePoint;
 import edu.tigers.sumatra.drawable.ShapeMap;
 import edu.tigers.sumatra.math.vector.IVector2;
+import edu.tigers.sumatra.math.vector.Vector2;
 import edu.tigers.sumatra.pathfinder.EPathFinderShapesLayer;
 import edu.tigers.sumatra.pathfinder.finder.PathFinderCollision;
 import edu.tigers.sumatra.pathfinder.finder.PathFinderResult;
 import edu.tigers.sumatra.pathfinder.finder.TrajPath;
 import edu.tigers.sumatra.pathfinder.obstacles.IObstacle;
-import edu.tigers.sumatra.pathfinder.obstacles.input.CollisionInput;
-import edu.tigers.sumatra.pathfinder.obstacles.input.CollisionInputLazy;
-import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
+import edu.tigers.sumatra.pathfinder.obstacles.input.CollisionInputBuffer;
 import lombok.Getter;
 
 import java.awt.Color;
@@ -27,17 +25,32 @@ import java.util.List;
 /**
  * Check for collisions on a specific path for multiple obstacles.
  */
-@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class PathCollisionChecker
 {
 	@Getter
 	private final TrajPath path;
 	private final List<ObstacleCollisionChecker> obstacleCollisionCheckers;
 	private final ShapeMap shapeMap;
+	private final CollisionInputBuffer collisionInput;
 
 	private double timeOffset;
 
 
+	private PathCollisionChecker(
+			TrajPath path,
+			List<ObstacleCollisionChecker> obstacleCollisionCheckers,
+			ShapeMap shapeMap,
+			double timeOffset
+	)
+	{
+		this.path = path;
+		this.obstacleCollisionCheckers = obstacleCollisionCheckers;
+		this.shapeMap = shapeMap;
+		this.timeOffset = timeOffset;
+		this.collisionInput = new CollisionInputBuffer(path);
+	}
+
+
 	public static PathCollisionChecker ofPath(
 			TrajPath path,
 			List<IObstacle> obstacles,
@@ -75,16 +88,16 @@ public class PathCollisionChecker
 
 	private void stepFront()
 	{
-		CollisionInput collisionInput = new CollisionInputLazy(path, timeOffset);
+		collisionInput.update(timeOffset);
 		obstacleCollisionCheckers.forEach(c -> c.stepFront(collisionInput));
 
-		if (shapeMap != null)
+		if (shapeMap != null && shapeMap.isDemanded(EPathFinderShapesLayer.COLLISION_CHECK_POINTS))
 		{
 			shapeMap.get(EPathFinderShapesLayer.COLLISION_CHECK_POINTS).add(
-					new DrawablePoint(path.getPositionMM(timeOffset)).withSize(13).setColor(Color.orange)
+					new DrawablePoint(collisionInput.getRobotPos()).withSize(13).setColor(Color.orange)
 			);
 			shapeMap.get(EPathFinderShapesLayer.COLLISION_CHECK_POINTS).add(
-					new DrawableAnnotation(path.getPositionMM(timeOffset), String.format("%.1f", timeOffset))
+					new DrawableAnnotation(Vector2.copy(collisionInput.getRobotPos()), String.format("%.1f", timeOffset))
 							.withCenterHorizontally(true)
 							.withFontHeight(3)
 			);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2022, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 
 package edu.tigers.sumatra.pathfinder.checker;
@@ -23,11 +23,16 @@ import lombok.RequiredArgsConstructor;
 
 import java.awt.Color;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 
 
+/**
+ * Checks paths and sub paths against the obstacles of a single path finder input.
+ * The checks are thread-safe, so multiple sub paths can be checked concurrently.
+ */
 @RequiredArgsConstructor
 public class SubPathCollisionChecker
 {
@@ -48,7 +53,7 @@ public class SubPathCollisionChecker
 	private final ShapeMap shapeMap;
 	private final IMoveConstraints moveConstraints;
 	private final IVector2 dest;
-	private final List<PathFinderResult> rejectedResults = new ArrayList<>();
+	private final List<PathFinderResult> rejectedResults = Collections.synchronizedList(new ArrayList<>());
 
 
 	public static SubPathCollisionChecker of(PathFinderInput input, ShapeMap shapeMap)
@@ -69,7 +74,12 @@ public class SubPathCollisionChecker
 
 	public Optional<PathFinderResult> getBestRejectedResult()
 	{
-		return rejectedResults.stream()
+		List<PathFinderResult> results;
+		synchronized (rejectedResults)
+		{
+			results = new ArrayList<>(rejectedResults);
+		}
+		return results.stream()
 				.min(Comparator.comparing(r -> distanceToClosestMovingCollision(r, dest)));
 	}
 
@@ -133,6 +143,22 @@ public class SubPathCollisionChecker
 	 * @return the result, if the path is accepted
 	 */
 	public Optional<PathFinderResult> findAcceptablePath(TrajPath subPath, double initialTimeOffset)
+	{
+		return findAcceptablePath(subPath, initialTimeOffset, Long.MAX_VALUE);
+	}
+
+
+	/**
+	 * Find an acceptable path based on given sub path, but stop searching when the deadline is reached
+	 * or the thread is interrupted, because the search was cancelled.
+	 * A cancelled search does neither draw further paths nor add rejected results.
+	 *
+	 * @param subPath           a path to an intermediate destination
+	 * @param initialTimeOffset the initial time offset to start checking the path
+	 * @param deadline          the {@link System#nanoTime()} after which no more switch times are checked
+	 * @return the result, if the path is accepted
+	 */
+	public Optional<PathFinderResult> findAcceptablePath(TrajPath subPath, double initialTimeOffset, long deadline)
 	{
 		var motionLessSubPathCollisionChecker = PathCollisionChecker.ofPath(
 				subPath, motionLessObstacles, shapeMap, initialTimeOffset
@@ -148,6 +174,11 @@ public class SubPathCollisionChecker
 		     switchTime += stepSizeOnSubPath
 		)
 		{
+			if (System.nanoTime() > deadline || isCancelled())
+			{
+				break;
+			}
+
 			motionLessSubPathCollisionChecker.checkUntil(switchTime);
 			PathCollisionChecker motionLessPathCollisionChecker = motionLessSubPathCollisionChecker.append(
 					moveConstraints,
@@ -155,7 +186,7 @@ public class SubPathCollisionChecker
 					dest
 			);
 
-			if (shapeMap != null)
+			if (shapeMap != null && !isCancelled())
 			{
 				shapeMap.get(EPathFinderShapesLayer.PATHS_CHECKED).add(
 						new DrawablePlanarCurve(motionLessPathCollisionChecker.getPath()).setColor(Color.magenta)
@@ -182,6 +213,10 @@ public class SubPathCollisionChecker
 				{
 					return Optional.of(mergedResult);
 				}
+				if (isCancelled())
+				{
+					break;
+				}
 				rejectedResults.add(mergedResult);
 			}
 
@@ -193,4 +228,10 @@ public class SubPathCollisionChecker
 		}
 		return Optional.empty();
 	}
+
+
+	private static boolean isCancelled()
+	{
+		return Thread.currentThread().isInterrupted();
+	}
 }
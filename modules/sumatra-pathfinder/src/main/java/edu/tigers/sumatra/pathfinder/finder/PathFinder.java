@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2022, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 
 package edu.tigers.sumatra.pathfinder.finder;
@@ -17,31 +17,74 @@ import edu.tigers.sumatra.pathfinder.checker.SubPathCollisionChecker;
 import edu.tigers.sumatra.pathfinder.subdestgen.SubDestGenerator;
 import edu.tigers.sumatra.pathfinder.subdestgen.SubDestRndGenerator;
 import lombok.Setter;
+import lombok.extern.log4j.Log4j2;
 
 import java.awt.Color;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 
+@Log4j2
 public class PathFinder implements IPathFinder
 {
 	private static final double TIME_CORRECTION_RANGE = 0.02;
+	private static final ExecutorService SUB_DEST_EXECUTOR = Executors.newThreadPerTaskExecutor(
+			Thread.ofVirtual().name("PathFinderSubDest-", 0).factory()
+	);
 
 	@Configurable(comment = "The initial offset to start with checking for collisions", defValue = "0.1")
 	private static double initialTimeOffset = 0.1;
 
+	@Configurable(comment = "Check the path of the previous frame before searching for a new one", defValue = "true")
+	private static boolean reusePreviousPath = true;
+
+	@Configurable(comment = "Max distance [mm] of the robot to the previous path to reuse it", defValue = "100.0")
+	private static double maxPreviousPathDeviation = 100.0;
+
+	@Configurable(comment = "Max distance [mm] of the dest to the end of the previous path to reuse it", defValue = "1.0")
+	private static double maxPreviousPathDestDeviation = 1.0;
+
+	@Configurable(comment = "Check all sub destination candidates concurrently", defValue = "false")
+	private static boolean parallelSubDestEvaluation = false;
+
+	@Configurable(comment = "Time budget [ms] for the sub destination search, zero for no limit", defValue = "0.0")
+	private static double subDestSearchTimeBudget = 0.0;
+
 	static
 	{
 		ConfigRegistration.registerClass("sisyphus", PathFinder.class);
 	}
 
-	private final SubDestGenerator subDestinationGenerator = new SubDestRndGenerator();
+	private final SubDestGenerator subDestinationGenerator;
 
 	@Setter
 	private ShapeMap shapeMap;
+	@Setter
+	private PathFinderStats stats = new PathFinderStats();
 
 	private long lastTimestamp;
 	private double timeCorrection;
+	private TrajPath previousPath;
+
+
+	public PathFinder()
+	{
+		this(new SubDestRndGenerator());
+	}
+
+
+	PathFinder(SubDestGenerator subDestinationGenerator)
+	{
+		this.subDestinationGenerator = subDestinationGenerator;
+	}
 
 
 	@Override
@@ -100,45 +143,222 @@ public class PathFinder implements IPathFinder
 
 	private Optional<PathFinderResult> findPath(PathFinderInput input)
 	{
+		stats.called();
+		Optional<TrajPath> relocatedPreviousPath = relocatePreviousPath(input);
+		previousPath = null;
+
 		double timeOffset = initialTimeOffset + timeCorrection;
 		var collisionChecker = SubPathCollisionChecker.of(input, shapeMap);
 
+		// the direct path is always preferred, so it is checked before the previous path
+		stats.pathChecked();
 		Optional<PathFinderResult> validDirectPath = collisionChecker.getAcceptablePath(
 				createPath(input, input.getDest()),
 				timeOffset
 		);
 		if (validDirectPath.isPresent())
 		{
-			return validDirectPath;
+			stats.directPath();
+			return accept(validDirectPath.get());
+		}
+
+		if (relocatedPreviousPath.isPresent())
+		{
+			stats.pathChecked();
+			Optional<PathFinderResult> validPreviousPath = collisionChecker.getAcceptablePath(
+					relocatedPreviousPath.get(),
+					timeOffset
+			);
+			if (validPreviousPath.isPresent())
+			{
+				stats.cacheHit();
+				return accept(validPreviousPath.get());
+			}
+		}
+
+		stats.cacheMiss();
+		Optional<PathFinderResult> searchedPath = searchPath(input, collisionChecker, timeOffset);
+		if (searchedPath.isPresent())
+		{
+			previousPath = searchedPath.get().getTrajectory();
+			return searchedPath;
+		}
+		return collisionChecker.getBestRejectedResult();
+	}
+
+
+	private Optional<PathFinderResult> accept(PathFinderResult result)
+	{
+		previousPath = result.getTrajectory();
+		return Optional.of(result);
+	}
+
+
+	/**
+	 * Move the start of the previous path to the current robot state, if the robot still follows it
+	 * and the destination did not change.
+	 *
+	 * @param input
+	 * @return the previous path starting at the current robot state
+	 */
+	private Optional<TrajPath> relocatePreviousPath(PathFinderInput input)
+	{
+		if (!reusePreviousPath || previousPath == null || previousPath.getChild() == null)
+		{
+			// a path without a child is the direct path, which is checked anyway
+			return Optional.empty();
+		}
+		double dt = (input.getTimestamp() - lastTimestamp) / 1e9;
+		if (dt < 0
+				|| previousPath.getFinalDestination().distanceTo(input.getDest()) > maxPreviousPathDestDeviation
+				|| previousPath.getPositionMM(dt).distanceTo(input.getPos()) > maxPreviousPathDeviation)
+		{
+			return Optional.empty();
 		}
+		return Optional.of(previousPath.relocate(input.getMoveConstraints(), input.getPos(), input.getVel()));
+	}
+
 
+	private Optional<PathFinderResult> searchPath(
+			PathFinderInput input,
+			SubPathCollisionChecker collisionChecker,
+			double timeOffset
+	)
+	{
+		long deadline = subDestSearchTimeBudget > 0
+				? System.nanoTime() + (long) (subDestSearchTimeBudget * 1e6)
+				: Long.MAX_VALUE;
+		if (parallelSubDestEvaluation)
+		{
+			return searchPathParallel(input, collisionChecker, timeOffset, deadline);
+		}
 		int subDestCtr = 0;
 		for (Iterator<IVector2> subDestIterator = subDestinationGenerator.subDestIterator(input);
 		     subDestIterator.hasNext(); )
 		{
-			IVector2 subDest = subDestIterator.next();
-
-			if (shapeMap != null)
+			if (System.nanoTime() > deadline)
 			{
-				shapeMap.get(EPathFinderShapesLayer.SUB_DEST_TRIED)
-						.add(new DrawableCircle(Circle.createCircle(subDest, 30)).setColor(Color.magenta));
-				shapeMap.get(EPathFinderShapesLayer.SUB_DEST_TRIED).add(
-						new DrawableAnnotation(subDest, String.valueOf(subDestCtr))
-								.withCenterHorizontally(true)
-								.withFontHeight(15)
-								.setColor(Color.magenta)
-				);
+				stats.budgetExceeded();
+				break;
 			}
+			IVector2 subDest = subDestIterator.next();
+			drawSubDest(subDest, subDestCtr);
 
 			TrajPath subPath = createPath(input, subDest);
-			Optional<PathFinderResult> validPath = collisionChecker.findAcceptablePath(subPath, timeOffset);
+			stats.pathChecked();
+			Optional<PathFinderResult> validPath = collisionChecker.findAcceptablePath(subPath, timeOffset, deadline);
 			if (validPath.isPresent())
 			{
 				return validPath;
 			}
 			subDestCtr++;
 		}
+		return Optional.empty();
+	}
 
-		return collisionChecker.getBestRejectedResult();
+
+	/**
+	 * Check all sub destination candidates concurrently.
+	 * The first acceptable candidate in the order of the generator is chosen, so that the result does not depend
+	 * on the scheduling. If the deadline is reached, the first acceptable candidate that was completed is chosen.
+	 */
+	private Optional<PathFinderResult> searchPathParallel(
+			PathFinderInput input,
+			SubPathCollisionChecker collisionChecker,
+			double timeOffset,
+			long deadline
+	)
+	{
+		List<IVector2> subDests = new ArrayList<>();
+		subDestinationGenerator.subDestIterator(input).forEachRemaining(subDests::add);
+
+		List<Future<Optional<PathFinderResult>>> futures = new ArrayList<>(subDests.size());
+		for (int i = 0; i < subDests.size(); i++)
+		{
+			IVector2 subDest = subDests.get(i);
+			drawSubDest(subDest, i);
+			TrajPath subPath = createPath(input, subDest);
+			futures.add(SUB_DEST_EXECUTOR.submit(() -> {
+				stats.pathChecked();
+				return collisionChecker.findAcceptablePath(subPath, timeOffset, deadline);
+			}));
+		}
+
+		try
+		{
+			for (int i = 0; i < futures.size(); i++)
+			{
+				Optional<PathFinderResult> validPath = awaitResult(futures.get(i), deadline);
+				if (validPath.isPresent())
+				{
+					subDestinationGenerator.subDestChosen(subDests.get(i));
+					return validPath;
+				}
+			}
+		} catch (TimeoutException e)
+		{
+			stats.budgetExceeded();
+			return firstCompletedResult(futures, subDests);
+		} finally
+		{
+			futures.forEach(f -> f.cancel(true));
+		}
+		return Optional.empty();
+	}
+
+
+	private Optional<PathFinderResult> awaitResult(Future<Optional<PathFinderResult>> future, long deadline)
+			throws TimeoutException
+	{
+		try
+		{
+			if (deadline == Long.MAX_VALUE)
+			{
+				return future.get();
+			}
+			return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+		} catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			return Optional.empty();
+		} catch (ExecutionException e)
+		{
+			log.warn("Failed to check sub destination", e);
+			return Optional.empty();
+		}
+	}
+
+
+	private Optional<PathFinderResult> firstCompletedResult(
+			List<Future<Optional<PathFinderResult>>> futures,
+			List<IVector2> subDests
+	)
+	{
+		for (int i = 0; i < futures.size(); i++)
+		{
+			Future<Optional<PathFinderResult>> future = futures.get(i);
+			if (future.state() == Future.State.SUCCESS && future.resultNow().isPresent())
+			{
+				subDestinationGenerator.subDestChosen(subDests.get(i));
+				return future.resultNow();
+			}
+		}
+		return Optional.empty();
+	}
+
+
+	private void drawSubDest(IVector2 subDest, int subDestCtr)
+	{
+		if (shapeMap != null && shapeMap.isDemanded(EPathFinderShapesLayer.SUB_DEST_TRIED))
+		{
+			shapeMap.get(EPathFinderShapesLayer.SUB_DEST_TRIED)
+					.add(new DrawableCircle(Circle.createCircle(subDest, 30)).setColor(Color.magenta));
+			shapeMap.get(EPathFinderShapesLayer.SUB_DEST_TRIED).add(
+					new DrawableAnnotation(subDest, String.valueOf(subDestCtr))
+							.withCenterHorizontally(true)
+							.withFontHeight(15)
+							.setColor(Color.magenta)
+			);
+		}
 	}
 }
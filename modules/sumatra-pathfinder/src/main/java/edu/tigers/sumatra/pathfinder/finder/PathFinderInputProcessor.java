@@ -10,7 +10,6 @@ import edu.tigers.sumatra.math.AcceptablePosFinder;
 import edu.tigers.sumatra.math.vector.IVector2;
 import edu.tigers.sumatra.pathfinder.obstacles.IObstacle;
 
-import java.awt.Color;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
@@ -74,9 +73,6 @@ public class PathFinderInputProcessor
 			if (!obstacle.isCollidingAt(robotPos) && !obstacle.isCollidingAt(dest))
 			{
 				consideredObstacles.add(obstacle);
-			} else
-			{
-				obstacle.setColor(Color.red);
 			}
 		}
 		return consideredObstacles;
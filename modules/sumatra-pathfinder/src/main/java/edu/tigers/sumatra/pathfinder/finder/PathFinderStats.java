@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.pathfinder.finder;
+
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * Counters of the {@link PathFinder} instances that share this instance, like those of the skills of a team.
+ */
+public class PathFinderStats
+{
+	private final LongAdder numCalls = new LongAdder();
+	private final LongAdder numDirectPaths = new LongAdder();
+	private final LongAdder numCacheHits = new LongAdder();
+	private final LongAdder numCacheMisses = new LongAdder();
+	private final LongAdder numPathChecks = new LongAdder();
+	private final LongAdder numBudgetExceeded = new LongAdder();
+
+
+	void called()
+	{
+		numCalls.increment();
+	}
+
+
+	void directPath()
+	{
+		numDirectPaths.increment();
+	}
+
+
+	void cacheHit()
+	{
+		numCacheHits.increment();
+	}
+
+
+	void cacheMiss()
+	{
+		numCacheMisses.increment();
+	}
+
+
+	void pathChecked()
+	{
+		numPathChecks.increment();
+	}
+
+
+	void budgetExceeded()
+	{
+		numBudgetExceeded.increment();
+	}
+
+
+	/**
+	 * @return the current values of all counters
+	 */
+	public Snapshot snapshot()
+	{
+		return new Snapshot(
+				numCalls.sum(),
+				numDirectPaths.sum(),
+				numCacheHits.sum(),
+				numCacheMisses.sum(),
+				numPathChecks.sum(),
+				numBudgetExceeded.sum()
+		);
+	}
+
+
+	/**
+	 * The values of all counters at some time.
+	 *
+	 * @param numCalls          the number of path calculations
+	 * @param numDirectPaths    the number of path calculations that used the direct path to the destination
+	 * @param numCacheHits      the number of path calculations that could reuse the previous path
+	 * @param numCacheMisses    the number of path calculations that could neither use the direct nor the previous path
+	 * @param numPathChecks     the number of paths that were checked for collisions
+	 * @param numBudgetExceeded the number of path searches that were stopped by the time budget
+	 */
+	public record Snapshot(
+			long numCalls,
+			long numDirectPaths,
+			long numCacheHits,
+			long numCacheMisses,
+			long numPathChecks,
+			long numBudgetExceeded
+	)
+	{
+		/**
+		 * @param previous an earlier snapshot of the same stats
+		 * @return the counts since the earlier snapshot
+		 */
+		public Snapshot since(Snapshot previous)
+		{
+			return new Snapshot(
+					numCalls - previous.numCalls,
+					numDirectPaths - previous.numDirectPaths,
+					numCacheHits - previous.numCacheHits,
+					numCacheMisses - previous.numCacheMisses,
+					numPathChecks - previous.numPathChecks,
+					numBudgetExceeded - previous.numBudgetExceeded
+			);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2022, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 package edu.tigers.sumatra.pathfinder.finder;
 
@@ -8,6 +8,7 @@ import edu.tigers.sumatra.bot.IMoveConstraints;
 import edu.tigers.sumatra.math.vector.IVector2;
 import edu.tigers.sumatra.math.vector.Vector2;
 import edu.tigers.sumatra.pathfinder.TrajectoryGenerator;
+import edu.tigers.sumatra.trajectory.IPrimitiveTrajectory;
 import edu.tigers.sumatra.trajectory.ITrajectory;
 import edu.tigers.sumatra.trajectory.StubTrajectory;
 import lombok.Getter;
@@ -22,7 +23,7 @@ import java.util.stream.Stream;
  */
 @Getter
 @Persistent
-public class TrajPath implements ITrajectory<IVector2>
+public class TrajPath implements ITrajectory<IVector2>, IPrimitiveTrajectory
 {
 	private final ITrajectory<IVector2> trajectory;
 	private final double tEnd;
@@ -227,6 +228,29 @@ public class TrajPath implements ITrajectory<IVector2>
 	}
 
 
+	@Override
+	public int getNumDimensions()
+	{
+		return 2;
+	}
+
+
+	@Override
+	public void fillValuesAtTime(final double t, final double[] values)
+	{
+		if (t <= tEnd)
+		{
+			IPrimitiveTrajectory.fillValuesAtTime(trajectory, t, values);
+		} else if (child != null)
+		{
+			child.fillValuesAtTime(t - tEnd, values);
+		} else
+		{
+			IPrimitiveTrajectory.fillValuesAtTime(trajectory, tEnd, values);
+		}
+	}
+
+
 	@Override
 	public double getTotalTime()
 	{
@@ -31,7 +31,7 @@ public abstract class AObstacle implements IObstacle
 	@Accessors(chain = true)
 	private boolean useDynamicMargin = true;
 
-	private List<IDrawableShape> shapes;
+	private volatile List<IDrawableShape> shapes;
 
 
 	protected List<IDrawableShape> initializeShapes()
@@ -43,15 +43,23 @@ public abstract class AObstacle implements IObstacle
 	@Override
 	public final List<IDrawableShape> getShapes()
 	{
-		if (shapes == null)
+		List<IDrawableShape> currentShapes = shapes;
+		if (currentShapes == null)
 		{
-			shapes = initializeShapes();
-			if (color != null)
-			{
-				shapes.forEach(s -> s.setColor(color));
-			}
+			// obstacles may be shared between threads, but initializing the shapes twice is harmless
+			currentShapes = color == null ? initializeShapes() : getShapes(color);
+			shapes = currentShapes;
 		}
-		return shapes;
+		return currentShapes;
+	}
+
+
+	@Override
+	public final List<IDrawableShape> getShapes(Color color)
+	{
+		List<IDrawableShape> coloredShapes = initializeShapes();
+		coloredShapes.forEach(s -> s.setColor(color));
+		return coloredShapes;
 	}
 
 
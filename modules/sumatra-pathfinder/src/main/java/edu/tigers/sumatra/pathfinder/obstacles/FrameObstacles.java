@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.pathfinder.obstacles;
+
+import edu.tigers.sumatra.ids.BotID;
+import edu.tigers.sumatra.pathfinder.EObstacleAvoidanceMode;
+import edu.tigers.sumatra.referee.data.GameState;
+import edu.tigers.sumatra.wp.data.WorldFrame;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * The robot independent obstacles of a single frame.
+ * The obstacles are created lazily on first request and can then be shared between all robots of a team
+ * (see {@link FrameObstaclesCache}), so that each skill only has to add its robot specific obstacles.
+ * Shared obstacles must not be modified.
+ */
+public final class FrameObstacles
+{
+	private final WorldFrame wFrame;
+	private final GameState gameState;
+
+	private IObstacle fieldBorder;
+	private List<IObstacle> goalPosts;
+	private IObstacle penaltyAreaOur;
+	private IObstacle penaltyAreaTheir;
+	private List<IObstacle> gameStateObstacles;
+	private final Map<EObstacleAvoidanceMode, Map<BotID, IObstacle>> opponents =
+			new EnumMap<>(EObstacleAvoidanceMode.class);
+	private final Map<Double, IObstacle> balls = new HashMap<>();
+
+
+	FrameObstacles(WorldFrame wFrame, GameState gameState)
+	{
+		this.wFrame = wFrame;
+		this.gameState = gameState;
+	}
+
+
+	boolean isFor(WorldFrame otherFrame, GameState otherGameState)
+	{
+		// world frames are created once per team and frame, so all skills of a frame share the same instance
+		return wFrame == otherFrame && gameState.equals(otherGameState);
+	}
+
+
+	public synchronized IObstacle getFieldBorder()
+	{
+		if (fieldBorder == null)
+		{
+			fieldBorder = ObstacleGenerator.fieldBorderObstacle();
+		}
+		return fieldBorder;
+	}
+
+
+	public synchronized List<IObstacle> getGoalPosts()
+	{
+		if (goalPosts == null)
+		{
+			goalPosts = Collections.unmodifiableList(ObstacleGenerator.createGoalPosts());
+		}
+		return goalPosts;
+	}
+
+
+	public synchronized IObstacle getPenaltyAreaOur()
+	{
+		if (penaltyAreaOur == null)
+		{
+			penaltyAreaOur = ObstacleGenerator.penaltyAreaOurObstacle();
+		}
+		return penaltyAreaOur;
+	}
+
+
+	public synchronized IObstacle getPenaltyAreaTheir()
+	{
+		if (penaltyAreaTheir == null)
+		{
+			penaltyAreaTheir = ObstacleGenerator.penaltyAreaTheirObstacle(gameState);
+		}
+		return penaltyAreaTheir;
+	}
+
+
+	public synchronized List<IObstacle> getGameStateObstacles()
+	{
+		if (gameStateObstacles == null)
+		{
+			gameStateObstacles = Collections.unmodifiableList(
+					ObstacleGenerator.generateGameStateObstacles(wFrame, gameState));
+		}
+		return gameStateObstacles;
+	}
+
+
+	/**
+	 * @param mode the obstacle avoidance mode
+	 * @return the obstacles of all opponent robots, in the order of the world frame
+	 */
+	public synchronized Map<BotID, IObstacle> getOpponents(EObstacleAvoidanceMode mode)
+	{
+		return opponents.computeIfAbsent(mode, this::createOpponents);
+	}
+
+
+	private Map<BotID, IObstacle> createOpponents(EObstacleAvoidanceMode mode)
+	{
+		Map<BotID, IObstacle> obstacles = new LinkedHashMap<>();
+		wFrame.getOpponentBots().values()
+				.forEach(tBot -> obstacles.put(tBot.getBotId(), ObstacleGenerator.opponentObstacle(tBot, mode)));
+		return Collections.unmodifiableMap(obstacles);
+	}
+
+
+	/**
+	 * @param distanceToBall the security distance to the ball [mm], in addition to the ball and bot radius
+	 * @return the ball obstacle
+	 */
+	public synchronized IObstacle getBall(double distanceToBall)
+	{
+		return balls.computeIfAbsent(distanceToBall, d -> ObstacleGenerator.ballObstacle(wFrame, d));
+	}
+}
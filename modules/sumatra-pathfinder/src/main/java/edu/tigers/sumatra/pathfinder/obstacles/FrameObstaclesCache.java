@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.pathfinder.obstacles;
+
+import edu.tigers.sumatra.ids.ETeamColor;
+import edu.tigers.sumatra.referee.data.GameState;
+import edu.tigers.sumatra.wp.data.WorldFrame;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+/**
+ * Keeps the {@link FrameObstacles} of the latest frame of each team, so that they can be shared between
+ * all obstacle generators of one owner, like a skill system. Instances are thread-safe.
+ */
+public class FrameObstaclesCache
+{
+	private final Map<ETeamColor, FrameObstacles> latest = new ConcurrentHashMap<>();
+
+
+	/**
+	 * Get the shared obstacles for the given frame. A new instance is created, if the world frame or
+	 * the game state changed since the last call for the same team.
+	 *
+	 * @param wFrame    the current world frame
+	 * @param gameState the current game state
+	 * @return the obstacles of this frame
+	 */
+	public FrameObstacles get(WorldFrame wFrame, GameState gameState)
+	{
+		return latest.compute(wFrame.getTeamColor(), (color, frameObstacles) ->
+				frameObstacles != null && frameObstacles.isFor(wFrame, gameState)
+						? frameObstacles
+						: new FrameObstacles(wFrame, gameState));
+	}
+}
@@ -57,6 +57,14 @@ public interface IObstacle
 	 */
 	List<IDrawableShape> getShapes();
 
+	/**
+	 * Create new shapes in the given color, e.g. to highlight the obstacle without changing it.
+	 *
+	 * @param color the color of the shapes
+	 * @return list of new shapes to visualize obstacle
+	 */
+	List<IDrawableShape> getShapes(Color color);
+
 	/**
 	 * @return the max speed of this obstacle that it could currently reach
 	 */
@@ -81,6 +89,7 @@ public interface IObstacle
 
 	/**
 	 * Change the color of the obstacle for visualization purposes.
+	 * Obstacles may be shared between robots, so this must only be called before the obstacle is published.
 	 *
 	 * @param color new color
 	 */
@@ -54,6 +54,13 @@ public class LimitedTimeObstacle implements IObstacle
 	}
 
 
+	@Override
+	public List<IDrawableShape> getShapes(Color color)
+	{
+		return obstacle.getShapes(color);
+	}
+
+
 	@Override
 	public double getMaxSpeed()
 	{
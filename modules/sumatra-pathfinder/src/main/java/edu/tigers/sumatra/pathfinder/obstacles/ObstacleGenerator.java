@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2023, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 
 package edu.tigers.sumatra.pathfinder.obstacles;
@@ -20,9 +20,11 @@ import edu.tigers.sumatra.pathfinder.IMovementCon;
 import edu.tigers.sumatra.referee.data.GameState;
 import edu.tigers.sumatra.wp.data.ITrackedBot;
 import edu.tigers.sumatra.wp.data.WorldFrame;
+import lombok.Setter;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 
@@ -64,11 +66,17 @@ public class ObstacleGenerator
 	@Configurable(defValue = "true", comment = "Use tube for movingRobot obstacle")
 	private static boolean useTubeForMovingRobot = true;
 
+	@Configurable(defValue = "true", comment = "Share the robot independent obstacles of a frame between all robots")
+	private static boolean shareFrameObstacles = true;
+
 
 	private IMovementCon moveCon;
 
-	private final List<IObstacle> obsGoalPostOur = new ArrayList<>();
-	private final List<IObstacle> obsGoalPostTheir = new ArrayList<>();
+	/**
+	 * The cache to share the robot independent obstacles with other generators. Without a cache, they are not shared.
+	 */
+	@Setter
+	private FrameObstaclesCache frameObstaclesCache;
 
 	static
 	{
@@ -79,12 +87,19 @@ public class ObstacleGenerator
 	public ObstacleGenerator(final IMovementCon moveCon)
 	{
 		this.moveCon = moveCon;
-		createGoalPostOur();
-		createGoalPostTheir();
 	}
 
 
-	private void createGoalPostOur()
+	static List<IObstacle> createGoalPosts()
+	{
+		List<IObstacle> obstacles = new ArrayList<>();
+		createGoalPostOur(obstacles);
+		createGoalPostTheir(obstacles);
+		return obstacles;
+	}
+
+
+	private static void createGoalPostOur(List<IObstacle> obsGoalPostOur)
 	{
 		IVector2 gpl = Geometry.getGoalOur().getLeftPost();
 		IVector2 gplb = gpl.addNew(Vector2.fromXY(-Geometry.getGoalOur().getDepth(), 0));
@@ -96,7 +111,7 @@ public class ObstacleGenerator
 	}
 
 
-	private void createGoalPostTheir()
+	private static void createGoalPostTheir(List<IObstacle> obsGoalPostTheir)
 	{
 		IVector2 gpl = Geometry.getGoalTheir().getLeftPost();
 		IVector2 gplb = gpl.addNew(Vector2.fromXY(Geometry.getGoalTheir().getDepth(), 0));
@@ -156,27 +171,27 @@ public class ObstacleGenerator
 	}
 
 
-	private List<IObstacle> genTheirBots(WorldFrame wFrame)
+	private List<IObstacle> genTheirBots(FrameObstacles frameObstacles)
 	{
-		return wFrame.getOpponentBots().values().stream()
-				.filter(tBot -> !moveCon.getIgnoredBots().contains(tBot.getBotId()))
-				.map(this::opponentObstacle)
-				.map(o -> (IObstacle) new LimitedTimeObstacle(o, opponentBotTimeHorizon))
+		return frameObstacles.getOpponents(moveCon.getObstacleAvoidanceMode()).entrySet().stream()
+				.filter(e -> !moveCon.getIgnoredBots().contains(e.getKey()))
+				.map(Map.Entry::getValue)
 				.toList();
 	}
 
 
-	private IObstacle opponentObstacle(ITrackedBot tBot)
+	static IObstacle opponentObstacle(ITrackedBot tBot, EObstacleAvoidanceMode obstacleAvoidanceMode)
 	{
-		return switch (moveCon.getObstacleAvoidanceMode())
+		var obstacle = switch (obstacleAvoidanceMode)
 		{
 			case NORMAL -> movingRobotObstacle(tBot);
 			case AGGRESSIVE -> constVelocityObstacle(tBot);
 		};
+		return new LimitedTimeObstacle(obstacle, opponentBotTimeHorizon);
 	}
 
 
-	private IObstacle movingRobotObstacle(ITrackedBot tBot)
+	private static IObstacle movingRobotObstacle(ITrackedBot tBot)
 	{
 		IMovingRobot movingRobot = movingRobot(tBot);
 		if (useTubeForMovingRobot)
@@ -191,7 +206,7 @@ public class ObstacleGenerator
 	}
 
 
-	private IObstacle constVelocityObstacle(ITrackedBot tBot)
+	private static IObstacle constVelocityObstacle(ITrackedBot tBot)
 	{
 		return new ConstVelocityObstacle(
 				tBot.getPos(),
@@ -205,7 +220,7 @@ public class ObstacleGenerator
 	}
 
 
-	private IMovingRobot movingRobot(ITrackedBot tBot)
+	private static IMovingRobot movingRobot(ITrackedBot tBot)
 	{
 		double speed = tBot.getVel().getLength2();
 		return AcceleratingRobotFactory.create(
@@ -232,7 +247,10 @@ public class ObstacleGenerator
 			final BotID forBotId,
 			final GameState gameState)
 	{
-		List<IObstacle> obstacles = generateStaticObstacles(gameState);
+		FrameObstacles frameObstacles = shareFrameObstacles && frameObstaclesCache != null
+				? frameObstaclesCache.get(wFrame, gameState)
+				: new FrameObstacles(wFrame, gameState);
+		List<IObstacle> obstacles = generateStaticObstacles(frameObstacles);
 
 		if (moveCon.isOurBotsObstacle())
 		{
@@ -241,21 +259,18 @@ public class ObstacleGenerator
 
 		if (moveCon.isTheirBotsObstacle())
 		{
-			obstacles.addAll(genTheirBots(wFrame));
+			obstacles.addAll(genTheirBots(frameObstacles));
 		}
 
 		if (moveCon.isBallObstacle())
 		{
 			double distanceToBall = Optional.ofNullable(moveCon.getDistanceToBall()).orElse(defaultDistanceToBall);
-			obstacles.add(new SimpleTimeAwareBallObstacle(
-					wFrame.getBall().getTrajectory(),
-					Geometry.getBallRadius() + Geometry.getBotRadius() + distanceToBall
-			).setOrderId(IObstacle.BALL_ORDER_ID));
+			obstacles.add(frameObstacles.getBall(distanceToBall));
 		}
 
 		if (moveCon.isGameStateObstacle())
 		{
-			obstacles.addAll(generateGameStateObstacles(wFrame, gameState));
+			obstacles.addAll(frameObstacles.getGameStateObstacles());
 		}
 
 		obstacles.addAll(moveCon.getCustomObstacles());
@@ -264,13 +279,22 @@ public class ObstacleGenerator
 	}
 
 
-	private double getEffectiveBotToBallDistanceOnStop()
+	static IObstacle ballObstacle(WorldFrame wFrame, double distanceToBall)
+	{
+		return new SimpleTimeAwareBallObstacle(
+				wFrame.getBall().getTrajectory(),
+				Geometry.getBallRadius() + Geometry.getBotRadius() + distanceToBall
+		).setOrderId(IObstacle.BALL_ORDER_ID);
+	}
+
+
+	private static double getEffectiveBotToBallDistanceOnStop()
 	{
 		return RuleConstraints.getStopRadius() + Geometry.getBotRadius();
 	}
 
 
-	private List<IObstacle> generateGameStateObstacles(WorldFrame wFrame, GameState gameState)
+	static List<IObstacle> generateGameStateObstacles(WorldFrame wFrame, GameState gameState)
 	{
 		List<IObstacle> obs = new ArrayList<>();
 
@@ -293,7 +317,7 @@ public class ObstacleGenerator
 	}
 
 
-	private IObstacle createBallPlacementPassObstacle(
+	private static IObstacle createBallPlacementPassObstacle(
 			IVector2 ballPos,
 			IVector2 placementPos
 	)
@@ -312,36 +336,51 @@ public class ObstacleGenerator
 	}
 
 
-	private List<IObstacle> generateStaticObstacles(GameState gameState)
+	private List<IObstacle> generateStaticObstacles(FrameObstacles frameObstacles)
 	{
 		List<IObstacle> obstacles = new ArrayList<>();
 
 		if (moveCon.isFieldBorderObstacle())
 		{
-			IRectangle rect = Geometry.getFieldWBorders().withMargin(-Geometry.getBotRadius());
-			obstacles.add(new FieldBorderObstacle(rect));
+			obstacles.add(frameObstacles.getFieldBorder());
 		}
 
 		if (moveCon.isGoalPostsObstacle())
 		{
-			obstacles.addAll(obsGoalPostOur);
-			obstacles.addAll(obsGoalPostTheir);
+			obstacles.addAll(frameObstacles.getGoalPosts());
 		}
 		if (moveCon.isPenaltyAreaOurObstacle())
 		{
-			obstacles.add(new PenaltyAreaObstacle(Geometry.getPenaltyAreaOur().withMargin(Geometry.getBotRadius())));
+			obstacles.add(frameObstacles.getPenaltyAreaOur());
 		}
 		if (moveCon.isPenaltyAreaTheirObstacle())
 		{
-			obstacles.add(new PenaltyAreaObstacle(
-					Geometry.getPenaltyAreaTheir().withMargin(getMarginToPenArea(gameState))
-			));
+			obstacles.add(frameObstacles.getPenaltyAreaTheir());
 		}
 		return obstacles;
 	}
 
 
-	private double getMarginToPenArea(GameState gameState)
+	static IObstacle fieldBorderObstacle()
+	{
+		IRectangle rect = Geometry.getFieldWBorders().withMargin(-Geometry.getBotRadius());
+		return new FieldBorderObstacle(rect);
+	}
+
+
+	static IObstacle penaltyAreaOurObstacle()
+	{
+		return new PenaltyAreaObstacle(Geometry.getPenaltyAreaOur().withMargin(Geometry.getBotRadius()));
+	}
+
+
+	static IObstacle penaltyAreaTheirObstacle(GameState gameState)
+	{
+		return new PenaltyAreaObstacle(Geometry.getPenaltyAreaTheir().withMargin(getMarginToPenArea(gameState)));
+	}
+
+
+	private static double getMarginToPenArea(GameState gameState)
 	{
 		if (gameState.isStandardSituation() || gameState.isStoppedGame() || gameState.isBallPlacement())
 		{
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.pathfinder.obstacles.input;
+
+import edu.tigers.sumatra.math.vector.IVector2;
+import edu.tigers.sumatra.math.vector.Vector2;
+import edu.tigers.sumatra.trajectory.IPrimitiveTrajectory;
+import lombok.RequiredArgsConstructor;
+
+
+/**
+ * Collision input that evaluates a trajectory into reused buffers.
+ * The returned vectors are only valid until the next call of {@link #update(double)}, so they must be copied
+ * if they are kept.
+ */
+@RequiredArgsConstructor
+public class CollisionInputBuffer implements CollisionInput
+{
+	private final IPrimitiveTrajectory trajectory;
+
+	private final double[] values = new double[6];
+	private final Vector2 robotPos = Vector2.zero();
+	private final Vector2 robotVel = Vector2.zero();
+	private final Vector2 robotAcc = Vector2.zero();
+	private double timeOffset;
+	private Boolean accelerating;
+	private double extraMargin;
+
+
+	/**
+	 * Evaluate the trajectory at the given time offset
+	 *
+	 * @param timeOffset the time offset on the trajectory [s]
+	 * @return this for chaining
+	 */
+	public CollisionInputBuffer update(double timeOffset)
+	{
+		this.timeOffset = timeOffset;
+		trajectory.fillValuesAtTime(timeOffset, values);
+		robotPos.setX(values[0] * 1000).setY(values[1] * 1000);
+		robotVel.setX(values[2]).setY(values[3]);
+		robotAcc.setX(values[4]).setY(values[5]);
+		accelerating = null;
+		extraMargin = Double.NaN;
+		return this;
+	}
+
+
+	@Override
+	public boolean accelerating()
+	{
+		if (accelerating == null)
+		{
+			accelerating = CollisionInput.super.accelerating();
+		}
+		return accelerating;
+	}
+
+
+	@Override
+	public IVector2 getRobotPos()
+	{
+		return robotPos;
+	}
+
+
+	@Override
+	public IVector2 getRobotVel()
+	{
+		return robotVel;
+	}
+
+
+	@Override
+	public IVector2 getRobotAcc()
+	{
+		return robotAcc;
+	}
+
+
+	@Override
+	public double getTimeOffset()
+	{
+		return timeOffset;
+	}
+
+
+	@Override
+	public double getExtraMargin()
+	{
+		if (Double.isNaN(extraMargin))
+		{
+			extraMargin = CollisionInput.super.getExtraMargin();
+		}
+		return extraMargin;
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2022, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 
 package edu.tigers.sumatra.pathfinder.subdestgen;
@@ -13,4 +13,15 @@ import java.util.Iterator;
 public interface SubDestGenerator
 {
 	Iterator<IVector2> subDestIterator(PathFinderInput input);
+
+
+	/**
+	 * Notify the generator about the sub destination that was finally chosen.
+	 * This is required, if the candidates are not consumed one by one until an acceptable one is found.
+	 *
+	 * @param subDest a sub destination of the last iterator
+	 */
+	default void subDestChosen(IVector2 subDest)
+	{
+	}
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2022, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 
 package edu.tigers.sumatra.pathfinder.subdestgen;
@@ -13,8 +13,10 @@ import lombok.RequiredArgsConstructor;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Random;
 
@@ -28,6 +30,7 @@ public class SubDestRndGenerator implements SubDestGenerator
 	private static final int NUM_SUB_DESTINATIONS = 5;
 
 	private final Random rnd = new Random();
+	private final Map<IVector2, IVector2> normalizedSubDests = new IdentityHashMap<>();
 	private IVector2 lastNormalizedSubDest;
 
 
@@ -58,10 +61,22 @@ public class SubDestRndGenerator implements SubDestGenerator
 		double startToDestDist = startToDest.getLength2();
 		double startToDestDir = startToDest.getAngle();
 		List<IVector2> subDestNormalized = generateNormalizedSubDestinations();
+		normalizedSubDests.clear();
 		return new SubDestIterator(input.getPos(), startToDestDist, startToDestDir, subDestNormalized.iterator());
 	}
 
 
+	@Override
+	public void subDestChosen(IVector2 subDest)
+	{
+		IVector2 normalizedSubDest = normalizedSubDests.get(subDest);
+		if (normalizedSubDest != null)
+		{
+			lastNormalizedSubDest = normalizedSubDest;
+		}
+	}
+
+
 	@RequiredArgsConstructor
 	private class SubDestIterator implements Iterator<IVector2>
 	{
@@ -89,7 +104,9 @@ public class SubDestRndGenerator implements SubDestGenerator
 
 			IVector2 next = iterator.next();
 			lastNormalizedSubDest = next;
-			return next.turnNew(startToDestDir).multiply(startToDestDist).add(start);
+			IVector2 subDest = next.turnNew(startToDestDir).multiply(startToDestDist).add(start);
+			normalizedSubDests.put(subDest, next);
+			return subDest;
 		}
 	}
 }
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.pathfinder.finder
+
+import edu.tigers.sumatra.bot.MoveConstraints
+import edu.tigers.sumatra.math.circle.Circle
+import edu.tigers.sumatra.math.vector.IVector2
+import edu.tigers.sumatra.math.vector.Vector2
+import edu.tigers.sumatra.pathfinder.obstacles.GenericCircleObstacle
+import edu.tigers.sumatra.pathfinder.obstacles.IObstacle
+import spock.lang.Specification
+import spock.lang.Subject
+
+class PathFinderSpec extends Specification {
+
+    static final long T_START = 1_000_000_000L
+    static final long DT = 20_000_000L
+    static final IVector2 START = Vector2.zero()
+    static final IVector2 DEST = Vector2.fromX(2000)
+    static final IVector2 OBSTACLE_CENTER = Vector2.fromX(1000)
+    static final List<IObstacle> OBSTACLES = obstacle(200)
+    // still blocks the direct path, but leaves some margin to the path that avoided the larger obstacle
+    static final List<IObstacle> SMALLER_OBSTACLES = obstacle(100)
+
+    MoveConstraints moveConstraints = new MoveConstraints()
+            .setVelMax(2)
+            .setAccMax(3)
+            .setJerkMax(30)
+
+    PathFinderStats stats = new PathFinderStats()
+
+    @Subject
+    PathFinder pathFinder = new PathFinder()
+
+    TrajPath initialPath
+
+    def setup() {
+        moveConstraints.setBrkMax(3)
+        pathFinder.setStats(stats)
+        initialPath = pathFinder.calcPath(input(T_START, START, Vector2.zero(), DEST, OBSTACLES))
+                .orElseThrow()
+                .getTrajectory()
+    }
+
+    def "Initial path avoids the obstacle with a sub destination"() {
+        expect:
+        initialPath.getChild() != null
+        stats.snapshot().numCalls() == 1
+        stats.snapshot().numCacheMisses() == 1
+    }
+
+    def "Direct path is no cache hit"() {
+        given:
+        def before = stats.snapshot()
+
+        when:
+        calcNextPath(0, DEST, [])
+        def counts = stats.snapshot().since(before)
+
+        then:
+        counts.numDirectPaths() == 1
+        counts.numCacheHits() == 0
+        counts.numCacheMisses() == 0
+    }
+
+    def "Previous path is relocated to the current robot state"() {
+        given:
+        def before = stats.snapshot()
+        def pos = initialPath.getPositionMM(DT / 1e9)
+
+        when:
+        def path = calcNextPath(0, DEST, SMALLER_OBSTACLES)
+
+        then:
+        stats.snapshot().since(before).numCacheHits() == 1
+        path.getPositionMM(0).distanceTo(pos) < 1e-3
+        path.getChild() != null
+        path.getChild().getFinalDestination() == initialPath.getChild().getFinalDestination()
+        path.getFinalDestination() == DEST
+    }
+
+    def "Previous path is reused with a position deviation of #posDeviation mm and dest #dest: #expectedHit"() {
+        given:
+        def before = stats.snapshot()
+
+        when:
+        calcNextPath(posDeviation, dest, SMALLER_OBSTACLES)
+        def counts = stats.snapshot().since(before)
+
+        then:
+        counts.numCacheHits() == (expectedHit ? 1 : 0)
+        counts.numCacheMisses() == (expectedHit ? 0 : 1)
+
+        where:
+        posDeviation | dest                            || expectedHit
+        50           | DEST                            || true
+        150          | DEST                            || false
+        0            | DEST.addNew(Vector2.fromY(0.5)) || true
+        0            | DEST.addNew(Vector2.fromY(2))   || false
+    }
+
+    def "Stats are not shared between path finders"() {
+        given:
+        def otherStats = new PathFinderStats()
+        def otherPathFinder = new PathFinder()
+        otherPathFinder.setStats(otherStats)
+
+        when:
+        otherPathFinder.calcPath(input(T_START, START, Vector2.zero(), DEST, []))
+
+        then:
+        otherStats.snapshot().numCalls() == 1
+        stats.snapshot().numCalls() == 1
+    }
+
+    /**
+     * Calculate the path of the next frame, with the robot following the initial path, but deviating from it
+     * away from the obstacle.
+     */
+    private TrajPath calcNextPath(double posDeviation, IVector2 dest, List<IObstacle> obstacles) {
+        double t = DT / 1e9
+        IVector2 expectedPos = initialPath.getPositionMM(t)
+        IVector2 pos = expectedPos.addNew(expectedPos.subtractNew(OBSTACLE_CENTER).scaleToNew(posDeviation))
+        def input = input(T_START + DT, pos, initialPath.getVelocity(t), dest, obstacles)
+        return pathFinder.calcPath(input).orElseThrow().getTrajectory()
+    }
+
+    private static List<IObstacle> obstacle(double radius) {
+        return [new GenericCircleObstacle("test", Circle.createCircle(OBSTACLE_CENTER, radius))]
+    }
+
+    private PathFinderInput input(long timestamp, IVector2 pos, IVector2 vel, IVector2 dest,
+                                  List<IObstacle> obstacles) {
+        return PathFinderInput.builder()
+                .timestamp(timestamp)
+                .moveConstraints(moveConstraints)
+                .pos(pos)
+                .vel(vel)
+                .dest(dest)
+                .obstacles(obstacles)
+                .build()
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.pathfinder.finder
+
+import edu.tigers.sumatra.bot.MoveConstraints
+import edu.tigers.sumatra.math.circle.Circle
+import edu.tigers.sumatra.math.circle.ICircle
+import edu.tigers.sumatra.math.vector.IVector2
+import edu.tigers.sumatra.math.vector.Vector2
+import edu.tigers.sumatra.pathfinder.checker.SubPathCollisionChecker
+import edu.tigers.sumatra.pathfinder.obstacles.GenericCircleObstacle
+import edu.tigers.sumatra.pathfinder.obstacles.IObstacle
+import edu.tigers.sumatra.pathfinder.obstacles.input.CollisionInput
+import edu.tigers.sumatra.pathfinder.subdestgen.SubDestGenerator
+import edu.tigers.sumatra.pathfinder.subdestgen.SubDestRndGenerator
+import spock.lang.Specification
+
+class PathFinderSubDestSearchSpec extends Specification {
+
+    static final IVector2 START = Vector2.zero()
+    static final IVector2 DEST = Vector2.fromX(2000)
+    static final IObstacle OBSTACLE = new GenericCircleObstacle("test", Circle.createCircle(Vector2.fromX(1000), 200))
+    static final List<IVector2> SUB_DESTS = [
+            Vector2.fromXY(1000, 0),
+            Vector2.fromXY(1000, 800),
+            Vector2.fromXY(1000, -800),
+    ]
+
+    MoveConstraints moveConstraints = new MoveConstraints()
+            .setVelMax(2)
+            .setAccMax(3)
+            .setJerkMax(30)
+
+    boolean parallelSubDestEvaluation = PathFinder.parallelSubDestEvaluation
+    double subDestSearchTimeBudget = PathFinder.subDestSearchTimeBudget
+
+    def setup() {
+        moveConstraints.setBrkMax(3)
+    }
+
+    def cleanup() {
+        PathFinder.parallelSubDestEvaluation = parallelSubDestEvaluation
+        PathFinder.subDestSearchTimeBudget = subDestSearchTimeBudget
+    }
+
+    def "Parallel and sequential search choose the same sub destination"() {
+        given:
+        def generator = new FixedSubDestGenerator(SUB_DESTS)
+
+        when:
+        PathFinder.parallelSubDestEvaluation = false
+        def sequentialPath = new PathFinder(generator).calcPath(input([OBSTACLE])).orElseThrow().getTrajectory()
+        PathFinder.parallelSubDestEvaluation = true
+        def parallelPath = new PathFinder(generator).calcPath(input([OBSTACLE])).orElseThrow().getTrajectory()
+
+        then:
+        sequentialPath.getNextDestination(0) == SUB_DESTS[1]
+        parallelPath.getNextDestination(0) == SUB_DESTS[1]
+        parallelPath.getFinalDestination() == DEST
+        generator.chosen == [SUB_DESTS[1]]
+    }
+
+    def "Parallel search keeps the chosen sub destination of the random generator"() {
+        given:
+        PathFinder.parallelSubDestEvaluation = true
+        def generator = new SubDestRndGenerator()
+        def input = input([OBSTACLE])
+
+        expect:
+        (1..20).every {
+            def subDest = new PathFinder(generator).calcPath(input).orElseThrow().getTrajectory().getNextDestination(0)
+            def nextSubDests = []
+            generator.subDestIterator(input).forEachRemaining(nextSubDests::add)
+            nextSubDests.contains(subDest)
+        }
+    }
+
+    def "Search returns the rejected direct path when the budget is exceeded (parallel: #parallel)"() {
+        given:
+        PathFinder.parallelSubDestEvaluation = parallel
+        PathFinder.subDestSearchTimeBudget = 1e-6
+        def blockingObstacle = new PriorityObstacle(Circle.createCircle(Vector2.fromX(1000), 200))
+
+        when:
+        def result = new PathFinder(new FixedSubDestGenerator(SUB_DESTS)).calcPath(input([blockingObstacle]))
+
+        then:
+        result.isPresent()
+        !result.get().isCollisionFree()
+        result.get().getTrajectory().getChild() == null
+        result.get().getTrajectory().getFinalDestination() == DEST
+
+        where:
+        parallel << [false, true]
+    }
+
+    def "Parallel search returns the first completed sub path when the budget is exceeded"() {
+        given:
+        PathFinder.parallelSubDestEvaluation = true
+        PathFinder.subDestSearchTimeBudget = 500
+        def stats = new PathFinderStats()
+        def pathFinder = new PathFinder(new FixedSubDestGenerator([SUB_DESTS[1], SUB_DESTS[2]]))
+        pathFinder.setStats(stats)
+
+        when:
+        def path = pathFinder.calcPath(input([OBSTACLE, new SlowObstacle()])).orElseThrow().getTrajectory()
+
+        then:
+        path.getNextDestination(0) == SUB_DESTS[2]
+        stats.snapshot().numBudgetExceeded() == 1
+    }
+
+    def "Cancelled sub path search does not add rejected results"() {
+        given:
+        def input = input([new PriorityObstacle(Circle.createCircle(Vector2.fromX(1000), 200))])
+        def checker = SubPathCollisionChecker.of(input, null)
+        def cancelledChecker = SubPathCollisionChecker.of(input, null)
+        def subPath = TrajPath.with(moveConstraints, START, Vector2.zero(), SUB_DESTS[0])
+
+        when:
+        def result = checker.findAcceptablePath(subPath, 0.1)
+        Thread.currentThread().interrupt()
+        def cancelledResult = cancelledChecker.findAcceptablePath(subPath, 0.1)
+        boolean interrupted = Thread.interrupted()
+
+        then:
+        result.isEmpty()
+        checker.getBestRejectedResult().isPresent()
+        interrupted
+        cancelledResult.isEmpty()
+        cancelledChecker.getBestRejectedResult().isEmpty()
+    }
+
+    private PathFinderInput input(List<IObstacle> obstacles) {
+        return PathFinderInput.builder()
+                .timestamp(0)
+                .moveConstraints(moveConstraints)
+                .pos(START)
+                .vel(Vector2.zero())
+                .dest(DEST)
+                .obstacles(obstacles)
+                .build()
+    }
+
+    static class FixedSubDestGenerator implements SubDestGenerator {
+        final List<IVector2> subDests
+        final List<IVector2> chosen = []
+
+        FixedSubDestGenerator(List<IVector2> subDests) {
+            this.subDests = subDests
+        }
+
+        @Override
+        Iterator<IVector2> subDestIterator(PathFinderInput input) {
+            return subDests.iterator()
+        }
+
+        @Override
+        void subDestChosen(IVector2 subDest) {
+            chosen << subDest
+        }
+    }
+
+    /**
+     * A moving obstacle with priority, so that each colliding path is rejected by the moving obstacle acceptor
+     */
+    static class PriorityObstacle extends GenericCircleObstacle {
+        PriorityObstacle(ICircle circle) {
+            super("priority", circle)
+        }
+
+        @Override
+        boolean isMotionLess() {
+            return false
+        }
+
+        @Override
+        boolean hasPriority() {
+            return true
+        }
+    }
+
+    /**
+     * An obstacle that never collides, but blocks the checks on the positive half of the field until interrupted
+     */
+    static class SlowObstacle extends GenericCircleObstacle {
+        SlowObstacle() {
+            super("slow", Circle.createCircle(Vector2.zero(), 0))
+        }
+
+        @Override
+        double distanceTo(CollisionInput input) {
+            if (input.getRobotPos().y() > 100) {
+                try {
+                    Thread.sleep(10_000)
+                } catch (InterruptedException ignored) {
+                    Thread.currentThread().interrupt()
+                }
+            }
+            return 300
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.pathfinder.obstacles
+
+import edu.tigers.sumatra.ids.EAiTeam
+import edu.tigers.sumatra.referee.data.GameState
+import edu.tigers.sumatra.wp.data.SimpleWorldFrame
+import edu.tigers.sumatra.wp.data.TrackedBall
+import edu.tigers.sumatra.wp.data.WorldFrame
+import spock.lang.Specification
+import spock.lang.Subject
+
+class FrameObstaclesCacheSpec extends Specification {
+
+    @Subject
+    FrameObstaclesCache cache = new FrameObstaclesCache()
+
+    def "Same frame and game state are shared"() {
+        given:
+        def wFrame = worldFrame(1, EAiTeam.YELLOW)
+
+        expect:
+        cache.get(wFrame, GameState.HALT).is(cache.get(wFrame, GameState.HALT))
+    }
+
+    def "New frame or game state is not shared"() {
+        given:
+        def wFrame = worldFrame(1, EAiTeam.YELLOW)
+        def frameObstacles = cache.get(wFrame, GameState.HALT)
+
+        expect:
+        !cache.get(wFrame, GameState.STOP).is(frameObstacles)
+        !cache.get(worldFrame(2, EAiTeam.YELLOW), GameState.STOP).is(frameObstacles)
+    }
+
+    def "Teams and caches are separated"() {
+        given:
+        def yellowFrame = worldFrame(1, EAiTeam.YELLOW)
+        def blueFrame = worldFrame(1, EAiTeam.BLUE)
+        def yellowObstacles = cache.get(yellowFrame, GameState.HALT)
+
+        expect:
+        !cache.get(blueFrame, GameState.HALT).is(yellowObstacles)
+        cache.get(yellowFrame, GameState.HALT).is(yellowObstacles)
+        !new FrameObstaclesCache().get(yellowFrame, GameState.HALT).is(yellowObstacles)
+    }
+
+    private static WorldFrame worldFrame(long frameNumber, EAiTeam team) {
+        def swf = new SimpleWorldFrame(frameNumber, frameNumber, Map.of(), TrackedBall.createStub(), null)
+        return new WorldFrame(swf, team, false)
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.pathfinder.obstacles
+
+import edu.tigers.sumatra.bot.State
+import edu.tigers.sumatra.ids.BotID
+import edu.tigers.sumatra.ids.EAiTeam
+import edu.tigers.sumatra.ids.ETeamColor
+import edu.tigers.sumatra.math.pose.Pose
+import edu.tigers.sumatra.math.vector.IVector2
+import edu.tigers.sumatra.math.vector.Vector2
+import edu.tigers.sumatra.math.vector.Vector3
+import edu.tigers.sumatra.pathfinder.EObstacleAvoidanceMode
+import edu.tigers.sumatra.pathfinder.MovementCon
+import edu.tigers.sumatra.pathfinder.obstacles.input.CollisionInputStatic
+import edu.tigers.sumatra.referee.data.GameState
+import edu.tigers.sumatra.wp.data.ITrackedBot
+import edu.tigers.sumatra.wp.data.SimpleWorldFrame
+import edu.tigers.sumatra.wp.data.TrackedBall
+import edu.tigers.sumatra.wp.data.TrackedBot
+import edu.tigers.sumatra.wp.data.WorldFrame
+import spock.lang.Shared
+import spock.lang.Specification
+
+class ObstacleGeneratorSpec extends Specification {
+
+    static final BotID BOT = BotID.createBotId(0, ETeamColor.YELLOW)
+    static final BotID OUR_BOT = BotID.createBotId(1, ETeamColor.YELLOW)
+    static final BotID OPPONENT = BotID.createBotId(0, ETeamColor.BLUE)
+    static final BotID OTHER_OPPONENT = BotID.createBotId(1, ETeamColor.BLUE)
+
+    @Shared
+    WorldFrame wFrame = worldFrame()
+
+    boolean shareFrameObstacles = ObstacleGenerator.shareFrameObstacles
+
+    def cleanup() {
+        ObstacleGenerator.shareFrameObstacles = shareFrameObstacles
+    }
+
+    def "Shared obstacles equal unshared ones with #mode avoidance in #gameState ignoring #ignoredBots"() {
+        given:
+        def moveCon = new MovementCon()
+        moveCon.setObstacleAvoidanceMode(mode)
+        moveCon.setIgnoredBots(ignoredBots as Set)
+        def cache = new FrameObstaclesCache()
+        def generator = new ObstacleGenerator(moveCon)
+        generator.setFrameObstaclesCache(cache)
+
+        and: "the shared frame obstacles were already used by a skill with other movement conditions"
+        def otherMoveCon = new MovementCon()
+        otherMoveCon.setObstacleAvoidanceMode(EObstacleAvoidanceMode.values().find { it != mode })
+        def otherGenerator = new ObstacleGenerator(otherMoveCon)
+        otherGenerator.setFrameObstaclesCache(cache)
+        ObstacleGenerator.shareFrameObstacles = true
+        otherGenerator.generateObstacles(wFrame, OUR_BOT, gameState)
+
+        when:
+        ObstacleGenerator.shareFrameObstacles = true
+        def shared = generator.generateObstacles(wFrame, BOT, gameState)
+        ObstacleGenerator.shareFrameObstacles = false
+        def unshared = generator.generateObstacles(wFrame, BOT, gameState)
+        moveCon.setIgnoredBots(Set.of())
+        def unfiltered = generator.generateObstacles(wFrame, BOT, gameState)
+
+        then:
+        shared*.getClass() == unshared*.getClass()
+        shared*.getIdentifier() == unshared*.getIdentifier()
+        distances(shared) == distances(unshared)
+        shared.size() == unfiltered.size() - ignoredBots.size()
+
+        where:
+        mode                                | gameState         | ignoredBots
+        EObstacleAvoidanceMode.NORMAL       | GameState.RUNNING | []
+        EObstacleAvoidanceMode.AGGRESSIVE   | GameState.RUNNING | []
+        EObstacleAvoidanceMode.NORMAL       | GameState.STOP    | []
+        EObstacleAvoidanceMode.AGGRESSIVE   | GameState.STOP    | []
+        EObstacleAvoidanceMode.NORMAL       | GameState.RUNNING | [OPPONENT, OUR_BOT]
+        EObstacleAvoidanceMode.AGGRESSIVE   | GameState.RUNNING | [OTHER_OPPONENT]
+    }
+
+    private static List<List<Double>> distances(List<IObstacle> obstacles) {
+        List<IVector2> positions = [Vector2.zero(), Vector2.fromXY(1000, 500), Vector2.fromXY(-2000, -1000)]
+        List<Double> timeOffsets = [0.0d, 0.3d, 1.0d]
+        return obstacles.collect { obstacle ->
+            [positions, timeOffsets].combinations().collect { IVector2 pos, double t ->
+                obstacle.distanceTo(new CollisionInputStatic(pos, Vector2.fromX(1), Vector2.zero(), t))
+            }
+        }
+    }
+
+    private static WorldFrame worldFrame() {
+        Map<BotID, ITrackedBot> bots = [
+                (BOT)           : bot(BOT, 0, 0, 0, 0),
+                (OUR_BOT)       : bot(OUR_BOT, 500, 300, 1, 0),
+                (OPPONENT)      : bot(OPPONENT, 1000, 0, -1, 0.5),
+                (OTHER_OPPONENT): bot(OTHER_OPPONENT, -1500, -800, 0, 0),
+        ]
+        def swf = new SimpleWorldFrame(1, 1, bots, TrackedBall.createStub(), null)
+        return new WorldFrame(swf, EAiTeam.YELLOW, false)
+    }
+
+    private static ITrackedBot bot(BotID botID, double x, double y, double vx, double vy) {
+        def state = State.of(Pose.from(Vector3.fromXYZ(x, y, 0)), Vector3.fromXYZ(vx, vy, 0))
+        return TrackedBot.stubBuilder(botID, 1).withState(state).build()
+    }
+}
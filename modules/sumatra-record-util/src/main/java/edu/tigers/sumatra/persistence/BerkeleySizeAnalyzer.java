@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2022, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 
 package edu.tigers.sumatra.persistence;
@@ -39,10 +39,10 @@ public class BerkeleySizeAnalyzer implements AutoCloseable
 	private BerkeleySizeAnalyzer(String dbPath)
 	{
 		db = BerkeleyDb.withCustomLocation(Paths.get(dbPath));
-		db.add(BerkeleyAiFrame.class, new BerkeleyAccessor<>(BerkeleyAiFrame.class, true));
-		db.add(BerkeleyCamDetectionFrame.class, new BerkeleyAccessor<>(BerkeleyCamDetectionFrame.class, true));
-		db.add(BerkeleyShapeMapFrame.class, new BerkeleyAccessor<>(BerkeleyShapeMapFrame.class, true));
-		db.add(WorldFrameWrapper.class, new BerkeleyAccessor<>(WorldFrameWrapper.class, true));
+		db.add(BerkeleyAiFrame.class, true);
+		db.add(BerkeleyCamDetectionFrame.class, true);
+		db.add(BerkeleyShapeMapFrame.class, true);
+		db.add(WorldFrameWrapper.class, true);
 		db.add(BerkeleyLogEvent.class, new BerkeleyAccessor<>(BerkeleyLogEvent.class, false));
 
 		Mutations mutations = new Mutations();
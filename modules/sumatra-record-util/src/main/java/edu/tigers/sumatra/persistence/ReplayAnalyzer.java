@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2020, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 
 package edu.tigers.sumatra.persistence;
@@ -62,8 +62,8 @@ public class ReplayAnalyzer
 		String recordDbPath = "2016-04-08_10-59-59";
 
 		BerkeleyDb db = BerkeleyDb.withCustomLocation(Paths.get(basePath, recordDbPath));
-		db.add(BerkeleyAiFrame.class, new BerkeleyAccessor<>(BerkeleyAiFrame.class, true));
-		db.add(BerkeleyCamDetectionFrame.class, new BerkeleyAccessor<>(BerkeleyCamDetectionFrame.class, true));
+		db.add(BerkeleyAiFrame.class, true);
+		db.add(BerkeleyCamDetectionFrame.class, true);
 		db.add(BerkeleyLogEvent.class, new BerkeleyAccessor<>(BerkeleyLogEvent.class, true));
 		db.open();
 
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.persistence;
+
+import edu.tigers.sumatra.wp.BerkeleyShapeMapFrame;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+
+/**
+ * Unit tests for the chunked frame storage
+ */
+public class ChunkedAccessorTest
+{
+	private static final int NUM_FRAMES = 1000;
+	private static final long DT = 16_000_000;
+
+
+	private BerkeleyDb newDb()
+	{
+		BerkeleyDb db = BerkeleyDb.withCustomLocation(Paths.get(PersistenceTestHelper.DB_NAME));
+		db.setChunkedStorage(true);
+		db.add(BerkeleyShapeMapFrame.class, true);
+		db.open();
+		return db;
+	}
+
+
+	@Test
+	public void testWriteAndSeek()
+	{
+		BerkeleyDb db = newDb();
+		LongStream.range(1, NUM_FRAMES + 1)
+				.mapToObj(i -> new BerkeleyShapeMapFrame(i * DT))
+				.forEach(f -> db.write(BerkeleyShapeMapFrame.class, f));
+		assertThat(db.getFirstKey()).isEqualTo(DT);
+		db.close();
+
+		assertThat(ChunkedAccessor.exists(Paths.get(PersistenceTestHelper.DB_NAME), BerkeleyShapeMapFrame.class))
+				.isTrue();
+
+		BerkeleyDb loaded = newDb();
+		assertThat(loaded.size(BerkeleyShapeMapFrame.class)).isEqualTo(NUM_FRAMES);
+		assertThat(loaded.getFirstKey()).isEqualTo(DT);
+		assertThat(loaded.getLastKey()).isEqualTo(NUM_FRAMES * DT);
+		assertThat(loaded.getKey(500 * DT - 1)).isEqualTo(500 * DT);
+		assertThat(loaded.getNextKey(500 * DT)).isEqualTo(501 * DT);
+		assertThat(loaded.getPreviousKey(500 * DT)).isEqualTo(499 * DT);
+		assertThat(loaded.get(BerkeleyShapeMapFrame.class, 700 * DT).getTimestamp()).isEqualTo(700 * DT);
+
+		List<Long> timestamps = new ArrayList<>();
+		loaded.forEach(BerkeleyShapeMapFrame.class, f -> timestamps.add(f.getTimestamp()));
+		assertThat(timestamps).hasSize(NUM_FRAMES).isSorted();
+		loaded.close();
+	}
+
+
+	@Test
+	public void testReopenAfterClose()
+	{
+		ChunkedAccessor<BerkeleyShapeMapFrame> accessor = new ChunkedAccessor<>(BerkeleyShapeMapFrame.class, true);
+
+		BerkeleyDb db = BerkeleyDb.withCustomLocation(Paths.get(PersistenceTestHelper.DB_NAME));
+		db.add(BerkeleyShapeMapFrame.class, accessor);
+		db.open();
+		LongStream.range(1, NUM_FRAMES + 1)
+				.mapToObj(i -> new BerkeleyShapeMapFrame(i * DT))
+				.forEach(accessor::write);
+		db.close();
+
+		BerkeleyShapeMapFrame frame = new BerkeleyShapeMapFrame(DT);
+		assertThatThrownBy(() -> accessor.write(frame)).isInstanceOf(IllegalStateException.class);
+		assertThatThrownBy(() -> accessor.get(DT)).isInstanceOf(IllegalStateException.class);
+
+		BerkeleyDb reopened = BerkeleyDb.withCustomLocation(Paths.get(PersistenceTestHelper.DB_NAME));
+		reopened.add(BerkeleyShapeMapFrame.class, accessor);
+		reopened.open();
+		LongStream.range(NUM_FRAMES + 1, 2 * NUM_FRAMES + 1)
+				.mapToObj(i -> new BerkeleyShapeMapFrame(i * DT))
+				.forEach(accessor::write);
+		assertThat(accessor.size()).isEqualTo(2 * NUM_FRAMES);
+		assertThat(accessor.get(700 * DT).getTimestamp()).isEqualTo(700 * DT);
+		assertThat(accessor.get(1500 * DT).getTimestamp()).isEqualTo(1500 * DT);
+		reopened.close();
+	}
+
+
+	@After
+	public void after()
+	{
+		PersistenceTestHelper.cleanup();
+	}
+
+
+	@Before
+	public void before()
+	{
+		PersistenceTestHelper.cleanup();
+	}
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.serial.codegen;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+
+/**
+ * Generates a serial codec for each concrete class with fields annotated with
+ * {@code edu.tigers.sumatra.botmanager.serial.SerialData}.
+ * The annotation is matched by name, so that this processor does not depend on the botmanager.
+ */
+@SupportedAnnotationTypes(SerialCodecProcessor.SERIAL_DATA)
+public class SerialCodecProcessor extends AbstractProcessor
+{
+	static final String SERIAL_DATA = "edu.tigers.sumatra.botmanager.serial.SerialData";
+	private static final String CODEC_SUFFIX = "SerialCodec";
+
+	private final Set<String> generated = new HashSet<>();
+
+
+	@Override
+	public SourceVersion getSupportedSourceVersion()
+	{
+		return SourceVersion.latestSupported();
+	}
+
+
+	@Override
+	public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv)
+	{
+		if (annotations.isEmpty())
+		{
+			return false;
+		}
+		for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements()))
+		{
+			processType(type);
+		}
+		return false;
+	}
+
+
+	private void processType(final TypeElement type)
+	{
+		ElementFilter.typesIn(type.getEnclosedElements()).forEach(this::processType);
+		if (!isCodecCandidate(type))
+		{
+			return;
+		}
+		String className = processingEnv.getElementUtils().getBinaryName(type).toString();
+		if (!generated.add(className))
+		{
+			return;
+		}
+		try
+		{
+			collectFields(type).ifPresent(fields -> writeCodec(type, className, fields));
+		} catch (UnsupportedOperationException e)
+		{
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+					"No serial codec generated, falling back to reflection: " + e.getMessage(), type);
+		}
+	}
+
+
+	private boolean isCodecCandidate(final TypeElement type)
+	{
+		if (type.getKind() != ElementKind.CLASS || type.getModifiers().contains(Modifier.ABSTRACT))
+		{
+			return false;
+		}
+		if (type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC))
+		{
+			return false;
+		}
+		return ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+				.anyMatch(c -> c.getParameters().isEmpty());
+	}
+
+
+	/**
+	 * Collect the serial fields in the same order as the reflective serial description:
+	 * declared fields first, then the fields of the superclasses, up to and including a tail field.
+	 */
+	private Optional<List<SerialField>> collectFields(final TypeElement type)
+	{
+		List<SerialField> fields = new ArrayList<>();
+		TypeElement current = type;
+		while (current != null && !current.getQualifiedName().contentEquals("java.lang.Object"))
+		{
+			String declaringClass = processingEnv.getElementUtils().getBinaryName(current).toString();
+			for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements()))
+			{
+				Optional<String> serialType = getSerialType(field);
+				if (serialType.isEmpty())
+				{
+					continue;
+				}
+				SerialField serialField = SerialField.of(declaringClass, field, serialType.get());
+				fields.add(serialField);
+				if (serialField.kind() == SerialField.EKind.TAIL)
+				{
+					return Optional.of(fields);
+				}
+			}
+			current = superclass(current);
+		}
+		if (fields.isEmpty())
+		{
+			return Optional.empty();
+		}
+		return Optional.of(fields);
+	}
+
+
+	private TypeElement superclass(final TypeElement type)
+	{
+		TypeMirror superclass = type.getSuperclass();
+		if (superclass.getKind() != TypeKind.DECLARED)
+		{
+			return null;
+		}
+		return (TypeElement) ((DeclaredType) superclass).asElement();
+	}
+
+
+	private Optional<String> getSerialType(final VariableElement field)
+	{
+		for (AnnotationMirror annotation : field.getAnnotationMirrors())
+		{
+			Element annotationType = annotation.getAnnotationType().asElement();
+			if (!((TypeElement) annotationType).getQualifiedName().contentEquals(SERIAL_DATA))
+			{
+				continue;
+			}
+			if (field.getModifiers().contains(Modifier.STATIC))
+			{
+				throw new UnsupportedOperationException("static serial field " + field.getSimpleName());
+			}
+			for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : annotation
+					.getElementValues().entrySet())
+			{
+				if (entry.getKey().getSimpleName().contentEquals("type"))
+				{
+					return Optional.of(((VariableElement) entry.getValue().getValue()).getSimpleName().toString());
+				}
+			}
+		}
+		return Optional.empty();
+	}
+
+
+	private void writeCodec(final TypeElement type, final String className, final List<SerialField> fields)
+	{
+		String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+		String simpleName = className.substring(packageName.isEmpty() ? 0 : packageName.length() + 1)
+				.replace('$', '_') + CODEC_SUFFIX;
+		String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+		String source = new SerialCodecWriter(packageName, simpleName, className, fields).write();
+		try
+		{
+			JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, type);
+			try (Writer writer = file.openWriter())
+			{
+				writer.write(source);
+			}
+		} catch (IOException e)
+		{
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+					"Could not write serial codec " + qualifiedName + ": " + e.getMessage(), type);
+		}
+	}
+
+
+	/**
+	 * A single serial field.
+	 *
+	 * @param declaringClass the binary name of the declaring class
+	 * @param name the field name
+	 * @param serialType the name of the serial data type
+	 * @param kind how the field is encoded
+	 * @param javaType the primitive type of the value or the array elements, or Object for embedded types
+	 */
+	record SerialField(String declaringClass, String name, String serialType, EKind kind, String javaType)
+	{
+		enum EKind
+		{
+			VALUE,
+			ARRAY,
+			EMBEDDED,
+			EMBEDDED_ARRAY,
+			TAIL,
+		}
+
+
+		static SerialField of(final String declaringClass, final VariableElement field, final String serialType)
+		{
+			String name = field.getSimpleName().toString();
+			TypeMirror type = field.asType();
+			boolean embedded = "EMBEDDED".equals(serialType);
+			if (type.getKind() == TypeKind.ARRAY)
+			{
+				TypeMirror component = ((ArrayType) type).getComponentType();
+				if ("TAIL".equals(serialType))
+				{
+					if (component.getKind() != TypeKind.BYTE)
+					{
+						throw new UnsupportedOperationException("tail field " + name + " is not a byte array");
+					}
+					return new SerialField(declaringClass, name, serialType, EKind.TAIL, "byte");
+				}
+				if (embedded)
+				{
+					return new SerialField(declaringClass, name, serialType, EKind.EMBEDDED_ARRAY, "Object");
+				}
+				return new SerialField(declaringClass, name, serialType, EKind.ARRAY, primitive(name, component));
+			}
+			if (embedded)
+			{
+				return new SerialField(declaringClass, name, serialType, EKind.EMBEDDED, "Object");
+			}
+			if ("TAIL".equals(serialType))
+			{
+				throw new UnsupportedOperationException("tail field " + name + " is not an array");
+			}
+			return new SerialField(declaringClass, name, serialType, EKind.VALUE, primitive(name, type));
+		}
+
+
+		private static String primitive(final String name, final TypeMirror type)
+		{
+			if (!type.getKind().isPrimitive() || type.getKind() == TypeKind.BOOLEAN)
+			{
+				throw new UnsupportedOperationException("field " + name + " has no numeric primitive type");
+			}
+			return type.getKind().name().toLowerCase(Locale.ENGLISH);
+		}
+	}
+}
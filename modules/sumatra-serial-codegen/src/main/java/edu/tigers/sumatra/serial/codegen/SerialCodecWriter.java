@@ -0,0 +1,417 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.serial.codegen;
+
+import edu.tigers.sumatra.serial.codegen.SerialCodecProcessor.SerialField;
+import edu.tigers.sumatra.serial.codegen.SerialCodecProcessor.SerialField.EKind;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+
+/**
+ * Writes the source code of a serial codec.
+ * The generated code mirrors the reflective serial description: little endian, fixed array lengths taken from
+ * a new instance, embedded objects encoded in place and a tail consuming the remaining bytes.
+ */
+class SerialCodecWriter
+{
+	private static final String SERIAL_PACKAGE = "edu.tigers.sumatra.botmanager.serial";
+
+	private final String packageName;
+	private final String codecName;
+	private final String className;
+	private final List<SerialField> fields;
+	private final StringBuilder sb = new StringBuilder();
+
+
+	SerialCodecWriter(final String packageName, final String codecName, final String className,
+			final List<SerialField> fields)
+	{
+		this.packageName = packageName;
+		this.codecName = codecName;
+		this.className = className;
+		this.fields = fields;
+	}
+
+
+	String write()
+	{
+		writeHeader();
+		writeConstants();
+		writeConstructor();
+		writeNewInstance();
+		writeGetLength();
+		writeEncode();
+		writeDecode();
+		line(0, "}");
+		return sb.toString();
+	}
+
+
+	private void writeHeader()
+	{
+		if (!packageName.isEmpty())
+		{
+			line(0, "package " + packageName + ";");
+			line(0, "");
+		}
+		line(0, "import " + SERIAL_PACKAGE + ".ISerialCodec;");
+		line(0, "import " + SERIAL_PACKAGE + ".SerialByteConverter;");
+		line(0, "import " + SERIAL_PACKAGE + ".SerialCodecSupport;");
+		line(0, "import " + SERIAL_PACKAGE + ".SerialData.ESerialDataType;");
+		line(0, "import " + SERIAL_PACKAGE + ".SerialException;");
+		line(0, "");
+		line(0, "import java.lang.invoke.MethodHandle;");
+		line(0, "import java.nio.ByteBuffer;");
+		line(0, "import java.util.List;");
+		line(0, "");
+		line(0, "");
+		line(0, "/**");
+		line(0, " * Generated serial codec of {@code " + className.replace('$', '.') + "}.");
+		line(0, " */");
+		line(0, "@javax.annotation.processing.Generated(\"" + SerialCodecProcessor.class.getName() + "\")");
+		line(0, "@SuppressWarnings(\"all\")");
+		line(0, "public final class " + codecName + " implements ISerialCodec<Object>");
+		line(0, "{");
+	}
+
+
+	private void writeConstants()
+	{
+		line(1, "private static final String NAME = " + quote(className) + ";");
+		line(1, "private static final List<String> FIELD_NAMES = List.of("
+				+ fields.stream().map(f -> quote(f.name())).collect(Collectors.joining(", ")) + ");");
+		line(1, "private static final MethodHandle NEW = SerialCodecSupport.constructor(" + codecName
+				+ ".class, NAME);");
+		for (int i = 0; i < fields.size(); i++)
+		{
+			SerialField field = fields.get(i);
+			String args = codecName + ".class, " + quote(field.declaringClass()) + ", " + quote(field.name());
+			String type = handleType(field) + ".class";
+			line(1, "private static final MethodHandle GET" + i + " = SerialCodecSupport.getter(" + args + ", "
+					+ type + ");");
+			if (field.kind() != EKind.ARRAY && field.kind() != EKind.EMBEDDED_ARRAY)
+			{
+				line(1, "private static final MethodHandle SET" + i + " = SerialCodecSupport.setter(" + args + ", "
+						+ type + ");");
+			}
+			if (field.kind() == EKind.EMBEDDED || field.kind() == EKind.EMBEDDED_ARRAY)
+			{
+				line(1, "private static final ISerialCodec<Object> CODEC" + i + " = SerialCodecSupport.embedded("
+						+ args + ");");
+			}
+		}
+		line(0, "");
+		line(1, "private final int fixedLength;");
+		for (int i = 0; i < fields.size(); i++)
+		{
+			if (isArray(fields.get(i)))
+			{
+				line(1, "private final int length" + i + ";");
+			}
+		}
+		line(0, "");
+		line(0, "");
+	}
+
+
+	private void writeConstructor()
+	{
+		line(1, "/**");
+		line(1, " * @throws SerialException if the array lengths could not be determined");
+		line(1, " */");
+		line(1, "public " + codecName + "() throws SerialException");
+		line(1, "{");
+		line(2, "Object prototype = newInstance();");
+		StringBuilder fixedLength = new StringBuilder("0");
+		for (int i = 0; i < fields.size(); i++)
+		{
+			SerialField field = fields.get(i);
+			switch (field.kind())
+			{
+				case VALUE -> fixedLength.append(" + ").append(size(field));
+				case ARRAY ->
+				{
+					line(2, "length" + i + " = SerialCodecSupport.arrayLength(prototype, GET" + i + ");");
+					fixedLength.append(" + ").append(size(field)).append(" * length").append(i);
+				}
+				case EMBEDDED -> fixedLength.append(" + CODEC").append(i).append(".getLength(null)");
+				case EMBEDDED_ARRAY ->
+				{
+					line(2, "length" + i + " = SerialCodecSupport.arrayLength(prototype, GET" + i + ");");
+					fixedLength.append(" + CODEC").append(i).append(".getLength(null) * length").append(i);
+				}
+				case TAIL ->
+				{
+					// the tail has no fixed length
+				}
+			}
+		}
+		line(2, "fixedLength = " + fixedLength + ";");
+		line(1, "}");
+		line(0, "");
+		line(0, "");
+	}
+
+
+	private void writeNewInstance()
+	{
+		line(1, "@Override");
+		line(1, "public Object newInstance() throws SerialException");
+		line(1, "{");
+		line(2, "return SerialCodecSupport.newInstance(NEW);");
+		line(1, "}");
+		line(0, "");
+		line(0, "");
+		line(1, "@Override");
+		line(1, "public List<String> getFieldNames()");
+		line(1, "{");
+		line(2, "return FIELD_NAMES;");
+		line(1, "}");
+		line(0, "");
+		line(0, "");
+	}
+
+
+	private void writeGetLength()
+	{
+		line(1, "@Override");
+		line(1, "public int getLength(final Object obj) throws SerialException");
+		line(1, "{");
+		SerialField last = fields.getLast();
+		if (last.kind() == EKind.TAIL)
+		{
+			int i = fields.size() - 1;
+			openTry();
+			line(3, "byte[] tail = (byte[]) GET" + i + ".invokeExact(obj);");
+			line(3, "return tail == null ? fixedLength : fixedLength + tail.length;");
+			closeTry("get length of");
+		} else
+		{
+			line(2, "return fixedLength;");
+		}
+		line(1, "}");
+		line(0, "");
+		line(0, "");
+	}
+
+
+	private void writeEncode()
+	{
+		line(1, "@Override");
+		line(1, "public void encode(final Object obj, final ByteBuffer buffer) throws SerialException");
+		line(1, "{");
+		openTry();
+		for (int i = 0; i < fields.size(); i++)
+		{
+			SerialField field = fields.get(i);
+			String v = "v" + i;
+			String cast = "(" + handleType(field) + ") ";
+			line(3, handleType(field) + " " + v + " = " + cast + "GET" + i + ".invokeExact(obj);");
+			switch (field.kind())
+			{
+				case VALUE ->
+				{
+					checkRange(3, field, v, null);
+					line(3, encodeValue(field, v) + ";");
+				}
+				case ARRAY ->
+				{
+					line(3, "for (int i = 0; i < length" + i + "; i++)");
+					line(3, "{");
+					checkRange(4, field, v + "[i]", "i");
+					line(4, encodeValue(field, v + "[i]") + ";");
+					line(3, "}");
+				}
+				case EMBEDDED -> line(3, "CODEC" + i + ".encode(" + v + ", buffer);");
+				case EMBEDDED_ARRAY ->
+				{
+					line(3, "for (int i = 0; i < length" + i + "; i++)");
+					line(3, "{");
+					line(4, "CODEC" + i + ".encode(" + v + "[i], buffer);");
+					line(3, "}");
+				}
+				case TAIL ->
+				{
+					line(3, "if (" + v + " != null)");
+					line(3, "{");
+					line(4, "buffer.put(" + v + ");");
+					line(3, "}");
+				}
+			}
+		}
+		closeTry("encode");
+		line(1, "}");
+		line(0, "");
+		line(0, "");
+	}
+
+
+	private void writeDecode()
+	{
+		line(1, "@Override");
+		line(1, "public Object decode(final ByteBuffer buffer) throws SerialException");
+		line(1, "{");
+		line(2, "SerialCodecSupport.checkRemaining(buffer, fixedLength, NAME);");
+		line(2, "Object obj = newInstance();");
+		openTry();
+		for (int i = 0; i < fields.size(); i++)
+		{
+			SerialField field = fields.get(i);
+			String v = "v" + i;
+			switch (field.kind())
+			{
+				case VALUE -> line(3, "SET" + i + ".invokeExact(obj, " + decodeValue(field) + ");");
+				case ARRAY ->
+				{
+					String type = handleType(field);
+					line(3, type + " " + v + " = (" + type + ") GET" + i + ".invokeExact(obj);");
+					line(3, "for (int i = 0; i < length" + i + "; i++)");
+					line(3, "{");
+					line(4, v + "[i] = " + decodeValue(field) + ";");
+					line(3, "}");
+				}
+				case EMBEDDED -> line(3, "SET" + i + ".invokeExact(obj, CODEC" + i + ".decode(buffer));");
+				case EMBEDDED_ARRAY ->
+				{
+					line(3, "Object[] " + v + " = (Object[]) GET" + i + ".invokeExact(obj);");
+					line(3, "for (int i = 0; i < length" + i + "; i++)");
+					line(3, "{");
+					line(4, v + "[i] = CODEC" + i + ".decode(buffer);");
+					line(3, "}");
+				}
+				case TAIL ->
+				{
+					line(3, "byte[] " + v + " = new byte[buffer.remaining()];");
+					line(3, "buffer.get(" + v + ");");
+					line(3, "SET" + i + ".invokeExact(obj, " + v + ");");
+				}
+			}
+		}
+		line(3, "return obj;");
+		closeTry("decode");
+		line(1, "}");
+	}
+
+
+	private void openTry()
+	{
+		line(2, "try");
+		line(2, "{");
+	}
+
+
+	private void closeTry(final String action)
+	{
+		line(2, "} catch (SerialException e)");
+		line(2, "{");
+		line(3, "throw e;");
+		line(2, "} catch (Throwable e)");
+		line(2, "{");
+		line(3, "throw new SerialException(\"Could not " + action + " \" + NAME, e);");
+		line(2, "}");
+	}
+
+
+	private void checkRange(final int indent, final SerialField field, final String value, final String index)
+	{
+		if (isFloat(field))
+		{
+			return;
+		}
+		String name = quote(simpleName(field.declaringClass()) + "::" + field.name());
+		line(indent, "SerialCodecSupport.checkRange((long) " + value + ", ESerialDataType." + field.serialType() + ", "
+				+ name + (index == null ? "" : ", " + index) + ");");
+	}
+
+
+	private String encodeValue(final SerialField field, final String value)
+	{
+		return switch (field.serialType())
+		{
+			case "INT8", "UINT8" -> "buffer.put((byte) " + value + ")";
+			case "INT16", "UINT16" -> "buffer.putShort((short) " + value + ")";
+			case "INT32", "UINT32" -> "buffer.putInt((int) " + value + ")";
+			case "FLOAT16" ->
+					"buffer.putShort((short) SerialByteConverter.floatToHalfFloatBits((float) " + value + "))";
+			case "FLOAT32" -> "buffer.putFloat((float) " + value + ")";
+			default -> throw new UnsupportedOperationException("serial type " + field.serialType());
+		};
+	}
+
+
+	private String decodeValue(final SerialField field)
+	{
+		String value = switch (field.serialType())
+		{
+			case "UINT8" -> "Byte.toUnsignedInt(buffer.get())";
+			case "UINT16" -> "Short.toUnsignedInt(buffer.getShort())";
+			case "UINT32" -> "Integer.toUnsignedLong(buffer.getInt())";
+			case "INT8" -> "buffer.get()";
+			case "INT16" -> "buffer.getShort()";
+			case "INT32" -> "buffer.getInt()";
+			case "FLOAT16" -> "SerialByteConverter.halfFloatBitsToFloat(buffer.getShort())";
+			case "FLOAT32" -> "buffer.getFloat()";
+			default -> throw new UnsupportedOperationException("serial type " + field.serialType());
+		};
+		return "(" + field.javaType() + ") " + value;
+	}
+
+
+	private int size(final SerialField field)
+	{
+		return switch (field.serialType())
+		{
+			case "INT8", "UINT8" -> 1;
+			case "INT16", "UINT16", "FLOAT16" -> 2;
+			case "INT32", "UINT32", "FLOAT32" -> 4;
+			default -> throw new UnsupportedOperationException("serial type " + field.serialType());
+		};
+	}
+
+
+	private boolean isFloat(final SerialField field)
+	{
+		return field.serialType().startsWith("FLOAT");
+	}
+
+
+	private boolean isArray(final SerialField field)
+	{
+		return field.kind() == EKind.ARRAY || field.kind() == EKind.EMBEDDED_ARRAY;
+	}
+
+
+	private String handleType(final SerialField field)
+	{
+		return switch (field.kind())
+		{
+			case VALUE -> field.javaType();
+			case ARRAY, TAIL -> field.javaType() + "[]";
+			case EMBEDDED -> "Object";
+			case EMBEDDED_ARRAY -> "Object[]";
+		};
+	}
+
+
+	private static String simpleName(final String binaryName)
+	{
+		String name = binaryName.substring(binaryName.lastIndexOf('.') + 1);
+		return name.substring(name.lastIndexOf('$') + 1);
+	}
+
+
+	private static String quote(final String value)
+	{
+		return "\"" + value + "\"";
+	}
+
+
+	private void line(final int indent, final String text)
+	{
+		sb.append("\t".repeat(text.isEmpty() ? 0 : indent)).append(text).append('\n');
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2021, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 
 package edu.tigers.sumatra.skillsystem;
@@ -9,6 +9,7 @@ import edu.tigers.sumatra.botmanager.bots.ABot;
 import edu.tigers.sumatra.drawable.ShapeMap;
 import edu.tigers.sumatra.ids.BotID;
 import edu.tigers.sumatra.ids.ETeamColor;
+import edu.tigers.sumatra.pathfinder.finder.PathFinderStats;
 import edu.tigers.sumatra.skillsystem.skills.ISkill;
 import edu.tigers.sumatra.thread.NamedThreadFactory;
 import edu.tigers.sumatra.wp.data.WorldFrameWrapper;
@@ -16,6 +17,7 @@ import lombok.Getter;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -60,6 +62,25 @@ public abstract class ASkillSystem extends AModule
 	public abstract Map<BotID, ShapeMap> process(final WorldFrameWrapper wfw, final ETeamColor teamColor);
 
 
+	/**
+	 * @return the update metrics of all skill executors that processed world frames
+	 */
+	public List<SkillExecutorStats> getExecutorStats()
+	{
+		return List.of();
+	}
+
+
+	/**
+	 * @param teamColor the team of the skills
+	 * @return the counters of the path finders of the skills of the team, if available
+	 */
+	public Optional<PathFinderStats> getPathFinderStats(final ETeamColor teamColor)
+	{
+		return Optional.empty();
+	}
+
+
 	@Override
 	public void deinitModule()
 	{
@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.skillsystem;
+
+/**
+ * How the skills of all bots are executed by the {@link GenericSkillSystem}.
+ */
+public enum ESkillExecutorMode
+{
+	/**
+	 * Each bot has its own platform thread that processes the latest world frame
+	 */
+	PLATFORM_THREADS,
+
+	/**
+	 * The bots of a world frame are updated together on virtual threads and the next world frame is only
+	 * processed once all bots are done
+	 */
+	VIRTUAL_THREADS,
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2022, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 
 package edu.tigers.sumatra.skillsystem;
@@ -13,15 +13,19 @@ import edu.tigers.sumatra.drawable.ShapeMapSource;
 import edu.tigers.sumatra.ids.BotID;
 import edu.tigers.sumatra.ids.ETeamColor;
 import edu.tigers.sumatra.model.SumatraModel;
+import edu.tigers.sumatra.pathfinder.finder.PathFinderStats;
+import edu.tigers.sumatra.pathfinder.obstacles.FrameObstaclesCache;
 import edu.tigers.sumatra.skillsystem.skills.ISkill;
 import edu.tigers.sumatra.skillsystem.skills.IdleSkill;
 import edu.tigers.sumatra.wp.AWorldPredictor;
 import edu.tigers.sumatra.wp.IWorldFrameObserver;
 import edu.tigers.sumatra.wp.data.WorldFrameWrapper;
 
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
@@ -44,8 +48,14 @@ public class GenericSkillSystem extends ASkillSystem
 
 	private final Map<BotID, SkillExecutor> executors = new ConcurrentHashMap<>();
 	private final List<ISkillExecutorPostHook> skillExecutorPostHooks = new CopyOnWriteArrayList<>();
+	private final FrameObstaclesCache frameObstaclesCache = new FrameObstaclesCache();
+	private final Map<ETeamColor, PathFinderStats> pathFinderStats = Map.of(
+			ETeamColor.YELLOW, new PathFinderStats(),
+			ETeamColor.BLUE, new PathFinderStats()
+	);
 
 	private AWorldPredictor wp;
+	private SkillExecutorFrameScheduler frameScheduler;
 
 
 	private GenericSkillSystem()
@@ -69,7 +79,7 @@ public class GenericSkillSystem extends ASkillSystem
 
 	private void addSkillExecutor(final BotID botID)
 	{
-		SkillExecutor se = new SkillExecutor(botID);
+		SkillExecutor se = new SkillExecutor(botID, frameObstaclesCache, pathFinderStats.get(botID.getTeamColor()));
 		se.addPostHook(this);
 		executors.put(botID, se);
 	}
@@ -94,7 +104,16 @@ public class GenericSkillSystem extends ASkillSystem
 	public void startModule()
 	{
 		super.startModule();
-		executors.values().forEach(e -> e.start(getExecutorService()));
+		ESkillExecutorMode executorMode = ESkillExecutorMode.valueOf(
+				getSubnodeConfiguration().getString("executorMode", ESkillExecutorMode.PLATFORM_THREADS.name()));
+		if (executorMode == ESkillExecutorMode.VIRTUAL_THREADS)
+		{
+			frameScheduler = new SkillExecutorFrameScheduler(executors.values());
+			frameScheduler.start();
+		} else
+		{
+			executors.values().forEach(e -> e.start(getExecutorService()));
+		}
 
 		wp = SumatraModel.getInstance().getModule(AWorldPredictor.class);
 		wp.addConsumer(this);
@@ -113,6 +132,11 @@ public class GenericSkillSystem extends ASkillSystem
 			wp.removeConsumer(this);
 		}
 
+		if (frameScheduler != null)
+		{
+			frameScheduler.stop();
+			frameScheduler = null;
+		}
 		executors.values().forEach(SkillExecutor::stop);
 		super.stopModule();
 	}
@@ -190,6 +214,16 @@ public class GenericSkillSystem extends ASkillSystem
 	@Override
 	public void onNewWorldFrame(final WorldFrameWrapper wFrameWrapper)
 	{
+		if (frameScheduler != null)
+		{
+			boolean simulation = SumatraModel.getInstance().isSimulation();
+			frameScheduler.onNewWorldFrame(wFrameWrapper, simulation);
+			if (simulation)
+			{
+				frameScheduler.waitUntilWorldFrameProcessed();
+			}
+			return;
+		}
 		executors.values().forEach(e -> e.onNewWorldFrame(wFrameWrapper));
 		if (SumatraModel.getInstance().isSimulation())
 		{
@@ -198,6 +232,24 @@ public class GenericSkillSystem extends ASkillSystem
 	}
 
 
+	@Override
+	public List<SkillExecutorStats> getExecutorStats()
+	{
+		return executors.values().stream()
+				.map(SkillExecutor::getStats)
+				.filter(stats -> stats.getNumUpdates() > 0)
+				.sorted(Comparator.comparing(SkillExecutorStats::getBotID))
+				.toList();
+	}
+
+
+	@Override
+	public Optional<PathFinderStats> getPathFinderStats(final ETeamColor teamColor)
+	{
+		return Optional.ofNullable(pathFinderStats.get(teamColor));
+	}
+
+
 	@Override
 	public Map<BotID, ShapeMap> process(final WorldFrameWrapper wfw, final ETeamColor teamColor)
 	{
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.skillsystem;
+
+import edu.tigers.sumatra.wp.data.WorldFrameWrapper;
+
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingDeque;
+
+
+/**
+ * Holds the latest world frame that is still to be processed. A new world frame replaces a pending one.
+ * <p>
+ * Each world frame carries the latch that was current when it was added, so that finishing a world frame
+ * that was already in flight does not release a waiter of a newer world frame.
+ */
+class PendingWorldFrame
+{
+	private final BlockingDeque<Entry> entries = new LinkedBlockingDeque<>(1);
+	private volatile CountDownLatch processedLatch = new CountDownLatch(1);
+
+
+	/**
+	 * @param wfw  the world frame to process next
+	 * @param sync if the next call to {@link #waitUntilProcessed()} should wait for this world frame
+	 */
+	synchronized void offer(WorldFrameWrapper wfw, boolean sync)
+	{
+		if (sync)
+		{
+			processedLatch = new CountDownLatch(1);
+		}
+		Entry replaced = entries.pollLast();
+		entries.addFirst(new Entry(wfw, processedLatch));
+		if (replaced != null && replaced.processedLatch() != processedLatch)
+		{
+			replaced.processed();
+		}
+	}
+
+
+	/**
+	 * @return the next world frame, waiting until one is available
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	Entry take() throws InterruptedException
+	{
+		return entries.take();
+	}
+
+
+	/**
+	 * Wait until the last world frame that was added with sync has been processed
+	 */
+	void waitUntilProcessed()
+	{
+		try
+		{
+			processedLatch.await();
+		} catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+		}
+	}
+
+
+	/**
+	 * Release all current waiters, e.g. when processing stops
+	 */
+	void release()
+	{
+		processedLatch.countDown();
+	}
+
+
+	/**
+	 * A world frame together with the latch to release after processing it.
+	 */
+	record Entry(WorldFrameWrapper worldFrame, CountDownLatch processedLatch)
+	{
+		void processed()
+		{
+			processedLatch.countDown();
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2022, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 
 package edu.tigers.sumatra.skillsystem;
@@ -9,8 +9,13 @@ import edu.tigers.sumatra.drawable.ShapeMap;
 import edu.tigers.sumatra.ids.BotID;
 import edu.tigers.sumatra.ids.EAiTeam;
 import edu.tigers.sumatra.model.SumatraModel;
+import edu.tigers.sumatra.pathfinder.finder.PathFinderStats;
+import edu.tigers.sumatra.pathfinder.obstacles.FrameObstaclesCache;
 import edu.tigers.sumatra.skillsystem.skills.ISkill;
 import edu.tigers.sumatra.skillsystem.skills.IdleSkill;
+import edu.tigers.sumatra.time.EFrameStage;
+import edu.tigers.sumatra.time.FrameLatencyTracer;
+import edu.tigers.sumatra.time.RecentDurations;
 import edu.tigers.sumatra.wp.IWorldFrameObserver;
 import edu.tigers.sumatra.wp.data.WorldFrameWrapper;
 import lombok.AccessLevel;
@@ -19,12 +24,10 @@ import lombok.extern.log4j.Log4j2;
 import org.apache.logging.log4j.ThreadContext;
 
 import java.util.List;
-import java.util.concurrent.BlockingDeque;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.LongAdder;
 
 
 /**
@@ -34,17 +37,22 @@ import java.util.concurrent.LinkedBlockingDeque;
 @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 class SkillExecutor implements Runnable, IWorldFrameObserver
 {
+	private static final int NUM_UPDATE_TIME_SAMPLES = 512;
+
 	private final BotID botID;
+	private final FrameObstaclesCache frameObstaclesCache;
+	private final PathFinderStats pathFinderStats;
 	private final NewSkillSync newSkillSync = new NewSkillSync();
-	private final BlockingDeque<WorldFrameWrapper> freshWorldFrames = new LinkedBlockingDeque<>(1);
+	private final PendingWorldFrame freshWorldFrame = new PendingWorldFrame();
 	private ABot bot;
-	private CountDownLatch wfProcessedLatch = new CountDownLatch(1);
 	private ISkill currentSkill = new IdleSkill();
 	private ISkill newSkill = new IdleSkill();
 	private boolean active = true;
 	private List<ISkillExecutorPostHook> postHooks = new CopyOnWriteArrayList<>();
 	private Future<?> future = null;
 	private boolean notifiedBotRemoved = true;
+	private final LongAdder numUpdates = new LongAdder();
+	private final RecentDurations updateTimes = new RecentDurations(NUM_UPDATE_TIME_SAMPLES);
 
 
 	public void update(final WorldFrameWrapper wf, final ShapeMap shapeMap)
@@ -86,7 +94,8 @@ class SkillExecutor implements Runnable, IWorldFrameObserver
 	{
 		executeSave(() -> currentSkill.update(wf, currentBot, shapeMap));
 		executeSave(() -> currentSkill.calcActions(wf.getTimestamp()));
-		executeSave(currentBot::sendMatchCommand);
+		FrameLatencyTracer.getInstance().mark(EFrameStage.SKILLS, wf.getTimestamp());
+		executeSave(() -> currentBot.sendMatchCommand(wf.getTimestamp()));
 	}
 
 
@@ -131,6 +140,8 @@ class SkillExecutor implements Runnable, IWorldFrameObserver
 			executeSave(currentSkill::calcExitActions);
 		}
 		skill.setCurrentTrajectory(currentSkill.getCurrentTrajectory());
+		skill.setFrameObstaclesCache(frameObstaclesCache);
+		skill.setPathFinderStats(pathFinderStats);
 		executeSave(() -> skill.update(wf, currentBot, shapeMap));
 		executeSave(skill::calcEntryActions);
 		currentSkill = skill;
@@ -172,19 +183,14 @@ class SkillExecutor implements Runnable, IWorldFrameObserver
 		{
 			try
 			{
-				WorldFrameWrapper wf = freshWorldFrames.take();
-				ThreadContext.put("wfTs", String.valueOf(wf.getSimpleWorldFrame().getTimestamp()));
-				ThreadContext.put("wfId", String.valueOf(wf.getSimpleWorldFrame().getFrameNumber()));
-				update(wf, new ShapeMap(), bot);
+				PendingWorldFrame.Entry entry = freshWorldFrame.take();
+				process(entry.worldFrame());
+				entry.processed();
 			} catch (InterruptedException err)
 			{
 				// ignore
 				Thread.currentThread().interrupt();
-			} catch (Throwable err)
-			{
-				log.fatal("Some fatal error occurred in skill executor.", err);
 			}
-			wfProcessedLatch.countDown();
 		}
 		postHooks.clear();
 		ThreadContext.remove("wfTs");
@@ -193,6 +199,42 @@ class SkillExecutor implements Runnable, IWorldFrameObserver
 	}
 
 
+	/**
+	 * Process the given world frame on the current thread
+	 *
+	 * @param wf the world frame to process
+	 */
+	void process(final WorldFrameWrapper wf)
+	{
+		ThreadContext.put("wfTs", String.valueOf(wf.getSimpleWorldFrame().getTimestamp()));
+		ThreadContext.put("wfId", String.valueOf(wf.getSimpleWorldFrame().getFrameNumber()));
+		long start = System.nanoTime();
+		try
+		{
+			update(wf, new ShapeMap(), bot);
+		} catch (Throwable err)
+		{
+			log.fatal("Some fatal error occurred in skill executor.", err);
+		}
+		if (bot != null)
+		{
+			updateTimes.add(System.nanoTime() - start);
+			numUpdates.increment();
+		}
+	}
+
+
+	/**
+	 * @return the current update metrics
+	 */
+	SkillExecutorStats getStats()
+	{
+		RecentDurations.Snapshot samples = updateTimes.snapshot();
+		return new SkillExecutorStats(botID, numUpdates.sum(),
+				samples.getPercentile(0.5), samples.getPercentile(0.95), samples.getPercentile(0.99));
+	}
+
+
 	/**
 	 * @param service
 	 */
@@ -213,31 +255,20 @@ class SkillExecutor implements Runnable, IWorldFrameObserver
 			future.cancel(true);
 			future = null;
 		}
-		wfProcessedLatch.countDown();
+		freshWorldFrame.release();
 	}
 
 
 	public void waitUntilWorldFrameProcessed()
 	{
-		try
-		{
-			wfProcessedLatch.await();
-		} catch (InterruptedException e)
-		{
-			Thread.currentThread().interrupt();
-		}
+		freshWorldFrame.waitUntilProcessed();
 	}
 
 
 	@Override
 	public void onNewWorldFrame(final WorldFrameWrapper wFrameWrapper)
 	{
-		if (SumatraModel.getInstance().isSimulation())
-		{
-			wfProcessedLatch = new CountDownLatch(1);
-		}
-		freshWorldFrames.pollLast();
-		freshWorldFrames.addFirst(wFrameWrapper);
+		freshWorldFrame.offer(wFrameWrapper, SumatraModel.getInstance().isSimulation());
 	}
 
 
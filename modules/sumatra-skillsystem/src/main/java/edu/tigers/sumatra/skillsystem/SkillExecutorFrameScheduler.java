@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.skillsystem;
+
+import edu.tigers.sumatra.wp.data.WorldFrameWrapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.Collection;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+
+/**
+ * Updates all skill executors of a world frame together on virtual threads.
+ * The next world frame is only released once all executors have processed the current one.
+ * World frames that arrive in the meantime replace each other, so only the latest one is processed.
+ */
+@Log4j2
+@RequiredArgsConstructor
+class SkillExecutorFrameScheduler
+{
+	private final Collection<SkillExecutor> executors;
+	private final PendingWorldFrame freshWorldFrame = new PendingWorldFrame();
+	private final ExecutorService botExecutorService = Executors.newThreadPerTaskExecutor(
+			Thread.ofVirtual().name("SkillExecutor-", 0).factory()
+	);
+	private Thread scheduler;
+	private volatile boolean active = true;
+
+
+	/**
+	 * Start processing world frames
+	 */
+	public void start()
+	{
+		scheduler = Thread.ofVirtual().name("SkillExecutorFrameScheduler").start(this::run);
+	}
+
+
+	/**
+	 * Stop processing world frames
+	 */
+	public void stop()
+	{
+		active = false;
+		if (scheduler != null)
+		{
+			scheduler.interrupt();
+			scheduler = null;
+		}
+		botExecutorService.shutdownNow();
+		freshWorldFrame.release();
+	}
+
+
+	/**
+	 * @param wfw the world frame to process next
+	 * @param sync if the next call to {@link #waitUntilWorldFrameProcessed()} should wait for this frame
+	 */
+	public void onNewWorldFrame(WorldFrameWrapper wfw, boolean sync)
+	{
+		freshWorldFrame.offer(wfw, sync);
+	}
+
+
+	/**
+	 * Wait until all skill executors have processed the last world frame
+	 */
+	public void waitUntilWorldFrameProcessed()
+	{
+		freshWorldFrame.waitUntilProcessed();
+	}
+
+
+	private void run()
+	{
+		while (active)
+		{
+			PendingWorldFrame.Entry entry = null;
+			try
+			{
+				entry = freshWorldFrame.take();
+				WorldFrameWrapper wfw = entry.worldFrame();
+				botExecutorService.invokeAll(executors.stream()
+						.map(executor -> Executors.callable(() -> process(executor, wfw)))
+						.toList());
+			} catch (InterruptedException err)
+			{
+				// ignore
+				Thread.currentThread().interrupt();
+			} catch (Throwable err)
+			{
+				log.fatal("Some fatal error occurred in skill executor frame scheduler.", err);
+			}
+			if (entry != null)
+			{
+				entry.processed();
+			}
+		}
+	}
+
+
+	private void process(SkillExecutor executor, WorldFrameWrapper wfw)
+	{
+		Thread.currentThread().setName("SkillExecutor " + executor.getBotID());
+		executor.process(wfw);
+	}
+}
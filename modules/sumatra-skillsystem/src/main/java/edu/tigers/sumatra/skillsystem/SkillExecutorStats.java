@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.skillsystem;
+
+import edu.tigers.sumatra.ids.BotID;
+import lombok.Value;
+
+
+/**
+ * Snapshot of the update metrics of a single skill executor.
+ */
+@Value
+public class SkillExecutorStats
+{
+	BotID botID;
+	/** Number of updates so far */
+	long numUpdates;
+	/** Update time percentiles of the recent world frames [ms] */
+	double updateTimeP50;
+	double updateTimeP95;
+	double updateTimeP99;
+}
@@ -14,13 +14,13 @@ import edu.tigers.sumatra.drawable.DrawableCircle;
 import edu.tigers.sumatra.drawable.DrawablePlanarCurve;
 import edu.tigers.sumatra.drawable.DrawablePoint;
 import edu.tigers.sumatra.drawable.DrawableTrajectoryArea;
+import edu.tigers.sumatra.drawable.IShapeLayerIdentifier;
 import edu.tigers.sumatra.geometry.Geometry;
 import edu.tigers.sumatra.math.circle.Circle;
 import edu.tigers.sumatra.math.vector.IVector2;
 import edu.tigers.sumatra.math.vector.IVector3;
 import edu.tigers.sumatra.math.vector.Vector2;
 import edu.tigers.sumatra.pathfinder.EPathFinderShapesLayer;
-import edu.tigers.sumatra.pathfinder.IPathFinder;
 import edu.tigers.sumatra.pathfinder.MovementCon;
 import edu.tigers.sumatra.pathfinder.PathFinderPrioMap;
 import edu.tigers.sumatra.pathfinder.TrajectoryGenerator;
@@ -28,7 +28,9 @@ import edu.tigers.sumatra.pathfinder.finder.PathFinder;
 import edu.tigers.sumatra.pathfinder.finder.PathFinderInput;
 import edu.tigers.sumatra.pathfinder.finder.PathFinderInputProcessor;
 import edu.tigers.sumatra.pathfinder.finder.PathFinderResult;
+import edu.tigers.sumatra.pathfinder.finder.PathFinderStats;
 import edu.tigers.sumatra.pathfinder.finder.TrajPath;
+import edu.tigers.sumatra.pathfinder.obstacles.FrameObstaclesCache;
 import edu.tigers.sumatra.pathfinder.obstacles.IObstacle;
 import edu.tigers.sumatra.pathfinder.obstacles.ObstacleGenerator;
 import edu.tigers.sumatra.pathfinder.obstacles.input.DynamicMargin;
@@ -45,8 +47,11 @@ import lombok.extern.log4j.Log4j2;
 
 import java.awt.Color;
 import java.text.DecimalFormat;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 
 @Log4j2
@@ -77,7 +82,7 @@ public abstract class AMoveToSkill extends AMoveSkill
 	private final MovementCon moveCon = new MovementCon();
 	private final ObstacleGenerator obstacleGen = new ObstacleGenerator(moveCon);
 	private final PathFinderInputProcessor inputProcessor = new PathFinderInputProcessor();
-	private final IPathFinder finder = new PathFinder();
+	private final PathFinder finder = new PathFinder();
 	private DoubleChargingValue maxRobotSpeedLimiter;
 
 	@Getter
@@ -222,7 +227,7 @@ public abstract class AMoveToSkill extends AMoveSkill
 				.build();
 
 		PathFinderInput adaptedInput = inputProcessor.processInput(input);
-		drawObstacles(obstacles);
+		drawObstacles(obstacles, adaptedInput.getObstacles());
 
 		Color color = getTBot().getBotId().getTeamColor().getColor();
 		double radius = Geometry.getBotRadius() + 25;
@@ -237,16 +242,18 @@ public abstract class AMoveToSkill extends AMoveSkill
 	}
 
 
-	private void drawObstacles(final List<IObstacle> obstacles)
+	private void drawObstacles(final List<IObstacle> obstacles, final List<IObstacle> consideredObstacles)
 	{
-		if (debugShapes)
-		{
-			obstacles.forEach(obstacle ->
-					getShapes().get(EPathFinderShapesLayer.obstacle(obstacle.getIdentifier())).addAll(obstacle.getShapes()));
-		} else
+		// obstacles are shared with other robots, so filtered obstacles are highlighted with new shapes
+		Set<IObstacle> considered = Collections.newSetFromMap(new IdentityHashMap<>());
+		considered.addAll(consideredObstacles);
+		for (IObstacle obstacle : obstacles)
 		{
-			obstacles.forEach(
-					obstacle -> getShapes().get(EPathFinderShapesLayer.ALL_OBSTACLES).addAll(obstacle.getShapes()));
+			IShapeLayerIdentifier layer = debugShapes
+					? EPathFinderShapesLayer.obstacle(obstacle.getIdentifier())
+					: EPathFinderShapesLayer.ALL_OBSTACLES;
+			getShapes().get(layer).addAll(
+					considered.contains(obstacle) ? obstacle.getShapes() : obstacle.getShapes(Color.red));
 		}
 	}
 
@@ -383,4 +390,18 @@ public abstract class AMoveToSkill extends AMoveSkill
 	{
 		moveCon.setPrioMap(prioMap);
 	}
+
+
+	@Override
+	public void setFrameObstaclesCache(final FrameObstaclesCache cache)
+	{
+		obstacleGen.setFrameObstaclesCache(cache);
+	}
+
+
+	@Override
+	public void setPathFinderStats(final PathFinderStats stats)
+	{
+		finder.setStats(stats);
+	}
 }
@@ -11,6 +11,8 @@ import edu.tigers.sumatra.drawable.ShapeMap;
 import edu.tigers.sumatra.ids.BotID;
 import edu.tigers.sumatra.math.vector.IVector3;
 import edu.tigers.sumatra.pathfinder.PathFinderPrioMap;
+import edu.tigers.sumatra.pathfinder.finder.PathFinderStats;
+import edu.tigers.sumatra.pathfinder.obstacles.FrameObstaclesCache;
 import edu.tigers.sumatra.skillsystem.ASkillSystem;
 import edu.tigers.sumatra.trajectory.TrajectoryWithTime;
 import edu.tigers.sumatra.wp.data.WorldFrameWrapper;
@@ -54,6 +56,24 @@ public interface ISkill
 		// ignore it by default
 	}
 
+
+	/**
+	 * @param cache the cache to share the robot independent obstacles with the other skills of the skill system
+	 */
+	default void setFrameObstaclesCache(final FrameObstaclesCache cache)
+	{
+		// ignore it by default
+	}
+
+
+	/**
+	 * @param stats the path finder counters of the team of this skill
+	 */
+	default void setPathFinderStats(final PathFinderStats stats)
+	{
+		// ignore it by default
+	}
+
 	/**
 	 * @return
 	 */
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
+ */
+
+package edu.tigers.sumatra.skillsystem;
+
+import edu.tigers.sumatra.ids.BotID;
+import edu.tigers.sumatra.ids.ETeamColor;
+import edu.tigers.sumatra.pathfinder.finder.PathFinderStats;
+import edu.tigers.sumatra.pathfinder.obstacles.FrameObstaclesCache;
+import edu.tigers.sumatra.referee.data.GameState;
+import edu.tigers.sumatra.referee.data.RefereeMsg;
+import edu.tigers.sumatra.wp.data.SimpleWorldFrame;
+import edu.tigers.sumatra.wp.data.TrackedBall;
+import edu.tigers.sumatra.wp.data.WorldFrameWrapper;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+
+/**
+ * Unit tests for the {@link SkillExecutorFrameScheduler}
+ */
+public class SkillExecutorFrameSchedulerTest
+{
+	private final List<RecordingSkillExecutor> executors = List.of(
+			new RecordingSkillExecutor(BotID.createBotId(0, ETeamColor.YELLOW)),
+			new RecordingSkillExecutor(BotID.createBotId(1, ETeamColor.YELLOW))
+	);
+	private final SkillExecutorFrameScheduler scheduler = new SkillExecutorFrameScheduler(List.copyOf(executors));
+
+
+	@After
+	public void tearDown()
+	{
+		executors.forEach(e -> e.permit(100));
+		scheduler.stop();
+	}
+
+
+	@Test
+	public void testWaitUntilAllExecutorsProcessedFrame()
+	{
+		WorldFrameWrapper frame = frame(1);
+		executors.forEach(e -> e.permit(1));
+		scheduler.start();
+
+		scheduler.onNewWorldFrame(frame, true);
+		scheduler.waitUntilWorldFrameProcessed();
+
+		executors.forEach(e -> assertThat(e.getProcessed()).containsExactly(frame));
+	}
+
+
+	@Test
+	public void testOnlyLatestFrameIsProcessed()
+	{
+		WorldFrameWrapper frame1 = frame(1);
+		WorldFrameWrapper frame3 = frame(3);
+		scheduler.start();
+
+		scheduler.onNewWorldFrame(frame1, false);
+		executors.forEach(RecordingSkillExecutor::awaitStarted);
+		scheduler.onNewWorldFrame(frame(2), false);
+		scheduler.onNewWorldFrame(frame3, true);
+		executors.forEach(e -> e.permit(2));
+		scheduler.waitUntilWorldFrameProcessed();
+
+		executors.forEach(e -> assertThat(e.getProcessed()).containsExactly(frame1, frame3));
+	}
+
+
+	@Test
+	public void testFrameInFlightDoesNotReleaseWaiterOfNewFrame() throws Exception
+	{
+		WorldFrameWrapper frame1 = frame(1);
+		WorldFrameWrapper frame2 = frame(2);
+		scheduler.start();
+
+		scheduler.onNewWorldFrame(frame1, false);
+		executors.forEach(RecordingSkillExecutor::awaitStarted);
+		scheduler.onNewWorldFrame(frame2, true);
+		CompletableFuture<Void> waiter = CompletableFuture.runAsync(scheduler::waitUntilWorldFrameProcessed);
+
+		// finish the frame in flight and block in the new one
+		executors.forEach(e -> e.permit(1));
+		executors.forEach(RecordingSkillExecutor::awaitStarted);
+		assertThatThrownBy(() -> waiter.get(200, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+
+		executors.forEach(e -> e.permit(1));
+		waiter.get(10, TimeUnit.SECONDS);
+		executors.forEach(e -> assertThat(e.getProcessed()).containsExactly(frame1, frame2));
+	}
+
+
+	private static WorldFrameWrapper frame(long frameNumber)
+	{
+		var swf = new SimpleWorldFrame(frameNumber, frameNumber, Map.of(), TrackedBall.createStub(), null);
+		return new WorldFrameWrapper(swf, new RefereeMsg(), GameState.HALT);
+	}
+
+
+	/**
+	 * Records the processed frames and blocks in each frame until it is permitted to finish it.
+	 */
+	private static class RecordingSkillExecutor extends SkillExecutor
+	{
+		private final List<WorldFrameWrapper> processed = new ArrayList<>();
+		private final Semaphore started = new Semaphore(0);
+		private final Semaphore permits = new Semaphore(0);
+
+
+		RecordingSkillExecutor(BotID botID)
+		{
+			super(botID, new FrameObstaclesCache(), new PathFinderStats());
+		}
+
+
+		@Override
+		void process(WorldFrameWrapper wf)
+		{
+			synchronized (processed)
+			{
+				processed.add(wf);
+			}
+			started.release();
+			acquire(permits);
+		}
+
+
+		List<WorldFrameWrapper> getProcessed()
+		{
+			synchronized (processed)
+			{
+				return List.copyOf(processed);
+			}
+		}
+
+
+		void awaitStarted()
+		{
+			acquire(started);
+		}
+
+
+		void permit(int numFrames)
+		{
+			permits.release(numFrames);
+		}
+
+
+		private static void acquire(Semaphore semaphore)
+		{
+			try
+			{
+				assertThat(semaphore.tryAcquire(10, TimeUnit.SECONDS)).isTrue();
+			} catch (InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2022, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 package edu.tigers.sumatra;
 
@@ -8,6 +8,7 @@ import edu.tigers.autoreferee.module.AutoRefModule;
 import edu.tigers.sumatra.ai.AAgent;
 import edu.tigers.sumatra.ai.athena.EAIControlState;
 import edu.tigers.sumatra.cam.SSLVisionCam;
+import edu.tigers.sumatra.drawable.ShapeLayerDemand;
 import edu.tigers.sumatra.ids.EAiTeam;
 import edu.tigers.sumatra.ids.ETeamColor;
 import edu.tigers.sumatra.model.SumatraModel;
@@ -94,6 +95,8 @@ public final class Sumatra
 		ifHasOption("ra", () -> setRefereeAddress(cmd.getOptionValue("ra")));
 		ifHasOption("ta", () -> setTrackerAddress(cmd.getOptionValue("ta")));
 
+		// shapes are only created for layers that are shown in a visualizer or recorded
+		ShapeLayerDemand.setEnabled(true);
 		start(cmd);
 		ifHasOption("to", () -> setTimeout(cmd));
 		ifHasOption("ms", () -> SimulationHelper.setSimulateWithMaxSpeed(true));
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009 - 2020, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 
 package edu.tigers.sumatra.replay;
@@ -16,7 +16,8 @@ public class AiReplayPresenter extends ReplayPresenter
 	public AiReplayPresenter()
 	{
 		super(new AiReplayWindow());
-		addReplayController(new ReplayAiReCalcController(getMainFrame().getViews()));
 		addReplayController(new ReplayAiController(getMainFrame().getViews()));
+		// after the recorded AI frames, so that precomputed AI frames replace them
+		addReplayController(new ReplayAiReCalcController(getMainFrame().getViews()));
 	}
 }
@@ -1,11 +1,15 @@
 /*
- * Copyright (c) 2009 - 2022, DHBW Mannheim - TIGERs Mannheim
+ * Copyright (c) 2009 - 2024, DHBW Mannheim - TIGERs Mannheim
  */
 
 package edu.tigers.sumatra.replay;
 
 import edu.tigers.sumatra.ai.AIInfoFrame;
 import edu.tigers.sumatra.ai.Ai;
+import edu.tigers.sumatra.ai.IVisualizationFrameObserver;
+import edu.tigers.sumatra.ai.recalc.AiRecalculation;
+import edu.tigers.sumatra.ai.recalc.AiRecalculationCache;
+import edu.tigers.sumatra.ai.recalc.AiRecalculationConfig;
 import edu.tigers.sumatra.botmanager.bots.DummyBot;
 import edu.tigers.sumatra.botparams.BotParamsManager;
 import edu.tigers.sumatra.drawable.ShapeMap;
@@ -33,6 +37,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 
 public class ReplayAiReCalcController implements IReplayController
@@ -42,12 +47,17 @@ public class ReplayAiReCalcController implements IReplayController
 			ShapeMapSource.of(RECALCULATED));
 
 	private final List<IWorldFrameObserver> wFrameObservers = new ArrayList<>();
+	private final List<IVisualizationFrameObserver> visFrameObservers = new ArrayList<>();
 	private final Map<EAiTeam, Ai> ais = new EnumMap<>(EAiTeam.class);
 	private final Set<EAiTeam> aisToBeStopped = new HashSet<>();
 	private final Map<EAiTeam, ShapeMapSource> shapeMapSources = new EnumMap<>(EAiTeam.class);
 	private GenericSkillSystem skillSystem = GenericSkillSystem.forAnalysis();
 	private long lastTimestamp = 0;
 	private boolean runSkills = false;
+	private volatile boolean precomputeRequested = false;
+	private AiRecalculation recalculation;
+	private AiRecalculationCache cache;
+	private CompletableFuture<Void> precomputeStopped = CompletableFuture.completedFuture(null);
 
 
 	public ReplayAiReCalcController(List<ASumatraView> sumatraViews)
@@ -58,11 +68,16 @@ public class ReplayAiReCalcController implements IReplayController
 					.filter(IWorldFrameObserver.class::isInstance)
 					.map(IWorldFrameObserver.class::cast)
 					.forEach(wFrameObservers::add);
+			if (view.getPresenter() instanceof IVisualizationFrameObserver visFrameObserver)
+			{
+				visFrameObservers.add(visFrameObserver);
+			}
 			if (view.getType() == ESumatraViewType.REPLAY_CONTROL)
 			{
 				ReplayControlPresenter replayControlPresenter = (ReplayControlPresenter) view.getPresenter();
 				replayControlPresenter.getViewPanel().addMenuCheckbox(new RunAiAction());
 				replayControlPresenter.getViewPanel().addMenuCheckbox(new RunSkillsAction());
+				replayControlPresenter.getViewPanel().addMenuCheckbox(new PrecomputeAiAction());
 			}
 		}
 		Arrays.stream(EAiTeam.values()).forEach(team -> shapeMapSources.put(
@@ -71,6 +86,12 @@ public class ReplayAiReCalcController implements IReplayController
 						ShapeMapSource.of("AI", ShapeMapSource.of(RECALCULATED)))
 		));
 
+		addBots(skillSystem);
+	}
+
+
+	private static void addBots(GenericSkillSystem skillSystem)
+	{
 		var botParamsMgr = SumatraModel.getInstance().getModule(BotParamsManager.class);
 		BotID.getAll().forEach(id -> {
 			DummyBot bot = new DummyBot(id);
@@ -80,6 +101,76 @@ public class ReplayAiReCalcController implements IReplayController
 	}
 
 
+	private static GenericSkillSystem createSkillSystem()
+	{
+		GenericSkillSystem genericSkillSystem = GenericSkillSystem.forAnalysis();
+		addBots(genericSkillSystem);
+		return genericSkillSystem;
+	}
+
+
+	@Override
+	public synchronized void update(final BerkeleyDb db, final long sumatraTimestampNs)
+	{
+		// the previous cache is closed and deleted in the background, start the next one only afterward
+		if (precomputeRequested && precomputeStopped.isDone())
+		{
+			precomputeRequested = false;
+			startPrecompute(db);
+		}
+		if (cache == null)
+		{
+			return;
+		}
+		cache.getShapeMapFrame(sumatraTimestampNs).ifPresent(frame -> wFrameObservers.forEach(
+				o -> frame.getShapeMaps().forEach((source, map) -> o.onNewShapeMap(frame.getTimestamp(), map, source))
+		));
+		cache.getAiFrame(sumatraTimestampNs).ifPresent(frame -> frame.getVisFrames().forEach(
+				visFrame -> visFrameObservers.forEach(o -> o.onNewVisualizationFrame(visFrame))
+		));
+	}
+
+
+	private void startPrecompute(BerkeleyDb db)
+	{
+		cache = AiRecalculationCache.create(AiRecalculationCache.defaultPath(db.getDbPath()));
+		recalculation = new AiRecalculation(
+				db,
+				cache,
+				AiRecalculationConfig.builder().runSkills(runSkills).build(),
+				ReplayAiReCalcController::createSkillSystem
+		);
+		recalculation.start();
+	}
+
+
+	@Override
+	public void close()
+	{
+		stopPrecompute();
+	}
+
+
+	private synchronized void stopPrecompute()
+	{
+		precomputeRequested = false;
+		if (recalculation != null)
+		{
+			// the cache is not reused by the next recalculation, so it is deleted right away to free the disk space
+			AiRecalculationCache currentCache = cache;
+			precomputeStopped = recalculation.cancel().whenComplete((r, e) -> currentCache.closeAndDelete());
+			recalculation = null;
+			cache = null;
+		}
+		for (EAiTeam aiTeam : EAiTeam.values())
+		{
+			wFrameObservers.forEach(o -> o.onRemoveSourceFromShapeMap(AiRecalculation.aiShapeMapSource(aiTeam)));
+		}
+		BotID.getAll().forEach(id -> wFrameObservers.forEach(
+				o -> o.onRemoveSourceFromShapeMap(AiRecalculation.skillShapeMapSource(id))));
+	}
+
+
 	@Override
 	public void update(final BerkeleyDb db, final WorldFrameWrapper wfw)
 	{
@@ -181,6 +272,28 @@ public class ReplayAiReCalcController implements IReplayController
 		}
 	}
 
+	private class PrecomputeAiAction extends AbstractAction
+	{
+		private PrecomputeAiAction()
+		{
+			super("Precompute AI");
+		}
+
+
+		@Override
+		public void actionPerformed(final ActionEvent e)
+		{
+			JCheckBoxMenuItem chk = (JCheckBoxMenuItem) e.getSource();
+			if (chk.isSelected())
+			{
+				precomputeRequested = true;
+			} else
+			{
+				stopPrecompute();
+			}
+		}
+	}
+
 	private class RunSkillsAction extends AbstractAction
 	{
 		private RunSkillsAction()